@@ -0,0 +1,74 @@
+package com.codepulsar.nils.adapter.binary;
+
+import static com.codepulsar.nils.adapter.binary.utils.BinaryErrorTypes.CORRUPT_FILE_ERROR;
+import static com.codepulsar.nils.core.error.ErrorTypes.IO_ERROR;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codepulsar.nils.adapter.binary.utils.BinaryTranslationRetriever;
+import com.codepulsar.nils.api.adapter.Adapter;
+import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.core.adapter.AdapterContext;
+import com.codepulsar.nils.core.adapter.BaseLocalizedResourceAdapter;
+import com.codepulsar.nils.core.adapter.util.LocalizedResourceResolver;
+import com.codepulsar.nils.core.adapter.util.MappedFileInputStream;
+
+/**
+ * An {@link Adapter} implementation using precompiled binary bundles for the translations.
+ *
+ * <p>The bundles are created with the {@link BinaryBundleWriter}. A bundle is not parsed on
+ * loading: A lookup searches the sorted key table of the bundle and decodes only the requested
+ * translation.
+ *
+ * @see BinaryAdapterConfig#resourceDirectory(java.nio.file.Path)
+ */
+public class BinaryAdapter
+    extends BaseLocalizedResourceAdapter<BinaryAdapter, BinaryAdapterConfig> {
+  private static final Logger LOG = LoggerFactory.getLogger(BinaryAdapter.class);
+
+  public BinaryAdapter(AdapterContext<BinaryAdapter> context) {
+    super(context);
+  }
+
+  @Override
+  protected void initTranslations(LocalizedResourceResolver resolver) {
+    try {
+      var buffer = readBundle(resolver.resolve());
+      translation = new BinaryTranslationRetriever(buffer);
+      LOG.debug("Translation for locale {} read.", locale);
+    } catch (IOException | IllegalArgumentException e) {
+      throw CORRUPT_FILE_ERROR
+          .asException()
+          .message("Error reading binary bundle '%s'.")
+          .args(resolver.getUsedResourceName())
+          .cause(e)
+          .go();
+    } finally {
+      resolver.close();
+    }
+    this.resourceName = resolver.getUsedResourceName();
+  }
+
+  @Override
+  protected InputStream resolveInputStream(String resource) {
+    try {
+      var owner = adapterConfig.getOwnerModule();
+      return owner.getResourceAsStream(resource);
+    } catch (IOException e) {
+      LOG.error("Error getting resource {}.", e, resource);
+      throw new NilsException(IO_ERROR, "Error getting resource %s.", e, resource);
+    }
+  }
+
+  private ByteBuffer readBundle(InputStream inputStream) throws IOException {
+    if (inputStream instanceof MappedFileInputStream) {
+      return ((MappedFileInputStream) inputStream).getBuffer();
+    }
+    return ByteBuffer.wrap(inputStream.readAllBytes());
+  }
+}
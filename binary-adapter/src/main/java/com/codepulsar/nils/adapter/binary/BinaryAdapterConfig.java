@@ -0,0 +1,54 @@
+package com.codepulsar.nils.adapter.binary;
+
+import static com.codepulsar.nils.core.error.ErrorTypes.CONFIG_ERROR;
+import static com.codepulsar.nils.core.util.ParameterCheck.nilsException;
+import static com.codepulsar.nils.core.util.ParameterCheck.notNull;
+
+import com.codepulsar.nils.api.adapter.AdapterFactory;
+import com.codepulsar.nils.core.adapter.config.BaseLocalizedResourceNilsConfig;
+
+/**
+ * Configuration for the {@link BinaryAdapter} implementation.
+ *
+ * <p>The default base file name is the package of the Class resolved in {@link #init(Class)} or
+ * {@link #init(Object)} + "translation.nlsb".
+ */
+public class BinaryAdapterConfig extends BaseLocalizedResourceNilsConfig<BinaryAdapterConfig> {
+
+  private BinaryAdapterConfig(Class<?> owner) {
+    super(owner, ".nlsb");
+  }
+
+  @Override
+  public Class<? extends AdapterFactory<?>> getFactoryClass() {
+    return BinaryAdapterFactory.class;
+  }
+
+  /**
+   * Create a <code>BinaryAdapterConfig</code> from a class as reference.
+   *
+   * <p><em>Note:</em> The {@code Class} will be used for resolving and accessing the translation
+   * files.
+   *
+   * @param owner A Class
+   * @return The created BinaryAdapterConfig.
+   */
+  public static BinaryAdapterConfig init(Class<?> owner) {
+    notNull(owner, "owner", nilsException(CONFIG_ERROR));
+    return new BinaryAdapterConfig(owner);
+  }
+
+  /**
+   * Create a <code>BinaryAdapterConfig</code> from an object as reference.
+   *
+   * <p><em>Note:</em> The object's class will be used for resolving and accessing the translation
+   * files.
+   *
+   * @param owner An object
+   * @return The created BinaryAdapterConfig.
+   */
+  public static BinaryAdapterConfig init(Object owner) {
+    notNull(owner, "owner", nilsException(CONFIG_ERROR));
+    return init(owner.getClass());
+  }
+}
@@ -0,0 +1,20 @@
+package com.codepulsar.nils.adapter.binary;
+
+import java.util.List;
+
+import com.codepulsar.nils.api.NilsConfig;
+import com.codepulsar.nils.core.adapter.AdapterContext;
+import com.codepulsar.nils.core.adapter.BaseAdapterFactory;
+/** The factory for the {@link BinaryAdapter}. */
+public class BinaryAdapterFactory extends BaseAdapterFactory<BinaryAdapter> {
+
+  @Override
+  protected List<Class<? extends NilsConfig<?>>> getValidAdapterConfigClasses() {
+    return List.of(BinaryAdapterConfig.class);
+  }
+
+  @Override
+  protected BinaryAdapter createAdapter(AdapterContext<BinaryAdapter> context) {
+    return new BinaryAdapter(context);
+  }
+}
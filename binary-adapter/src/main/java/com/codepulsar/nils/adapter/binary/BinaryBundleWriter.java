@@ -0,0 +1,130 @@
+package com.codepulsar.nils.adapter.binary;
+
+import static com.codepulsar.nils.adapter.binary.utils.BinaryBundleFormat.ENTRY_SIZE;
+import static com.codepulsar.nils.adapter.binary.utils.BinaryBundleFormat.HEADER_SIZE;
+import static com.codepulsar.nils.adapter.binary.utils.BinaryBundleFormat.MAGIC;
+import static com.codepulsar.nils.adapter.binary.utils.BinaryBundleFormat.VERSION;
+import static com.codepulsar.nils.core.error.ErrorTypes.IO_ERROR;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.codepulsar.nils.adapter.binary.utils.BinaryBundleFormat;
+import com.codepulsar.nils.api.adapter.Adapter;
+import com.codepulsar.nils.api.adapter.EnumerableAdapter;
+import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.core.util.ParameterCheck;
+
+/**
+ * The {@link BinaryBundleWriter} creates the binary bundles read by the {@link BinaryAdapter}.
+ *
+ * <p>Each {@code Locale} needs its own bundle, named like the other resources (i.e. {@code
+ * translation_de.nlsb}). The translations of another {@link Adapter} can be converted, i.e.:
+ *
+ * <pre>
+ * var config = GsonAdapterConfig.init(MyApp.class);
+ * var adapter = new GsonAdapterFactory().create(config, Locale.GERMAN);
+ * try (var out = Files.newOutputStream(Path.of("translation_de.nlsb"))) {
+ *   BinaryBundleWriter.write(adapter, out);
+ * }
+ * </pre>
+ *
+ * @see BinaryBundleFormat
+ */
+public class BinaryBundleWriter {
+
+  private BinaryBundleWriter() {}
+
+  /**
+   * Writes the translations of an {@link EnumerableAdapter} as binary bundle.
+   *
+   * <p>Translations only available through a fallback of the adapter are not written.
+   *
+   * @param adapter The {@link EnumerableAdapter} providing the translations.
+   * @param out The target {@code OutputStream}. It will not be closed.
+   */
+  public static void write(EnumerableAdapter adapter, OutputStream out) {
+    ParameterCheck.notNull(adapter, "adapter");
+    write(adapter, adapter.getKeys(), out);
+  }
+
+  /**
+   * Writes the translations of an {@link Adapter} for the given keys as binary bundle.
+   *
+   * <p>Keys without a translation are skipped.
+   *
+   * @param adapter The {@link Adapter} providing the translations.
+   * @param keys The keys to write.
+   * @param out The target {@code OutputStream}. It will not be closed.
+   */
+  public static void write(Adapter adapter, Collection<String> keys, OutputStream out) {
+    ParameterCheck.notNull(adapter, "adapter");
+    ParameterCheck.notNull(keys, "keys");
+    var translations = new HashMap<String, String>();
+    for (var key : keys) {
+      adapter.getTranslation(key).ifPresent(value -> translations.put(key, value));
+    }
+    write(translations, out);
+  }
+
+  /**
+   * Writes translations as binary bundle.
+   *
+   * @param translations The Map with the full keys and translations.
+   * @param out The target {@code OutputStream}. It will not be closed.
+   */
+  public static void write(Map<String, String> translations, OutputStream out) {
+    ParameterCheck.notNull(translations, "translations");
+    ParameterCheck.notNull(out, "out");
+    var entries = new ArrayList<byte[][]>(translations.size());
+    for (var translation : translations.entrySet()) {
+      if (translation.getKey() != null && translation.getValue() != null) {
+        entries.add(
+            new byte[][] {
+              translation.getKey().getBytes(StandardCharsets.UTF_8),
+              translation.getValue().getBytes(StandardCharsets.UTF_8)
+            });
+      }
+    }
+    entries.sort((e1, e2) -> Arrays.compareUnsigned(e1[0], e2[0]));
+
+    var dataSize = 0L;
+    for (var entry : entries) {
+      dataSize += entry[0].length + entry[1].length;
+    }
+    if (HEADER_SIZE + (long) entries.size() * ENTRY_SIZE + dataSize > Integer.MAX_VALUE) {
+      throw new NilsException(IO_ERROR, "The translations exceed the size of a binary bundle.");
+    }
+
+    try {
+      var data = new DataOutputStream(new BufferedOutputStream(out));
+      data.writeInt(MAGIC);
+      data.writeInt(VERSION);
+      data.writeInt(entries.size());
+      var offset = 0;
+      for (var entry : entries) {
+        data.writeInt(offset);
+        data.writeInt(entry[0].length);
+        offset += entry[0].length;
+        data.writeInt(offset);
+        data.writeInt(entry[1].length);
+        offset += entry[1].length;
+      }
+      for (var entry : entries) {
+        data.write(entry[0]);
+        data.write(entry[1]);
+      }
+      data.flush();
+    } catch (IOException e) {
+      throw new NilsException(IO_ERROR, "Error writing the binary bundle.", e);
+    }
+  }
+}
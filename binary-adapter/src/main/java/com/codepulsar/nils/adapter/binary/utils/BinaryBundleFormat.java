@@ -0,0 +1,27 @@
+package com.codepulsar.nils.adapter.binary.utils;
+
+/**
+ * Constants of the binary bundle format.
+ *
+ * <p>A bundle has the following layout (all numbers are big-endian {@code int}s):
+ *
+ * <ul>
+ *   <li>Header: {@link #MAGIC}, {@link #VERSION}, number of entries
+ *   <li>Entry table: for each entry the offset and length of the key and the offset and length of
+ *       the translation. The offsets are relative to the start of the data block. The entries are
+ *       sorted by the UTF-8 bytes of the keys.
+ *   <li>Data block: the UTF-8 encoded keys and translations.
+ * </ul>
+ */
+public class BinaryBundleFormat {
+  /** The magic number "NILB" at the start of each bundle. */
+  public static final int MAGIC = 0x4E494C42;
+  /** The version of the format. */
+  public static final int VERSION = 1;
+  /** The size of the header in bytes. */
+  public static final int HEADER_SIZE = 12;
+  /** The size of an entry in the entry table in bytes. */
+  public static final int ENTRY_SIZE = 16;
+
+  private BinaryBundleFormat() {}
+}
@@ -0,0 +1,7 @@
+package com.codepulsar.nils.adapter.binary.utils;
+
+import com.codepulsar.nils.api.error.ErrorType;
+
+public class BinaryErrorTypes {
+  public static final ErrorType CORRUPT_FILE_ERROR = new ErrorType("NILS-300");
+}
@@ -0,0 +1,161 @@
+package com.codepulsar.nils.adapter.binary.utils;
+
+import static com.codepulsar.nils.adapter.binary.utils.BinaryBundleFormat.ENTRY_SIZE;
+import static com.codepulsar.nils.adapter.binary.utils.BinaryBundleFormat.HEADER_SIZE;
+import static com.codepulsar.nils.adapter.binary.utils.BinaryBundleFormat.MAGIC;
+import static com.codepulsar.nils.adapter.binary.utils.BinaryBundleFormat.VERSION;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import com.codepulsar.nils.core.adapter.util.EnumerableTranslationRetriever;
+import com.codepulsar.nils.core.util.ParameterCheck;
+
+/**
+ * An {@link EnumerableTranslationRetriever} reading the translations directly from a binary bundle.
+ *
+ * <p>Only the absolute get methods of the {@code ByteBuffer} are used, so the buffer can be read by
+ * several threads.
+ *
+ * @see BinaryBundleFormat
+ */
+public class BinaryTranslationRetriever implements EnumerableTranslationRetriever {
+  private final ByteBuffer buffer;
+  private final int count;
+  private final int dataStart;
+
+  /**
+   * Create a new instance.
+   *
+   * @param buffer The {@code ByteBuffer} containing the bundle.
+   * @throws IllegalArgumentException If the buffer does not contain a valid bundle.
+   */
+  public BinaryTranslationRetriever(ByteBuffer buffer) {
+    this.buffer = ParameterCheck.notNull(buffer, "buffer");
+    if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new IllegalArgumentException("Not a binary bundle.");
+    }
+    if (buffer.getInt(4) != VERSION) {
+      throw new IllegalArgumentException(
+          String.format("Unsupported version %d of the binary bundle.", buffer.getInt(4)));
+    }
+    this.count = buffer.getInt(8);
+    long tableEnd = HEADER_SIZE + (long) count * ENTRY_SIZE;
+    if (count < 0 || tableEnd > buffer.limit()) {
+      throw new IllegalArgumentException("The entry table of the binary bundle is truncated.");
+    }
+    this.dataStart = (int) tableEnd;
+    for (int i = 0; i < count; i++) {
+      var entry = HEADER_SIZE + i * ENTRY_SIZE;
+      checkBounds(buffer.getInt(entry), buffer.getInt(entry + 4));
+      checkBounds(buffer.getInt(entry + 8), buffer.getInt(entry + 12));
+    }
+  }
+
+  @Override
+  public Optional<String> retrieve(String key) {
+    if (key == null) {
+      return Optional.empty();
+    }
+    var low = 0;
+    var high = count - 1;
+    while (low <= high) {
+      var middle = (low + high) >>> 1;
+      var entry = HEADER_SIZE + middle * ENTRY_SIZE;
+      var result = compare(key, dataStart + buffer.getInt(entry), buffer.getInt(entry + 4));
+      if (result == 0) {
+        return Optional.of(decode(buffer.getInt(entry + 8), buffer.getInt(entry + 12)));
+      } else if (result < 0) {
+        high = middle - 1;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public Set<String> getKeys() {
+    var keys = new LinkedHashSet<String>();
+    for (int i = 0; i < count; i++) {
+      var entry = HEADER_SIZE + i * ENTRY_SIZE;
+      keys.add(decode(buffer.getInt(entry), buffer.getInt(entry + 4)));
+    }
+    return Collections.unmodifiableSet(keys);
+  }
+
+  /**
+   * Gets the number of translations in the bundle.
+   *
+   * @return The number of translations.
+   */
+  public int size() {
+    return count;
+  }
+
+  private void checkBounds(int offset, int length) {
+    if (offset < 0 || length < 0 || (long) dataStart + offset + length > buffer.limit()) {
+      throw new IllegalArgumentException("An entry of the binary bundle is out of bounds.");
+    }
+  }
+
+  private String decode(int offset, int length) {
+    var start = dataStart + offset;
+    if (buffer.hasArray()) {
+      return new String(
+          buffer.array(), buffer.arrayOffset() + start, length, StandardCharsets.UTF_8);
+    }
+    var bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = buffer.get(start + i);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Compares the key with an UTF-8 encoded key in the buffer by code points, which is the same
+   * order as the UTF-8 bytes.
+   */
+  private int compare(String key, int start, int length) {
+    var index = 0;
+    var position = start;
+    var end = start + length;
+    while (index < key.length() && position < end) {
+      var keyCodePoint = key.codePointAt(index);
+      index += Character.charCount(keyCodePoint);
+      int b = buffer.get(position) & 0xFF;
+      int codePoint;
+      if (b < 0x80) {
+        codePoint = b;
+        position += 1;
+      } else if (b < 0xE0) {
+        codePoint = (b & 0x1F) << 6 | buffer.get(position + 1) & 0x3F;
+        position += 2;
+      } else if (b < 0xF0) {
+        codePoint =
+            (b & 0x0F) << 12
+                | (buffer.get(position + 1) & 0x3F) << 6
+                | buffer.get(position + 2) & 0x3F;
+        position += 3;
+      } else {
+        codePoint =
+            (b & 0x07) << 18
+                | (buffer.get(position + 1) & 0x3F) << 12
+                | (buffer.get(position + 2) & 0x3F) << 6
+                | buffer.get(position + 3) & 0x3F;
+        position += 4;
+      }
+      if (keyCodePoint != codePoint) {
+        return Integer.compare(keyCodePoint, codePoint);
+      }
+    }
+    if (index < key.length()) {
+      return 1;
+    }
+    return position < end ? -1 : 0;
+  }
+}
@@ -0,0 +1,6 @@
+module com.codepulsar.nils.adapter.binary {
+  exports com.codepulsar.nils.adapter.binary;
+  requires transitive com.codepulsar.nils.core;
+  requires java.base;
+  requires org.slf4j;
+}
@@ -0,0 +1,114 @@
+package com.codepulsar.nils.adapter.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.core.adapter.config.BaseLocalizedResourceNilsConfig;
+
+public class BinaryAdapterConfigTest {
+  @Test
+  void initClassNull() {
+    // Arrange
+    Class<?> nullClass = null;
+    // Act / Assert
+    assertThatThrownBy(() -> BinaryAdapterConfig.init(nullClass))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'owner' cannot be null.");
+  }
+
+  @Test
+  void initObjectNull() {
+    // Arrange
+    Object nullObject = null;
+    // Act / Assert
+    assertThatThrownBy(() -> BinaryAdapterConfig.init(nullObject))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'owner' cannot be null.");
+  }
+
+  @Test
+  void initFromClass() {
+    // Act
+    var underTest = BinaryAdapterConfig.init(getClass());
+
+    // Assert
+    assertThat(underTest).isNotNull();
+    assertThat(underTest).isInstanceOf(BaseLocalizedResourceNilsConfig.class);
+    assertThat(underTest.getOwnerModule()).isEqualTo(getClass().getModule());
+    assertThat(underTest.getBaseFileName())
+        .isEqualTo("com/codepulsar/nils/adapter/binary/translation.nlsb");
+    assertThat(underTest.getFactoryClass()).isEqualTo(BinaryAdapterFactory.class);
+    assertThat(underTest.isFallbackActive()).isTrue();
+    assertThat(underTest.getResourceDirectory()).isNull();
+  }
+
+  @Test
+  void initFromObject() {
+    // Act
+    var underTest = BinaryAdapterConfig.init(this);
+
+    // Assert
+    assertThat(underTest).isNotNull();
+    assertThat(underTest.getOwnerModule()).isEqualTo(this.getClass().getModule());
+    assertThat(underTest.getBaseFileName())
+        .isEqualTo("com/codepulsar/nils/adapter/binary/translation.nlsb");
+  }
+
+  @Test
+  void baseFileName_withoutFileExtension() {
+    // Arrange
+    var underTest = BinaryAdapterConfig.init(this);
+
+    // Act
+    var returnValue = underTest.baseFileName("TestBundleName");
+
+    // Assert
+    assertThat(returnValue).isNotNull();
+    assertThat(returnValue).isEqualTo(underTest);
+    assertThat(underTest.getBaseFileName()).isEqualTo("TestBundleName.nlsb");
+  }
+
+  @Test
+  void baseFileName_withFileExtension() {
+    // Arrange
+    var underTest = BinaryAdapterConfig.init(this);
+
+    // Act
+    var returnValue = underTest.baseFileName("TestBundleName.bin");
+
+    // Assert
+    assertThat(returnValue).isNotNull();
+    assertThat(returnValue).isEqualTo(underTest);
+    assertThat(underTest.getBaseFileName()).isEqualTo("TestBundleName.bin");
+  }
+
+  @Test
+  void resourceDirectory() {
+    // Arrange
+    var underTest = BinaryAdapterConfig.init(this);
+
+    // Act
+    var returnValue = underTest.resourceDirectory(Path.of("translations"));
+
+    // Assert
+    assertThat(returnValue).isNotNull();
+    assertThat(returnValue).isEqualTo(underTest);
+    assertThat(underTest.getResourceDirectory()).isEqualTo(Path.of("translations"));
+  }
+
+  @Test
+  void resourceDirectory_null() {
+    // Arrange
+    var underTest = BinaryAdapterConfig.init(this);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.resourceDirectory(null))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'resourceDirectory' cannot be null.");
+  }
+}
@@ -0,0 +1,69 @@
+package com.codepulsar.nils.adapter.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.codepulsar.nils.core.adapter.BaseAdapterFactory;
+
+public class BinaryAdapterFactoryTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void create() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = BinaryAdapterConfig.init(this).baseFileName("test/existing");
+    var underTest = new BinaryAdapterFactory();
+
+    // Act
+    BinaryAdapter result = underTest.create(config, locale);
+
+    // Assert
+    assertThat(result).isNotNull();
+  }
+
+  @Test
+  public void factoryDefault() {
+    // Act
+    var underTest = new BinaryAdapterFactory();
+
+    // Assert
+    assertThat(underTest).isInstanceOf(BaseAdapterFactory.class);
+  }
+
+  @Test
+  public void getAvailableLocales() {
+    // Arrange
+    var config = BinaryAdapterConfig.init(this).baseFileName("test/existing");
+    var underTest = new BinaryAdapterFactory();
+
+    // Act
+    var result = underTest.getAvailableLocales(config);
+
+    // Assert
+    assertThat(result).containsExactlyInAnyOrder(Locale.ROOT, Locale.GERMAN);
+  }
+
+  @Test
+  public void getAvailableLocales_resourceDirectory() throws Exception {
+    // Arrange
+    Files.createDirectories(tempDir.resolve("test"));
+    Files.write(tempDir.resolve("test/existing_fr.nlsb"), new byte[0]);
+    var config =
+        BinaryAdapterConfig.init(this).baseFileName("test/existing").resourceDirectory(tempDir);
+    var underTest = new BinaryAdapterFactory();
+
+    // Act
+    var result = underTest.getAvailableLocales(config);
+
+    // Assert
+    assertThat(result).containsExactly(Locale.FRENCH);
+  }
+}
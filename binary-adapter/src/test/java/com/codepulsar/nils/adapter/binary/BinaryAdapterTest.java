@@ -0,0 +1,337 @@
+package com.codepulsar.nils.adapter.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.codepulsar.nils.api.NilsConfig;
+import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.core.adapter.AdapterContext;
+import com.codepulsar.nils.core.adapter.BaseLocalizedResourceAdapter;
+
+public class BinaryAdapterTest {
+
+  private Locale current;
+  private AdapterContext<BinaryAdapter> adapterContext;
+
+  @BeforeEach
+  public void defineDefault() {
+    current = Locale.getDefault();
+    Locale.setDefault(Locale.ENGLISH);
+    adapterContext = new AdapterContext<BinaryAdapter>().factory(new BinaryAdapterFactory());
+  }
+
+  @AfterEach
+  public void resetLocale() {
+    Locale.setDefault(current);
+  }
+
+  @Test
+  public void nullLocale() {
+    // Arrange
+    Locale locale = null;
+    var config = BinaryAdapterConfig.init(this);
+    var context = adapterContext.locale(locale).config(config);
+
+    // Act / Assert
+    assertThatThrownBy(() -> new BinaryAdapter(context))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter 'context.locale' cannot be null.");
+  }
+
+  @Test
+  public void nullConfig() {
+    // Arrange
+    Locale locale = Locale.ENGLISH;
+    NilsConfig<?> config = null;
+    var context = adapterContext.locale(locale).config(config);
+
+    // Act / Assert
+    assertThatThrownBy(() -> new BinaryAdapter(context))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter 'context.config' cannot be null.");
+  }
+
+  @Test
+  public void defaultConfig() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = BinaryAdapterConfig.init(this);
+    var context = adapterContext.locale(locale).config(config);
+
+    // Act
+    var underTest = new BinaryAdapter(context);
+
+    // Assert
+    assertThat(underTest).isNotNull();
+    assertThat(underTest).isInstanceOf(BaseLocalizedResourceAdapter.class);
+  }
+
+  @Test
+  public void invalidBaseFileName() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = BinaryAdapterConfig.init(this).baseFileName("test/non_existing");
+    var context = adapterContext.locale(locale).config(config);
+
+    // Act / Assert
+    assertThatThrownBy(() -> new BinaryAdapter(context))
+        .isInstanceOf(NilsException.class)
+        .hasMessage(
+            "NILS-008: Could not find a resource for baseFilename 'test/non_existing.nlsb'.");
+  }
+
+  @Test
+  public void fallbackFile() {
+    // Arrange
+    var locale = Locale.ITALIAN;
+    var config = BinaryAdapterConfig.init(this).baseFileName("test/existing");
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new BinaryAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.me");
+
+    // Assert
+    assertThat(value).isNotEmpty();
+    assertThat(value.get()).isEqualTo("I'm translated!");
+  }
+
+  @Test
+  public void translateKeyFound_nestedKeys() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = BinaryAdapterConfig.init(this);
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new BinaryAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("deep");
+    // Assert
+    assertThat(value).isEmpty();
+
+    // Act
+    value = underTest.getTranslation("deep.deepkey3");
+    // Assert
+    assertThat(value).isNotEmpty();
+    assertThat(value.get()).isEqualTo("Key 3");
+
+    // Act
+    value = underTest.getTranslation("deep.deeper.deeperkey4");
+    // Assert
+    assertThat(value).isNotEmpty();
+    assertThat(value.get()).isEqualTo("Key 4");
+
+    // Act
+    value = underTest.getTranslation("deep.non_existing");
+    // Assert
+    assertThat(value).isEmpty();
+  }
+
+
+  @Test
+  public void translateKeyFound1() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = BinaryAdapterConfig.init(this).baseFileName("test/existing");
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new BinaryAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.me");
+
+    // Assert
+    assertThat(value).isNotEmpty();
+    assertThat(value.get()).isEqualTo("I'm translated!");
+  }
+
+  @Test
+  public void translateKeyFound2() {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var config = BinaryAdapterConfig.init(this).baseFileName("test/existing");
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new BinaryAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.me");
+
+    // Assert
+    assertThat(value).isNotEmpty();
+    assertThat(value.get()).isEqualTo("Ich bin übersetzt!");
+  }
+
+  @Test
+  public void translateKeyFallback() {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var config = BinaryAdapterConfig.init(this).baseFileName("test/existing");
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new BinaryAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.fallback");
+
+    // Assert
+    assertThat(value).isNotEmpty();
+    assertThat(value.get()).isEqualTo("I'm a fallback!");
+  }
+
+  @Test
+  public void translateKeyFallback_fallbackInactive() {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var config = BinaryAdapterConfig.init(this).baseFileName("test/existing").fallbackActive(false);
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new BinaryAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.fallback");
+
+    // Assert
+    assertThat(value).isEmpty();
+  }
+
+  @Test
+  public void translateKeyFallbackNotFound() {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var config = BinaryAdapterConfig.init(this).baseFileName("test/existing");
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new BinaryAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.fallback_notfound");
+
+    // Assert
+    assertThat(value).isEmpty();
+  }
+
+  @Test
+  public void translateKeyNotFound() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = BinaryAdapterConfig.init(this).baseFileName("test/existing");
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new BinaryAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.me.butImNotThere");
+    // Assert
+    assertThat(value).isEmpty();
+  }
+
+  @Test
+  public void corruptFile() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = BinaryAdapterConfig.init(this).baseFileName("test/corrupt");
+    var context = adapterContext.locale(locale).config(config);
+
+    // Act / Assert
+    assertThatThrownBy(() -> new BinaryAdapter(context))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-300: Error reading binary bundle '/test/corrupt.nlsb'.");
+  }
+
+  @Test
+  public void getKeys() {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var config = BinaryAdapterConfig.init(this).baseFileName("test/existing");
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new BinaryAdapter(context);
+
+    // Act
+    var keys = underTest.getKeys();
+
+    // Assert
+    assertThat(keys).containsExactly("translate.me");
+  }
+
+  @Test
+  public void resourceDirectory() {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var config =
+        BinaryAdapterConfig.init(this)
+            .resourceDirectory(Path.of("src/test/resources"))
+            .baseFileName("test/existing");
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new BinaryAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.me");
+    // Assert
+    assertThat(value).isNotEmpty();
+    assertThat(value.get()).isEqualTo("Ich bin übersetzt!");
+
+    // Act
+    value = underTest.getTranslation("translate.fallback");
+    // Assert
+    assertThat(value).isNotEmpty();
+    assertThat(value.get()).isEqualTo("I'm a fallback!");
+  }
+
+  @Test
+  public void resourceDirectory_replaced(@TempDir Path tempDir) throws Exception {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var file = Files.createDirectory(tempDir.resolve("test")).resolve("existing.nlsb");
+    Files.copy(Path.of("src/test/resources/test/existing.nlsb"), file);
+    var replacement =
+        Files.copy(Path.of("src/test/resources/test/corrupt.nlsb"), tempDir.resolve("new.nlsb"));
+    var config =
+        BinaryAdapterConfig.init(this).resourceDirectory(tempDir).baseFileName("test/existing");
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new BinaryAdapter(context);
+
+    // Act
+    Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING);
+    var value = underTest.getTranslation("translate.fallback");
+
+    // Assert
+    assertThat(value).hasValue("I'm a fallback!");
+  }
+
+  @Test
+  public void resourceDirectory_nonExisting() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config =
+        BinaryAdapterConfig.init(this)
+            .resourceDirectory(Path.of("src/test/non_existing"))
+            .baseFileName("test/existing");
+    var context = adapterContext.locale(locale).config(config);
+
+    // Act / Assert
+    assertThatThrownBy(() -> new BinaryAdapter(context))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-008: Could not find a resource for baseFilename 'test/existing.nlsb'.");
+  }
+
+  @Test
+  public void resourceDirectory_corruptFile() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config =
+        BinaryAdapterConfig.init(this)
+            .resourceDirectory(Path.of("src/test/resources"))
+            .baseFileName("test/corrupt");
+    var context = adapterContext.locale(locale).config(config);
+
+    // Act / Assert
+    assertThatThrownBy(() -> new BinaryAdapter(context))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-300: Error reading binary bundle '/test/corrupt.nlsb'.");
+  }
+}
@@ -0,0 +1,125 @@
+package com.codepulsar.nils.adapter.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.codepulsar.nils.adapter.binary.utils.BinaryTranslationRetriever;
+import com.codepulsar.nils.api.adapter.Adapter;
+import com.codepulsar.nils.core.adapter.AdapterContext;
+
+public class BinaryBundleWriterTest {
+
+  @TempDir private Path tempDir;
+
+  @Test
+  public void write_null() {
+    // Arrange
+    var out = new ByteArrayOutputStream();
+
+    // Act / Assert
+    assertThatThrownBy(() -> BinaryBundleWriter.write((Map<String, String>) null, out))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter 'translations' cannot be null.");
+    assertThatThrownBy(() -> BinaryBundleWriter.write(Map.of(), null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter 'out' cannot be null.");
+  }
+
+  @Test
+  public void write_empty() {
+    // Arrange
+    var out = new ByteArrayOutputStream();
+
+    // Act
+    BinaryBundleWriter.write(Map.of(), out);
+
+    // Assert
+    var underTest = new BinaryTranslationRetriever(ByteBuffer.wrap(out.toByteArray()));
+    assertThat(underTest.size()).isEqualTo(0);
+    assertThat(underTest.retrieve("key")).isEmpty();
+  }
+
+  @Test
+  public void write_roundTrip() {
+    // Arrange
+    var translations = new HashMap<String, String>();
+    for (int i = 0; i < 1_000; i++) {
+      translations.put("checkout.cart.key" + i, "Value " + i);
+    }
+    translations.put("umlaut.äöü", "Übersetzt");
+    translations.put("private.\ue000", "Private use area");
+    translations.put("emoji.😀", "4 bytes 😀");
+    translations.put("empty", "");
+    var out = new ByteArrayOutputStream();
+
+    // Act
+    BinaryBundleWriter.write(translations, out);
+
+    // Assert
+    var underTest = new BinaryTranslationRetriever(ByteBuffer.wrap(out.toByteArray()));
+    assertThat(underTest.size()).isEqualTo(translations.size());
+    assertThat(underTest.getKeys()).containsExactlyInAnyOrderElementsOf(translations.keySet());
+    for (var entry : translations.entrySet()) {
+      assertThat(underTest.retrieve(entry.getKey())).hasValue(entry.getValue());
+    }
+    assertThat(underTest.retrieve("checkout.cart")).isEmpty();
+    assertThat(underTest.retrieve("checkout.cart.key1000")).isEmpty();
+    assertThat(underTest.retrieve("emoji.😁")).isEmpty();
+    assertThat(underTest.retrieve(null)).isEmpty();
+  }
+
+  @Test
+  public void write_adapterWithKeys() {
+    // Arrange
+    Adapter adapter =
+        key -> key.startsWith("found") ? Optional.of("Value " + key) : Optional.empty();
+    var out = new ByteArrayOutputStream();
+
+    // Act
+    BinaryBundleWriter.write(adapter, List.of("found.1", "found.2", "missing"), out);
+
+    // Assert
+    var underTest = new BinaryTranslationRetriever(ByteBuffer.wrap(out.toByteArray()));
+    assertThat(underTest.getKeys()).containsExactly("found.1", "found.2");
+    assertThat(underTest.retrieve("found.2")).hasValue("Value found.2");
+  }
+
+  @Test
+  public void write_enumerableAdapter() throws Exception {
+    // Arrange
+    var sourceConfig = BinaryAdapterConfig.init(this).baseFileName("test/integration");
+    var source = new BinaryAdapterFactory().create(sourceConfig, Locale.GERMAN);
+    var bundle = tempDir.resolve("converted_de.nlsb");
+
+    // Act
+    try (var out = Files.newOutputStream(bundle)) {
+      BinaryBundleWriter.write(source, out);
+    }
+
+    // Assert
+    var config =
+        BinaryAdapterConfig.init(this).resourceDirectory(tempDir).baseFileName("converted");
+    var context =
+        new AdapterContext<BinaryAdapter>()
+            .config(config.fallbackActive(false))
+            .locale(Locale.GERMAN)
+            .factory(new BinaryAdapterFactory());
+    var underTest = new BinaryAdapter(context);
+    assertThat(underTest.getKeys()).containsExactly("simple");
+    assertThat(underTest.getTranslation("simple")).hasValue("Eine einfache Übersetzung");
+    assertThat(underTest.getTranslation("fallback")).isEmpty();
+  }
+}
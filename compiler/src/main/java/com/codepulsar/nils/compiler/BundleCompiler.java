@@ -0,0 +1,289 @@
+package com.codepulsar.nils.compiler;
+
+import static com.codepulsar.nils.compiler.utils.CompilerErrorTypes.COMPILE_ERROR;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import com.codepulsar.nils.adapter.compiled.CompiledAdapter;
+import com.codepulsar.nils.adapter.compiled.CompiledAdapterFactory;
+import com.codepulsar.nils.core.adapter.util.IncludeResolver;
+import com.codepulsar.nils.core.util.ParameterCheck;
+
+/**
+ * The {@link BundleCompiler} compiles translation files into Java classes.
+ *
+ * <p>The translation files are read from the source directory by the base file name and the
+ * supported file extensions ({@code .properties}, {@code .json}, {@code .yaml} and {@code .yml}),
+ * i.e. {@code translation.json}, {@code translation_de.json} and {@code translation_de_CH.json}.
+ *
+ * <p>For each {@code Locale} a class containing the sorted keys and translations is generated. The
+ * translations of the fallback {@code Locale}s and the keys reachable by includes are resolved
+ * during the compilation. Additionally a {@link CompiledAdapterFactory} serving the translations
+ * is generated, which can be used with {@code <ClassName>AdapterFactory.config()}.
+ */
+public class BundleCompiler {
+  // Keep the chunks below the limit of 65535 bytes for a String constant in a class file
+  static final int MAX_CHUNK_SIZE = 60000;
+
+  private final Path sourceDirectory;
+  private final Path outputDirectory;
+  private final String packageName;
+  private String baseFileName = "translation";
+  private String className = "Translations";
+  private String includeTag = "_include";
+  private boolean fallbackActive = true;
+
+  private BundleCompiler(Path sourceDirectory, Path outputDirectory, String packageName) {
+    this.sourceDirectory = sourceDirectory;
+    this.outputDirectory = outputDirectory;
+    this.packageName = packageName;
+  }
+
+  /**
+   * Create a <code>BundleCompiler</code>.
+   *
+   * @param sourceDirectory The directory containing the translation files.
+   * @param outputDirectory The directory for the generated sources.
+   * @param packageName The package of the generated classes.
+   * @return The created BundleCompiler.
+   */
+  public static BundleCompiler init(
+      Path sourceDirectory, Path outputDirectory, String packageName) {
+    ParameterCheck.notNull(sourceDirectory, "sourceDirectory");
+    ParameterCheck.notNull(outputDirectory, "outputDirectory");
+    ParameterCheck.notNull(packageName, "packageName");
+    return new BundleCompiler(sourceDirectory, outputDirectory, packageName);
+  }
+
+  /**
+   * Sets the base file name of the translation files, relative to the source directory and
+   * without file extension.
+   *
+   * <p>Default is "translation".
+   *
+   * @param baseFileName The base file name.
+   * @return This compiler object.
+   */
+  public BundleCompiler baseFileName(String baseFileName) {
+    this.baseFileName = ParameterCheck.notNullEmptyOrBlank(baseFileName, "baseFileName");
+    return this;
+  }
+
+  /**
+   * Sets the name prefix of the generated classes.
+   *
+   * <p>Default is "Translations".
+   *
+   * @param className The name prefix of the generated classes.
+   * @return This compiler object.
+   */
+  public BundleCompiler className(String className) {
+    this.className = ParameterCheck.notNullEmptyOrBlank(className, "className");
+    return this;
+  }
+
+  /**
+   * Sets the tag for includes, see {@code NilsConfig#getIncludeTag()}.
+   *
+   * <p>Default is "_include".
+   *
+   * @param includeTag The tag for includes.
+   * @return This compiler object.
+   */
+  public BundleCompiler includeTag(String includeTag) {
+    this.includeTag = ParameterCheck.notNullEmptyOrBlank(includeTag, "includeTag");
+    return this;
+  }
+
+  /**
+   * Sets the flag, if the translations of the fallback {@code Locale}s are compiled into the
+   * translations of a {@code Locale}.
+   *
+   * <p>Default is <code>true</code>.
+   *
+   * @param fallbackActive Flag, if the fallback is active.
+   * @return This compiler object.
+   */
+  public BundleCompiler fallbackActive(boolean fallbackActive) {
+    this.fallbackActive = fallbackActive;
+    return this;
+  }
+
+  /**
+   * Compiles the translation files.
+   *
+   * @return The paths of the generated source files.
+   */
+  public List<Path> compile() {
+    var bundles = findBundles();
+    if (bundles.isEmpty()) {
+      throw COMPILE_ERROR
+          .asException()
+          .message("Could not find translation files for base file name '%s' in '%s'.")
+          .args(baseFileName, sourceDirectory)
+          .go();
+    }
+    var reader = new BundleReader();
+    var translations = new TreeMap<String, Map<String, String>>();
+    bundles.forEach((localeName, file) -> translations.put(localeName, reader.read(file)));
+
+    var includeResolver = new IncludeResolver(includeTag);
+    var compiled = new TreeMap<String, List<String>>();
+    for (var localeName : translations.keySet()) {
+      var merged = merge(localeName, translations);
+      compiled.put(localeName, toChunks(localeName, includeResolver.resolve(merged)));
+    }
+    try {
+      return new SourceGenerator(outputDirectory, packageName, className).generate(compiled);
+    } catch (IOException e) {
+      throw COMPILE_ERROR
+          .asException()
+          .message("Error writing the generated sources to '%s'.")
+          .args(outputDirectory)
+          .cause(e)
+          .go();
+    }
+  }
+
+  private Map<String, Path> findBundles() {
+    var basePath = sourceDirectory.resolve(baseFileName);
+    var directory = basePath.getParent();
+    var baseName = basePath.getFileName().toString();
+    var bundles = new TreeMap<String, Path>();
+    if (directory == null || !Files.isDirectory(directory)) {
+      return bundles;
+    }
+    List<Path> files;
+    try (var stream = Files.list(directory)) {
+      files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+    } catch (IOException e) {
+      throw COMPILE_ERROR
+          .asException()
+          .message("Error reading the directory '%s'.")
+          .args(directory)
+          .cause(e)
+          .go();
+    }
+    for (var file : files) {
+      var localeName = getLocaleName(file.getFileName().toString(), baseName);
+      if (localeName == null) {
+        continue;
+      }
+      var existing = bundles.put(localeName, file);
+      if (existing != null) {
+        throw COMPILE_ERROR
+            .asException()
+            .message("Found more than one translation file for locale '%s': '%s' and '%s'.")
+            .args(localeName, existing.getFileName(), file.getFileName())
+            .go();
+      }
+    }
+    return bundles;
+  }
+
+  private String getLocaleName(String fileName, String baseName) {
+    if (!fileName.startsWith(baseName)) {
+      return null;
+    }
+    for (var extension : BundleReader.EXTENSIONS) {
+      if (fileName.endsWith(extension)
+          && fileName.length() >= baseName.length() + extension.length()) {
+        var suffix = fileName.substring(baseName.length(), fileName.length() - extension.length());
+        if (suffix.isEmpty()) {
+          return "";
+        }
+        if (suffix.startsWith("_") && suffix.length() > 1) {
+          return toLocale(suffix.substring(1)).toString();
+        }
+      }
+    }
+    return null;
+  }
+
+  private Map<String, String> merge(
+      String localeName, Map<String, Map<String, String>> translations) {
+    if (!fallbackActive) {
+      return translations.get(localeName);
+    }
+    var locale = toLocale(localeName);
+    var candidates = new ArrayList<>(CompiledAdapterFactory.getCandidateNames(locale));
+    Collections.reverse(candidates);
+    var merged = new TreeMap<String, String>();
+    for (var candidate : candidates) {
+      var candidateTranslations = translations.get(candidate);
+      if (candidateTranslations != null) {
+        merged.putAll(candidateTranslations);
+      }
+    }
+    return merged;
+  }
+
+  private List<String> toChunks(String localeName, Map<String, String> translations) {
+    var chunks = new ArrayList<String>();
+    var chunk = new StringBuilder();
+    var chunkSize = 0;
+    for (var entry : new TreeMap<>(translations).entrySet()) {
+      var key = entry.getKey();
+      var value = entry.getValue();
+      if (key.indexOf(CompiledAdapter.SEPARATOR) >= 0
+          || value.indexOf(CompiledAdapter.SEPARATOR) >= 0) {
+        throw COMPILE_ERROR
+            .asException()
+            .message("The key '%s' of locale '%s' contains an unsupported NUL character.")
+            .args(key, localeName)
+            .go();
+      }
+      var entrySize = encodedSize(key) + encodedSize(value) + 4;
+      if (entrySize > MAX_CHUNK_SIZE) {
+        throw COMPILE_ERROR
+            .asException()
+            .message("The translation of key '%s' of locale '%s' is too large.")
+            .args(key, localeName)
+            .go();
+      }
+      if (chunkSize + entrySize > MAX_CHUNK_SIZE) {
+        chunks.add(chunk.toString());
+        chunk.setLength(0);
+        chunkSize = 0;
+      }
+      chunk.append(key).append(CompiledAdapter.SEPARATOR);
+      chunk.append(value).append(CompiledAdapter.SEPARATOR);
+      chunkSize += entrySize;
+    }
+    if (chunk.length() > 0) {
+      chunks.add(chunk.toString());
+    }
+    return chunks;
+  }
+
+  /** Gets the size of the String encoded as modified UTF-8 in a class file. */
+  private static int encodedSize(String value) {
+    var size = 0;
+    for (int i = 0; i < value.length(); i++) {
+      var c = value.charAt(i);
+      if (c > 0 && c < 0x80) {
+        size += 1;
+      } else if (c < 0x800) {
+        size += 2;
+      } else {
+        size += 3;
+      }
+    }
+    return size;
+  }
+
+  private static Locale toLocale(String localeName) {
+    var parts = localeName.split("_", 3);
+    return new Locale(
+        parts[0], parts.length > 1 ? parts[1] : "", parts.length > 2 ? parts[2] : "");
+  }
+}
@@ -0,0 +1,110 @@
+package com.codepulsar.nils.compiler;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+
+import com.codepulsar.nils.api.error.NilsException;
+
+/**
+ * The command line interface of the {@link BundleCompiler}.
+ *
+ * <p>Usage: {@code java -jar nils-compiler.jar --source <dir> --output <dir> --package <name>
+ * [--base-file-name <name>] [--class-name <name>] [--include-tag <tag>] [--no-fallback]}
+ *
+ * <p><em>Note:</em> The dependencies (nils-core, gson and snakeyaml) must be on the class path.
+ */
+public class BundleCompilerCli {
+  static final String USAGE =
+      "Usage: nils-compiler --source <dir> --output <dir> --package <name>"
+          + " [--base-file-name <name>] [--class-name <name>] [--include-tag <tag>]"
+          + " [--no-fallback]";
+
+  private BundleCompilerCli() {}
+
+  public static void main(String[] args) {
+    var exitCode = run(args, System.out, System.err);
+    if (exitCode != 0) {
+      System.exit(exitCode);
+    }
+  }
+
+  /**
+   * Runs the compiler with the command line arguments.
+   *
+   * @param args The command line arguments.
+   * @param out The stream for messages.
+   * @param err The stream for errors.
+   * @return The exit code ({@code 0} on success).
+   */
+  static int run(String[] args, PrintStream out, PrintStream err) {
+    Path source = null;
+    Path output = null;
+    String packageName = null;
+    String baseFileName = null;
+    String className = null;
+    String includeTag = null;
+    var fallbackActive = true;
+    try {
+      for (int i = 0; i < args.length; i++) {
+        switch (args[i]) {
+          case "--source":
+            source = Path.of(value(args, ++i));
+            break;
+          case "--output":
+            output = Path.of(value(args, ++i));
+            break;
+          case "--package":
+            packageName = value(args, ++i);
+            break;
+          case "--base-file-name":
+            baseFileName = value(args, ++i);
+            break;
+          case "--class-name":
+            className = value(args, ++i);
+            break;
+          case "--include-tag":
+            includeTag = value(args, ++i);
+            break;
+          case "--no-fallback":
+            fallbackActive = false;
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown option '" + args[i] + "'.");
+        }
+      }
+      if (source == null || output == null || packageName == null) {
+        throw new IllegalArgumentException("Missing option --source, --output or --package.");
+      }
+    } catch (IllegalArgumentException e) {
+      err.println(e.getMessage());
+      err.println(USAGE);
+      return 2;
+    }
+
+    var compiler = BundleCompiler.init(source, output, packageName).fallbackActive(fallbackActive);
+    if (baseFileName != null) {
+      compiler.baseFileName(baseFileName);
+    }
+    if (className != null) {
+      compiler.className(className);
+    }
+    if (includeTag != null) {
+      compiler.includeTag(includeTag);
+    }
+    try {
+      var files = compiler.compile();
+      out.println("Generated " + files.size() + " source files in '" + output + "'.");
+      return 0;
+    } catch (NilsException e) {
+      err.println(e.getMessage());
+      return 1;
+    }
+  }
+
+  private static String value(String[] args, int index) {
+    if (index >= args.length) {
+      throw new IllegalArgumentException("Missing value for option '" + args[index - 1] + "'.");
+    }
+    return args[index];
+  }
+}
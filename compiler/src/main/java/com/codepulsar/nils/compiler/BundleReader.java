@@ -0,0 +1,67 @@
+package com.codepulsar.nils.compiler;
+
+import static com.codepulsar.nils.compiler.utils.CompilerErrorTypes.CORRUPT_FILE_ERROR;
+
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+
+import com.codepulsar.nils.core.adapter.util.IndexedTranslationRetriever;
+import com.google.gson.Gson;
+
+/** Reads a translation file into a Map of full keys and translations. */
+class BundleReader {
+  /** The supported file extensions. */
+  static final List<String> EXTENSIONS = List.of(".properties", ".json", ".yaml", ".yml");
+
+  Map<String, String> read(Path file) {
+    var fileName = file.getFileName().toString();
+    try (var reader = Files.newBufferedReader(file)) {
+      if (fileName.endsWith(".properties")) {
+        return readProperties(reader);
+      }
+      Map<String, Object> translations;
+      if (fileName.endsWith(".json")) {
+        translations = readJson(reader);
+      } else {
+        translations = readYaml(reader);
+      }
+      return IndexedTranslationRetriever.flatten(translations != null ? translations : Map.of());
+    } catch (Exception e) {
+      throw CORRUPT_FILE_ERROR
+          .asException()
+          .message("Error reading file '%s'.")
+          .args(file)
+          .cause(e)
+          .go();
+    }
+  }
+
+  private Map<String, String> readProperties(Reader reader) throws Exception {
+    var properties = new Properties();
+    properties.load(reader);
+    var translations = new HashMap<String, String>();
+    for (var name : properties.stringPropertyNames()) {
+      translations.put(name, properties.getProperty(name));
+    }
+    return translations;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> readJson(Reader reader) {
+    return new Gson().fromJson(reader, Map.class);
+  }
+
+  private Map<String, Object> readYaml(Reader reader) {
+    var loaderOptions = new LoaderOptions();
+    loaderOptions.setAllowDuplicateKeys(false);
+    return new Yaml(loaderOptions).load(reader);
+  }
+}
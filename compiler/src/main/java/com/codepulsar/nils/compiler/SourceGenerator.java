@@ -0,0 +1,147 @@
+package com.codepulsar.nils.compiler;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/** Generates the Java sources for the compiled translations. */
+class SourceGenerator {
+  private static final String INDENT = "  ";
+
+  private final Path outputDirectory;
+  private final String packageName;
+  private final String className;
+
+  SourceGenerator(Path outputDirectory, String packageName, String className) {
+    this.outputDirectory = outputDirectory;
+    this.packageName = packageName;
+    this.className = className;
+  }
+
+  /**
+   * Generates a class for each {@code Locale} and the adapter factory.
+   *
+   * @param compiled The compiled chunks by the name of the {@code Locale}.
+   * @return The paths of the generated source files.
+   */
+  List<Path> generate(Map<String, List<String>> compiled) throws IOException {
+    var directory = outputDirectory;
+    if (!packageName.isEmpty()) {
+      directory = directory.resolve(packageName.replace('.', '/'));
+    }
+    Files.createDirectories(directory);
+    var files = new ArrayList<Path>();
+    for (var entry : compiled.entrySet()) {
+      var tableName = getTableName(entry.getKey());
+      files.add(write(directory, tableName, generateTable(tableName, entry.getValue())));
+    }
+    var factoryName = className + "AdapterFactory";
+    files.add(write(directory, factoryName, generateFactory(factoryName, compiled)));
+    return files;
+  }
+
+  private String generateTable(String tableName, List<String> chunks) {
+    var source = new StringBuilder(header());
+    source.append('\n');
+    source.append("final class ").append(tableName).append(" {\n");
+    source.append(INDENT).append("static final CompiledAdapter TRANSLATIONS =\n");
+    source.append(INDENT).append(INDENT).append(INDENT).append("CompiledAdapter.fromChunks(");
+    for (int i = 0; i < chunks.size(); i++) {
+      source.append(i > 0 ? ",\n" : "\n");
+      source.append(INDENT.repeat(4)).append('"').append(escape(chunks.get(i))).append('"');
+    }
+    source.append(");\n\n");
+    source.append(INDENT).append("private ").append(tableName).append("() {}\n");
+    source.append("}\n");
+    return source.toString();
+  }
+
+  private String generateFactory(String factoryName, Map<String, List<String>> compiled) {
+    var source = new StringBuilder(header());
+    source.append("import com.codepulsar.nils.adapter.compiled.CompiledAdapterConfig;\n");
+    source.append("import com.codepulsar.nils.adapter.compiled.CompiledAdapterFactory;\n\n");
+    source.append("/** Serves the translations compiled by the NILS bundle compiler. */\n");
+    source.append("public final class ").append(factoryName);
+    source.append(" extends CompiledAdapterFactory {\n\n");
+    source.append(INDENT).append("/**\n");
+    source.append(INDENT).append(" * Create a {@code CompiledAdapterConfig} for this factory.\n");
+    source.append(INDENT).append(" *\n");
+    source.append(INDENT).append(" * @return The created CompiledAdapterConfig.\n");
+    source.append(INDENT).append(" */\n");
+    source.append(INDENT).append("public static CompiledAdapterConfig config() {\n");
+    source.append(INDENT.repeat(2)).append("return CompiledAdapterConfig.init(");
+    source.append(factoryName).append(".class);\n");
+    source.append(INDENT).append("}\n\n");
+    source.append(INDENT).append("@Override\n");
+    source.append(INDENT);
+    source.append("protected CompiledAdapter getTranslations(String localeName) {\n");
+    source.append(INDENT.repeat(2)).append("switch (localeName) {\n");
+    for (var localeName : compiled.keySet()) {
+      source.append(INDENT.repeat(3)).append("case \"").append(escape(localeName)).append("\":\n");
+      source.append(INDENT.repeat(4)).append("return ").append(getTableName(localeName));
+      source.append(".TRANSLATIONS;\n");
+    }
+    source.append(INDENT.repeat(3)).append("default:\n");
+    source.append(INDENT.repeat(4)).append("return null;\n");
+    source.append(INDENT.repeat(2)).append("}\n");
+    source.append(INDENT).append("}\n");
+    source.append("}\n");
+    return source.toString();
+  }
+
+  private String header() {
+    var header = new StringBuilder("// Generated by the NILS bundle compiler. Do not edit.\n");
+    if (!packageName.isEmpty()) {
+      header.append("package ").append(packageName).append(";\n");
+    }
+    header.append("\nimport com.codepulsar.nils.adapter.compiled.CompiledAdapter;\n");
+    return header.toString();
+  }
+
+  private String getTableName(String localeName) {
+    return className
+        + "_"
+        + (localeName.isEmpty() ? "root" : localeName.replaceAll("[^A-Za-z0-9_]", "_"));
+  }
+
+  private static Path write(Path directory, String name, String source) throws IOException {
+    var file = directory.resolve(name + ".java");
+    Files.writeString(file, source);
+    return file;
+  }
+
+  /** Escapes the String as ASCII only Java String literal content. */
+  static String escape(String value) {
+    var escaped = new StringBuilder(value.length() + 16);
+    for (int i = 0; i < value.length(); i++) {
+      var c = value.charAt(i);
+      switch (c) {
+        case '\\':
+          escaped.append("\\\\");
+          break;
+        case '"':
+          escaped.append("\\\"");
+          break;
+        case '\n':
+          escaped.append("\\n");
+          break;
+        case '\r':
+          escaped.append("\\r");
+          break;
+        case '\t':
+          escaped.append("\\t");
+          break;
+        default:
+          if (c < 0x20 || c > 0x7E) {
+            escaped.append(String.format("\\u%04x", (int) c));
+          } else {
+            escaped.append(c);
+          }
+      }
+    }
+    return escaped.toString();
+  }
+}
@@ -0,0 +1,70 @@
+package com.codepulsar.nils.compiler.maven;
+
+import java.io.File;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.compiler.BundleCompiler;
+
+/**
+ * Compiles the translation files into Java classes and adds them to the compile source roots.
+ *
+ * @see BundleCompiler
+ */
+@Mojo(name = "compile-bundles", defaultPhase = LifecyclePhase.GENERATE_SOURCES, threadSafe = true)
+public class CompileBundlesMojo extends AbstractMojo {
+
+  /** The directory containing the translation files. */
+  @Parameter(defaultValue = "${project.basedir}/src/main/resources", required = true)
+  private File sourceDirectory;
+
+  /** The directory for the generated sources. */
+  @Parameter(defaultValue = "${project.build.directory}/generated-sources/nils", required = true)
+  private File outputDirectory;
+
+  /** The package of the generated classes. */
+  @Parameter(required = true)
+  private String packageName;
+
+  /** The base file name of the translation files, relative to the source directory. */
+  @Parameter(defaultValue = "translation")
+  private String baseFileName;
+
+  /** The name prefix of the generated classes. */
+  @Parameter(defaultValue = "Translations")
+  private String className;
+
+  /** The tag for includes. */
+  @Parameter(defaultValue = "_include")
+  private String includeTag;
+
+  /** Flag, if the translations of the fallback locales are compiled in. */
+  @Parameter(defaultValue = "true")
+  private boolean fallbackActive;
+
+  @Parameter(defaultValue = "${project}", readonly = true, required = true)
+  private MavenProject project;
+
+  @Override
+  public void execute() throws MojoExecutionException {
+    try {
+      var files =
+          BundleCompiler.init(sourceDirectory.toPath(), outputDirectory.toPath(), packageName)
+              .baseFileName(baseFileName)
+              .className(className)
+              .includeTag(includeTag)
+              .fallbackActive(fallbackActive)
+              .compile();
+      getLog().info("Generated " + files.size() + " source files in " + outputDirectory);
+    } catch (NilsException e) {
+      throw new MojoExecutionException(e.getMessage(), e);
+    }
+    project.addCompileSourceRoot(outputDirectory.getAbsolutePath());
+  }
+}
@@ -0,0 +1,8 @@
+package com.codepulsar.nils.compiler.utils;
+
+import com.codepulsar.nils.api.error.ErrorType;
+
+public class CompilerErrorTypes {
+  public static final ErrorType CORRUPT_FILE_ERROR = new ErrorType("NILS-350");
+  public static final ErrorType COMPILE_ERROR = new ErrorType("NILS-351");
+}
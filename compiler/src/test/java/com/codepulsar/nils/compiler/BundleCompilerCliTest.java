@@ -0,0 +1,99 @@
+package com.codepulsar.nils.compiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BundleCompilerCliTest {
+  @TempDir Path tempDir;
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+  @Test
+  public void run() {
+    // Arrange
+    var args =
+        new String[] {
+          "--source", "src/test/resources/test",
+          "--output", tempDir.toString(),
+          "--package", "com.example.cli",
+          "--base-file-name", "integration",
+          "--class-name", "Cli",
+          "--include-tag", "_include",
+          "--no-fallback"
+        };
+
+    // Act
+    var exitCode = run(args);
+
+    // Assert
+    assertThat(exitCode).isZero();
+    assertThat(tempDir.resolve("com/example/cli/CliAdapterFactory.java")).exists();
+    assertThat(out.toString(StandardCharsets.UTF_8)).startsWith("Generated 4 source files");
+  }
+
+  @Test
+  public void run_missingOption() {
+    // Act
+    var exitCode = run(new String[] {"--source", "src/test/resources/test"});
+
+    // Assert
+    assertThat(exitCode).isEqualTo(2);
+    assertThat(err.toString(StandardCharsets.UTF_8))
+        .contains("Missing option --source, --output or --package.")
+        .contains(BundleCompilerCli.USAGE);
+  }
+
+  @Test
+  public void run_missingValue() {
+    // Act
+    var exitCode = run(new String[] {"--source"});
+
+    // Assert
+    assertThat(exitCode).isEqualTo(2);
+    assertThat(err.toString(StandardCharsets.UTF_8))
+        .contains("Missing value for option '--source'.");
+  }
+
+  @Test
+  public void run_unknownOption() {
+    // Act
+    var exitCode = run(new String[] {"--unknown"});
+
+    // Assert
+    assertThat(exitCode).isEqualTo(2);
+    assertThat(err.toString(StandardCharsets.UTF_8)).contains("Unknown option '--unknown'.");
+  }
+
+  @Test
+  public void run_compileError() {
+    // Arrange
+    var args =
+        new String[] {
+          "--source", "src/test/resources/test",
+          "--output", tempDir.toString(),
+          "--package", "com.example.cli"
+        };
+
+    // Act
+    var exitCode = run(args);
+
+    // Assert
+    assertThat(exitCode).isEqualTo(1);
+    assertThat(err.toString(StandardCharsets.UTF_8)).startsWith("NILS-351:");
+  }
+
+  private int run(String[] args) {
+    return BundleCompilerCli.run(
+        args,
+        new PrintStream(out, true, StandardCharsets.UTF_8),
+        new PrintStream(err, true, StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,223 @@
+package com.codepulsar.nils.compiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.codepulsar.nils.adapter.compiled.CompiledAdapter;
+import com.codepulsar.nils.adapter.compiled.CompiledAdapterConfig;
+import com.codepulsar.nils.adapter.compiled.CompiledAdapterFactory;
+import com.codepulsar.nils.api.NLS;
+import com.codepulsar.nils.api.NilsFactory;
+import com.codepulsar.nils.api.error.NilsException;
+
+public class BundleCompilerTest {
+  private static final Path SOURCE = Path.of("src/test/resources/test");
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void compile_generatedFiles() {
+    // Arrange
+    var underTest =
+        BundleCompiler.init(SOURCE, tempDir, "com.example.nls").baseFileName("integration");
+
+    // Act
+    var result = underTest.compile();
+
+    // Assert
+    assertThat(result.stream().map(p -> p.getFileName().toString()))
+        .containsExactly(
+            "Translations_root.java",
+            "Translations_de.java",
+            "Translations_de_CH.java",
+            "TranslationsAdapterFactory.java");
+    assertThat(result).allMatch(p -> p.startsWith(tempDir.resolve("com/example/nls")));
+  }
+
+  @Test
+  public void compile_translations() throws Exception {
+    // Arrange
+    var underTest =
+        BundleCompiler.init(SOURCE, tempDir, "com.example.nls").baseFileName("integration");
+
+    // Act
+    var factoryClass = compileAndLoad(underTest.compile(), "com.example.nls");
+
+    // Assert
+    var nls = nls(factoryClass, Locale.ENGLISH);
+    assertThat(nls.get("simple")).isEqualTo("A simple translation");
+    assertThat(nls.get("with_args", "value", "args")).isEqualTo("A value with args.");
+    assertThat(nls.get("Dummy.attribute")).isEqualTo("Attribute");
+
+    nls = nls(factoryClass, Locale.GERMAN);
+    assertThat(nls.get("simple")).isEqualTo("Eine einfache Übersetzung");
+    assertThat(nls.get("fallback")).isEqualTo("A fallback translation");
+
+    nls = nls(factoryClass, new Locale("de", "CH"));
+    assertThat(nls.get("simple")).isEqualTo("Eine einfache Übersetzung (CH)");
+    assertThat(nls.get("fallback")).isEqualTo("A fallback translation");
+  }
+
+  @Test
+  public void compile_includes() throws Exception {
+    // Arrange
+    var underTest =
+        BundleCompiler.init(SOURCE, tempDir, "com.example.nls").baseFileName("integration");
+
+    // Act
+    var factoryClass = compileAndLoad(underTest.compile(), "com.example.nls");
+
+    // Assert
+    var nls = nls(factoryClass, Locale.GERMAN);
+    assertThat(nls.get("data.Message.buttons.ok")).isEqualTo("OK (BaseMessage)");
+    assertThat(nls.get("data.Message.buttons.cancel")).isEqualTo("Abbrechen (Message)");
+    assertThat(nls.get("Level2.value")).isEqualTo("Value (Level0)");
+  }
+
+  @Test
+  public void compile_fallbackInactive() throws Exception {
+    // Arrange
+    var underTest =
+        BundleCompiler.init(SOURCE, tempDir, "com.example.nls")
+            .baseFileName("integration")
+            .className("NoFallback")
+            .fallbackActive(false);
+
+    // Act
+    var factoryClass = compileAndLoad(underTest.compile(), "com.example.nls");
+
+    // Assert
+    var nls = nls(factoryClass, Locale.GERMAN);
+    assertThat(nls.get("simple")).isEqualTo("Eine einfache Übersetzung");
+    assertThatThrownBy(() -> nls.get("fallback"))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-001: Could not find a translation for key 'fallback' and locale 'de'.");
+  }
+
+  @Test
+  public void compile_defaultPackage() throws Exception {
+    // Arrange
+    var underTest = BundleCompiler.init(SOURCE, tempDir, "").baseFileName("integration");
+
+    // Act
+    var result = underTest.compile();
+
+    // Assert
+    assertThat(result).allMatch(p -> p.getParent().equals(tempDir));
+  }
+
+  @Test
+  public void compile_largeBundle_multipleChunks() throws Exception {
+    // Arrange
+    var source = tempDir.resolve("source");
+    Files.createDirectories(source);
+    var properties = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      properties.append("key").append(i).append("=Translation number ").append(i).append('\n');
+    }
+    Files.writeString(source.resolve("translation.properties"), properties);
+    var underTest = BundleCompiler.init(source, tempDir.resolve("out"), "com.example.large");
+
+    // Act
+    var factoryClass = compileAndLoad(underTest.compile(), "com.example.large");
+
+    // Assert
+    var nls = nls(factoryClass, Locale.ENGLISH);
+    assertThat(nls.get("key0")).isEqualTo("Translation number 0");
+    assertThat(nls.get("key4999")).isEqualTo("Translation number 4999");
+  }
+
+  @Test
+  public void compile_missingFiles() {
+    // Arrange
+    var underTest = BundleCompiler.init(SOURCE, tempDir, "com.example.nls");
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.compile())
+        .isInstanceOf(NilsException.class)
+        .hasMessage(
+            "NILS-351: Could not find translation files for base file name 'translation' in '"
+                + SOURCE
+                + "'.");
+  }
+
+  @Test
+  public void compile_duplicateLocale() {
+    // Arrange
+    var underTest =
+        BundleCompiler.init(SOURCE, tempDir, "com.example.nls")
+            .baseFileName("duplicate/translation");
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.compile())
+        .isInstanceOf(NilsException.class)
+        .hasMessage(
+            "NILS-351: Found more than one translation file for locale '': "
+                + "'translation.json' and 'translation.properties'.");
+  }
+
+  @Test
+  public void compile_corruptFile() {
+    // Arrange
+    var underTest =
+        BundleCompiler.init(SOURCE, tempDir, "com.example.nls")
+            .baseFileName("corrupt/translation");
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.compile())
+        .isInstanceOf(NilsException.class)
+        .hasMessageStartingWith("NILS-350: Error reading file '");
+  }
+
+  @Test
+  public void init_null() {
+    // Act / Assert
+    assertThatThrownBy(() -> BundleCompiler.init(SOURCE, tempDir, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter 'packageName' cannot be null.");
+  }
+
+  @Test
+  public void escape() {
+    // Act / Assert
+    assertThat(SourceGenerator.escape("a\"b\\c\nd\0ü"))
+        .isEqualTo("a\\\"b\\\\c\\nd\\u0000\\u00fc");
+  }
+
+  private NLS nls(Class<?> factoryClass, Locale locale) throws Exception {
+    var config = (CompiledAdapterConfig) factoryClass.getMethod("config").invoke(null);
+    return NilsFactory.init(config).nls(locale);
+  }
+
+  private Class<?> compileAndLoad(List<Path> sources, String packageName) throws Exception {
+    var classes = Files.createDirectories(tempDir.resolve("classes"));
+    var coreClasses = CompiledAdapter.class.getProtectionDomain().getCodeSource().getLocation();
+    var arguments = new ArrayList<String>();
+    arguments.addAll(List.of("-d", classes.toString(), "-encoding", "UTF-8"));
+    arguments.addAll(List.of("-cp", Path.of(coreClasses.toURI()).toString()));
+    sources.forEach(source -> arguments.add(source.toString()));
+    var compiler = ToolProvider.getSystemJavaCompiler();
+    var result = compiler.run(null, null, null, arguments.toArray(new String[0]));
+    assertThat(result).isZero();
+
+    var loader =
+        new URLClassLoader(new URL[] {classes.toUri().toURL()}, getClass().getClassLoader());
+    var factoryName = sources.get(sources.size() - 1).getFileName().toString().replace(".java", "");
+    var factoryClass = loader.loadClass(packageName + "." + factoryName);
+    assertThat(factoryClass).isAssignableTo(CompiledAdapterFactory.class);
+    return factoryClass;
+  }
+}
@@ -0,0 +1,87 @@
+package com.codepulsar.nils.adapter.compiled;
+
+import static com.codepulsar.nils.core.error.ErrorTypes.ADAPTER_ERROR;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import com.codepulsar.nils.api.adapter.Adapter;
+import com.codepulsar.nils.api.adapter.EnumerableAdapter;
+import com.codepulsar.nils.core.util.ParameterCheck;
+
+/**
+ * An {@link Adapter} implementation serving translations compiled into Java classes.
+ *
+ * <p>The translations of a {@code Locale} already contain the translations of the fallback {@code
+ * Locale}s and all keys reachable by includes, so a lookup is a binary search in a sorted array.
+ *
+ * <p>The adapters are created by the classes generated by the NILS bundle compiler.
+ *
+ * @see CompiledAdapterFactory
+ */
+public class CompiledAdapter implements EnumerableAdapter {
+  /** The separator of keys and translations in the compiled chunks. */
+  public static final char SEPARATOR = '\u0000';
+
+  private final String[] keys;
+  private final String[] values;
+
+  /**
+   * Create a new instance.
+   *
+   * @param keys The keys, sorted by their natural order.
+   * @param values The translations in the order of the keys.
+   */
+  public CompiledAdapter(String[] keys, String[] values) {
+    this.keys = ParameterCheck.notNull(keys, "keys");
+    this.values = ParameterCheck.notNull(values, "values");
+    if (keys.length != values.length) {
+      throw ADAPTER_ERROR
+          .asException()
+          .message("The number of keys (%s) and translations (%s) differ.")
+          .args(keys.length, values.length)
+          .go();
+    }
+  }
+
+  /**
+   * Create a new instance from compiled chunks.
+   *
+   * <p>Each chunk contains keys and translations, each terminated by {@link #SEPARATOR}. The keys
+   * must be sorted by their natural order.
+   *
+   * @param chunks The compiled chunks.
+   * @return A new {@link CompiledAdapter}.
+   */
+  public static CompiledAdapter fromChunks(String... chunks) {
+    ParameterCheck.notNull(chunks, "chunks");
+    var keys = new ArrayList<String>();
+    var values = new ArrayList<String>();
+    for (var chunk : chunks) {
+      var start = 0;
+      var isKey = true;
+      for (int end = chunk.indexOf(SEPARATOR); end >= 0; end = chunk.indexOf(SEPARATOR, start)) {
+        (isKey ? keys : values).add(chunk.substring(start, end));
+        isKey = !isKey;
+        start = end + 1;
+      }
+    }
+    return new CompiledAdapter(keys.toArray(new String[0]), values.toArray(new String[0]));
+  }
+
+  @Override
+  public Optional<String> getTranslation(String key) {
+    ParameterCheck.notNullEmptyOrBlank(key, "key");
+    var index = Arrays.binarySearch(keys, key);
+    return index >= 0 ? Optional.of(values[index]) : Optional.empty();
+  }
+
+  @Override
+  public Set<String> getKeys() {
+    return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(keys)));
+  }
+}
@@ -0,0 +1,34 @@
+package com.codepulsar.nils.adapter.compiled;
+
+import static com.codepulsar.nils.core.error.ErrorTypes.CONFIG_ERROR;
+import static com.codepulsar.nils.core.util.ParameterCheck.nilsException;
+
+import com.codepulsar.nils.api.adapter.AdapterFactory;
+import com.codepulsar.nils.core.adapter.config.BaseNilsConfig;
+import com.codepulsar.nils.core.util.ParameterCheck;
+
+/** Configuration for the {@link CompiledAdapter} implementation. */
+public class CompiledAdapterConfig extends BaseNilsConfig<CompiledAdapterConfig> {
+  private final Class<? extends CompiledAdapterFactory> factoryClass;
+
+  private CompiledAdapterConfig(Class<? extends CompiledAdapterFactory> factoryClass) {
+    this.factoryClass = factoryClass;
+  }
+
+  @Override
+  public Class<? extends AdapterFactory<?>> getFactoryClass() {
+    return factoryClass;
+  }
+
+  /**
+   * Create a <code>CompiledAdapterConfig</code> for a generated factory.
+   *
+   * @param factoryClass The Class of the {@link CompiledAdapterFactory} generated by the NILS bundle
+   *     compiler.
+   * @return The created CompiledAdapterConfig.
+   */
+  public static CompiledAdapterConfig init(Class<? extends CompiledAdapterFactory> factoryClass) {
+    ParameterCheck.notNull(factoryClass, "factoryClass", nilsException(CONFIG_ERROR));
+    return new CompiledAdapterConfig(factoryClass);
+  }
+}
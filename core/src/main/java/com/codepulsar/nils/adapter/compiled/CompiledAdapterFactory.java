@@ -0,0 +1,75 @@
+package com.codepulsar.nils.adapter.compiled;
+
+import static com.codepulsar.nils.core.error.ErrorTypes.MISSING_RESOURCE_FILE_ERROR;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.codepulsar.nils.api.NilsConfig;
+import com.codepulsar.nils.core.adapter.AdapterContext;
+import com.codepulsar.nils.core.adapter.BaseAdapterFactory;
+
+/**
+ * The base class of the factories generated by the NILS bundle compiler.
+ *
+ * <p>The translations of a {@code Locale} are looked up by the name of the {@code Locale} (i.e.
+ * {@code de_DE}). If there are no translations for it, the more general ones ("de_DE" &gt; "de"
+ * &gt; "") are used.
+ */
+public abstract class CompiledAdapterFactory extends BaseAdapterFactory<CompiledAdapter> {
+
+  @Override
+  protected List<Class<? extends NilsConfig<?>>> getValidAdapterConfigClasses() {
+    return List.of(CompiledAdapterConfig.class);
+  }
+
+  @Override
+  protected CompiledAdapter createAdapter(AdapterContext<CompiledAdapter> context) {
+    var locale = context.getLocale();
+    for (var localeName : getCandidateNames(locale)) {
+      var adapter = getTranslations(localeName);
+      if (adapter != null) {
+        return adapter;
+      }
+    }
+    throw MISSING_RESOURCE_FILE_ERROR
+        .asException()
+        .message("Could not find compiled translations for locale '%s'.")
+        .args(locale)
+        .go();
+  }
+
+  /**
+   * Gets the compiled translations for the name of a {@code Locale}.
+   *
+   * @param localeName The name of the {@code Locale} (i.e. {@code de_DE}) or an empty String for
+   *     the base translations.
+   * @return The {@link CompiledAdapter} or {@code null}, if there are no translations for the name.
+   */
+  protected abstract CompiledAdapter getTranslations(String localeName);
+
+  /**
+   * Gets the names of the compiled translations, that are tried for a {@code Locale}.
+   *
+   * @param locale The {@code Locale}.
+   * @return The names from the most specific to the base translations (an empty String).
+   */
+  public static List<String> getCandidateNames(Locale locale) {
+    var names = new ArrayList<String>();
+    var language = locale.getLanguage();
+    var country = locale.getCountry();
+    var variant = locale.getVariant();
+    if (!variant.isEmpty()) {
+      names.add(language + "_" + country + "_" + variant);
+    }
+    if (!country.isEmpty()) {
+      names.add(language + "_" + country);
+    }
+    if (!language.isEmpty()) {
+      names.add(language);
+    }
+    names.add("");
+    return names;
+  }
+}
@@ -3,6 +3,7 @@ package com.codepulsar.nils.api;
 import java.time.format.FormatStyle;
 
 import com.codepulsar.nils.api.adapter.AdapterFactory;
+import com.codepulsar.nils.core.cache.CacheFactory;
 import com.codepulsar.nils.core.handler.ClassPrefixResolver;
 import com.codepulsar.nils.core.handler.TranslationFormatter;
 /** The configuration of the Nils library. */
@@ -125,6 +126,100 @@ public interface NilsConfig<CFG extends NilsConfig<?>> {
    */
   CFG dateFormatStyle(FormatStyle dateFormatStyle);
 
+  /**
+   * Gets the maximum number of missing translation keys remembered per {@link NLS} object.
+   *
+   * <p>A remembered key is answered with the escape pattern without asking the adapter again. A
+   * value of <code>0</code> disables the caching of missing keys.
+   *
+   * <p>The default value is <code>1000</code>.
+   *
+   * @return The maximum number of cached missing keys.
+   * @see #missingKeyCacheSize(int)
+   * @see #getMissingKeyCacheTimeout()
+   */
+  int getMissingKeyCacheSize();
+
+  /**
+   * Sets the maximum number of missing translation keys remembered per {@link NLS} object.
+   *
+   * @param missingKeyCacheSize The maximum number of cached missing keys. Must be &gt;= 0.
+   * @return This config object.
+   * @see #getMissingKeyCacheSize()
+   */
+  CFG missingKeyCacheSize(int missingKeyCacheSize);
+
+  /**
+   * Gets the time in seconds a missing translation key is remembered, before the adapter is asked
+   * again.
+   *
+   * <p>A value &lt; 0 disables the timeout.
+   *
+   * <p>The default value is <code>-1</code>.
+   *
+   * @return The value in seconds.
+   * @see #missingKeyCacheTimeout(long)
+   * @see #getMissingKeyCacheSize()
+   */
+  long getMissingKeyCacheTimeout();
+
+  /**
+   * Sets the time in seconds a missing translation key is remembered, before the adapter is asked
+   * again.
+   *
+   * <p>A value &lt; 0 disables the timeout.
+   *
+   * @param missingKeyCacheTimeout The value in seconds.
+   * @return This config object.
+   * @see #getMissingKeyCacheTimeout()
+   */
+  CFG missingKeyCacheTimeout(long missingKeyCacheTimeout);
+
+  /**
+   * Gets the {@link CacheFactory} creating the caches of NILS.
+   *
+   * <p>The default is {@link CacheFactory#TINY_LFU}.
+   *
+   * @return The {@link CacheFactory}.
+   * @see #cacheFactory(CacheFactory)
+   * @see #getCacheSize()
+   */
+  CacheFactory getCacheFactory();
+
+  /**
+   * Sets the {@link CacheFactory} creating the caches of NILS.
+   *
+   * @param cacheFactory The {@link CacheFactory}.
+   * @return This config object.
+   * @see #getCacheFactory()
+   */
+  CFG cacheFactory(CacheFactory cacheFactory);
+
+  /**
+   * Gets the maximum number of values of each cache created by the {@link CacheFactory} (i.e. the
+   * resolved translations per {@code Locale}).
+   *
+   * <p>A value &lt; 0 means unbounded caches.
+   *
+   * <p>The default value is <code>10000</code>.
+   *
+   * @return The maximum number of values per cache.
+   * @see #cacheSize(long)
+   * @see #getMissingKeyCacheSize()
+   */
+  long getCacheSize();
+
+  /**
+   * Sets the maximum number of values of each cache created by the {@link CacheFactory}.
+   *
+   * <p>A value &lt; 0 means unbounded caches.
+   *
+   * @param cacheSize The maximum number of values per cache.
+   * @return This config object.
+   * @see #getCacheSize()
+   */
+  CFG cacheSize(long cacheSize);
+
   /**
    * Class of the {@link AdapterFactory}.
    *
@@ -1,6 +1,9 @@
 package com.codepulsar.nils.api;
 
+import java.util.Collection;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import com.codepulsar.nils.core.handler.ClassPrefixResolver;
 import com.codepulsar.nils.core.impl.NilsFactoryImpl;
@@ -185,10 +188,120 @@ public interface NilsFactory {
   /**
    * Reset the {@link NilsFactory} and all its cached elements.
    *
-   * <p><em>Note: The implementation is synchronized.</em>
+   * <p>The cached elements are dropped by a single atomic swap. NLS objects already handed out
+   * keep working on the dropped elements, new requests load everything again. The dropped adapter
+   * factory is closed, if it is {@code AutoCloseable}.
    */
   void reset();
 
+  /**
+   * Reload the translations of all <code>Locale</code>s requested so far in the background.
+   *
+   * <p>The same as {@link #reload(Executor)} using the common {@code ForkJoinPool}.
+   *
+   * @return A {@code CompletableFuture} completed when the reloaded translations are published.
+   */
+  CompletableFuture<Void> reload();
+
+  /**
+   * Reload the translations of all <code>Locale</code>s requested so far in the background.
+   *
+   * <p>A new generation of adapters and NLS objects is loaded using the {@code Executor} and
+   * published by a single atomic swap. Until then all requests are served by the current
+   * generation. If loading fails, the current generation is kept and the returned {@code
+   * CompletableFuture} completes exceptionally. A <code>Locale</code> already served by the
+   * fallsave NLS (see {@link NilsConfig#suppressErrors(boolean)}) is tried again, but does not fail
+   * the reload.
+   *
+   * <p>The replaced adapter factory is closed, if it is {@code AutoCloseable}. If the factory is
+   * reset or reloaded meanwhile, the reload is performed again on top of the new generation. After
+   * three superseded attempts the returned {@code CompletableFuture} completes exceptionally.
+   *
+   * @param executor The {@code Executor} loading the translations.
+   * @return A {@code CompletableFuture} completed when the reloaded translations are published.
+   */
+  CompletableFuture<Void> reload(Executor executor);
+
+  /**
+   * Reload the translations of changed <code>Locale</code>s in the background.
+   *
+   * <p>The same as {@link #reload(Collection, Executor)} using the common {@code ForkJoinPool}.
+   *
+   * @param locales The changed <code>Locale</code>s.
+   * @return A {@code CompletableFuture} completed when the reloaded translations are published.
+   */
+  CompletableFuture<Void> reload(Collection<Locale> locales);
+
+  /**
+   * Reload the translations of changed <code>Locale</code>s in the background.
+   *
+   * <p>Only the adapters and NLS objects of the changed <code>Locale</code>s and of the
+   * <code>Locale</code>s falling back to them (i.e. {@code de_CH} for a changed {@code de}) are
+   * loaded again using the {@code Executor}. The others are kept. The result is published by a
+   * single atomic swap like {@link #reload(Executor)}. Reloads of changed <code>Locale</code>s are
+   * performed one after the other, so no change is lost. The next generation uses a copy of the
+   * adapter factory, so the current generation keeps its translations until the swap.
+   *
+   * <p>If the adapter factory cannot invalidate single <code>Locale</code>s, all translations are
+   * reloaded.
+   *
+   * @param locales The changed <code>Locale</code>s.
+   * @param executor The {@code Executor} loading the translations.
+   * @return A {@code CompletableFuture} completed when the reloaded translations are published.
+   * @see com.codepulsar.nils.api.adapter.AdapterFactory#invalidatedCopy(NilsConfig, Collection)
+   */
+  CompletableFuture<Void> reload(Collection<Locale> locales, Executor executor);
+
+  /**
+   * Load the translations of <code>Locale</code>s in the background.
+   *
+   * <p>The same as {@link #preload(Collection, Executor)} using the common {@code ForkJoinPool}.
+   *
+   * @param locales The <code>Locale</code>s to load.
+   * @return A {@code CompletableFuture} completed when all translations are loaded.
+   */
+  CompletableFuture<Void> preload(Collection<Locale> locales);
+
+  /**
+   * Load the translations of <code>Locale</code>s in the background.
+   *
+   * <p>The NLS objects of the <code>Locale</code>s and their parent <code>Locale</code>s (i.e.
+   * {@code de_CH} &gt; {@code de} &gt; {@code Locale.ROOT}) are created in parallel using the
+   * {@code Executor}, so later requests are served without loading anything. Requests for a
+   * <code>Locale</code> being loaded wait for the load instead of starting another one.
+   *
+   * <p>If loading a <code>Locale</code> fails, the returned {@code CompletableFuture} completes
+   * exceptionally, even if errors are suppressed (see {@link NilsConfig#suppressErrors(boolean)}).
+   * The failed <code>Locale</code> is not cached, so a later request loads it again.
+   *
+   * @param locales The <code>Locale</code>s to load.
+   * @param executor The {@code Executor} loading the translations.
+   * @return A {@code CompletableFuture} completed when all translations are loaded.
+   */
+  CompletableFuture<Void> preload(Collection<Locale> locales, Executor executor);
+
+  /**
+   * Load the translations of all available <code>Locale</code>s in the background.
+   *
+   * <p>The same as {@link #preloadAll(Executor)} using the common {@code ForkJoinPool}.
+   *
+   * @return A {@code CompletableFuture} completed when all translations are loaded.
+   */
+  CompletableFuture<Void> preloadAll();
+
+  /**
+   * Load the translations of all available <code>Locale</code>s in the background.
+   *
+   * <p>The available <code>Locale</code>s are determined by the adapter factory (i.e. the
+   * resource files found on the class path). They are loaded like {@link #preload(Collection,
+   * Executor)}.
+   *
+   * @param executor The {@code Executor} loading the translations.
+   * @return A {@code CompletableFuture} completed when all translations are loaded.
+   * @see com.codepulsar.nils.api.adapter.AdapterFactory#getAvailableLocales(NilsConfig)
+   */
+  CompletableFuture<Void> preloadAll(Executor executor);
+
   /**
    * Initialize the factory using a {@link NilsConfig}.
    *
@@ -1,12 +1,19 @@
 package com.codepulsar.nils.api.adapter;
 
+import java.util.Collection;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 
 import com.codepulsar.nils.api.NilsConfig;
 /**
  * An <strong>AdapterFactory</strong> creates an new object of an {@link Adapter} using the {@link
  * NilsConfig} and <code>Locale</code>, if necessary.
  *
+ * <p>A factory holding resources (i.e. database connections) may implement {@code AutoCloseable}.
+ * It is closed by the {@code NilsFactory}, when it is dropped by a reset or replaced by a reload of
+ * all translations.
+ *
  * @param <A> A type parameter for the Adapter implementation class.
  */
 public interface AdapterFactory<A extends Adapter> {
@@ -19,4 +26,38 @@ public interface AdapterFactory<A extends Adapter> {
    * @return The created {@link Adapter} instance.
    */
   A create(NilsConfig<?> config, Locale locale);
+
+  /**
+   * Gets the <code>Locale</code>s having own translations, if the factory can determine them.
+   *
+   * <p>The default implementation returns an empty Set.
+   *
+   * @param config An {@link NilsConfig} object.
+   * @return The <code>Locale</code>s having own translations.
+   */
+  default Set<Locale> getAvailableLocales(NilsConfig<?> config) {
+    return Set.of();
+  }
+
+  /**
+   * Creates a new factory sharing the {@link Adapter}s of the unchanged <code>Locale</code>s with
+   * this factory, so only the {@link Adapter}s of changed <code>Locale</code>s are created again
+   * with the changed translations.
+   *
+   * <p>The {@link Adapter}s of <code>Locale</code>s falling back to a changed <code>Locale</code>
+   * (i.e. {@code de_CH} for a changed {@code de}) are not shared either. This factory is not
+   * changed, so the {@link Adapter}s it creates keep the current translations.
+   *
+   * <p>The default implementation does not support the invalidation and returns an empty {@code
+   * Optional}.
+   *
+   * @param config An {@link NilsConfig} object.
+   * @param locales The changed <code>Locale</code>s.
+   * @return The new factory or an empty {@code Optional}, if the factory does not support the
+   *     invalidation.
+   */
+  default Optional<AdapterFactory<A>> invalidatedCopy(
+      NilsConfig<?> config, Collection<Locale> locales) {
+    return Optional.empty();
+  }
 }
@@ -0,0 +1,21 @@
+package com.codepulsar.nils.api.adapter;
+
+import java.util.Set;
+
+/**
+ * An <strong>EnumerableAdapter</strong> is an {@link Adapter} that can list the keys of its
+ * translations.
+ *
+ * <p>This is i.e. used for converting the translations of an adapter into another format.
+ */
+public interface EnumerableAdapter extends Adapter {
+  /**
+   * Gets the keys of the translations provided by the adapter itself.
+   *
+   * <p>Keys only available through a fallback (i.e. a resource of a more general {@code Locale})
+   * are not included.
+   *
+   * @return An unmodifiable {@code Set} of keys.
+   */
+  Set<String> getKeys();
+}
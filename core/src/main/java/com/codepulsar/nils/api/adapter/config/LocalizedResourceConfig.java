@@ -1,5 +1,7 @@
 package com.codepulsar.nils.api.adapter.config;
 
+import java.nio.file.Path;
+
 import com.codepulsar.nils.api.adapter.Adapter;
 import com.codepulsar.nils.core.adapter.util.LocalizedResourceResolver;
 
@@ -29,6 +31,66 @@ public interface LocalizedResourceConfig {
    * @return {@code true} if active, else {@code false}.
    */
   boolean isFallbackActive();
+  /**
+   * Gets the flag, if the translations should be stored in a compact form.
+   *
+   * <p>In case it is set to {@code true} the loaded translations are stored in a read-only
+   * structure needing much less memory, but retrieving a translation is slower. This is useful for
+   * large resource files in many locales, because the {@code NLS} caches the retrieved translations
+   * anyway.
+   *
+   * @return {@code true} if active, else {@code false}.
+   */
+  boolean isCompactTranslations();
+  /**
+   * Gets the flag, if the includes should be resolved when the resources are loaded.
+   *
+   * <p>In case it is set to {@code true} all keys reachable by includes are resolved once, when
+   * the resource of a {@code Locale} is loaded. A lookup of an included key then costs the same as
+   * a lookup of any other key. Circular includes are reported once as warning while loading.
+   *
+   * @return {@code true} if active, else {@code false}.
+   */
+  boolean isCompileIncludes();
+  /**
+   * Gets the flag, if the resources of the fallback chain should be merged when they are loaded.
+   *
+   * <p>In case it is set to {@code true} the translations of a {@code Locale} and of all its
+   * fallback {@code Locale}s ("de_DE" &gt; "de" &gt; "") are merged into one view, when the
+   * resource is loaded. The translations of the more specific {@code Locale} shadow the others.
+   * Each lookup is a single probe, but every {@code Locale} keeps its own copy of the view.
+   *
+   * <p>The flag has no effect, if {@link #isFallbackActive()} is {@code false}.
+   *
+   * @return {@code true} if active, else {@code false}.
+   */
+  boolean isMergeFallbacks();
+  /**
+   * Gets the flag, if the top-level sections of a resource should be parsed on first access.
+   *
+   * <p>In case it is set to {@code true} the resource is only scanned for its top-level sections
+   * when it is loaded. A section is parsed when a key beneath it is requested the first time, so
+   * the costs of loading scale with the sections used and not with the size of the resource. A
+   * corrupt section is reported on its first access and on every later access, like a missing
+   * translation. The raw content of a section is kept in memory until the section is parsed.
+   *
+   * <p>Resources which cannot be split safely (i.e. YAML files using anchors) are loaded
+   * completely. The flag has no effect, if the includes are compiled or the fallbacks are merged,
+   * because these need all translations.
+   *
+   * @return {@code true} if active, else {@code false}.
+   */
+  boolean isLazySections();
+  /**
+   * Gets the directory in the file system containing the localized files.
+   *
+   * <p>In case it is set the base file name is resolved relative to this directory and the files
+   * are read through a memory mapping instead of reading them from the owner module. The files can
+   * be replaced on disk without a redeploy.
+   *
+   * @return The directory or {@code null}, if the files are read from the owner module.
+   */
+  Path getResourceDirectory();
   /**
    * Gets the owner module for the nls support.
    *
@@ -2,16 +2,27 @@ package com.codepulsar.nils.core.adapter;
 
 import static com.codepulsar.nils.core.error.ErrorTypes.ADAPTER_ERROR;
 
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import com.codepulsar.nils.api.NilsConfig;
 import com.codepulsar.nils.api.NilsFactory;
 import com.codepulsar.nils.api.adapter.Adapter;
 import com.codepulsar.nils.api.adapter.AdapterFactory;
+import com.codepulsar.nils.api.adapter.config.LocalizedResourceConfig;
+import com.codepulsar.nils.core.adapter.util.LocalizedResourceScanner;
+import com.codepulsar.nils.core.cache.CacheFactory;
+import com.codepulsar.nils.core.cache.NilsCache;
 import com.codepulsar.nils.core.util.ParameterCheck;
 
 /**
@@ -19,28 +30,210 @@ import com.codepulsar.nils.core.util.ParameterCheck;
  *
  * <p>The class provides common checks and caches the create {@link Adapter} objects for faster
  * access (ie. multiple calls from the {@link NilsFactory} with the same {@code Locale} or if a
- * {@link Adapter} is called as fallback.
+ * {@link Adapter} is called as fallback. The cache is created by the {@link CacheFactory} of the
+ * first {@link NilsConfig} passed in.
+ *
+ * <p>The adapters are cached per {@link NilsConfig} and {@code Locale}. Concurrent requests for
+ * the same adapter wait for the one thread creating it, so each adapter is created once. An
+ * adapter may request its fallback adapter from the factory while it is created.
+ *
+ * <p>The adapters of a {@link BaseLocalizedResourceAdapter} resolving the same resource share the
+ * parsed resource, so each resource is parsed once per factory.
+ *
+ * <p>A copy of the factory without the adapters and parsed resources of changed {@code Locale}s
+ * can be created, so only these are created again after a change.
  *
  * @param <A> The type of the {@link Adapter}
  */
 public abstract class BaseAdapterFactory<A extends Adapter> implements AdapterFactory<A> {
+  // The number of keys of evicted adapters kept before pruning them
+  private static final int PRUNE_SLACK = 16;
 
-  private Map<Locale, Adapter> cache = new HashMap<>();
+  // The adapters created by the current thread, detecting an adapter requesting itself
+  private final ThreadLocal<Set<AdapterKey>> creating = ThreadLocal.withInitial(HashSet::new);
+  private final Map<AdapterKey, CompletableFuture<A>> loading = new ConcurrentHashMap<>();
+  private final ResourceRegistry resources = new ResourceRegistry();
+  // The keys of the created adapters, because the cache cannot be iterated. The keys of adapters
+  // evicted from the cache are pruned, before the set grows beyond twice the size of the cache.
+  private final Set<AdapterKey> createdKeys = ConcurrentHashMap.newKeySet();
+  private volatile NilsCache<AdapterKey, A> cache;
 
-  @SuppressWarnings("unchecked")
   @Override
   public A create(NilsConfig<?> config, Locale locale) {
     ParameterCheck.notNull(config, "config");
     ParameterCheck.notNull(locale, "locale");
     checkAdapterConfig(config);
 
-    return (A)
-        cache.computeIfAbsent(
-            locale,
-            k -> {
-              var adapterContext = new AdapterContext<A>().config(config).locale(k).factory(this);
-              return createAdapter(adapterContext);
-            });
+    var adapterCache = getCache(config);
+    var key = new AdapterKey(config, locale);
+    A adapter = adapterCache.get(key);
+    if (adapter != null) {
+      return adapter;
+    }
+
+    var created = new CompletableFuture<A>();
+    var running = loading.putIfAbsent(key, created);
+    if (running != null) {
+      if (creating.get().contains(key)) {
+        throw ADAPTER_ERROR
+            .asException()
+            .message("The adapter for locale '%s' requested itself while it was created.")
+            .args(locale)
+            .go();
+      }
+      return await(running);
+    }
+
+    // Create the adapter outside of the cache, because an adapter may request its fallback
+    // adapter from this factory while it is created.
+    creating.get().add(key);
+    try {
+      adapter = adapterCache.get(key);
+      if (adapter == null) {
+        var adapterContext = new AdapterContext<A>().config(config).locale(locale).factory(this);
+        adapter = createAdapter(adapterContext);
+        A previous = adapterCache.putIfAbsent(key, adapter);
+        adapter = previous != null ? previous : adapter;
+        addCreatedKey(adapterCache, key);
+      }
+      created.complete(adapter);
+      return adapter;
+    } catch (RuntimeException e) {
+      created.completeExceptionally(e);
+      throw e;
+    } finally {
+      creating.get().remove(key);
+      loading.remove(key, created);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>For a {@link LocalizedResourceConfig} the <code>Locale</code>s of the resources found on the
+   * class path or in the {@link LocalizedResourceConfig#getResourceDirectory()} are returned.
+   */
+  @Override
+  public Set<Locale> getAvailableLocales(NilsConfig<?> config) {
+    ParameterCheck.notNull(config, "config");
+    checkAdapterConfig(config);
+    if (!(config instanceof LocalizedResourceConfig)) {
+      return Set.of();
+    }
+    var resourceConfig = (LocalizedResourceConfig) config;
+    var scanner = new LocalizedResourceScanner(resourceConfig);
+    var directory = resourceConfig.getResourceDirectory();
+    return directory != null ? scanner.findLocales(directory) : scanner.findLocales();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The copy is a new instance of the factory class, created by its no-arg constructor. It gets
+   * the cached adapters and the parsed resources of the unchanged <code>Locale</code>s. The index
+   * of the existing resources is built again, so added resources are found. An empty {@code
+   * Optional} is returned, if the factory class cannot be instantiated.
+   */
+  @Override
+  public Optional<AdapterFactory<A>> invalidatedCopy(
+      NilsConfig<?> config, Collection<Locale> locales) {
+    ParameterCheck.notNull(config, "config");
+    ParameterCheck.notNull(locales, "locales");
+    BaseAdapterFactory<A> copy;
+    try {
+      @SuppressWarnings("unchecked")
+      var instance = (BaseAdapterFactory<A>) getClass().getConstructor().newInstance();
+      copy = instance;
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return Optional.empty();
+    }
+    var adapterCache = cache;
+    if (adapterCache != null) {
+      var copyCache = copy.getCache(config);
+      for (var key : createdKeys) {
+        if (key.config == config && isAffected(key.locale, locales)) {
+          continue;
+        }
+        var adapter = adapterCache.get(key);
+        if (adapter != null) {
+          copyCache.put(key, adapter);
+          copy.createdKeys.add(key);
+        }
+      }
+    }
+    resources.copyTo(copy.resources, config, locales);
+    return Optional.of(copy);
+  }
+
+  private void addCreatedKey(NilsCache<AdapterKey, A> adapterCache, AdapterKey key) {
+    createdKeys.add(key);
+    if (createdKeys.size() > 2 * adapterCache.size() + PRUNE_SLACK) {
+      createdKeys.removeIf(created -> adapterCache.get(created) == null);
+    }
+  }
+
+  /**
+   * Gets the number of keys of created adapters remembered for {@link #invalidatedCopy(NilsConfig,
+   * Collection)}.
+   *
+   * @return The number of keys.
+   */
+  int getCreatedKeyCount() {
+    return createdKeys.size();
+  }
+
+  /**
+   * Gets the parsed resources shared by the adapters of this factory.
+   *
+   * @return The {@link ResourceRegistry} of this factory.
+   */
+  ResourceRegistry getResources() {
+    return resources;
+  }
+
+  private A await(CompletableFuture<A> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  // Checks, if the locale or one of its fallback locales was changed
+  private static boolean isAffected(Locale locale, Collection<Locale> locales) {
+    var current = locale;
+    while (true) {
+      if (locales.contains(current)) {
+        return true;
+      }
+      if (Locale.ROOT.equals(current)) {
+        return false;
+      }
+      if (!current.getVariant().isEmpty()) {
+        current = new Locale(current.getLanguage(), current.getCountry());
+      } else if (!current.getCountry().isEmpty()) {
+        current = new Locale(current.getLanguage());
+      } else {
+        current = Locale.ROOT;
+      }
+    }
+  }
+
+  private NilsCache<AdapterKey, A> getCache(NilsConfig<?> config) {
+    var current = cache;
+    if (current == null) {
+      synchronized (this) {
+        current = cache;
+        if (current == null) {
+          current = config.getCacheFactory().create(CacheFactory.ADAPTERS, config.getCacheSize());
+          cache = current;
+        }
+      }
+    }
+    return current;
   }
 
   protected void checkAdapterConfig(NilsConfig<?> config) {
@@ -82,4 +275,32 @@ public abstract class BaseAdapterFactory<A extends Adapter> implements AdapterFa
    * @return The newly created {@link Adapter}.
    */
   protected abstract A createAdapter(AdapterContext<A> context);
+
+  /** The key of an adapter: the identity of the {@link NilsConfig} and the {@code Locale}. */
+  private static final class AdapterKey {
+    private final NilsConfig<?> config;
+    private final Locale locale;
+
+    AdapterKey(NilsConfig<?> config, Locale locale) {
+      this.config = config;
+      this.locale = locale;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof AdapterKey)) {
+        return false;
+      }
+      var other = (AdapterKey) obj;
+      return config == other.config && locale.equals(other.locale);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(System.identityHashCode(config), locale);
+    }
+  }
 }
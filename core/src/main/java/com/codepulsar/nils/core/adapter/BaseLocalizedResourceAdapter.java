@@ -1,15 +1,42 @@
 package com.codepulsar.nils.core.adapter;
 
 import static com.codepulsar.nils.core.error.ErrorTypes.ADAPTER_ERROR;
+import static com.codepulsar.nils.core.error.ErrorTypes.IO_ERROR;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.codepulsar.nils.api.NilsConfig;
 import com.codepulsar.nils.api.adapter.Adapter;
+import com.codepulsar.nils.api.adapter.EnumerableAdapter;
 import com.codepulsar.nils.api.adapter.config.LocalizedResourceConfig;
+import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.core.adapter.util.CompactTranslationRetriever;
+import com.codepulsar.nils.core.adapter.util.EnumerableTranslationRetriever;
+import com.codepulsar.nils.core.adapter.util.IncludeResolver;
+import com.codepulsar.nils.core.adapter.util.IndexedTranslationRetriever;
+import com.codepulsar.nils.core.adapter.util.LazyTranslationRetriever;
+import com.codepulsar.nils.core.adapter.util.LocalizedResourceIndex;
 import com.codepulsar.nils.core.adapter.util.LocalizedResourceResolver;
+import com.codepulsar.nils.core.adapter.util.LocalizedResourceScanner;
+import com.codepulsar.nils.core.adapter.util.MappedFileInputStream;
+import com.codepulsar.nils.core.adapter.util.SectionScanner.Section;
 import com.codepulsar.nils.core.adapter.util.TranslationRetriever;
 import com.codepulsar.nils.core.util.ParameterCheck;
 
@@ -19,13 +46,22 @@ import com.codepulsar.nils.core.util.ParameterCheck;
  *
  * <p>The class provides common checks and methods using localized resources more easy.
  *
+ * <p>Depending on the {@link LocalizedResourceConfig} the includes are resolved and the fallback
+ * chain is merged into one view, when the resource is loaded.
+ *
+ * <p>If the adapter is created by a {@link BaseAdapterFactory}, a resource is parsed once and
+ * shared by all adapters of the factory resolving it (i.e. the adapters for {@code de_AT} and
+ * {@code de}, if there is no resource for {@code de_AT}).
+ *
  * <p><em>Note:</em> The {@link NilsConfig} must also implement {@link LocalizedResourceConfig}.
  *
  * @param <A> The type of the {@link Adapter}
  * @param <C> The type of the {@link NilsConfig}
  */
 public abstract class BaseLocalizedResourceAdapter<A extends Adapter, C extends NilsConfig<?>>
-    implements Adapter {
+    implements EnumerableAdapter {
+  private static final Logger LOG = LoggerFactory.getLogger(BaseLocalizedResourceAdapter.class);
+
   /** Constant for an empty {@code Locale} */
   protected static final Locale ROOT_LOCALE = new Locale("");
 
@@ -50,6 +86,15 @@ public abstract class BaseLocalizedResourceAdapter<A extends Adapter, C extends
   /** The name of the use resource. */
   protected String resourceName;
 
+  // The Locale of the used resource, i.e. "de" if there is no resource for "de_DE"
+  private Locale resourceLocale;
+
+  // The keys reachable by includes, if LocalizedResourceConfig.isCompileIncludes() is active
+  private EnumerableTranslationRetriever includedTranslation;
+
+  // The view of the whole fallback chain, if LocalizedResourceConfig.isMergeFallbacks() is active
+  private TranslationRetriever mergedTranslation;
+
   /**
    * Creates a new instance of this class.
    *
@@ -71,6 +116,7 @@ public abstract class BaseLocalizedResourceAdapter<A extends Adapter, C extends
     locale = context.getLocale();
     initTranslationsInternally();
     initFallbackAvailable();
+    initResolvedTranslations();
   }
 
   /**
@@ -82,19 +128,90 @@ public abstract class BaseLocalizedResourceAdapter<A extends Adapter, C extends
   @Override
   public Optional<String> getTranslation(String key) {
     ParameterCheck.notNullEmptyOrBlank(key, "key");
+    if (mergedTranslation != null) {
+      return mergedTranslation.retrieve(key);
+    }
+
     var value = translation.retrieve(key);
 
     if (value.isPresent()) {
       return value;
     }
 
+    if (includedTranslation != null) {
+      value = includedTranslation.retrieve(key);
+      if (value.isPresent()) {
+        return value;
+      }
+    }
+
     if (fallbackPossible) {
-      value = getFallbackAdapter().getTranslation(key);
+      value = getFallbackTranslation(key);
     }
 
     return value;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @throws NilsException If the {@link TranslationRetriever} of the adapter is not an {@link
+   *     EnumerableTranslationRetriever}.
+   */
+  @Override
+  public Set<String> getKeys() {
+    if (!(translation instanceof EnumerableTranslationRetriever)) {
+      throw ADAPTER_ERROR
+          .asException()
+          .message("The translations of the adapter for locale '%s' cannot be enumerated.")
+          .args(locale)
+          .go();
+    }
+    var keys = ((EnumerableTranslationRetriever) translation).getKeys();
+    if (includedTranslation == null) {
+      return keys;
+    }
+    keys = new HashSet<>(keys);
+    keys.addAll(includedTranslation.getKeys());
+    return Collections.unmodifiableSet(keys);
+  }
+
+  /**
+   * Checks, if the includes were resolved when the resources were loaded.
+   *
+   * <p>In this case all keys reachable by includes are answered by {@link #getTranslation(String)}
+   * directly.
+   *
+   * @return {@code true} if the includes are resolved, else {@code false}.
+   * @see LocalizedResourceConfig#isCompileIncludes()
+   */
+  public boolean isIncludesCompiled() {
+    return includedTranslation != null;
+  }
+
+  /**
+   * Gets the {@code Locale} of the resource providing the translation for a key.
+   *
+   * <p>I.e. for an adapter of {@code de_DE} a key only defined in {@code translation_de.json}
+   * returns {@code de}. Keys resolved by includes return the {@code Locale} of the resource of
+   * this adapter.
+   *
+   * @param key The key to look up.
+   * @return An {@code Optional} containing the {@code Locale}. Empty, if the key is unknown.
+   * @see LocalizedResourceConfig#isMergeFallbacks()
+   */
+  public Optional<Locale> getSourceLocale(String key) {
+    ParameterCheck.notNullEmptyOrBlank(key, "key");
+    if (translation.retrieve(key).isPresent()
+        || includedTranslation != null && includedTranslation.retrieve(key).isPresent()) {
+      return Optional.of(resourceLocale);
+    }
+    if (fallbackPossible && getFallbackAdapter() instanceof BaseLocalizedResourceAdapter) {
+      return ((BaseLocalizedResourceAdapter<?, ?>) getFallbackAdapter()).getSourceLocale(key);
+    }
+    return Optional.empty();
+  }
+
   /**
    * Gets the {@link Adapter} for the fallback to another {@code Locale}.
    *
@@ -130,11 +247,87 @@ public abstract class BaseLocalizedResourceAdapter<A extends Adapter, C extends
             && (!ROOT_LOCALE.equals(locale) || !resourceName.endsWith(config.getBaseFileName()));
   }
 
+  /**
+   * Creates the {@link EnumerableTranslationRetriever} for the translations read from a resource.
+   *
+   * <p>Depending on {@link LocalizedResourceConfig#isCompactTranslations()} a {@link
+   * CompactTranslationRetriever} or an {@link IndexedTranslationRetriever} is created.
+   *
+   * @param translations The Map with the full keys and translations.
+   * @return An {@link EnumerableTranslationRetriever} object.
+   * @see IndexedTranslationRetriever#flatten(Map)
+   */
+  protected EnumerableTranslationRetriever createTranslationRetriever(
+      Map<String, String> translations) {
+    var config = (LocalizedResourceConfig) adapterConfig;
+    if (config.isCompactTranslations()) {
+      return new CompactTranslationRetriever(translations);
+    }
+    return new IndexedTranslationRetriever(translations);
+  }
+
+  /**
+   * Checks, if the top-level sections of the resource should be loaded on first access.
+   *
+   * <p>Lazy sections are not used, if the includes are compiled or the fallbacks are merged,
+   * because these need all translations when the resource is loaded.
+   *
+   * @return {@code true} if the sections should be loaded lazy, else {@code false}.
+   * @see LocalizedResourceConfig#isLazySections()
+   */
+  protected boolean isLazySectionsActive() {
+    var config = (LocalizedResourceConfig) adapterConfig;
+    return config.isLazySections()
+        && !config.isCompileIncludes()
+        && !(config.isMergeFallbacks() && config.isFallbackActive());
+  }
+
+  /**
+   * Creates a {@link LazyTranslationRetriever} reading each section on first access.
+   *
+   * <p>Only the content of the sections is kept, each until its section is read, so the resource
+   * itself can be garbage collected.
+   *
+   * @param data The content of the resource.
+   * @param sections The top-level sections of the resource.
+   * @param sectionReader Reads the full keys and translations of a section from its content, i.e.
+   *     {@code checkout.total} for the section {@code checkout}.
+   * @return A {@link TranslationRetriever} object.
+   * @see com.codepulsar.nils.core.adapter.util.SectionScanner
+   */
+  protected TranslationRetriever createLazyTranslationRetriever(
+      byte[] data,
+      List<Section> sections,
+      BiFunction<Section, byte[], Map<String, String>> sectionReader) {
+    var loaders = new LinkedHashMap<String, Supplier<Map<String, String>>>();
+    for (var section : sections) {
+      var content = Arrays.copyOfRange(data, section.getStart(), section.getEnd());
+      loaders.put(section.getName(), () -> sectionReader.apply(section, content));
+    }
+    return new LazyTranslationRetriever(loaders, this::createTranslationRetriever);
+  }
+
+  /**
+   * Checks, if the existing resources can be looked up in a {@link LocalizedResourceIndex} of the
+   * class path of the owner module.
+   *
+   * <p>The index is not used for a {@link LocalizedResourceConfig#getResourceDirectory()}, so files
+   * added to the directory are found. Adapters reading the resources from another location must
+   * return {@code false}.
+   *
+   * @return {@code true} if an index can be used, else {@code false}.
+   * @see LocalizedResourceScanner#buildIndex()
+   */
+  protected boolean isResourceIndexSupported() {
+    return ((LocalizedResourceConfig) adapterConfig).getResourceDirectory() == null;
+  }
+
   /**
    * Resolve the input stream for a resource.
    *
    * <p><strong>Note:</strong>Inherited class must implement the method, due to the limitation of
-   * accessing resources from other module directly.
+   * accessing resources from other module directly. The method is not called, if the resources are
+   * read from a {@link LocalizedResourceConfig#getResourceDirectory()}.
    *
    * @param resource The name of the resource in the origin module.
    * @return An {@link InputStream} object or {@code null}
@@ -148,9 +341,151 @@ public abstract class BaseLocalizedResourceAdapter<A extends Adapter, C extends
    */
   protected abstract void initTranslations(LocalizedResourceResolver resolver);
 
+  private void initResolvedTranslations() {
+    var config = (LocalizedResourceConfig) adapterConfig;
+    var merge = config.isMergeFallbacks() && fallbackPossible;
+    if (!config.isCompileIncludes() && !merge) {
+      return;
+    }
+    if (!isEnumerable()) {
+      LOG.debug(
+          "Translations for locale {} cannot be enumerated. Includes and fallbacks are resolved"
+              + " on each lookup.",
+          locale);
+      return;
+    }
+    var resources = new HashMap<String, String>();
+    collectResourceTranslations(resources);
+    if (config.isCompileIncludes()) {
+      var resolved = new IncludeResolver(adapterConfig.getIncludeTag()).resolve(resources);
+      var included = new HashMap<String, String>();
+      resolved.forEach(
+          (key, value) -> {
+            if (!resources.containsKey(key)) {
+              included.put(key, value);
+            }
+          });
+      includedTranslation = createTranslationRetriever(included);
+      resources.putAll(included);
+    }
+    if (merge) {
+      mergedTranslation = createTranslationRetriever(resources);
+    }
+  }
+
+  /**
+   * Puts the translations of the resources of the fallback chain and this adapter into the Map.
+   *
+   * <p>The translations of this adapter replace the translations of the fallback adapters.
+   */
+  private boolean isEnumerable() {
+    if (!(translation instanceof EnumerableTranslationRetriever)) {
+      return false;
+    }
+    if (!fallbackPossible) {
+      return true;
+    }
+    var fallback = getFallbackAdapter();
+    if (fallback instanceof BaseLocalizedResourceAdapter) {
+      return ((BaseLocalizedResourceAdapter<?, ?>) fallback).isEnumerable();
+    }
+    return fallback instanceof EnumerableAdapter;
+  }
+
+  private void collectResourceTranslations(Map<String, String> target) {
+    if (fallbackPossible) {
+      var fallback = getFallbackAdapter();
+      if (fallback instanceof BaseLocalizedResourceAdapter) {
+        ((BaseLocalizedResourceAdapter<?, ?>) fallback).collectResourceTranslations(target);
+      } else if (fallback instanceof EnumerableAdapter) {
+        for (var key : ((EnumerableAdapter) fallback).getKeys()) {
+          fallback.getTranslation(key).ifPresent(value -> target.put(key, value));
+        }
+      }
+    }
+    for (var key : ((EnumerableTranslationRetriever) translation).getKeys()) {
+      translation.retrieve(key).ifPresent(value -> target.put(key, value));
+    }
+  }
+
+  /**
+   * Gets the translation of the fallback chain.
+   *
+   * <p>If the includes are compiled, the included keys of the fallback adapters are skipped,
+   * because the includes of this adapter were already resolved against the whole chain.
+   */
+  private Optional<String> getFallbackTranslation(String key) {
+    var fallback = getFallbackAdapter();
+    if (includedTranslation != null && fallback instanceof BaseLocalizedResourceAdapter) {
+      return ((BaseLocalizedResourceAdapter<?, ?>) fallback).getResourceTranslation(key);
+    }
+    return fallback.getTranslation(key);
+  }
+
+  private Optional<String> getResourceTranslation(String key) {
+    var value = translation.retrieve(key);
+    if (value.isEmpty() && fallbackPossible) {
+      var fallback = getFallbackAdapter();
+      if (fallback instanceof BaseLocalizedResourceAdapter) {
+        return ((BaseLocalizedResourceAdapter<?, ?>) fallback).getResourceTranslation(key);
+      }
+      return fallback.getTranslation(key);
+    }
+    return value;
+  }
+
   private void initTranslationsInternally() {
     var config = (LocalizedResourceConfig) adapterConfig;
-    var resolver = new LocalizedResourceResolver(config, locale, this::resolveInputStream);
-    initTranslations(resolver);
+    var factory = adapterContext.getFactory();
+    ResourceRegistry resources = null;
+    LocalizedResourceIndex index = null;
+    if (factory instanceof BaseAdapterFactory) {
+      resources = ((BaseAdapterFactory<?>) factory).getResources();
+      index = isResourceIndexSupported() ? resources.getIndex(config).orElse(null) : null;
+    }
+    var resolver = new LocalizedResourceResolver(config, locale, this::resolveResource, index);
+    if (resources != null) {
+      initSharedTranslations(resources, resolver);
+    } else {
+      initTranslations(resolver);
+    }
+    resourceLocale = resolver.getUsedLocale() != null ? resolver.getUsedLocale() : locale;
+  }
+
+  private InputStream resolveResource(String resource) {
+    var directory = ((LocalizedResourceConfig) adapterConfig).getResourceDirectory();
+    if (directory == null) {
+      return resolveInputStream(resource);
+    }
+    var file = directory.resolve(resource.startsWith("/") ? resource.substring(1) : resource);
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+    try {
+      return MappedFileInputStream.open(file);
+    } catch (IOException e) {
+      throw new NilsException(IO_ERROR, "Error getting resource %s.", e, resource);
+    }
+  }
+
+  private void initSharedTranslations(
+      ResourceRegistry resources, LocalizedResourceResolver resolver) {
+    try {
+      // Resolving the resource first, so an already parsed resource is not read again
+      resolver.resolve();
+      var usedResourceName = resolver.getUsedResourceName();
+      translation =
+          resources.get(
+              adapterConfig,
+              usedResourceName,
+              resolver.getUsedLocale(),
+              () -> {
+                initTranslations(resolver);
+                return translation;
+              });
+      resourceName = usedResourceName;
+    } finally {
+      resolver.close();
+    }
   }
 }
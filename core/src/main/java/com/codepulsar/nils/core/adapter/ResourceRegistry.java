@@ -0,0 +1,158 @@
+package com.codepulsar.nils.core.adapter;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.codepulsar.nils.api.NilsConfig;
+import com.codepulsar.nils.api.adapter.config.LocalizedResourceConfig;
+import com.codepulsar.nils.core.adapter.util.LocalizedResourceIndex;
+import com.codepulsar.nils.core.adapter.util.LocalizedResourceScanner;
+import com.codepulsar.nils.core.adapter.util.TranslationRetriever;
+
+/**
+ * The {@linkplain ResourceRegistry} keeps the parsed resources of a {@link BaseAdapterFactory}.
+ *
+ * <p>The adapters of several {@code Locale}s often resolve the same resource, i.e. the adapters
+ * for {@code de_AT} and {@code de} both use {@code translation_de.json}, if there is no resource
+ * for {@code de_AT}. The resource is parsed once and the adapters share its {@link
+ * TranslationRetriever}. Concurrent requests for the same resource wait for the one thread parsing
+ * it. A failed parse is not kept, so the next request parses the resource again.
+ *
+ * <p>The resources are kept per {@link NilsConfig} (by identity) and resource name. The resources
+ * of unchanged {@code Locale}s can be copied to the registry of another factory, so only the
+ * resources of changed {@code Locale}s are parsed again.
+ *
+ * <p>The registry also keeps a {@link LocalizedResourceIndex} of the existing resources per owner
+ * module and base file name, so missing resources are not probed by each adapter.
+ */
+final class ResourceRegistry {
+  private final Map<ResourceKey, CompletableFuture<TranslationRetriever>> resources =
+      new ConcurrentHashMap<>();
+  private final Map<Map.Entry<Module, String>, Optional<LocalizedResourceIndex>> indexes =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Gets the parsed resource or parses it, if it was not parsed yet.
+   *
+   * @param config The {@link NilsConfig} of the adapter.
+   * @param resourceName The name of the resolved resource.
+   * @param resourceLocale The {@code Locale} of the resolved resource.
+   * @param parser Parses the resource.
+   * @return The {@link TranslationRetriever} of the resource.
+   */
+  TranslationRetriever get(
+      NilsConfig<?> config,
+      String resourceName,
+      Locale resourceLocale,
+      Supplier<TranslationRetriever> parser) {
+    var key = new ResourceKey(config, resourceName, resourceLocale);
+    var parsed = new CompletableFuture<TranslationRetriever>();
+    var running = resources.putIfAbsent(key, parsed);
+    if (running != null) {
+      return await(running);
+    }
+    try {
+      var translation = parser.get();
+      parsed.complete(translation);
+      return translation;
+    } catch (RuntimeException e) {
+      resources.remove(key, parsed);
+      parsed.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Checks, if a resource was parsed.
+   *
+   * @param config The {@link NilsConfig} of the adapter.
+   * @param resourceName The name of the resolved resource.
+   * @return {@code true} if the resource is parsed or parsing, else {@code false}.
+   */
+  boolean contains(NilsConfig<?> config, String resourceName) {
+    return resources.containsKey(new ResourceKey(config, resourceName, null));
+  }
+
+  /**
+   * Copies the parsed resources of unchanged {@code Locale}s to another registry.
+   *
+   * <p>Resources still being parsed are not copied.
+   *
+   * @param target The registry receiving the resources.
+   * @param config The {@link NilsConfig} of the adapters.
+   * @param locales The changed {@code Locale}s.
+   */
+  void copyTo(ResourceRegistry target, NilsConfig<?> config, Collection<Locale> locales) {
+    resources.forEach(
+        (key, parsed) -> {
+          var changed = key.config == config && locales.contains(key.resourceLocale);
+          if (!changed && parsed.isDone() && !parsed.isCompletedExceptionally()) {
+            target.resources.putIfAbsent(key, parsed);
+          }
+        });
+  }
+
+  /**
+   * Gets the index of the existing resources or builds it, if it was not built yet.
+   *
+   * @param config The {@link LocalizedResourceConfig} of the adapter.
+   * @return The {@link LocalizedResourceIndex} or an empty {@code Optional}, if the resources could
+   *     not be scanned completely.
+   * @see LocalizedResourceScanner#buildIndex()
+   */
+  Optional<LocalizedResourceIndex> getIndex(LocalizedResourceConfig config) {
+    var key = Map.entry(config.getOwnerModule(), config.getBaseFileName());
+    return indexes.computeIfAbsent(key, k -> new LocalizedResourceScanner(config).buildIndex());
+  }
+
+  private TranslationRetriever await(CompletableFuture<TranslationRetriever> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * The key of a resource: the identity of the {@link NilsConfig} and the resource name. The {@code
+   * Locale} of the resource follows from its name, so it is not part of the key.
+   */
+  private static final class ResourceKey {
+    private final NilsConfig<?> config;
+    private final String resourceName;
+    private final Locale resourceLocale;
+
+    ResourceKey(NilsConfig<?> config, String resourceName, Locale resourceLocale) {
+      this.config = config;
+      this.resourceName = resourceName;
+      this.resourceLocale = resourceLocale;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof ResourceKey)) {
+        return false;
+      }
+      var other = (ResourceKey) obj;
+      return config == other.config && resourceName.equals(other.resourceName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(System.identityHashCode(config), resourceName);
+    }
+  }
+}
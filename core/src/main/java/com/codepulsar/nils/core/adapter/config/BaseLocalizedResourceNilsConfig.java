@@ -5,6 +5,8 @@ import static com.codepulsar.nils.core.util.ParameterCheck.nilsException;
 import static com.codepulsar.nils.core.util.ParameterCheck.notNull;
 import static com.codepulsar.nils.core.util.ParameterCheck.notNullEmptyOrBlank;
 
+import java.nio.file.Path;
+
 import com.codepulsar.nils.api.NilsConfig;
 import com.codepulsar.nils.api.adapter.config.LocalizedResourceConfig;
 import com.codepulsar.nils.core.util.ParameterCheck;
@@ -26,6 +28,11 @@ public abstract class BaseLocalizedResourceNilsConfig<CFG extends BaseNilsConfig
   private String baseFileExtension;
   private String baseFileName;
   private boolean fallbackActive = true;
+  private boolean compactTranslations = false;
+  private boolean compileIncludes = false;
+  private boolean mergeFallbacks = false;
+  private boolean lazySections = false;
+  private Path resourceDirectory;
 
   /**
    * Create a new instance.
@@ -93,4 +100,122 @@ public abstract class BaseLocalizedResourceNilsConfig<CFG extends BaseNilsConfig
     this.fallbackActive = fallback;
     return (CFG) this;
   }
+
+  @Override
+  public boolean isCompactTranslations() {
+    return compactTranslations;
+  }
+
+  /**
+   * Sets the flag, if the translations should be stored in a compact form.
+   *
+   * <p>Default is {@code false}.
+   *
+   * @param compactTranslations {@code true} if active, else {@code false}.
+   * @see #isCompactTranslations()
+   * @return This config object.
+   */
+  @SuppressWarnings("unchecked")
+  public CFG compactTranslations(boolean compactTranslations) {
+    this.compactTranslations = compactTranslations;
+    return (CFG) this;
+  }
+
+  @Override
+  public boolean isCompileIncludes() {
+    return compileIncludes;
+  }
+
+  /**
+   * Sets the flag, if the includes should be resolved when the resources are loaded.
+   *
+   * <p><em>Note:</em> The flag is only used by adapters based on {@code
+   * BaseLocalizedResourceAdapter}.
+   *
+   * <p>Default is {@code false}.
+   *
+   * @param compileIncludes {@code true} if active, else {@code false}.
+   * @see #isCompileIncludes()
+   * @return This config object.
+   */
+  @SuppressWarnings("unchecked")
+  public CFG compileIncludes(boolean compileIncludes) {
+    this.compileIncludes = compileIncludes;
+    return (CFG) this;
+  }
+
+  @Override
+  public boolean isMergeFallbacks() {
+    return mergeFallbacks;
+  }
+
+  /**
+   * Sets the flag, if the resources of the fallback chain should be merged when they are loaded.
+   *
+   * <p><em>Note:</em> The flag is only used by adapters based on {@code
+   * BaseLocalizedResourceAdapter}.
+   *
+   * <p>Default is {@code false}.
+   *
+   * @param mergeFallbacks {@code true} if active, else {@code false}.
+   * @see #isMergeFallbacks()
+   * @return This config object.
+   */
+  @SuppressWarnings("unchecked")
+  public CFG mergeFallbacks(boolean mergeFallbacks) {
+    this.mergeFallbacks = mergeFallbacks;
+    return (CFG) this;
+  }
+
+  @Override
+  public boolean isLazySections() {
+    return lazySections;
+  }
+
+  /**
+   * Sets the flag, if the top-level sections of a resource should be parsed on first access.
+   *
+   * <p><em>Note:</em> The flag is only used by adapters based on {@code
+   * BaseLocalizedResourceAdapter} supporting it.
+   *
+   * <p>Default is {@code false}.
+   *
+   * @param lazySections {@code true} if active, else {@code false}.
+   * @see #isLazySections()
+   * @return This config object.
+   */
+  @SuppressWarnings("unchecked")
+  public CFG lazySections(boolean lazySections) {
+    this.lazySections = lazySections;
+    return (CFG) this;
+  }
+
+  @Override
+  public Path getResourceDirectory() {
+    return resourceDirectory;
+  }
+
+  /**
+   * Sets the directory in the file system containing the localized files.
+   *
+   * <p>The base file name is resolved relative to this directory. The files are memory-mapped, so
+   * large files are read without extra copies and are shared by all processes reading the same file
+   * through the page cache of the operating system.
+   *
+   * <p><em>Note:</em> Replace a file by a new file (i.e. move it into place). Changing a file in
+   * place is not supported, because adapters like the binary adapter keep the mapping of a file.
+   * The directory is only used by adapters based on {@code BaseLocalizedResourceAdapter}.
+   *
+   * <p>Default is {@code null}, so the files are read from the owner module.
+   *
+   * @param resourceDirectory The directory containing the localized files.
+   * @see #getResourceDirectory()
+   * @return This config object.
+   */
+  @SuppressWarnings("unchecked")
+  public CFG resourceDirectory(Path resourceDirectory) {
+    this.resourceDirectory =
+        notNull(resourceDirectory, "resourceDirectory", nilsException(CONFIG_ERROR));
+    return (CFG) this;
+  }
 }
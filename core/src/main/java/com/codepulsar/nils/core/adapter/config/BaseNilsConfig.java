@@ -7,6 +7,7 @@ import java.text.MessageFormat;
 import java.time.format.FormatStyle;
 
 import com.codepulsar.nils.api.NilsConfig;
+import com.codepulsar.nils.core.cache.CacheFactory;
 import com.codepulsar.nils.core.handler.ClassPrefixResolver;
 import com.codepulsar.nils.core.handler.TranslationFormatter;
 import com.codepulsar.nils.core.util.ParameterCheck;
@@ -26,6 +27,10 @@ public abstract class BaseNilsConfig<CFG extends BaseNilsConfig<?>> implements N
   private ClassPrefixResolver classPrefixResolver = ClassPrefixResolver.SIMPLE_CLASSNAME;
   private TranslationFormatter translationFormatter = TranslationFormatter.MESSAGE_FORMAT;
   private FormatStyle dateFormatStyle = FormatStyle.MEDIUM;
+  private int missingKeyCacheSize = 1000;
+  private long missingKeyCacheTimeout = -1L;
+  private CacheFactory cacheFactory = CacheFactory.TINY_LFU;
+  private long cacheSize = 10_000L;
 
   @Override
   public String getEscapePattern() {
@@ -105,6 +110,61 @@ public abstract class BaseNilsConfig<CFG extends BaseNilsConfig<?>> implements N
     return (CFG) this;
   }
 
+  @Override
+  public int getMissingKeyCacheSize() {
+    return missingKeyCacheSize;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public CFG missingKeyCacheSize(int missingKeyCacheSize) {
+    if (missingKeyCacheSize < 0) {
+      throw CONFIG_ERROR
+          .asException()
+          .message("Parameter 'missingKeyCacheSize' cannot be negative.")
+          .go();
+    }
+    this.missingKeyCacheSize = missingKeyCacheSize;
+    return (CFG) this;
+  }
+
+  @Override
+  public long getMissingKeyCacheTimeout() {
+    return missingKeyCacheTimeout;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public CFG missingKeyCacheTimeout(long missingKeyCacheTimeout) {
+    this.missingKeyCacheTimeout = missingKeyCacheTimeout;
+    return (CFG) this;
+  }
+
+  @Override
+  public CacheFactory getCacheFactory() {
+    return cacheFactory;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public CFG cacheFactory(CacheFactory cacheFactory) {
+    ParameterCheck.notNull(cacheFactory, "cacheFactory", nilsException(CONFIG_ERROR));
+    this.cacheFactory = cacheFactory;
+    return (CFG) this;
+  }
+
+  @Override
+  public long getCacheSize() {
+    return cacheSize;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public CFG cacheSize(long cacheSize) {
+    this.cacheSize = cacheSize;
+    return (CFG) this;
+  }
+
   private String checkEscapePattern(String pattern) {
     if (!pattern.contains("{0}")) {
       throw CONFIG_ERROR
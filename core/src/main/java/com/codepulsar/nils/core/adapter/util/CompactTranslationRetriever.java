@@ -0,0 +1,271 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import static com.codepulsar.nils.core.error.ErrorTypes.ADAPTER_ERROR;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.codepulsar.nils.core.util.ParameterCheck;
+/**
+ * The {@link CompactTranslationRetriever} is a read-only implementation of the {@link
+ * TranslationRetriever} optimized for a small memory footprint.
+ *
+ * <p>The keys and translations are stored UTF-8 encoded in one shared {@code byte} array. A key is
+ * located by a minimal perfect hash (hash and displace), so no entry objects, no per key {@code
+ * String}s and no empty hash table slots are kept. The costs are a slower creation and a new
+ * {@code String} for each retrieved translation.
+ *
+ * <p>Like the {@link IndexedTranslationRetriever} the keys are full keys (i.e. {@code
+ * checkout.cart.total}).
+ */
+public class CompactTranslationRetriever implements EnumerableTranslationRetriever {
+  private static final int MAX_SEED = 1 << 24;
+
+  private final int size;
+  // Per bucket: > 0 the seed for the slot hash, < 0 the slot (-slot - 1), 0 empty bucket
+  private final int[] seeds;
+  // Per slot: start of the key and start of the translation in data, followed by the end
+  private final int[] offsets;
+  private final byte[] data;
+
+  /**
+   * Create a new instance.
+   *
+   * @param translations The Map with the full keys and translations
+   */
+  public CompactTranslationRetriever(Map<String, String> translations) {
+    ParameterCheck.notNull(translations, "translations");
+    var keys = new String[translations.size()];
+    var values = new String[translations.size()];
+    var count = 0;
+    for (var entry : translations.entrySet()) {
+      if (entry.getKey() != null && entry.getValue() != null) {
+        keys[count] = entry.getKey();
+        values[count] = entry.getValue();
+        count++;
+      }
+    }
+    this.size = count;
+    this.seeds = new int[count];
+    var slots = placeKeys(keys, count);
+
+    var encoded = new byte[2 * count][];
+    var length = 0;
+    for (int slot = 0; slot < count; slot++) {
+      encoded[2 * slot] = keys[slots[slot]].getBytes(StandardCharsets.UTF_8);
+      encoded[2 * slot + 1] = values[slots[slot]].getBytes(StandardCharsets.UTF_8);
+      length += encoded[2 * slot].length + encoded[2 * slot + 1].length;
+    }
+    this.data = new byte[length];
+    this.offsets = new int[2 * count + 1];
+    var position = 0;
+    for (int i = 0; i < encoded.length; i++) {
+      offsets[i] = position;
+      System.arraycopy(encoded[i], 0, data, position, encoded[i].length);
+      position += encoded[i].length;
+    }
+    offsets[encoded.length] = position;
+  }
+
+  @Override
+  public Optional<String> retrieve(String key) {
+    if (key == null || size == 0) {
+      return Optional.empty();
+    }
+    var value = lookup(key);
+    if (value.isEmpty() && IndexedTranslationRetriever.needsNormalizing(key)) {
+      value = lookup(IndexedTranslationRetriever.normalize(key));
+    }
+    return value;
+  }
+
+  @Override
+  public Set<String> getKeys() {
+    var keys = new HashSet<String>(capacity(size));
+    for (int slot = 0; slot < size; slot++) {
+      var keyStart = offsets[2 * slot];
+      keys.add(
+          new String(data, keyStart, offsets[2 * slot + 1] - keyStart, StandardCharsets.UTF_8));
+    }
+    return Collections.unmodifiableSet(keys);
+  }
+
+  /**
+   * Gets the number of stored translations.
+   *
+   * @return The number of translations.
+   */
+  public int size() {
+    return size;
+  }
+
+  private Optional<String> lookup(String key) {
+    var seed = seeds[bucket(key)];
+    int slot;
+    if (seed < 0) {
+      slot = -seed - 1;
+    } else if (seed > 0) {
+      slot = Math.floorMod(hash(key, seed), size);
+    } else {
+      return Optional.empty();
+    }
+    var valueStart = offsets[2 * slot + 1];
+    if (!matches(key, offsets[2 * slot], valueStart)) {
+      return Optional.empty();
+    }
+    var valueEnd = offsets[2 * slot + 2];
+    return Optional.of(new String(data, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8));
+  }
+
+  /** Places the keys and returns the index of the key for each slot. */
+  private int[] placeKeys(String[] keys, int count) {
+    // Group the keys by bucket
+    var bucketSizes = new int[count + 1];
+    for (int i = 0; i < count; i++) {
+      bucketSizes[bucket(keys[i]) + 1]++;
+    }
+    var maxBucketSize = 0;
+    for (int b = 0; b < count; b++) {
+      maxBucketSize = Math.max(maxBucketSize, bucketSizes[b + 1]);
+      bucketSizes[b + 1] += bucketSizes[b];
+    }
+    var bucketStarts = Arrays.copyOf(bucketSizes, count + 1);
+    var members = new int[count];
+    var fill = Arrays.copyOf(bucketStarts, count);
+    for (int i = 0; i < count; i++) {
+      members[fill[bucket(keys[i])]++] = i;
+    }
+
+    var slots = new int[count];
+    Arrays.fill(slots, -1);
+    var candidates = new int[maxBucketSize];
+    // Buckets with many keys first, while there are many free slots
+    for (int bucketSize = maxBucketSize; bucketSize > 1; bucketSize--) {
+      for (int b = 0; b < count; b++) {
+        if (bucketStarts[b + 1] - bucketStarts[b] == bucketSize) {
+          seeds[b] = findSeed(keys, members, bucketStarts[b], bucketSize, slots, candidates);
+          for (int i = 0; i < bucketSize; i++) {
+            slots[candidates[i]] = members[bucketStarts[b] + i];
+          }
+        }
+      }
+    }
+    // Buckets with a single key get a free slot directly
+    var freeSlot = 0;
+    for (int b = 0; b < count; b++) {
+      if (bucketStarts[b + 1] - bucketStarts[b] == 1) {
+        while (slots[freeSlot] >= 0) {
+          freeSlot++;
+        }
+        slots[freeSlot] = members[bucketStarts[b]];
+        seeds[b] = -freeSlot - 1;
+      }
+    }
+    return slots;
+  }
+
+  private int findSeed(
+      String[] keys, int[] members, int start, int bucketSize, int[] slots, int[] candidates) {
+    for (int seed = 1; seed < MAX_SEED; seed++) {
+      if (fits(keys, members, start, bucketSize, slots, candidates, seed)) {
+        return seed;
+      }
+    }
+    throw ADAPTER_ERROR
+        .asException()
+        .message("Could not build the compact translations for key '%s'.")
+        .args(keys[members[start]])
+        .go();
+  }
+
+  private boolean fits(
+      String[] keys,
+      int[] members,
+      int start,
+      int bucketSize,
+      int[] slots,
+      int[] candidates,
+      int seed) {
+    for (int i = 0; i < bucketSize; i++) {
+      var slot = Math.floorMod(hash(keys[members[start + i]], seed), size);
+      if (slots[slot] >= 0) {
+        return false;
+      }
+      for (int j = 0; j < i; j++) {
+        if (candidates[j] == slot) {
+          return false;
+        }
+      }
+      candidates[i] = slot;
+    }
+    return true;
+  }
+
+  private int bucket(String key) {
+    return Math.floorMod(mix(key.hashCode()), size);
+  }
+
+  /** Compares the key with the UTF-8 encoded key in data without decoding it. */
+  private boolean matches(String key, int start, int end) {
+    var length = key.length();
+    var index = 0;
+    var position = start;
+    while (position < end) {
+      int b = data[position] & 0xFF;
+      int codePoint;
+      if (b < 0x80) {
+        codePoint = b;
+        position += 1;
+      } else if (b < 0xE0) {
+        codePoint = (b & 0x1F) << 6 | data[position + 1] & 0x3F;
+        position += 2;
+      } else if (b < 0xF0) {
+        codePoint = (b & 0x0F) << 12 | (data[position + 1] & 0x3F) << 6 | data[position + 2] & 0x3F;
+        position += 3;
+      } else {
+        codePoint =
+            (b & 0x07) << 18
+                | (data[position + 1] & 0x3F) << 12
+                | (data[position + 2] & 0x3F) << 6
+                | data[position + 3] & 0x3F;
+        position += 4;
+      }
+      if (Character.isBmpCodePoint(codePoint)) {
+        if (index >= length || key.charAt(index++) != codePoint) {
+          return false;
+        }
+      } else if (index + 1 >= length
+          || key.charAt(index++) != Character.highSurrogate(codePoint)
+          || key.charAt(index++) != Character.lowSurrogate(codePoint)) {
+        return false;
+      }
+    }
+    return index == length;
+  }
+
+  private static int hash(String key, int seed) {
+    var hash = seed * 0x9E3779B9;
+    for (int i = 0; i < key.length(); i++) {
+      hash = (hash ^ key.charAt(i)) * 0x01000193;
+    }
+    return mix(hash);
+  }
+
+  private static int capacity(int size) {
+    return (int) (size / 0.75f) + 1;
+  }
+
+  private static int mix(int hash) {
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+    return hash;
+  }
+}
@@ -0,0 +1,23 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import java.util.Set;
+
+import com.codepulsar.nils.core.adapter.BaseLocalizedResourceAdapter;
+/**
+ * An {@link EnumerableTranslationRetriever} is a {@link TranslationRetriever} that can list the
+ * keys of its translations.
+ *
+ * <p>The {@link BaseLocalizedResourceAdapter} needs the keys for compiling the includes, merging
+ * the fallbacks and enumerating its translations. A retriever not implementing this interface
+ * leaves includes and fallbacks to be resolved on each lookup.
+ *
+ * @see com.codepulsar.nils.api.adapter.EnumerableAdapter
+ */
+public interface EnumerableTranslationRetriever extends TranslationRetriever {
+  /**
+   * Gets all keys, which have a translation.
+   *
+   * @return An unmodifiable {@code Set} of keys.
+   */
+  Set<String> getKeys();
+}
@@ -0,0 +1,181 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringTokenizer;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codepulsar.nils.api.NilsConfig;
+import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.core.error.ErrorTypes;
+import com.codepulsar.nils.core.util.ParameterCheck;
+
+/**
+ * The {@link IncludeResolver} resolves the includes of translations in advance.
+ *
+ * <p>Normally an include (i.e. {@code "Message._include": "BaseMessage"}) is resolved by the
+ * {@code NLS} on each lookup of a missing key. The {@link IncludeResolver} adds all keys reachable
+ * by includes to a flat Map of translations instead, using the same rules:
+ *
+ * <ul>
+ *   <li>An existing key is never replaced.
+ *   <li>Only the include of the deepest key part is used.
+ *   <li>The included keys are tried in the order of the include value (separated by {@code ;}).
+ *   <li>Included keys may be resolved by includes again.
+ * </ul>
+ *
+ * <p>Circular includes are reported once as warning. Keys that would lead into a circular include
+ * are not added.
+ *
+ * @see NilsConfig#getIncludeTag()
+ */
+public class IncludeResolver {
+  private static final Logger LOG = LoggerFactory.getLogger(IncludeResolver.class);
+  private final String includeTag;
+
+  /**
+   * Create a new instance.
+   *
+   * @param includeTag The tag for includes, see {@link NilsConfig#getIncludeTag()}.
+   */
+  public IncludeResolver(String includeTag) {
+    this.includeTag = ParameterCheck.notNullEmptyOrBlank(includeTag, "includeTag");
+  }
+
+  /**
+   * Resolves the includes of the translations.
+   *
+   * @param translations The Map with the full keys and translations.
+   * @return A new Map with the translations and the keys reachable by includes.
+   */
+  public Map<String, String> resolve(Map<String, String> translations) {
+    ParameterCheck.notNull(translations, "translations");
+    var includes = findIncludes(translations);
+    if (includes.isEmpty()) {
+      return new LinkedHashMap<>(translations);
+    }
+    NavigableMap<String, String> result = new TreeMap<>(translations);
+    Set<String> evaluated = new HashSet<>();
+    Set<String> circular = findCircularIncludes(includes);
+    var changed = true;
+    while (changed) {
+      changed = false;
+      for (var include : includes.entrySet()) {
+        for (var target : include.getValue()) {
+          var prefix = target + ".";
+          var included =
+              new ArrayList<>(result.subMap(prefix, prefix + Character.MAX_VALUE).keySet());
+          for (var includedKey : included) {
+            var key = include.getKey() + includedKey.substring(target.length());
+            if (result.containsKey(key) || !evaluated.add(key)) {
+              continue;
+            }
+            try {
+              var value = findKeyInHierarchy(key, translations, new ArrayList<>());
+              if (value.isPresent()) {
+                result.put(key, value.get());
+                changed = true;
+              }
+            } catch (NilsException e) {
+              circular.add(e.getMessage());
+            }
+          }
+        }
+      }
+    }
+    circular.forEach(message -> LOG.warn("Include not resolved. Reason: {}", message));
+    return result;
+  }
+
+  private Map<String, List<String>> findIncludes(Map<String, String> translations) {
+    var suffix = "." + includeTag;
+    var includes = new LinkedHashMap<String, List<String>>();
+    for (var entry : translations.entrySet()) {
+      var key = entry.getKey();
+      if (key.endsWith(suffix) && key.length() > suffix.length()) {
+        includes.put(key.substring(0, key.length() - suffix.length()), split(entry.getValue()));
+      }
+    }
+    return includes;
+  }
+
+  private Set<String> findCircularIncludes(Map<String, List<String>> includes) {
+    var circular = new LinkedHashSet<String>();
+    for (var base : includes.keySet()) {
+      if (reaches(base, base, includes, new HashSet<>())) {
+        circular.add(String.format("Found circular include on '%s'.", base));
+      }
+    }
+    return circular;
+  }
+
+  private boolean reaches(
+      String from, String base, Map<String, List<String>> includes, Set<String> visited) {
+    for (var target : includes.getOrDefault(from, List.of())) {
+      if (target.equals(base)) {
+        return true;
+      }
+      if (visited.add(target) && reaches(target, base, includes, visited)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Optional<String> findKeyInHierarchy(
+      String request, Map<String, String> translations, List<String> visitedIncludes) {
+    var dot = request.lastIndexOf('.');
+    while (dot >= 0) {
+      var base = request.substring(0, dot);
+      var include = translations.get(base + "." + includeTag);
+      if (include != null) {
+        return findIncludedKey(request.substring(dot + 1), include, translations, visitedIncludes);
+      }
+      dot = base.lastIndexOf('.');
+    }
+    return Optional.empty();
+  }
+
+  private Optional<String> findIncludedKey(
+      String includePart,
+      String include,
+      Map<String, String> translations,
+      List<String> visitedIncludes) {
+    for (var target : split(include)) {
+      if (visitedIncludes.contains(target)) {
+        throw new NilsException(
+            ErrorTypes.INCLUDE_LOOP_DETECTED, "Found circular include on '%s'.", target);
+      }
+      visitedIncludes.add(target);
+      var includedKey = target + "." + includePart;
+      var value = translations.get(includedKey);
+      if (value != null) {
+        return Optional.of(value);
+      }
+      var hierarchicalValue = findKeyInHierarchy(includedKey, translations, visitedIncludes);
+      if (hierarchicalValue.isPresent()) {
+        return hierarchicalValue;
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static List<String> split(String include) {
+    var targets = new ArrayList<String>();
+    var tokenizer = new StringTokenizer(include, ";");
+    while (tokenizer.hasMoreTokens()) {
+      targets.add(tokenizer.nextToken().trim());
+    }
+    return targets;
+  }
+}
@@ -0,0 +1,122 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.StringTokenizer;
+
+import com.codepulsar.nils.core.util.ParameterCheck;
+/**
+ * The {@link IndexedTranslationRetriever} is an implementation of the {@link TranslationRetriever}
+ * holding the translations in a flat map of full keys (i.e. {@code checkout.cart.total}) to
+ * translations.
+ *
+ * <p>The index is built once, so retrieving a translation is a single hash lookup. Nested
+ * structures (i.e. read by json or yaml serializers) can be flattened with {@link
+ * #fromNested(Map)}.
+ */
+public class IndexedTranslationRetriever implements EnumerableTranslationRetriever {
+  private final Map<String, Optional<String>> translations;
+
+  /**
+   * Create a new instance.
+   *
+   * @param translations The Map with the full keys and translations
+   */
+  public IndexedTranslationRetriever(Map<String, String> translations) {
+    ParameterCheck.notNull(translations, "translations");
+    var index = new HashMap<String, Optional<String>>(capacity(translations.size()));
+    for (var entry : translations.entrySet()) {
+      if (entry.getKey() != null && entry.getValue() != null) {
+        index.put(entry.getKey(), Optional.of(entry.getValue()));
+      }
+    }
+    this.translations = Collections.unmodifiableMap(index);
+  }
+
+  /**
+   * Create a new instance from a nested structure, which are used for examples in json or yaml
+   * serializers.
+   *
+   * <p>The keys of nested {@code Map}s are joined with a {@code .}. Values that are neither a
+   * {@code Map} nor a {@code String} are stored by their {@code toString()} representation.
+   *
+   * @param translations The Map with the keys and translations.
+   * @return A new {@link IndexedTranslationRetriever}.
+   */
+  public static IndexedTranslationRetriever fromNested(Map<String, Object> translations) {
+    return new IndexedTranslationRetriever(flatten(translations));
+  }
+
+  /**
+   * Flattens a nested structure, which are used for examples in json or yaml serializers, to a
+   * Map of full keys and translations.
+   *
+   * @param translations The Map with the keys and translations.
+   * @return A Map with the full keys and translations.
+   * @see #fromNested(Map)
+   */
+  public static Map<String, String> flatten(Map<String, Object> translations) {
+    ParameterCheck.notNull(translations, "translations");
+    var flat = new HashMap<String, String>();
+    flatten(translations, null, flat);
+    return flat;
+  }
+
+  @Override
+  public Optional<String> retrieve(String key) {
+    if (key == null) {
+      return Optional.empty();
+    }
+    var value = translations.get(key);
+    if (value != null) {
+      return value;
+    }
+    if (!needsNormalizing(key)) {
+      return Optional.empty();
+    }
+    return translations.getOrDefault(normalize(key), Optional.empty());
+  }
+
+  @Override
+  public Set<String> getKeys() {
+    return translations.keySet();
+  }
+
+  private static void flatten(Map<?, ?> source, String prefix, Map<String, String> target) {
+    for (var entry : source.entrySet()) {
+      if (!(entry.getKey() instanceof String) || entry.getValue() == null) {
+        continue;
+      }
+      var part = (String) entry.getKey();
+      var fullKey = prefix == null ? part : prefix + "." + part;
+      var value = entry.getValue();
+      if (value instanceof Map) {
+        flatten((Map<?, ?>) value, fullKey, target);
+      } else {
+        target.put(fullKey, value.toString());
+      }
+    }
+  }
+
+  static boolean needsNormalizing(String key) {
+    return key.startsWith(".") || key.endsWith(".") || key.contains("..");
+  }
+
+  static String normalize(String key) {
+    // Empty key parts are ignored, like the nested lookup of the MapTranslationRetriever does.
+    var joiner = new StringJoiner(".");
+    var keyParts = new StringTokenizer(key, ".");
+    while (keyParts.hasMoreTokens()) {
+      joiner.add(keyParts.nextToken());
+    }
+    return joiner.toString();
+  }
+
+  private static int capacity(int size) {
+    return (int) (size / 0.75f) + 1;
+  }
+}
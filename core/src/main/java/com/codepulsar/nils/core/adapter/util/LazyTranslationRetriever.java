@@ -0,0 +1,136 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.codepulsar.nils.api.adapter.config.LocalizedResourceConfig;
+import com.codepulsar.nils.core.util.ParameterCheck;
+
+/**
+ * The {@link LazyTranslationRetriever} loads the translations of a top-level section of a resource
+ * on the first access to a key beneath it.
+ *
+ * <p>Each section is loaded by a {@code Supplier} returning the full keys and translations of the
+ * section (i.e. {@code checkout.cart.total} for the section {@code checkout}). The loaded
+ * translations are kept in a {@link TranslationRetriever} created by the passed factory. A section
+ * is loaded once, even on concurrent first accesses. Sections with the same first key part (i.e.
+ * {@code checkout} and {@code checkout.cart}) are loaded together.
+ *
+ * <p>The {@code Supplier}s of a section are released once the section is loaded, so the data they
+ * refer to (i.e. the content of the section) can be garbage collected. If a section fails to load,
+ * the failure is recorded and thrown again by every later access to the section without loading
+ * it again. {@link #getKeys()} loads all sections.
+ *
+ * @see LocalizedResourceConfig#isLazySections()
+ * @see SectionScanner
+ */
+public class LazyTranslationRetriever implements EnumerableTranslationRetriever {
+  private final Set<String> sections;
+  private final Map<String, List<Supplier<Map<String, String>>>> loaders;
+  private final Function<Map<String, String>, EnumerableTranslationRetriever> retrieverFactory;
+  private final Map<String, EnumerableTranslationRetriever> loaded = new ConcurrentHashMap<>();
+
+  /**
+   * Create a new instance.
+   *
+   * @param sections The {@code Supplier}s of the translations by the top-level section names in
+   *     the order of the resource.
+   * @param retrieverFactory The factory creating the {@link EnumerableTranslationRetriever} of a
+   *     section.
+   */
+  public LazyTranslationRetriever(
+      Map<String, Supplier<Map<String, String>>> sections,
+      Function<Map<String, String>, EnumerableTranslationRetriever> retrieverFactory) {
+    ParameterCheck.notNull(sections, "sections");
+    this.retrieverFactory = ParameterCheck.notNull(retrieverFactory, "retrieverFactory");
+    var grouped = new LinkedHashMap<String, List<Supplier<Map<String, String>>>>();
+    sections.forEach(
+        (name, loader) ->
+            grouped.computeIfAbsent(firstKeyPart(name), k -> new ArrayList<>()).add(loader));
+    this.sections = Collections.unmodifiableSet(new LinkedHashSet<>(grouped.keySet()));
+    this.loaders = new ConcurrentHashMap<>(grouped);
+  }
+
+  @Override
+  public Optional<String> retrieve(String key) {
+    if (key == null) {
+      return Optional.empty();
+    }
+    var section = firstKeyPart(key);
+    if (!sections.contains(section)) {
+      return Optional.empty();
+    }
+    return loaded.computeIfAbsent(section, this::load).retrieve(key);
+  }
+
+  @Override
+  public Set<String> getKeys() {
+    var keys = new HashSet<String>();
+    for (var section : sections) {
+      keys.addAll(loaded.computeIfAbsent(section, this::load).getKeys());
+    }
+    return Collections.unmodifiableSet(keys);
+  }
+
+  /**
+   * Checks, if the section of a key is already loaded.
+   *
+   * @param key The key or the name of the section.
+   * @return {@code true} if the section is loaded, else {@code false}.
+   */
+  public boolean isLoaded(String key) {
+    return key != null && loaded.containsKey(firstKeyPart(key));
+  }
+
+  private EnumerableTranslationRetriever load(String section) {
+    // Called once per section by computeIfAbsent
+    var sectionLoaders = loaders.remove(section);
+    try {
+      var translations = new HashMap<String, String>();
+      for (var loader : sectionLoaders) {
+        translations.putAll(loader.get());
+      }
+      return retrieverFactory.apply(translations);
+    } catch (RuntimeException e) {
+      return new FailedSection(e);
+    }
+  }
+
+  private static String firstKeyPart(String key) {
+    if (IndexedTranslationRetriever.needsNormalizing(key)) {
+      key = IndexedTranslationRetriever.normalize(key);
+    }
+    var dot = key.indexOf('.');
+    return dot < 0 ? key : key.substring(0, dot);
+  }
+
+  /** A section failed to load, throwing the failure on every access. */
+  private static final class FailedSection implements EnumerableTranslationRetriever {
+    private final RuntimeException failure;
+
+    FailedSection(RuntimeException failure) {
+      this.failure = failure;
+    }
+
+    @Override
+    public Optional<String> retrieve(String key) {
+      throw failure;
+    }
+
+    @Override
+    public Set<String> getKeys() {
+      throw failure;
+    }
+  }
+}
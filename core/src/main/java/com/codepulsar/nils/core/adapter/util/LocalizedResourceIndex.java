@@ -0,0 +1,50 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import java.util.Set;
+
+import com.codepulsar.nils.core.util.ParameterCheck;
+
+/**
+ * The {@link LocalizedResourceIndex} knows the existing localized resources of a base file name.
+ *
+ * <p>The {@link LocalizedResourceResolver} skips the candidates not contained in the index, so a
+ * missing resource (i.e. {@code translation_de_AT.json}) is not probed on each resolution. The
+ * index is built once by the {@link LocalizedResourceScanner} and can be shared by all resolvers of
+ * the same owner module and base file name.
+ *
+ * @see LocalizedResourceScanner#buildIndex()
+ */
+public final class LocalizedResourceIndex {
+  private final Set<String> resourceNames;
+
+  /**
+   * Create a new instance.
+   *
+   * @param resourceNames The names of the existing resources, i.e. {@code
+   *     /com/example/app/translation_de.json}.
+   */
+  public LocalizedResourceIndex(Set<String> resourceNames) {
+    ParameterCheck.notNull(resourceNames, "resourceNames");
+    this.resourceNames = Set.copyOf(resourceNames);
+  }
+
+  /**
+   * Checks, if a resource exists.
+   *
+   * @param resourceName The name of the resource, i.e. {@code
+   *     /com/example/app/translation_de.json}.
+   * @return {@code true} if the resource exists, else {@code false}.
+   */
+  public boolean contains(String resourceName) {
+    return resourceNames.contains(resourceName);
+  }
+
+  /**
+   * Gets the names of the existing resources.
+   *
+   * @return An unmodifiable Set with the resource names.
+   */
+  public Set<String> getResourceNames() {
+    return resourceNames;
+  }
+}
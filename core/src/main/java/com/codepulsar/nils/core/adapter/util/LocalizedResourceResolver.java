@@ -10,7 +10,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle.Control;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +41,9 @@ import com.codepulsar.nils.core.util.ParameterCheck;
  * </ul>
  *
  * The first resource that was found will be returned as <code>InputStream</code>.
+ *
+ * <p>With a {@link LocalizedResourceIndex} only the resources contained in the index are probed.
+ * If the index contains none of the candidates, all candidates are probed.
  */
 public class LocalizedResourceResolver implements AutoCloseable {
 
@@ -49,11 +51,13 @@ public class LocalizedResourceResolver implements AutoCloseable {
   private final LocalizedResourceConfig config;
   private final Locale locale;
   private Function<String, InputStream> resourceToInputStreamResolver;
+  private final LocalizedResourceIndex index;
   private String baseFileName;
   private String fileExtension;
 
   private InputStream inputStream;
   private String usedResourceName;
+  private Locale usedLocale;
 
   /**
    * Create a new <strong>LocalizedResourceResolver</strong>.
@@ -67,28 +71,60 @@ public class LocalizedResourceResolver implements AutoCloseable {
       LocalizedResourceConfig resolverConfig,
       Locale locale,
       Function<String, InputStream> resourceToInputStreamResolver) {
+    this(resolverConfig, locale, resourceToInputStreamResolver, null);
+  }
+
+  /**
+   * Create a new <strong>LocalizedResourceResolver</strong> using an index of the existing
+   * resources.
+   *
+   * @param resolverConfig A {@link LocalizedResourceConfig} object.
+   * @param locale The target Locale
+   * @param resourceToInputStreamResolver A Function that returns an InputStream based on a resource
+   *     name.
+   * @param index A {@link LocalizedResourceIndex} of the resources or {@code null}, if all
+   *     candidates must be probed.
+   */
+  public LocalizedResourceResolver(
+      LocalizedResourceConfig resolverConfig,
+      Locale locale,
+      Function<String, InputStream> resourceToInputStreamResolver,
+      LocalizedResourceIndex index) {
     this.config = ParameterCheck.notNull(resolverConfig, "resolverConfig");
     this.locale = ParameterCheck.notNull(locale, "locale");
     this.resourceToInputStreamResolver =
         ParameterCheck.notNull(resourceToInputStreamResolver, "resourceToInputStreamResolver");
+    this.index = index;
     initBaseFilename(resolverConfig.getBaseFileName());
   }
 
   /**
    * Resolve the InputStream and return if found.
    *
+   * <p>Further calls return the same InputStream, until the resolver is closed.
+   *
    * @return The resolved InputStream.
    */
   public InputStream resolve() {
+    if (inputStream != null) {
+      return inputStream;
+    }
 
-    List<String> resourceNames = resolveResourceNames();
+    Control ctl = Control.getControl(Control.FORMAT_DEFAULT);
+    List<Locale> locales = ctl.getCandidateLocales(baseFileName, locale);
+    var indexed = index != null && containsAnyCandidate(ctl, locales);
 
-    for (String resource : resourceNames) {
+    for (Locale candidate : locales) {
+      String resource = ctl.toBundleName(baseFileName, candidate) + fileExtension;
+      if (indexed && !index.contains(resource)) {
+        continue;
+      }
       try {
         inputStream = resourceToInputStreamResolver.apply(resource);
         if (inputStream != null) {
           LOG.debug("Found resource {}. Returning the stream object.", resource);
           usedResourceName = resource;
+          usedLocale = candidate;
           return inputStream;
         }
       } catch (Exception e) {
@@ -111,12 +147,25 @@ public class LocalizedResourceResolver implements AutoCloseable {
     return usedResourceName;
   }
 
-  private List<String> resolveResourceNames() {
-    Control ctl = Control.getControl(Control.FORMAT_DEFAULT);
-    List<Locale> locales = ctl.getCandidateLocales(baseFileName, locale);
-    return locales.stream()
-        .map(l -> ctl.toBundleName(baseFileName, l) + fileExtension)
-        .collect(Collectors.toList());
+  /**
+   * Get the {@code Locale} of the used resource.
+   *
+   * <p>This is i.e. {@code de} for the resource {@code translation_de.properties} or {@code
+   * Locale.ROOT} for the base resource.
+   *
+   * @return The {@code Locale} of the used resource.
+   */
+  public Locale getUsedLocale() {
+    return usedLocale;
+  }
+
+  private boolean containsAnyCandidate(Control ctl, List<Locale> locales) {
+    for (Locale candidate : locales) {
+      if (index.contains(ctl.toBundleName(baseFileName, candidate) + fileExtension)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   private void initBaseFilename(String filename) {
@@ -145,6 +194,8 @@ public class LocalizedResourceResolver implements AutoCloseable {
           usedResourceName,
           e.getMessage(),
           e);
+    } finally {
+      inputStream = null;
     }
   }
 }
@@ -0,0 +1,252 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codepulsar.nils.api.adapter.config.LocalizedResourceConfig;
+import com.codepulsar.nils.core.util.ParameterCheck;
+
+/**
+ * The class <strong>LocalizedResourceScanner</strong> finds the <code>Locale</code>s having a
+ * localized resource.
+ *
+ * <p>Example: The BaseFileName is <code>/com/example/app/translation.properties</code> and the
+ * directory contains the files {@code translation.properties}, {@code translation_de.properties}
+ * and {@code translation_de_CH.properties}. The found <code>Locale</code>s are {@code
+ * Locale.ROOT}, {@code de} and {@code de_CH}.
+ *
+ * <p>The found resources can also be kept in a {@link LocalizedResourceIndex}, so the {@link
+ * LocalizedResourceResolver} does not probe missing resources.
+ *
+ * @see LocalizedResourceResolver
+ */
+public class LocalizedResourceScanner {
+  private static final Logger LOG = LoggerFactory.getLogger(LocalizedResourceScanner.class);
+  private final LocalizedResourceConfig config;
+  private final String directory;
+  private final String baseName;
+  private final String fileExtension;
+
+  /**
+   * Create a new <strong>LocalizedResourceScanner</strong>.
+   *
+   * @param config A {@link LocalizedResourceConfig} object.
+   */
+  public LocalizedResourceScanner(LocalizedResourceConfig config) {
+    this.config = ParameterCheck.notNull(config, "config");
+    var fileName = config.getBaseFileName();
+    var normalized = fileName.startsWith("/") ? fileName.substring(1) : fileName;
+    var lastSlash = normalized.lastIndexOf('/');
+    var lastDot = normalized.lastIndexOf('.');
+    this.directory = lastSlash < 0 ? "" : normalized.substring(0, lastSlash);
+    var end = lastDot > lastSlash ? lastDot : normalized.length();
+    this.baseName = normalized.substring(lastSlash + 1, end);
+    this.fileExtension = normalized.substring(end);
+  }
+
+  /**
+   * Finds the <code>Locale</code>s of the resources on the class path of the owner module.
+   *
+   * <p>Directories and jar files are supported. Resources in other locations (i.e. the module
+   * image of the JDK) are not found.
+   *
+   * @return The found <code>Locale</code>s.
+   */
+  public Set<Locale> findLocales() {
+    var locales = new HashSet<Locale>();
+    scanClassPath(fileName -> toLocale(fileName).ifPresent(locales::add), new HashSet<>());
+    return Collections.unmodifiableSet(locales);
+  }
+
+  /**
+   * Finds the <code>Locale</code>s of the resources in a directory of the file system.
+   *
+   * <p>The base file name is resolved relative to the directory.
+   *
+   * @param resourceDirectory The directory containing the resources.
+   * @return The found <code>Locale</code>s.
+   */
+  public Set<Locale> findLocales(Path resourceDirectory) {
+    ParameterCheck.notNull(resourceDirectory, "resourceDirectory");
+    var locales = new HashSet<Locale>();
+    scanDirectory(
+        resolveDirectory(resourceDirectory),
+        fileName -> toLocale(fileName).ifPresent(locales::add));
+    return Collections.unmodifiableSet(locales);
+  }
+
+  /**
+   * Builds a {@link LocalizedResourceIndex} of the resources on the class path of the owner
+   * module.
+   *
+   * <p>The index is only built, if the resources are not in the root directory, all locations of
+   * the directory could be scanned and each location providing the resource of the base file name
+   * was among them. Otherwise, i.e. if the resources are encapsulated in a named module and not
+   * visible to the class loader or are packed in a jar file without directory entries, which is not
+   * listed for the directory, the resources must be probed one by one.
+   *
+   * @return The {@link LocalizedResourceIndex} or an empty {@code Optional}, if the resources could
+   *     not be scanned completely.
+   */
+  public Optional<LocalizedResourceIndex> buildIndex() {
+    if (directory.isEmpty()) {
+      // The class loader does not list the jar files for the root directory
+      return Optional.empty();
+    }
+    var prefix = "/" + directory + "/";
+    var resourceNames = new HashSet<String>();
+    var locations = new HashSet<String>();
+    var complete =
+        scanClassPath(
+            fileName -> {
+              if (toLocale(fileName).isPresent()) {
+                resourceNames.add(prefix + fileName);
+              }
+            },
+            locations);
+    if (!complete || !isBaseResourceScanned(locations)) {
+      LOG.debug("No index built for the resources of '{}'.", config.getBaseFileName());
+      return Optional.empty();
+    }
+    return Optional.of(new LocalizedResourceIndex(resourceNames));
+  }
+
+  /**
+   * Resolves the directory of the resources in a directory of the file system.
+   *
+   * @param resourceDirectory The directory containing the resources.
+   * @return The directory containing the files of the base file name.
+   */
+  Path resolveDirectory(Path resourceDirectory) {
+    return resourceDirectory.resolve(directory);
+  }
+
+  /**
+   * Gets the <code>Locale</code> of a resource file name.
+   *
+   * @param fileName The file name without directory, i.e. {@code translation_de.properties}.
+   * @return The <code>Locale</code> or an empty {@code Optional}, if the file is not a localized
+   *     resource of the base file.
+   */
+  Optional<Locale> toLocale(String fileName) {
+    if (!fileName.startsWith(baseName) || !fileName.endsWith(fileExtension)) {
+      return Optional.empty();
+    }
+    var end = fileName.length() - fileExtension.length();
+    if (end < baseName.length()) {
+      return Optional.empty();
+    }
+    var suffix = fileName.substring(baseName.length(), end);
+    if (suffix.isEmpty()) {
+      return Optional.of(Locale.ROOT);
+    }
+    if (!suffix.startsWith("_") || suffix.length() == 1) {
+      return Optional.empty();
+    }
+    var parts = suffix.substring(1).split("_", 3);
+    return Optional.of(
+        new Locale(parts[0], parts.length > 1 ? parts[1] : "", parts.length > 2 ? parts[2] : ""));
+  }
+
+  // Checks, if the base resource is found and each of its locations was scanned
+  private boolean isBaseResourceScanned(Set<String> locations) {
+    var baseResource = directory + "/" + baseName + fileExtension;
+    try {
+      var urls = getClassLoader().getResources(baseResource);
+      if (!urls.hasMoreElements()) {
+        return false;
+      }
+      while (urls.hasMoreElements()) {
+        var url = urls.nextElement().toString();
+        var location = url.substring(0, url.length() - baseName.length() - fileExtension.length());
+        if (!locations.contains(location)) {
+          LOG.debug("The resource '{}' was found in a location not scanned.", url);
+          return false;
+        }
+      }
+      return true;
+    } catch (IOException e) {
+      LOG.warn("Error finding the resource '{}'. Reason: {}", baseResource, e.getMessage(), e);
+      return false;
+    }
+  }
+
+  private ClassLoader getClassLoader() {
+    var classLoader = config.getOwnerModule().getClassLoader();
+    return classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+  }
+
+  // Returns false, if a location could not be scanned. The scanned locations are added as URLs
+  // ending with a slash.
+  private boolean scanClassPath(Consumer<String> fileNames, Set<String> locations) {
+    try {
+      var complete = true;
+      var urls = getClassLoader().getResources(directory);
+      while (urls.hasMoreElements()) {
+        var url = urls.nextElement();
+        var location = url.toString();
+        locations.add(location.endsWith("/") ? location : location + "/");
+        complete &= scanUrl(url, fileNames);
+      }
+      return complete;
+    } catch (IOException e) {
+      LOG.warn("Error scanning resources in '{}'. Reason: {}", directory, e.getMessage(), e);
+      return false;
+    }
+  }
+
+  private boolean scanUrl(URL url, Consumer<String> fileNames) throws IOException {
+    switch (url.getProtocol()) {
+      case "file":
+        try {
+          return scanDirectory(Path.of(url.toURI()), fileNames);
+        } catch (URISyntaxException e) {
+          LOG.warn("Could not scan the resources at '{}'. Reason: {}", url, e.getMessage());
+          return false;
+        }
+      case "jar":
+        var connection = (JarURLConnection) url.openConnection();
+        connection.setUseCaches(false);
+        var prefix = directory.isEmpty() ? "" : directory + "/";
+        try (var jarFile = connection.getJarFile()) {
+          jarFile.stream()
+              .filter(entry -> !entry.isDirectory())
+              .map(entry -> entry.getName())
+              .filter(name -> name.startsWith(prefix) && name.indexOf('/', prefix.length()) < 0)
+              .forEach(name -> fileNames.accept(name.substring(prefix.length())));
+        }
+        return true;
+      default:
+        LOG.warn("Could not scan the resources at '{}'. Unsupported location.", url);
+        return false;
+    }
+  }
+
+  private boolean scanDirectory(Path path, Consumer<String> fileNames) {
+    if (!Files.isDirectory(path)) {
+      return true;
+    }
+    try (var files = Files.list(path)) {
+      files
+          .filter(Files::isRegularFile)
+          .forEach(file -> fileNames.accept(file.getFileName().toString()));
+      return true;
+    } catch (IOException e) {
+      LOG.warn("Error scanning resources in '{}'. Reason: {}", path, e.getMessage(), e);
+      return false;
+    }
+  }
+}
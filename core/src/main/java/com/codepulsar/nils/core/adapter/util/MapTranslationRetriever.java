@@ -1,7 +1,9 @@
 package com.codepulsar.nils.core.adapter.util;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.StringTokenizer;
 
 import com.codepulsar.nils.core.util.ParameterCheck;
@@ -10,7 +12,7 @@ import com.codepulsar.nils.core.util.ParameterCheck;
  * translations that are structures as {@code Map} of {@code String} to {@code Object}, which are
  * used for examples in json or yaml serializers.
  */
-public class MapTranslationRetriever implements TranslationRetriever {
+public class MapTranslationRetriever implements EnumerableTranslationRetriever {
   private final Map<String, Object> translations;
   /**
    * Create a new instance.
@@ -54,4 +56,9 @@ public class MapTranslationRetriever implements TranslationRetriever {
     }
     return Optional.empty();
   }
+
+  @Override
+  public Set<String> getKeys() {
+    return Collections.unmodifiableSet(IndexedTranslationRetriever.flatten(translations).keySet());
+  }
 }
@@ -0,0 +1,137 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import com.codepulsar.nils.core.util.ParameterCheck;
+
+/**
+ * The {@link MappedFileInputStream} reads a file of the file system through a memory mapping.
+ *
+ * <p>The file is mapped read-only by a {@code FileChannel}, which is kept open until the stream is
+ * closed. The content is read from the page cache of the operating system without copying it into
+ * an intermediate buffer. {@link #getBuffer()} gives direct access to the mapped content, i.e. for
+ * binary formats. The mapping stays valid after the stream is closed.
+ *
+ * <p><em>Note:</em> A file replaced by a new file (i.e. moved into place) does not affect the
+ * mapping. Changing a mapped file in place is not supported: Accessing a page of a file truncated
+ * in place faults. While the stream is open, the size of the mapped file is checked before its
+ * content is read, so a truncation happening before the read fails with an {@code IOException}.
+ * A buffer kept after the stream is closed is not checked.
+ */
+public final class MappedFileInputStream extends InputStream {
+  // Accessing a truncated page faults, the bytes up to the end of a page are checked at once
+  private static final int PAGE_SIZE = 4096;
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer;
+
+  private MappedFileInputStream(FileChannel channel, ByteBuffer buffer) {
+    this.channel = channel;
+    this.buffer = buffer;
+  }
+
+  /**
+   * Maps a file and opens a stream for it.
+   *
+   * @param file The file to read.
+   * @return A new {@link MappedFileInputStream}.
+   * @throws IOException If the file could not be mapped.
+   */
+  public static MappedFileInputStream open(Path file) throws IOException {
+    ParameterCheck.notNull(file, "file");
+    var channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      return new MappedFileInputStream(channel, channel.map(MapMode.READ_ONLY, 0, channel.size()));
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Gets the content not read yet as read-only buffer.
+   *
+   * <p>The returned buffer is independent of the position of this stream and stays valid after
+   * the stream is closed. It is shared with all processes mapping the same file, as long as the
+   * file is not changed in place.
+   *
+   * @return A {@code ByteBuffer} starting at index 0 with the content not read yet.
+   * @throws IOException If the file was truncated in place.
+   */
+  public ByteBuffer getBuffer() throws IOException {
+    checkSize(buffer.limit());
+    return buffer.slice();
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!buffer.hasRemaining()) {
+      return -1;
+    }
+    if (buffer.position() % PAGE_SIZE == 0) {
+      checkSize(buffer.position() + Math.min(PAGE_SIZE, buffer.remaining()));
+    }
+    return buffer.get() & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, b.length);
+    if (len == 0) {
+      return 0;
+    }
+    if (!buffer.hasRemaining()) {
+      return -1;
+    }
+    var count = Math.min(len, buffer.remaining());
+    copy(buffer, b, off, count);
+    return count;
+  }
+
+  @Override
+  public byte[] readAllBytes() throws IOException {
+    var bytes = new byte[buffer.remaining()];
+    copy(buffer, bytes, 0, bytes.length);
+    return bytes;
+  }
+
+  @Override
+  public long skip(long n) {
+    if (n <= 0) {
+      return 0;
+    }
+    var count = (int) Math.min(n, buffer.remaining());
+    buffer.position(buffer.position() + count);
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return buffer.remaining();
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private void copy(ByteBuffer source, byte[] target, int offset, int length)
+      throws IOException {
+    checkSize(source.position() + length);
+    source.get(target, offset, length);
+  }
+
+  private void checkSize(long end) throws IOException {
+    // The size of the mapped file, a file moved into place in the meantime is not affected
+    if (end > 0 && channel.isOpen() && channel.size() < end) {
+      throw new IOException("The mapped file was truncated in place.");
+    }
+  }
+}
@@ -0,0 +1,214 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import static com.codepulsar.nils.core.error.ErrorTypes.CONFIG_ERROR;
+import static com.codepulsar.nils.core.error.ErrorTypes.IO_ERROR;
+import static com.codepulsar.nils.core.util.ParameterCheck.nilsException;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codepulsar.nils.api.NilsFactory;
+import com.codepulsar.nils.api.adapter.config.LocalizedResourceConfig;
+import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.core.util.ParameterCheck;
+
+/**
+ * The {@link ResourceDirectoryWatcher} reloads the translations of changed files in the {@link
+ * LocalizedResourceConfig#getResourceDirectory()}.
+ *
+ * <p>The directory of the base file name is watched by a {@code WatchService} in a daemon thread.
+ * A created, changed or deleted file of a <code>Locale</code> triggers {@link
+ * NilsFactory#reload(java.util.Collection)} for this <code>Locale</code>, so only its file is
+ * parsed again. Until the reloaded translations are published, the requests are served by the
+ * current translations.
+ *
+ * <p>Editors often write a file in several steps. The changes are collected until no further change
+ * was seen for the debounce time, so a file is reloaded once. If the {@code WatchService} lost
+ * events, all translations are reloaded.
+ *
+ * <p>Example:
+ *
+ * <pre>
+ * var config = JacksonAdapterConfig.init(this).resourceDirectory(Path.of("/etc/app/nls"));
+ * var factory = NilsFactory.init(config);
+ * try (var watcher = ResourceDirectoryWatcher.watch(factory, config)) {
+ *   // ...
+ * }
+ * </pre>
+ */
+public final class ResourceDirectoryWatcher implements AutoCloseable {
+  /** The default time to wait for further changes before reloading: 200 ms. */
+  public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(200);
+
+  private static final Logger LOG = LoggerFactory.getLogger(ResourceDirectoryWatcher.class);
+  private final NilsFactory factory;
+  private final LocalizedResourceScanner scanner;
+  private final Path directory;
+  private final long debounceNanos;
+  private final WatchService watchService;
+  private final Thread thread;
+
+  private ResourceDirectoryWatcher(
+      NilsFactory factory, LocalizedResourceConfig config, Duration debounce) throws IOException {
+    this.factory = factory;
+    this.scanner = new LocalizedResourceScanner(config);
+    this.directory = scanner.resolveDirectory(config.getResourceDirectory());
+    this.debounceNanos = debounce.toNanos();
+    this.watchService = directory.getFileSystem().newWatchService();
+    try {
+      directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+    } catch (IOException | RuntimeException e) {
+      watchService.close();
+      throw e;
+    }
+    this.thread = new Thread(this::watch, "nils-resource-watcher");
+    this.thread.setDaemon(true);
+  }
+
+  /**
+   * Starts watching the resource directory of a {@link LocalizedResourceConfig}.
+   *
+   * <p>The same as {@link #watch(NilsFactory, LocalizedResourceConfig, Duration)} using the {@link
+   * #DEFAULT_DEBOUNCE}.
+   *
+   * @param factory The {@link NilsFactory} created for the config.
+   * @param config The {@link LocalizedResourceConfig} having a resource directory.
+   * @return The started {@link ResourceDirectoryWatcher}.
+   */
+  public static ResourceDirectoryWatcher watch(
+      NilsFactory factory, LocalizedResourceConfig config) {
+    return watch(factory, config, DEFAULT_DEBOUNCE);
+  }
+
+  /**
+   * Starts watching the resource directory of a {@link LocalizedResourceConfig}.
+   *
+   * @param factory The {@link NilsFactory} created for the config.
+   * @param config The {@link LocalizedResourceConfig} having a resource directory.
+   * @param debounce The time to wait for further changes before reloading.
+   * @return The started {@link ResourceDirectoryWatcher}.
+   */
+  public static ResourceDirectoryWatcher watch(
+      NilsFactory factory, LocalizedResourceConfig config, Duration debounce) {
+    ParameterCheck.notNull(factory, "factory", nilsException(CONFIG_ERROR));
+    ParameterCheck.notNull(config, "config", nilsException(CONFIG_ERROR));
+    ParameterCheck.notNull(debounce, "debounce", nilsException(CONFIG_ERROR));
+    if (debounce.isNegative()) {
+      throw CONFIG_ERROR.asException().message("Parameter 'debounce' cannot be negative.").go();
+    }
+    if (config.getResourceDirectory() == null) {
+      throw CONFIG_ERROR
+          .asException()
+          .message("The config has no resource directory to watch.")
+          .go();
+    }
+    ResourceDirectoryWatcher watcher;
+    try {
+      watcher = new ResourceDirectoryWatcher(factory, config, debounce);
+    } catch (IOException e) {
+      throw new NilsException(
+          IO_ERROR, "Could not watch the directory %s.", e, config.getResourceDirectory());
+    }
+    watcher.thread.start();
+    return watcher;
+  }
+
+  /**
+   * Gets the watched directory.
+   *
+   * @return The directory containing the files of the base file name.
+   */
+  public Path getDirectory() {
+    return directory;
+  }
+
+  /** Stops watching the directory. A running reload is completed. */
+  @Override
+  public void close() {
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      throw new NilsException(IO_ERROR, "Could not stop watching the directory %s.", e, directory);
+    }
+  }
+
+  private void watch() {
+    var changed = new HashSet<Locale>();
+    var reloadAll = false;
+    var deadline = 0L;
+    try {
+      while (true) {
+        WatchKey key;
+        if (changed.isEmpty() && !reloadAll) {
+          key = watchService.take();
+        } else {
+          var remaining = deadline - System.nanoTime();
+          key = remaining > 0 ? watchService.poll(remaining, TimeUnit.NANOSECONDS) : null;
+        }
+        if (key == null) {
+          // No further change within the debounce time
+          reload(changed, reloadAll);
+          changed.clear();
+          reloadAll = false;
+          continue;
+        }
+        var relevant = false;
+        for (var event : key.pollEvents()) {
+          if (event.kind() == OVERFLOW) {
+            reloadAll = true;
+            relevant = true;
+          } else {
+            var fileName = ((Path) event.context()).getFileName().toString();
+            var locale = scanner.toLocale(fileName);
+            if (locale.isPresent()) {
+              changed.add(locale.get());
+              relevant = true;
+            }
+          }
+        }
+        if (relevant) {
+          deadline = System.nanoTime() + debounceNanos;
+        }
+        if (!key.reset()) {
+          LOG.warn("The directory {} is not accessible anymore and no longer watched.", directory);
+          return;
+        }
+      }
+    } catch (ClosedWatchServiceException e) {
+      LOG.debug("Stopped watching the directory {}.", directory);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void reload(Set<Locale> changed, boolean reloadAll) {
+    LOG.debug("Reloading the changed locales {} of the directory {}.", changed, directory);
+    var reload = reloadAll ? factory.reload() : factory.reload(Set.copyOf(changed));
+    try {
+      // Waiting for the reload, so the next changes are reloaded on top of it
+      reload.join();
+    } catch (CompletionException e) {
+      LOG.warn(
+          "Could not reload the changed locales {}. Reason {}",
+          changed,
+          e.getCause().getMessage(),
+          e.getCause());
+    }
+  }
+}
@@ -0,0 +1,362 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import com.codepulsar.nils.api.adapter.config.LocalizedResourceConfig;
+import com.codepulsar.nils.core.util.ParameterCheck;
+
+/**
+ * The {@link SectionScanner} finds the top-level sections of a UTF-8 encoded resource without
+ * parsing it.
+ *
+ * <p>The scan only skips over the structure of the resource and records the byte range of each
+ * top-level entry. The ranges can be parsed on their own later. A resource which cannot be split
+ * safely returns an empty result, so the caller must parse the whole resource instead. Syntax
+ * errors are not detected by the scan, but when a section is parsed.
+ *
+ * @see LocalizedResourceConfig#isLazySections()
+ * @see LazyTranslationRetriever
+ */
+public final class SectionScanner {
+
+  private SectionScanner() {
+    // Static methods only
+  }
+
+  /**
+   * Scans a JSON object for its top-level entries.
+   *
+   * <p>The range of a {@link Section} contains the value of the entry only.
+   *
+   * @param data The UTF-8 encoded resource.
+   * @return The sections in the order of the resource or an empty {@code Optional}, if the
+   *     resource is not a plain JSON object or contains duplicate top-level names.
+   */
+  public static Optional<List<Section>> scanJson(byte[] data) {
+    ParameterCheck.notNull(data, "data");
+    return new JsonScan(data).scan();
+  }
+
+  /**
+   * Scans a YAML document for its top-level entries.
+   *
+   * <p>The range of a {@link Section} contains the complete entry, i.e. the lines {@code
+   * "checkout:"} and all indented lines below. Each range is a valid YAML document for itself.
+   *
+   * @param data The UTF-8 encoded resource.
+   * @return The sections in the order of the resource or an empty {@code Optional}, if the
+   *     resource is not a single block mapping with plain keys, contains duplicate top-level keys
+   *     or uses anchors and aliases.
+   */
+  public static Optional<List<Section>> scanYaml(byte[] data) {
+    ParameterCheck.notNull(data, "data");
+    var sections = new ArrayList<Section>();
+    var names = new HashSet<String>();
+    var position = bomLength(data);
+    var lineStart = position;
+    String name = null;
+    var sectionStart = position;
+    while (lineStart < data.length) {
+      var lineEnd = lineStart;
+      while (lineEnd < data.length && data[lineEnd] != '\n') {
+        lineEnd++;
+      }
+      var first = data[lineStart];
+      if (containsAnchorOrAlias(data, lineStart, lineEnd)) {
+        return Optional.empty();
+      }
+      if (!isBlankOrComment(data, lineStart, lineEnd) && first != ' ' && first != '\t') {
+        var key = readYamlKey(data, lineStart, lineEnd);
+        if (key == null || !names.add(key)) {
+          return Optional.empty();
+        }
+        if (name != null) {
+          sections.add(new Section(name, sectionStart, lineStart));
+        }
+        name = key;
+        sectionStart = lineStart;
+      } else if (name == null && !isBlankOrComment(data, lineStart, lineEnd)) {
+        // Indented content before the first key
+        return Optional.empty();
+      }
+      lineStart = lineEnd + 1;
+    }
+    if (name != null) {
+      sections.add(new Section(name, sectionStart, data.length));
+    }
+    return Optional.of(sections);
+  }
+
+  private static String readYamlKey(byte[] data, int start, int end) {
+    var first = data[start];
+    if ("-?:,[]{}#&*!|>'\"%@`".indexOf(first) >= 0) {
+      return null;
+    }
+    for (int i = start; i < end; i++) {
+      if (data[i] == '#') {
+        return null;
+      }
+      if (data[i] == ':' && (i + 1 == end || isWhitespace(data[i + 1]))) {
+        var key = new String(data, start, i - start, StandardCharsets.UTF_8).trim();
+        return key.isEmpty() ? null : key;
+      }
+    }
+    return null;
+  }
+
+  private static boolean containsAnchorOrAlias(byte[] data, int start, int end) {
+    for (int i = start; i < end - 1; i++) {
+      if ((data[i] == '&' || data[i] == '*') && !isWhitespace(data[i + 1])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isBlankOrComment(byte[] data, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (data[i] == '#') {
+        return true;
+      }
+      if (!isWhitespace(data[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+  }
+
+  private static int bomLength(byte[] data) {
+    if (data.length >= 3
+        && (data[0] & 0xFF) == 0xEF
+        && (data[1] & 0xFF) == 0xBB
+        && (data[2] & 0xFF) == 0xBF) {
+      return 3;
+    }
+    return 0;
+  }
+
+  /** A top-level section of a resource. */
+  public static final class Section {
+    private final String name;
+    private final int start;
+    private final int end;
+
+    Section(String name, int start, int end) {
+      this.name = name;
+      this.start = start;
+      this.end = end;
+    }
+
+    /**
+     * Gets the name of the section.
+     *
+     * @return The top-level name.
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Gets the start of the section in the resource.
+     *
+     * @return The index of the first byte.
+     */
+    public int getStart() {
+      return start;
+    }
+
+    /**
+     * Gets the end of the section in the resource.
+     *
+     * @return The index after the last byte.
+     */
+    public int getEnd() {
+      return end;
+    }
+
+    /**
+     * Gets the length of the section in the resource.
+     *
+     * @return The number of bytes.
+     */
+    public int getLength() {
+      return end - start;
+    }
+  }
+
+  /** The scan of a JSON object. */
+  private static final class JsonScan {
+    private final byte[] data;
+    private int position;
+
+    JsonScan(byte[] data) {
+      this.data = data;
+      this.position = bomLength(data);
+    }
+
+    Optional<List<Section>> scan() {
+      var sections = new ArrayList<Section>();
+      var names = new HashSet<String>();
+      skipWhitespace();
+      if (!consume('{')) {
+        return Optional.empty();
+      }
+      skipWhitespace();
+      if (!consume('}')) {
+        do {
+          skipWhitespace();
+          var name = readString();
+          skipWhitespace();
+          if (name == null || !names.add(name) || !consume(':')) {
+            return Optional.empty();
+          }
+          skipWhitespace();
+          var start = position;
+          if (!skipValue()) {
+            return Optional.empty();
+          }
+          sections.add(new Section(name, start, position));
+          skipWhitespace();
+        } while (consume(','));
+        if (!consume('}')) {
+          return Optional.empty();
+        }
+      }
+      skipWhitespace();
+      return position == data.length ? Optional.of(sections) : Optional.empty();
+    }
+
+    private boolean skipValue() {
+      if (position >= data.length) {
+        return false;
+      }
+      var b = data[position];
+      if (b == '"') {
+        return skipString();
+      }
+      if (b == '{' || b == '[') {
+        var depth = 0;
+        while (position < data.length) {
+          b = data[position];
+          if (b == '"') {
+            if (!skipString()) {
+              return false;
+            }
+            continue;
+          }
+          if (b == '{' || b == '[') {
+            depth++;
+          } else if (b == '}' || b == ']') {
+            depth--;
+          }
+          position++;
+          if (depth == 0) {
+            return true;
+          }
+        }
+        return false;
+      }
+      var start = position;
+      while (position < data.length
+          && !isWhitespace(data[position])
+          && ",}]".indexOf(data[position]) < 0) {
+        position++;
+      }
+      return position > start;
+    }
+
+    private boolean skipString() {
+      position++;
+      while (position < data.length) {
+        var b = data[position++];
+        if (b == '\\') {
+          position++;
+        } else if (b == '"') {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private String readString() {
+      var start = position;
+      if (position >= data.length || data[position] != '"' || !skipString()) {
+        return null;
+      }
+      var raw = new String(data, start + 1, position - start - 2, StandardCharsets.UTF_8);
+      if (raw.indexOf('\\') < 0) {
+        return raw;
+      }
+      var result = new StringBuilder(raw.length());
+      for (int i = 0; i < raw.length(); i++) {
+        var c = raw.charAt(i);
+        if (c != '\\') {
+          result.append(c);
+          continue;
+        }
+        if (++i >= raw.length()) {
+          return null;
+        }
+        c = raw.charAt(i);
+        switch (c) {
+          case '"':
+          case '\\':
+          case '/':
+            result.append(c);
+            break;
+          case 'b':
+            result.append('\b');
+            break;
+          case 'f':
+            result.append('\f');
+            break;
+          case 'n':
+            result.append('\n');
+            break;
+          case 'r':
+            result.append('\r');
+            break;
+          case 't':
+            result.append('\t');
+            break;
+          case 'u':
+            if (i + 4 >= raw.length()) {
+              return null;
+            }
+            try {
+              result.append((char) Integer.parseInt(raw.substring(i + 1, i + 5), 16));
+            } catch (NumberFormatException e) {
+              return null;
+            }
+            i += 4;
+            break;
+          default:
+            return null;
+        }
+      }
+      return result.toString();
+    }
+
+    private void skipWhitespace() {
+      while (position < data.length && isWhitespace(data[position])) {
+        position++;
+      }
+    }
+
+    private boolean consume(char expected) {
+      if (position < data.length && data[position] == expected) {
+        position++;
+        return true;
+      }
+      return false;
+    }
+  }
+}
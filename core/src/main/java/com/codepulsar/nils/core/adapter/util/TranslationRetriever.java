@@ -10,7 +10,9 @@ import com.codepulsar.nils.core.adapter.BaseLocalizedResourceAdapter;
  * <p>Depended on the type of resource files different strategies to get the translation for a key
  * is necessary. These different strategies must implements this interface.
  *
+ * @see IndexedTranslationRetriever
  * @see MapTranslationRetriever
+ * @see EnumerableTranslationRetriever
  */
 public interface TranslationRetriever {
   /**
@@ -20,4 +22,5 @@ public interface TranslationRetriever {
    * @return The translation or empty if not found.
    */
   Optional<String> retrieve(String key);
+
 }
@@ -0,0 +1,66 @@
+package com.codepulsar.nils.core.cache;
+
+import com.codepulsar.nils.api.NilsConfig;
+
+/**
+ * Interface for creating the {@link NilsCache}s used by NILS.
+ *
+ * <p>NILS requests the following caches:
+ *
+ * <ul>
+ *   <li>{@value #NLS_TRANSLATIONS}: The resolved translations of a {@code NLS} object (one cache
+ *       per {@code Locale}).
+ *   <li>{@value #NLS_MISSING_KEYS}: The missing keys of a {@code NLS} object (one cache per {@code
+ *       Locale}).
+ *   <li>{@value #ADAPTERS}: The created adapters of an adapter factory.
+ *   <li>{@value #ADAPTER_TRANSLATIONS}: The translations cached by an adapter, i.e. the JDBC
+ *       adapter.
+ * </ul>
+ *
+ * @see NilsConfig#cacheFactory(CacheFactory)
+ */
+public interface CacheFactory {
+  /** Name of the cache for the resolved translations of a {@code NLS} object. */
+  public static final String NLS_TRANSLATIONS = "nls.translations";
+  /** Name of the cache for the missing keys of a {@code NLS} object. */
+  public static final String NLS_MISSING_KEYS = "nls.missingKeys";
+  /** Name of the cache for the adapters created by an adapter factory. */
+  public static final String ADAPTERS = "adapters";
+  /** Name of the cache for translations held by an adapter. */
+  public static final String ADAPTER_TRANSLATIONS = "adapter.translations";
+
+  /**
+   * Default implementation creating bounded caches. If a cache is full, the admission of a new
+   * value is decided by the access frequency of the new and the oldest value (TinyLFU).
+   */
+  public static final CacheFactory TINY_LFU =
+      new CacheFactory() {
+        @Override
+        public <K, V> NilsCache<K, V> create(String name, long maximumSize) {
+          if (maximumSize < 0) {
+            return new UnboundedCache<>();
+          }
+          return new TinyLfuCache<>(maximumSize);
+        }
+      };
+
+  /** Implementation creating caches without a size limit. */
+  public static final CacheFactory UNBOUNDED =
+      new CacheFactory() {
+        @Override
+        public <K, V> NilsCache<K, V> create(String name, long maximumSize) {
+          return new UnboundedCache<>();
+        }
+      };
+
+  /**
+   * Creates a new {@link NilsCache}.
+   *
+   * @param <K> The type of the keys
+   * @param <V> The type of the values
+   * @param name The name of the cache (see the constants of this interface).
+   * @param maximumSize The suggested maximum number of values. A value &lt; 0 means unbounded.
+   * @return The created {@link NilsCache}.
+   */
+  <K, V> NilsCache<K, V> create(String name, long maximumSize);
+}
@@ -0,0 +1,74 @@
+package com.codepulsar.nils.core.cache;
+
+/** A snapshot of the usage counters of a {@link NilsCache}. */
+public class CacheStats {
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+  private final long size;
+
+  /**
+   * Create a new instance.
+   *
+   * @param hitCount The number of lookups that found a value.
+   * @param missCount The number of lookups that found no value.
+   * @param evictionCount The number of values removed to keep the size limit.
+   * @param size The number of cached values.
+   */
+  public CacheStats(long hitCount, long missCount, long evictionCount, long size) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.size = size;
+  }
+
+  /**
+   * Gets the number of lookups that found a value.
+   *
+   * @return The number of hits.
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Gets the number of lookups that found no value.
+   *
+   * @return The number of misses.
+   */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Gets the number of values removed to keep the size limit.
+   *
+   * @return The number of evictions.
+   */
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * Gets the number of cached values.
+   *
+   * @return The size of the cache.
+   */
+  public long getSize() {
+    return size;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName()
+        + "[hitCount="
+        + hitCount
+        + ", missCount="
+        + missCount
+        + ", evictionCount="
+        + evictionCount
+        + ", size="
+        + size
+        + "]";
+  }
+}
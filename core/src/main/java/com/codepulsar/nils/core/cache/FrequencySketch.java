@@ -0,0 +1,78 @@
+package com.codepulsar.nils.core.cache;
+
+/**
+ * A count-min sketch estimating the access frequency of keys with 4-bit counters.
+ *
+ * <p>The counters are halved periodically, so the estimation follows the recent access pattern.
+ * Updates are not synchronized: concurrent increments may get lost, which is acceptable for an
+ * estimation.
+ */
+class FrequencySketch {
+  private static final int[] SEEDS = {0x97cb3127, 0xb79c6d4b, 0xc2b2ae35, 0x27d4eb2f};
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final long MAX_COUNTER = 0xFL;
+
+  private final long[] table;
+  private final int tableMask;
+  private final long sampleSize;
+  private long additions;
+
+  FrequencySketch(long maximumSize) {
+    long capacity = Math.max(16L, Math.min(maximumSize, 1L << 28));
+    int length = Integer.highestOneBit((int) capacity - 1) << 1;
+    this.table = new long[length];
+    this.tableMask = length - 1;
+    this.sampleSize = 10L * capacity;
+  }
+
+  void increment(Object key) {
+    int hash = spread(key.hashCode());
+    boolean added = false;
+    for (int i = 0; i < SEEDS.length; i++) {
+      int h = rehash(hash, i);
+      added |= incrementAt(h >>> 4 & tableMask, (h & 15) << 2);
+    }
+    if (added && ++additions >= sampleSize) {
+      reset();
+    }
+  }
+
+  int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < SEEDS.length; i++) {
+      int h = rehash(hash, i);
+      int count = (int) (table[h >>> 4 & tableMask] >>> ((h & 15) << 2) & MAX_COUNTER);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  private boolean incrementAt(int index, int offset) {
+    long mask = MAX_COUNTER << offset;
+    if ((table[index] & mask) != mask) {
+      table[index] += 1L << offset;
+      return true;
+    }
+    return false;
+  }
+
+  private void reset() {
+    for (int i = 0; i < table.length; i++) {
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+    additions /= 2;
+  }
+
+  private static int spread(int hash) {
+    hash ^= hash >>> 17;
+    hash *= 0xed5ad4bb;
+    hash ^= hash >>> 11;
+    return hash;
+  }
+
+  private static int rehash(int hash, int index) {
+    int h = hash * SEEDS[index];
+    return h ^ (h >>> 15);
+  }
+}
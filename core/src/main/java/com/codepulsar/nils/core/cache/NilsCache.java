@@ -0,0 +1,66 @@
+package com.codepulsar.nils.core.cache;
+
+/**
+ * A {@linkplain NilsCache} stores values NILS can recalculate, i.e. resolved translations or
+ * created adapters.
+ *
+ * <p>Implementations must be thread-safe. A cache may drop any entry at any time (i.e. to stay
+ * within a size limit), so callers must be able to recalculate a missing value.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ * @see CacheFactory
+ */
+public interface NilsCache<K, V> {
+  /**
+   * Gets the value for a key.
+   *
+   * @param key The key to look up.
+   * @return The value or <code>null</code> if the key is not cached.
+   */
+  V get(K key);
+
+  /**
+   * Stores a value for a key, if the key is not already cached.
+   *
+   * <p>The cache may decide not to store the value at all (i.e. because the value is less
+   * frequently used than the cached ones).
+   *
+   * @param key The key.
+   * @param value The value.
+   * @return The already cached value or <code>null</code> if there was none.
+   */
+  V putIfAbsent(K key, V value);
+
+  /**
+   * Stores a value for a key and replaces an existing one.
+   *
+   * @param key The key.
+   * @param value The value.
+   */
+  void put(K key, V value);
+
+  /**
+   * Removes the value for a key.
+   *
+   * @param key The key.
+   */
+  void remove(K key);
+
+  /** Removes all values from the cache. */
+  void clear();
+
+  /**
+   * Gets the number of cached values.
+   *
+   * @return The number of cached values.
+   */
+  long size();
+
+  /**
+   * Gets a snapshot of the usage counters of the cache.
+   *
+   * @return A {@link CacheStats} object.
+   */
+  CacheStats getStats();
+}
@@ -0,0 +1,186 @@
+package com.codepulsar.nils.core.cache;
+
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded {@link NilsCache} using the TinyLFU admission policy.
+ *
+ * <p>Reading a value is lock-free. If a new value exceeds the size limit, it competes with the
+ * oldest cached value: the one with the lower estimated access frequency is removed. So values
+ * that are requested only once (i.e. dynamic keys) cannot push out the frequently used ones.
+ *
+ * <p>The frequency sketch is allocated when the cache is half full, so small caches stay cheap.
+ */
+class TinyLfuCache<K, V> implements NilsCache<K, V> {
+  private final long maximumSize;
+  private final ConcurrentMap<K, V> data = new ConcurrentHashMap<>();
+  private final Queue<K> insertionOrder = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger insertionOrderSize = new AtomicInteger();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private volatile FrequencySketch sketch;
+
+  TinyLfuCache(long maximumSize) {
+    this.maximumSize = maximumSize;
+  }
+
+  @Override
+  public V get(K key) {
+    V value = data.get(key);
+    recordAccess(key);
+    if (value == null) {
+      misses.increment();
+    } else {
+      hits.increment();
+    }
+    return value;
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    if (maximumSize == 0) {
+      return null;
+    }
+    recordAccess(key);
+    V previous = data.putIfAbsent(key, value);
+    if (previous == null) {
+      afterInsert(key);
+    }
+    return previous;
+  }
+
+  @Override
+  public void put(K key, V value) {
+    if (maximumSize == 0) {
+      return;
+    }
+    recordAccess(key);
+    if (data.put(key, value) == null) {
+      afterInsert(key);
+    }
+  }
+
+  @Override
+  public void remove(K key) {
+    data.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    evictionLock.lock();
+    try {
+      data.clear();
+      insertionOrder.clear();
+      insertionOrderSize.set(0);
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public long size() {
+    return data.size();
+  }
+
+  @Override
+  public CacheStats getStats() {
+    return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), data.size());
+  }
+
+  private void recordAccess(K key) {
+    FrequencySketch current = sketch;
+    if (current != null) {
+      current.increment(key);
+    } else if (data.size() >= maximumSize / 2) {
+      initSketch();
+    }
+  }
+
+  private synchronized void initSketch() {
+    if (sketch == null) {
+      sketch = new FrequencySketch(maximumSize);
+    }
+  }
+
+  private void afterInsert(K candidate) {
+    insertionOrder.add(candidate);
+    int orderSize = insertionOrderSize.incrementAndGet();
+    if (data.size() > maximumSize) {
+      evict(candidate);
+    } else if (orderSize > 2 * data.size() + 16) {
+      compactInsertionOrder();
+    }
+  }
+
+  private void evict(K candidate) {
+    evictionLock.lock();
+    try {
+      while (data.size() > maximumSize) {
+        K victim = insertionOrder.poll();
+        if (victim == null) {
+          return;
+        }
+        insertionOrderSize.decrementAndGet();
+        if (!data.containsKey(victim)) {
+          // Removed in the meantime
+          continue;
+        }
+        if (victim.equals(candidate) || !data.containsKey(candidate)) {
+          evictKey(victim);
+        } else if (frequency(candidate) > frequency(victim)) {
+          evictKey(victim);
+        } else {
+          evictKey(candidate);
+          insertionOrder.add(victim);
+          insertionOrderSize.incrementAndGet();
+        }
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private void evictKey(K key) {
+    if (data.remove(key) != null) {
+      evictions.increment();
+    }
+  }
+
+  private int frequency(K key) {
+    FrequencySketch current = sketch;
+    return current != null ? current.frequency(key) : 0;
+  }
+
+  private void compactInsertionOrder() {
+    if (!evictionLock.tryLock()) {
+      return;
+    }
+    try {
+      Set<K> seen = new HashSet<>();
+      int size = insertionOrderSize.get();
+      for (int i = 0; i < size; i++) {
+        K key = insertionOrder.poll();
+        if (key == null) {
+          break;
+        }
+        insertionOrderSize.decrementAndGet();
+        if (data.containsKey(key) && seen.add(key)) {
+          insertionOrder.add(key);
+          insertionOrderSize.incrementAndGet();
+        }
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+}
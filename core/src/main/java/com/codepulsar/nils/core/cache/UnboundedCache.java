@@ -0,0 +1,53 @@
+package com.codepulsar.nils.core.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/** A {@link NilsCache} without a size limit. */
+class UnboundedCache<K, V> implements NilsCache<K, V> {
+  private final ConcurrentMap<K, V> data = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  @Override
+  public V get(K key) {
+    V value = data.get(key);
+    if (value == null) {
+      misses.increment();
+    } else {
+      hits.increment();
+    }
+    return value;
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    return data.putIfAbsent(key, value);
+  }
+
+  @Override
+  public void put(K key, V value) {
+    data.put(key, value);
+  }
+
+  @Override
+  public void remove(K key) {
+    data.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    data.clear();
+  }
+
+  @Override
+  public long size() {
+    return data.size();
+  }
+
+  @Override
+  public CacheStats getStats() {
+    return new CacheStats(hits.sum(), misses.sum(), 0L, data.size());
+  }
+}
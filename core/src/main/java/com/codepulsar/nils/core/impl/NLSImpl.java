@@ -5,16 +5,18 @@ import static com.codepulsar.nils.core.error.ErrorTypes.NLS_PARAMETER_CHECK;
 import static com.codepulsar.nils.core.error.ErrorTypes.TRANSLATION_FORMAT_ERROR;
 import static com.codepulsar.nils.core.util.ParameterCheck.nilsException;
 
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import com.codepulsar.nils.api.Formats;
 import com.codepulsar.nils.api.NLS;
 import com.codepulsar.nils.api.NilsConfig;
 import com.codepulsar.nils.api.adapter.Adapter;
 import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.core.adapter.BaseLocalizedResourceAdapter;
+import com.codepulsar.nils.core.cache.CacheFactory;
+import com.codepulsar.nils.core.cache.NilsCache;
 import com.codepulsar.nils.core.handler.TranslationFormatter;
 import com.codepulsar.nils.core.util.ParameterCheck;
 /**
@@ -27,6 +29,10 @@ import com.codepulsar.nils.core.util.ParameterCheck;
  *   <li>Replace arguments in translations
  *   <li>Handle unknown translation keys
  * </ul>
+ *
+ * <p>An instance is shared between all threads requesting the same {@code Locale}. Resolved
+ * translations and missing keys are cached in {@link NilsCache}s created by the configured {@link
+ * CacheFactory}.
  */
 public class NLSImpl implements NLS {
 
@@ -37,49 +43,46 @@ public class NLSImpl implements NLS {
   private final ErrorHandler errorHandler;
   private final TranslationFormatter translationFormatter;
   private final NLSKeyUtil keyUtil;
-  private Formats formats;
-  private Map<String, Optional<String>> cache = new HashMap<>();
+  private volatile Formats formats;
+  private final NilsCache<String, Optional<String>> cache;
+  // null, if the caching of missing keys is disabled
+  private final NilsCache<String, MissingKey> missingKeys;
 
   NLSImpl(Adapter adapter, NilsConfig<?> config, Locale locale) {
     this.adapter = ParameterCheck.notNull(adapter, "adapter");
     this.config = ParameterCheck.notNull(config, "config");
     this.locale = ParameterCheck.notNull(locale, "locale");
-    this.includeHandler = new IncludeHandler(config, adapter::getTranslation);
+    this.includeHandler = createIncludeHandler(adapter, config);
     this.errorHandler = new ErrorHandler(config);
     this.translationFormatter = config.getTranslationFormatter();
     this.keyUtil = new NLSKeyUtil(config);
+    var cacheFactory = config.getCacheFactory();
+    this.cache = cacheFactory.create(CacheFactory.NLS_TRANSLATIONS, config.getCacheSize());
+    // Not left to the CacheFactory, as a factory may ignore the maximum size
+    this.missingKeys =
+        config.getMissingKeyCacheSize() > 0
+            ? cacheFactory.create(CacheFactory.NLS_MISSING_KEYS, config.getMissingKeyCacheSize())
+            : null;
   }
 
   @Override
   public String get(String key) {
-    try {
-      ParameterCheck.notNullEmptyOrBlank(key, "key", nilsException(NLS_PARAMETER_CHECK));
-    } catch (NilsException ex) {
-      errorHandler.handle(ex);
-      return keyUtil.buildMissingKey(key);
-    }
-
-    Optional<String> translation = resolveTranslation(key);
-    if (translation.isEmpty()) {
-      errorHandler.handle(MISSING_TRANSLATION.asException().args(key, locale).go());
-      return keyUtil.buildMissingKey(key);
-    }
-    return translation.get();
+    return translate(key).orElseGet(() -> missingKey(key));
   }
 
   @Override
   public String get(String key, Object... args) {
-    String unformattedValue = get(key);
-    if (unformattedValue.equals(keyUtil.buildMissingKey(key))) {
-      return unformattedValue;
+    Optional<String> unformattedValue = translate(key);
+    if (unformattedValue.isEmpty()) {
+      return missingKey(key);
     }
 
     try {
-      return translationFormatter.format(getLocale(), unformattedValue, args);
+      return translationFormatter.format(getLocale(), unformattedValue.get(), args);
     } catch (Exception ex) {
       errorHandler.handle(
           TRANSLATION_FORMAT_ERROR.asException().args(key, ex.getMessage()).cause(ex).go());
-      return keyUtil.buildMissingKey(key);
+      return missingKey(key);
     }
   }
 
@@ -157,25 +160,113 @@ public class NLSImpl implements NLS {
     return new ContextNLSImpl(this, config, keyUtil.resolveKeyPrefix(context));
   }
 
+  private Optional<String> translate(String key) {
+    try {
+      ParameterCheck.notNullEmptyOrBlank(key, "key", nilsException(NLS_PARAMETER_CHECK));
+    } catch (NilsException ex) {
+      errorHandler.handle(ex);
+      return Optional.empty();
+    }
+
+    Optional<String> translation = resolveTranslation(key);
+    if (translation.isEmpty()) {
+      errorHandler.handle(MISSING_TRANSLATION.asException().args(key, locale).go());
+    }
+    return translation;
+  }
+
   private Optional<String> resolveTranslation(String key) {
-    if (cache.containsKey(key)) {
-      return cache.get(key);
+    Optional<String> cached = cache.get(key);
+    if (cached != null) {
+      return cached;
     }
-    Optional<String> directRequest = adapter.getTranslation(key);
-    if (directRequest.isPresent()) {
-      cache.put(key, directRequest);
-      return directRequest;
+    if (isKnownMissingKey(key)) {
+      return Optional.empty();
     }
+    Optional<String> directRequest;
     try {
-      Optional<String> includeRequest = includeHandler.findKey(key);
-      if (includeRequest.isPresent()) {
-        cache.put(key, includeRequest);
-        return includeRequest;
-      }
+      directRequest = adapter.getTranslation(key);
     } catch (NilsException ex) {
+      // i.e. a corrupt section of a resource loaded on first access
       errorHandler.handle(ex);
       return Optional.empty();
     }
+    if (directRequest.isPresent()) {
+      return cacheTranslation(key, directRequest);
+    }
+    if (includeHandler != null) {
+      try {
+        Optional<String> includeRequest = includeHandler.findKey(key);
+        if (includeRequest.isPresent()) {
+          return cacheTranslation(key, includeRequest);
+        }
+      } catch (NilsException ex) {
+        errorHandler.handle(ex);
+        return Optional.empty();
+      }
+    }
+    cacheMissingKey(key);
     return Optional.empty();
   }
+
+  private static IncludeHandler createIncludeHandler(Adapter adapter, NilsConfig<?> config) {
+    // The adapter already answers all keys reachable by includes
+    if (adapter instanceof BaseLocalizedResourceAdapter
+        && ((BaseLocalizedResourceAdapter<?, ?>) adapter).isIncludesCompiled()) {
+      return null;
+    }
+    return new IncludeHandler(config, adapter::getTranslation);
+  }
+
+  private Optional<String> cacheTranslation(String key, Optional<String> translation) {
+    // Another thread may have resolved the same key in the meantime. Keep the first value, so all
+    // callers see the same object.
+    Optional<String> previous = cache.putIfAbsent(key, translation);
+    return previous != null ? previous : translation;
+  }
+
+  private boolean isKnownMissingKey(String key) {
+    if (missingKeys == null) {
+      return false;
+    }
+    MissingKey missingKey = missingKeys.get(key);
+    if (missingKey == null) {
+      return false;
+    }
+    if (missingKey.isExpired(config.getMissingKeyCacheTimeout())) {
+      missingKeys.remove(key);
+      return false;
+    }
+    return true;
+  }
+
+  private void cacheMissingKey(String key) {
+    if (missingKeys == null) {
+      return;
+    }
+    missingKeys.putIfAbsent(key, new MissingKey(keyUtil.buildMissingKey(key)));
+  }
+
+  private String missingKey(String key) {
+    MissingKey missingKey = key != null && missingKeys != null ? missingKeys.get(key) : null;
+    if (missingKey != null) {
+      return missingKey.escapedKey;
+    }
+    return keyUtil.buildMissingKey(key);
+  }
+
+  /** A remembered missing key with its rendered escape pattern. */
+  private static final class MissingKey {
+    private final String escapedKey;
+    private final long createdAt = System.nanoTime();
+
+    MissingKey(String escapedKey) {
+      this.escapedKey = escapedKey;
+    }
+
+    boolean isExpired(long timeoutInSeconds) {
+      return timeoutInSeconds >= 0
+          && System.nanoTime() - createdAt >= TimeUnit.SECONDS.toNanos(timeoutInSeconds);
+    }
+  }
 }
@@ -6,10 +6,20 @@ import static com.codepulsar.nils.core.util.ParameterCheck.nilsException;
 import static com.codepulsar.nils.core.util.ParameterCheck.notNull;
 import static com.codepulsar.nils.core.util.ParameterCheck.notNullEmptyOrBlank;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,19 +32,39 @@ import com.codepulsar.nils.api.error.NilsException;
 import com.codepulsar.nils.core.error.ErrorTypes;
 import com.codepulsar.nils.core.util.ParameterCheck;
 
-/** Factory for getting access to the provided NLS. A requested NLS object is cached. */
+/**
+ * Factory for getting access to the provided NLS. A requested NLS object is cached.
+ *
+ * <p>The NLS objects are created once per {@code Locale}: Concurrent first requests for the same
+ * {@code Locale} wait for the one creating thread, while requests for other {@code Locale}s are
+ * not blocked.
+ *
+ * <p>The adapter factory and the created NLS objects form a generation. {@link #reload()} builds a
+ * new generation in the background and publishes it by a single atomic swap, so a lookup always
+ * sees a completely loaded generation. {@link #reload(Collection)} builds the next generation from
+ * the current one and only loads the changed {@code Locale}s again.
+ *
+ * <p>A generation discarded by a reset or replaced by a full reload closes its adapter factory, if
+ * it is {@code AutoCloseable}.
+ *
+ * <p>{@link #preload(Collection)} creates the NLS objects of the current generation in parallel in
+ * advance.
+ */
 public class NilsFactoryImpl implements NilsFactory {
   private static final Logger LOG = LoggerFactory.getLogger(NilsFactoryImpl.class);
   private static final NLS FALLSAVE = new FallsaveNLSImpl();
+  // Attempts of a reload superseded by a reset or another reload
+  private static final int MAX_RELOAD_ATTEMPTS = 3;
   private final NilsConfig<?> config;
   private final ErrorHandler errorHandler;
-  private AdapterFactory<?> adapterFactory;
-
-  private final Map<Locale, NLS> translationCache = new HashMap<>();
+  private final AtomicReference<Generation> generation;
+  // The last reload of changed locales, so these reloads are performed one after the other
+  private CompletableFuture<Void> reloading = CompletableFuture.completedFuture(null);
 
   public NilsFactoryImpl(NilsConfig<?> config) {
     this.config = ParameterCheck.notNull(config, "config", nilsException(CONFIG_ERROR));
     this.errorHandler = new ErrorHandler(config);
+    this.generation = new AtomicReference<>(new Generation());
   }
 
   @Override
@@ -58,7 +88,7 @@ public class NilsFactoryImpl implements NilsFactory {
   public NLS nls(Locale locale) {
     try {
       notNull(locale, "locale", nilsException(NLS_PARAMETER_CHECK));
-      return translationCache.computeIfAbsent(locale, (l) -> createImpl(locale, config));
+      return generation.get().getOrCreate(locale);
     } catch (NilsException ex) {
       errorHandler.handle(ex);
       return FALLSAVE;
@@ -158,34 +188,292 @@ public class NilsFactoryImpl implements NilsFactory {
 
   @Override
   public void reset() {
-    var lock = new ReentrantLock();
-    lock.lock();
-    try {
-      adapterFactory = null;
-      translationCache.clear();
-    } finally {
-      lock.unlock();
+    generation.getAndSet(new Generation()).close();
+  }
+
+  @Override
+  public CompletableFuture<Void> reload() {
+    return reload(ForkJoinPool.commonPool());
+  }
+
+  @Override
+  public CompletableFuture<Void> reload(Executor executor) {
+    notNull(executor, "executor", nilsException(NLS_PARAMETER_CHECK));
+    return reloadAll(executor, 1);
+  }
+
+  private CompletableFuture<Void> reloadAll(Executor executor, int attempt) {
+    var current = generation.get();
+    var next = new Generation();
+    var loads = new ArrayList<CompletableFuture<NLS>>();
+    for (var entry : current.translations.entrySet()) {
+      loads.add(reloadAsync(next, entry.getKey(), entry.getValue(), executor));
+    }
+    return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]))
+        .whenComplete(
+            (ignored, error) -> {
+              if (error != null) {
+                next.close();
+              }
+            })
+        .thenCompose(
+            ignored ->
+                publish(current, next, true, attempt, () -> reloadAll(executor, attempt + 1)));
+  }
+
+  @Override
+  public CompletableFuture<Void> reload(Collection<Locale> locales) {
+    return reload(locales, ForkJoinPool.commonPool());
+  }
+
+  @Override
+  public CompletableFuture<Void> reload(Collection<Locale> locales, Executor executor) {
+    notNull(locales, "locales", nilsException(NLS_PARAMETER_CHECK));
+    notNull(executor, "executor", nilsException(NLS_PARAMETER_CHECK));
+    for (var locale : locales) {
+      notNull(locale, "locale", nilsException(NLS_PARAMETER_CHECK));
+    }
+    var changed = Set.copyOf(locales);
+    synchronized (this) {
+      reloading =
+          reloading
+              .handle((result, error) -> (Void) null)
+              .thenCompose(ignored -> reloadChanged(changed, executor, 1));
+      return reloading;
     }
   }
 
-  private NLS createImpl(Locale locale, NilsConfig<?> config) {
+  private CompletableFuture<Void> reloadChanged(
+      Set<Locale> changed, Executor executor, int attempt) {
+    var current = generation.get();
+    var adapterFactory = current.adapterFactory;
+    if (adapterFactory == null) {
+      // Nothing loaded yet
+      return CompletableFuture.completedFuture(null);
+    }
+    // The current generation keeps using the unchanged adapter factory until the swap
+    var nextFactory = adapterFactory.invalidatedCopy(config, changed);
+    if (nextFactory.isEmpty()) {
+      LOG.debug("The adapter factory cannot invalidate the locales {}, reloading all.", changed);
+      return reloadAll(executor, attempt);
+    }
+    var next = new Generation(nextFactory.get());
+    var loads = new ArrayList<CompletableFuture<NLS>>();
+    for (var entry : current.translations.entrySet()) {
+      var locale = entry.getKey();
+      if (withParents(locale).stream().anyMatch(changed::contains)) {
+        loads.add(reloadAsync(next, locale, entry.getValue(), executor));
+      } else {
+        next.translations.put(locale, entry.getValue());
+      }
+    }
+    LOG.debug("Reloading the changed locales {}.", changed);
+    return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]))
+        .thenCompose(
+            ignored ->
+                publish(
+                    current,
+                    next,
+                    false,
+                    attempt,
+                    () -> reloadChanged(changed, executor, attempt + 1)));
+  }
+
+  /**
+   * Loads a {@code Locale} into the next generation. A failure fails the reload, unless the current
+   * NLS is already the FALLSAVE NLS: Such a {@code Locale} is tried again, but must not fail every
+   * reload as long as it is broken.
+   */
+  private CompletableFuture<NLS> reloadAsync(
+      Generation next, Locale locale, CompletableFuture<NLS> current, Executor executor) {
+    var broken =
+        current.isDone() && !current.isCompletedExceptionally() && current.join() == FALLSAVE;
+    return CompletableFuture.supplyAsync(() -> next.getOrCreate(locale, broken), executor);
+  }
+
+  /**
+   * Publishes the next generation, if the current generation is still published. Otherwise the
+   * reload was superseded by a reset or another reload and is performed again on top of it, so no
+   * change is lost. The discarded generation is closed, if the next generation has an adapter
+   * factory of its own, instead of a copy sharing adapters with the current generation.
+   */
+  private CompletableFuture<Void> publish(
+      Generation current,
+      Generation next,
+      boolean ownFactory,
+      int attempt,
+      Supplier<CompletableFuture<Void>> retry) {
+    if (generation.compareAndSet(current, next)) {
+      if (ownFactory) {
+        current.close();
+      }
+      return CompletableFuture.completedFuture(null);
+    }
+    if (ownFactory) {
+      next.close();
+    }
+    if (attempt >= MAX_RELOAD_ATTEMPTS) {
+      return CompletableFuture.failedFuture(
+          ErrorTypes.ADAPTER_ERROR
+              .asException()
+              .message("The reload was superseded by a reset or another reload %d times.")
+              .args(attempt)
+              .go());
+    }
+    LOG.debug("Reload superseded by a reset or another reload, reloading again.");
+    return retry.get();
+  }
+
+  @Override
+  public CompletableFuture<Void> preload(Collection<Locale> locales) {
+    return preload(locales, ForkJoinPool.commonPool());
+  }
+
+  @Override
+  public CompletableFuture<Void> preload(Collection<Locale> locales, Executor executor) {
+    notNull(locales, "locales", nilsException(NLS_PARAMETER_CHECK));
+    notNull(executor, "executor", nilsException(NLS_PARAMETER_CHECK));
+    return preload(generation.get(), locales, executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> preloadAll() {
+    return preloadAll(ForkJoinPool.commonPool());
+  }
+
+  @Override
+  public CompletableFuture<Void> preloadAll(Executor executor) {
+    notNull(executor, "executor", nilsException(NLS_PARAMETER_CHECK));
+    var current = generation.get();
+    return CompletableFuture.supplyAsync(
+            () -> current.getAdapterFactory().getAvailableLocales(config), executor)
+        .thenCompose(locales -> preload(current, locales, executor));
+  }
+
+  private CompletableFuture<Void> preload(
+      Generation current, Collection<Locale> locales, Executor executor) {
+    var expanded = new LinkedHashSet<Locale>();
+    for (var locale : locales) {
+      notNull(locale, "locale", nilsException(NLS_PARAMETER_CHECK));
+      expanded.addAll(withParents(locale));
+    }
+    LOG.debug("Preloading the locales {}.", expanded);
+    var loads = new ArrayList<CompletableFuture<NLS>>();
+    for (var locale : expanded) {
+      // A failure is not replaced by the FALLSAVE NLS, so the preload reports it and a later
+      // request tries the Locale again
+      loads.add(
+          CompletableFuture.supplyAsync(() -> current.getOrCreate(locale, false), executor));
+    }
+    return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]));
+  }
+
+  private static List<Locale> withParents(Locale locale) {
+    var locales = new ArrayList<Locale>();
+    var language = locale.getLanguage();
+    var country = locale.getCountry();
+    if (!locale.getVariant().isEmpty()) {
+      locales.add(new Locale(language, country, locale.getVariant()));
+    }
+    if (!country.isEmpty()) {
+      locales.add(new Locale(language, country));
+    }
+    if (!language.isEmpty()) {
+      locales.add(new Locale(language));
+    }
+    locales.add(Locale.ROOT);
+    if (!locales.contains(locale)) {
+      locales.add(0, locale);
+    }
+    return locales;
+  }
+
+  private NLS createImpl(Locale locale, AdapterFactory<?> adapterFactory, boolean handleErrors) {
     try {
-      return new NLSImpl(getAdapterFactory().create(config, locale), config, locale);
+      return new NLSImpl(adapterFactory.create(config, locale), config, locale);
     } catch (NilsException ex) {
+      if (!handleErrors) {
+        throw ex;
+      }
       errorHandler.handle(ex);
       return FALLSAVE;
     }
   }
 
-  private AdapterFactory<?> getAdapterFactory() {
-    if (adapterFactory == null) {
+  /** A generation of the adapter factory and the created NLS objects. */
+  private final class Generation {
+    private final Map<Locale, CompletableFuture<NLS>> translations = new ConcurrentHashMap<>();
+    private volatile AdapterFactory<?> adapterFactory;
+
+    private Generation() {
+      this(null);
+    }
+
+    // A generation using the adapter factory copied from a previous generation
+    private Generation(AdapterFactory<?> adapterFactory) {
+      this.adapterFactory = adapterFactory;
+    }
+
+    private NLS getOrCreate(Locale locale) {
+      return getOrCreate(locale, true);
+    }
+
+    // Closes the adapter factory, if it holds resources like database connections
+    private void close() {
+      var factory = adapterFactory;
+      if (factory instanceof AutoCloseable) {
+        try {
+          ((AutoCloseable) factory).close();
+        } catch (Exception e) {
+          LOG.warn("Could not close the adapter factory. Reason {}", e.getMessage(), e);
+        }
+      }
+    }
+
+    private NLS getOrCreate(Locale locale, boolean handleErrors) {
+      var future = translations.get(locale);
+      if (future == null) {
+        // Create the NLS outside of the map, so other Locales are never blocked
+        var created = new CompletableFuture<NLS>();
+        future = translations.putIfAbsent(locale, created);
+        if (future == null) {
+          future = created;
+          try {
+            created.complete(createImpl(locale, getAdapterFactory(), handleErrors));
+          } catch (RuntimeException e) {
+            translations.remove(locale, created);
+            created.completeExceptionally(e);
+          }
+        }
+      }
       try {
-        this.adapterFactory = config.getFactoryClass().getConstructor().newInstance();
-      } catch (Exception e) {
-        LOG.error("Could not create AdapterFactory. Reason {}", e.getMessage(), e);
-        throw new NilsException(ErrorTypes.ADAPTER_ERROR, "Could not create AdapterFactory.", e);
+        return future.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+    }
+
+    private AdapterFactory<?> getAdapterFactory() {
+      var factory = adapterFactory;
+      if (factory == null) {
+        synchronized (this) {
+          factory = adapterFactory;
+          if (factory == null) {
+            try {
+              factory = config.getFactoryClass().getConstructor().newInstance();
+            } catch (Exception e) {
+              LOG.error("Could not create AdapterFactory. Reason {}", e.getMessage(), e);
+              throw new NilsException(
+                  ErrorTypes.ADAPTER_ERROR, "Could not create AdapterFactory.", e);
+            }
+            adapterFactory = factory;
+          }
+        }
       }
+      return factory;
     }
-    return adapterFactory;
   }
 }
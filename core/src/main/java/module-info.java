@@ -1,4 +1,5 @@
 module com.codepulsar.nils.core {
+  exports com.codepulsar.nils.adapter.compiled;
   exports com.codepulsar.nils.adapter.rb;
   exports com.codepulsar.nils.api;
   exports com.codepulsar.nils.api.adapter;
@@ -7,6 +8,7 @@ module com.codepulsar.nils.core {
   exports com.codepulsar.nils.core.adapter;
   exports com.codepulsar.nils.core.adapter.config;
   exports com.codepulsar.nils.core.adapter.util;
+  exports com.codepulsar.nils.core.cache;
   exports com.codepulsar.nils.core.error;
   exports com.codepulsar.nils.core.handler;
   exports com.codepulsar.nils.core.util;
@@ -0,0 +1,97 @@
+package com.codepulsar.nils.adapter.compiled;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import com.codepulsar.nils.api.NilsFactory;
+import com.codepulsar.nils.api.error.NilsException;
+
+public class CompiledAdapterFactoryTest {
+  @Test
+  public void create_exactLocale() {
+    // Arrange
+    var underTest = new TestFactory();
+
+    // Act
+    var result = underTest.create(CompiledAdapterConfig.init(TestFactory.class), Locale.GERMANY);
+
+    // Assert
+    assertThat(result).isSameAs(TestFactory.DE_DE);
+  }
+
+  @Test
+  public void create_moreGeneralLocale() {
+    // Arrange
+    var underTest = new TestFactory();
+
+    // Act
+    var result =
+        underTest.create(CompiledAdapterConfig.init(TestFactory.class), new Locale("de", "AT"));
+
+    // Assert
+    assertThat(result).isSameAs(TestFactory.DE);
+  }
+
+  @Test
+  public void create_missing() {
+    // Arrange
+    var underTest = new TestFactory();
+
+    // Act / Assert
+    assertThatThrownBy(
+            () -> underTest.create(CompiledAdapterConfig.init(TestFactory.class), Locale.FRENCH))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-008: Could not find compiled translations for locale 'fr'.");
+  }
+
+  @Test
+  public void getCandidateNames() {
+    // Act / Assert
+    assertThat(CompiledAdapterFactory.getCandidateNames(new Locale("de", "CH", "POSIX")))
+        .containsExactly("de_CH_POSIX", "de_CH", "de", "");
+    assertThat(CompiledAdapterFactory.getCandidateNames(Locale.GERMAN))
+        .containsExactly("de", "");
+    assertThat(CompiledAdapterFactory.getCandidateNames(Locale.ROOT)).containsExactly("");
+  }
+
+  @Test
+  public void nilsFactory() {
+    // Arrange
+    var nls = NilsFactory.init(CompiledAdapterConfig.init(TestFactory.class)).nls(Locale.GERMANY);
+
+    // Act
+    var value = nls.get("simple");
+
+    // Assert
+    assertThat(value).isEqualTo("Einfach (DE)");
+  }
+
+  @Test
+  public void config_null() {
+    // Act / Assert
+    assertThatThrownBy(() -> CompiledAdapterConfig.init(null))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'factoryClass' cannot be null.");
+  }
+
+  public static class TestFactory extends CompiledAdapterFactory {
+    static final CompiledAdapter DE_DE = CompiledAdapter.fromChunks("simple\0Einfach (DE)\0");
+    static final CompiledAdapter DE = CompiledAdapter.fromChunks("simple\0Einfach\0");
+
+    @Override
+    protected CompiledAdapter getTranslations(String localeName) {
+      switch (localeName) {
+        case "de_DE":
+          return DE_DE;
+        case "de":
+          return DE;
+        default:
+          return null;
+      }
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.codepulsar.nils.adapter.compiled;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.codepulsar.nils.api.error.NilsException;
+
+public class CompiledAdapterTest {
+  @Test
+  public void ctor_differentLength() {
+    // Act / Assert
+    assertThatThrownBy(() -> new CompiledAdapter(new String[] {"a", "b"}, new String[] {"A"}))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-005: The number of keys (2) and translations (1) differ.");
+  }
+
+  @Test
+  public void fromChunks_getTranslation() {
+    // Arrange
+    var underTest =
+        CompiledAdapter.fromChunks("a\0A\0b.c\0B C\0", "b.d\0\0", "x\0Übersetzung\0");
+
+    // Act / Assert
+    assertThat(underTest.getTranslation("a")).isEqualTo(Optional.of("A"));
+    assertThat(underTest.getTranslation("b.c")).isEqualTo(Optional.of("B C"));
+    assertThat(underTest.getTranslation("b.d")).isEqualTo(Optional.of(""));
+    assertThat(underTest.getTranslation("x")).isEqualTo(Optional.of("Übersetzung"));
+    assertThat(underTest.getTranslation("b")).isEmpty();
+    assertThat(underTest.getTranslation("z")).isEmpty();
+  }
+
+  @Test
+  public void fromChunks_empty() {
+    // Arrange
+    var underTest = CompiledAdapter.fromChunks();
+
+    // Act / Assert
+    assertThat(underTest.getTranslation("a")).isEmpty();
+    assertThat(underTest.getKeys()).isEmpty();
+  }
+
+  @Test
+  public void getKeys() {
+    // Arrange
+    var underTest = CompiledAdapter.fromChunks("a\0A\0b\0B\0");
+
+    // Act
+    var keys = underTest.getKeys();
+
+    // Assert
+    assertThat(keys).containsExactly("a", "b");
+  }
+
+  @Test
+  public void getTranslation_null() {
+    // Arrange
+    var underTest = CompiledAdapter.fromChunks("a\0A\0");
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.getTranslation(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter 'key' cannot be null.");
+  }
+}
@@ -3,14 +3,26 @@ package com.codepulsar.nils.core.adapter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import com.codepulsar.nils.api.NilsConfig;
 import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.core.testadapter.BaseAdapterFactoryTestee;
 import com.codepulsar.nils.core.testadapter.BaseAdapterFactoryTesteeConfig;
 import com.codepulsar.nils.core.testadapter.BaseAdapterFactoryTesteeFactory;
+import com.codepulsar.nils.core.testadapter.BaseLocalizedResourceAdapterTesteeConfig;
+import com.codepulsar.nils.core.testadapter.ResourceCountingAdapterFactory;
 import com.codepulsar.nils.core.testadapter.StaticAdapterConfig;
 
 public class BaseAdapterFactoryTest {
@@ -77,4 +89,226 @@ public class BaseAdapterFactoryTest {
     // Assert
     assertThat(result3).isNotEqualTo(result);
   }
+
+  @Test
+  public void create_evictedAdapters_keysPruned() {
+    // Arrange
+    var config = new BaseAdapterFactoryTesteeConfig();
+    config.cacheSize(2);
+    BaseAdapterFactory<?> underTest = new BaseAdapterFactoryTesteeFactory();
+
+    // Act
+    for (int i = 0; i < 100; i++) {
+      underTest.create(config, new Locale("l" + i));
+    }
+
+    // Assert
+    assertThat(underTest.getCreatedKeyCount()).isLessThanOrEqualTo(2 * 2 + 16 + 1);
+  }
+
+  @Test
+  public void checkCaching_perConfig() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var underTest = new BaseAdapterFactoryTesteeFactory();
+
+    // Act
+    var result = underTest.create(new BaseAdapterFactoryTesteeConfig(), locale);
+    var result2 = underTest.create(new BaseAdapterFactoryTesteeConfig(), locale);
+
+    // Assert
+    assertThat(result2).isNotSameAs(result);
+  }
+
+  @Test
+  public void create_concurrentWithFallbacks_createdOnce() throws Exception {
+    // Arrange
+    var config = new BaseAdapterFactoryTesteeConfig();
+    var underTest = new FallbackFactory(false);
+    var locales = List.of(Locale.GERMANY, new Locale("de", "AT"), Locale.GERMAN, Locale.ROOT);
+    var threads = 16;
+    var executor = Executors.newFixedThreadPool(threads);
+    var start = new CountDownLatch(1);
+
+    try {
+      // Act
+      var futures = new ArrayList<Future<BaseAdapterFactoryTestee>>();
+      for (int i = 0; i < threads; i++) {
+        var locale = locales.get(i % locales.size());
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return underTest.create(config, locale);
+                }));
+      }
+      start.countDown();
+      for (var future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+
+      // Assert
+      assertThat(underTest.created).containsOnlyKeys(locales);
+      underTest.created.values().forEach(count -> assertThat(count).hasValue(1));
+      assertThat(underTest.create(config, Locale.GERMANY))
+          .isSameAs(underTest.create(config, Locale.GERMANY));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void create_sharedResource_parsedOnce() {
+    // Arrange
+    var config =
+        BaseLocalizedResourceAdapterTesteeConfig.init(this)
+            .baseFileName("test/resource.properties");
+    var underTest = new ResourceCountingAdapterFactory();
+
+    // Act
+    var austria = underTest.create(config, new Locale("de", "AT"));
+    var german = underTest.create(config, Locale.GERMAN);
+    var root = underTest.create(config, Locale.ROOT);
+    var germany = underTest.create(config, Locale.GERMANY);
+
+    // Assert
+    assertThat(underTest.getParses()).isEqualTo(2);
+    assertThat(german.translation).isSameAs(austria.translation);
+    assertThat(root.translation).isSameAs(austria.translation);
+    assertThat(germany.translation).isNotSameAs(austria.translation);
+    var resources = ((BaseAdapterFactory<?>) underTest).getResources();
+    assertThat(resources.contains(config, "/test/resource.properties")).isTrue();
+    assertThat(resources.contains(config, "/test/resource_de_DE.properties")).isTrue();
+    assertThat(resources.getIndex(config)).isPresent();
+    assertThat(austria.getTranslation("translate.me")).hasValue("I'm am translated!");
+  }
+
+  @Test
+  public void create_sharedResource_perConfig() {
+    // Arrange
+    var config1 =
+        BaseLocalizedResourceAdapterTesteeConfig.init(this)
+            .baseFileName("test/resource.properties");
+    var config2 =
+        BaseLocalizedResourceAdapterTesteeConfig.init(this)
+            .baseFileName("test/resource.properties");
+    var underTest = new ResourceCountingAdapterFactory();
+
+    // Act
+    var result1 = underTest.create(config1, Locale.GERMAN);
+    var result2 = underTest.create(config2, Locale.GERMAN);
+
+    // Assert
+    assertThat(underTest.getParses()).isEqualTo(2);
+    assertThat(result2.translation).isNotSameAs(result1.translation);
+  }
+
+  @Test
+  public void invalidatedCopy() {
+    // Arrange
+    var config =
+        BaseLocalizedResourceAdapterTesteeConfig.init(this)
+            .baseFileName("test/resource.properties");
+    var underTest = new ResourceCountingAdapterFactory();
+    var austria = underTest.create(config, new Locale("de", "AT"));
+    var germany = underTest.create(config, Locale.GERMANY);
+    var english = underTest.create(config, Locale.ENGLISH);
+    var parses = underTest.getParses();
+
+    // Act
+    var result = underTest.invalidatedCopy(config, List.of(Locale.GERMAN));
+
+    // Assert
+    assertThat(result).isPresent();
+    var copy = (ResourceCountingAdapterFactory) result.get();
+    assertThat(copy).isNotSameAs(underTest);
+    assertThat(copy.create(config, new Locale("de", "AT"))).isNotSameAs(austria);
+    assertThat(copy.create(config, Locale.GERMANY)).isNotSameAs(germany);
+    assertThat(copy.create(config, Locale.ENGLISH)).isSameAs(english);
+    // There is no resource for "de", so the parsed resources are shared
+    assertThat(copy.getParses()).isZero();
+    // The factory itself keeps its adapters
+    assertThat(underTest.create(config, new Locale("de", "AT"))).isSameAs(austria);
+    assertThat(underTest.create(config, Locale.GERMANY)).isSameAs(germany);
+    assertThat(underTest.getParses()).isEqualTo(parses);
+  }
+
+  @Test
+  public void invalidatedCopy_parsedAgain() {
+    // Arrange
+    var config =
+        BaseLocalizedResourceAdapterTesteeConfig.init(this)
+            .baseFileName("test/resource.properties");
+    var underTest = new ResourceCountingAdapterFactory();
+    var german = underTest.create(config, Locale.GERMAN);
+    var germany = underTest.create(config, Locale.GERMANY);
+
+    // Act
+    var copy =
+        (ResourceCountingAdapterFactory)
+            underTest.invalidatedCopy(config, List.of(Locale.ROOT)).get();
+
+    // Assert
+    assertThat(copy.create(config, Locale.GERMAN).translation).isNotSameAs(german.translation);
+    assertThat(copy.create(config, Locale.GERMANY).translation).isSameAs(germany.translation);
+    assertThat(copy.getParses()).isEqualTo(1);
+    assertThat(underTest.create(config, Locale.GERMAN)).isSameAs(german);
+  }
+
+  @Test
+  public void invalidatedCopy_notInstantiable() {
+    // Arrange
+    var config = new BaseAdapterFactoryTesteeConfig();
+    var underTest = new FallbackFactory(false);
+
+    // Act
+    var result = underTest.invalidatedCopy(config, List.of(Locale.GERMAN));
+
+    // Assert
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  public void create_requestingItself() {
+    // Arrange
+    var config = new BaseAdapterFactoryTesteeConfig();
+    var underTest = new FallbackFactory(true);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.create(config, Locale.GERMAN))
+        .isInstanceOf(NilsException.class)
+        .hasMessage(
+            "NILS-005: The adapter for locale 'de' requested itself while it was created.");
+  }
+
+  /** Creates the adapter of the parent Locale while creating an adapter, like a fallback. */
+  private static class FallbackFactory extends BaseAdapterFactoryTesteeFactory {
+    private final Map<Locale, AtomicInteger> created = new ConcurrentHashMap<>();
+    private final boolean requestItself;
+
+    FallbackFactory(boolean requestItself) {
+      this.requestItself = requestItself;
+    }
+
+    @Override
+    protected BaseAdapterFactoryTestee createAdapter(
+        AdapterContext<BaseAdapterFactoryTestee> context) {
+      var locale = context.getLocale();
+      created.computeIfAbsent(locale, l -> new AtomicInteger()).incrementAndGet();
+      if (requestItself) {
+        context.getFactory().create(context.getConfig(), locale);
+      }
+      try {
+        Thread.sleep(20);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (!locale.getCountry().isEmpty()) {
+        context.getFactory().create(context.getConfig(), new Locale(locale.getLanguage()));
+      } else if (!locale.getLanguage().isEmpty()) {
+        context.getFactory().create(context.getConfig(), Locale.ROOT);
+      }
+      return super.createAdapter(context);
+    }
+  }
 }
@@ -1,8 +1,11 @@
 package com.codepulsar.nils.core.adapter;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import com.codepulsar.nils.api.NilsConfig;
 import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.core.adapter.util.LocalizedResourceResolver;
 import com.codepulsar.nils.core.testadapter.BaseLocalizedResourceAdapterTestee;
 import com.codepulsar.nils.core.testadapter.BaseLocalizedResourceAdapterTesteeConfig;
 import com.codepulsar.nils.core.testadapter.BaseLocalizedResourceAdapterTesteeFactory;
@@ -82,4 +86,50 @@ public class BaseLocalizedResourceAdapterTest {
         .hasMessageContaining("The provided AdapterConfig")
         .hasMessageContaining("does not implement");
   }
+
+  @Test
+  public void compileIncludes_notEnumerable_resolvedOnLookup() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config =
+        BaseLocalizedResourceAdapterTesteeConfig.init(this)
+            .fallbackActive(false)
+            .compileIncludes(true);
+    context.locale(locale).config(config);
+
+    // Act
+    var underTest = new PlainRetrieverAdapter(context);
+
+    // Assert
+    assertThat(underTest.isIncludesCompiled()).isFalse();
+    assertThat(underTest.getTranslation("key")).hasValue("Value");
+  }
+
+  @Test
+  public void getKeys_notEnumerable() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = BaseLocalizedResourceAdapterTesteeConfig.init(this).fallbackActive(false);
+    context.locale(locale).config(config);
+    var underTest = new PlainRetrieverAdapter(context);
+
+    // Act / Assert
+    assertThatThrownBy(underTest::getKeys)
+        .isInstanceOf(NilsException.class)
+        .hasMessage(
+            "NILS-005: The translations of the adapter for locale 'en' cannot be enumerated.");
+  }
+
+  /** An adapter using a {@code TranslationRetriever}, which cannot enumerate its keys. */
+  private static class PlainRetrieverAdapter extends BaseLocalizedResourceAdapterTestee {
+    PlainRetrieverAdapter(AdapterContext<BaseLocalizedResourceAdapterTestee> context) {
+      super(context);
+    }
+
+    @Override
+    protected void initTranslations(LocalizedResourceResolver resolver) {
+      var translations = Map.of("key", "Value");
+      translation = key -> Optional.ofNullable(translations.get(key));
+    }
+  }
 }
@@ -0,0 +1,161 @@
+package com.codepulsar.nils.core.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.codepulsar.nils.core.adapter.util.IndexedTranslationRetriever;
+import com.codepulsar.nils.core.adapter.util.TranslationRetriever;
+import com.codepulsar.nils.core.testadapter.BaseAdapterFactoryTesteeConfig;
+
+public class ResourceRegistryTest {
+
+  @Test
+  public void get_parsedOnce() {
+    // Arrange
+    var config = new BaseAdapterFactoryTesteeConfig();
+    var parses = new AtomicInteger();
+    var underTest = new ResourceRegistry();
+
+    // Act
+    var result1 = underTest.get(config, "/test.json", Locale.ROOT, () -> parse(parses));
+    var result2 = underTest.get(config, "/test.json", Locale.ROOT, () -> parse(parses));
+
+    // Assert
+    assertThat(parses).hasValue(1);
+    assertThat(result2).isSameAs(result1);
+    assertThat(underTest.contains(config, "/test.json")).isTrue();
+    assertThat(underTest.contains(config, "/test_de.json")).isFalse();
+  }
+
+  @Test
+  public void get_perResourceAndConfig() {
+    // Arrange
+    var config1 = new BaseAdapterFactoryTesteeConfig();
+    var config2 = new BaseAdapterFactoryTesteeConfig();
+    var parses = new AtomicInteger();
+    var underTest = new ResourceRegistry();
+
+    // Act
+    var result1 = underTest.get(config1, "/test.json", Locale.ROOT, () -> parse(parses));
+    var result2 = underTest.get(config1, "/test_de.json", Locale.GERMAN, () -> parse(parses));
+    var result3 = underTest.get(config2, "/test.json", Locale.ROOT, () -> parse(parses));
+
+    // Assert
+    assertThat(parses).hasValue(3);
+    assertThat(result2).isNotSameAs(result1);
+    assertThat(result3).isNotSameAs(result1);
+  }
+
+  @Test
+  public void get_failingParse_notKept() {
+    // Arrange
+    var config = new BaseAdapterFactoryTesteeConfig();
+    var parses = new AtomicInteger();
+    var underTest = new ResourceRegistry();
+
+    // Act / Assert
+    assertThatThrownBy(
+            () ->
+                underTest.get(
+                    config,
+                    "/test.json",
+                    Locale.ROOT,
+                    () -> {
+                      throw new IllegalStateException("Corrupt");
+                    }))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Corrupt");
+    assertThat(underTest.contains(config, "/test.json")).isFalse();
+
+    var result = underTest.get(config, "/test.json", Locale.ROOT, () -> parse(parses));
+    assertThat(result).isNotNull();
+    assertThat(parses).hasValue(1);
+  }
+
+  @Test
+  public void get_concurrent_parsedOnce() throws Exception {
+    // Arrange
+    var config = new BaseAdapterFactoryTesteeConfig();
+    var parses = new AtomicInteger();
+    var underTest = new ResourceRegistry();
+    var threads = 8;
+    var executor = Executors.newFixedThreadPool(threads);
+    var start = new CountDownLatch(1);
+
+    try {
+      // Act
+      var futures = new ArrayList<Future<TranslationRetriever>>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return underTest.get(config, "/test.json", Locale.ROOT, () -> slowParse(parses));
+                }));
+      }
+      start.countDown();
+      var first = futures.get(0).get(10, TimeUnit.SECONDS);
+
+      // Assert
+      for (var future : futures) {
+        assertThat(future.get(10, TimeUnit.SECONDS)).isSameAs(first);
+      }
+      assertThat(parses).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void copyTo() {
+    // Arrange
+    var config1 = new BaseAdapterFactoryTesteeConfig();
+    var config2 = new BaseAdapterFactoryTesteeConfig();
+    var parses = new AtomicInteger();
+    var underTest = new ResourceRegistry();
+    var root = underTest.get(config1, "/test.json", Locale.ROOT, () -> parse(parses));
+    underTest.get(config1, "/test_de.json", Locale.GERMAN, () -> parse(parses));
+    underTest.get(config2, "/test_de.json", Locale.GERMAN, () -> parse(parses));
+
+    var target = new ResourceRegistry();
+
+    // Act
+    underTest.copyTo(target, config1, List.of(Locale.GERMAN));
+
+    // Assert
+    assertThat(target.contains(config1, "/test.json")).isTrue();
+    assertThat(target.contains(config1, "/test_de.json")).isFalse();
+    assertThat(target.contains(config2, "/test_de.json")).isTrue();
+    assertThat(underTest.contains(config1, "/test_de.json")).isTrue();
+    assertThat(target.get(config1, "/test.json", Locale.ROOT, () -> parse(parses)))
+        .isSameAs(root);
+    target.get(config1, "/test_de.json", Locale.GERMAN, () -> parse(parses));
+    assertThat(parses).hasValue(4);
+  }
+
+  private TranslationRetriever parse(AtomicInteger parses) {
+    parses.incrementAndGet();
+    return new IndexedTranslationRetriever(Map.of("key", "value"));
+  }
+
+  private TranslationRetriever slowParse(AtomicInteger parses) {
+    try {
+      Thread.sleep(20);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return parse(parses);
+  }
+}
@@ -1,10 +1,14 @@
 package com.codepulsar.nils.core.adapter.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
 
 import com.codepulsar.nils.api.adapter.AdapterFactory;
+import com.codepulsar.nils.api.error.NilsException;
 import com.codepulsar.nils.core.testadapter.BaseLocalizedResourceAdapterTesteeFactory;
 
 public class BaseLocalizedResourceNilsConfigTest {
@@ -17,6 +21,11 @@ public class BaseLocalizedResourceNilsConfigTest {
     assertThat(underTest.getBaseFileName())
         .isEqualTo("com/codepulsar/nils/core/adapter/config/translation.test");
     assertThat(underTest.isFallbackActive()).isTrue();
+    assertThat(underTest.isCompactTranslations()).isFalse();
+    assertThat(underTest.isCompileIncludes()).isFalse();
+    assertThat(underTest.isMergeFallbacks()).isFalse();
+    assertThat(underTest.isLazySections()).isFalse();
+    assertThat(underTest.getResourceDirectory()).isNull();
   }
 
   @Test
@@ -59,6 +68,87 @@ public class BaseLocalizedResourceNilsConfigTest {
     assertThat(underTest.isFallbackActive()).isFalse();
   }
 
+  @Test
+  void compactTranslations_true() {
+    // Arrange
+    var underTest = new Testee(this);
+
+    // Act
+    var returnValue = underTest.compactTranslations(true);
+
+    // Assert
+    assertThat(returnValue).isNotNull();
+    assertThat(returnValue).isEqualTo(underTest);
+    assertThat(underTest.isCompactTranslations()).isTrue();
+  }
+
+  @Test
+  void compileIncludes_true() {
+    // Arrange
+    var underTest = new Testee(this);
+
+    // Act
+    var returnValue = underTest.compileIncludes(true);
+
+    // Assert
+    assertThat(returnValue).isNotNull();
+    assertThat(returnValue).isEqualTo(underTest);
+    assertThat(underTest.isCompileIncludes()).isTrue();
+  }
+
+  @Test
+  void mergeFallbacks_true() {
+    // Arrange
+    var underTest = new Testee(this);
+
+    // Act
+    var returnValue = underTest.mergeFallbacks(true);
+
+    // Assert
+    assertThat(returnValue).isNotNull();
+    assertThat(returnValue).isEqualTo(underTest);
+    assertThat(underTest.isMergeFallbacks()).isTrue();
+  }
+
+  @Test
+  void lazySections_true() {
+    // Arrange
+    var underTest = new Testee(this);
+
+    // Act
+    var returnValue = underTest.lazySections(true);
+
+    // Assert
+    assertThat(returnValue).isNotNull();
+    assertThat(returnValue).isEqualTo(underTest);
+    assertThat(underTest.isLazySections()).isTrue();
+  }
+
+  @Test
+  void resourceDirectory() {
+    // Arrange
+    var underTest = new Testee(this);
+
+    // Act
+    var returnValue = underTest.resourceDirectory(Path.of("translations"));
+
+    // Assert
+    assertThat(returnValue).isNotNull();
+    assertThat(returnValue).isEqualTo(underTest);
+    assertThat(underTest.getResourceDirectory()).isEqualTo(Path.of("translations"));
+  }
+
+  @Test
+  void resourceDirectory_null() {
+    // Arrange
+    var underTest = new Testee(this);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.resourceDirectory(null))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'resourceDirectory' cannot be null.");
+  }
+
   private class Testee extends BaseLocalizedResourceNilsConfig<Testee> {
 
     protected Testee(Object o) {
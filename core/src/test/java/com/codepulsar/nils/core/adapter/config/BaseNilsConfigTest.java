@@ -13,6 +13,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.core.cache.CacheFactory;
 import com.codepulsar.nils.core.handler.ClassPrefixResolver;
 import com.codepulsar.nils.core.handler.TranslationFormatter;
 import com.codepulsar.nils.core.testadapter.StaticAdapterConfig;
@@ -32,6 +33,10 @@ public class BaseNilsConfigTest {
     assertThat(underTest.getClassPrefixResolver()).isEqualTo(ClassPrefixResolver.SIMPLE_CLASSNAME);
     assertThat(underTest.getTranslationFormatter()).isEqualTo(TranslationFormatter.MESSAGE_FORMAT);
     assertThat(underTest.getDateFormatStyle()).isEqualTo(FormatStyle.MEDIUM);
+    assertThat(underTest.getMissingKeyCacheSize()).isEqualTo(1000);
+    assertThat(underTest.getMissingKeyCacheTimeout()).isEqualTo(-1L);
+    assertThat(underTest.getCacheFactory()).isEqualTo(CacheFactory.TINY_LFU);
+    assertThat(underTest.getCacheSize()).isEqualTo(10_000L);
   }
 
   @Test
@@ -194,6 +199,84 @@ public class BaseNilsConfigTest {
         .hasMessage("NILS-004: Parameter 'classPrefixResolver' cannot be null.");
   }
 
+  @Test
+  public void missingKeyCacheSize() {
+    // Arrange
+    var underTest = new StaticAdapterConfig();
+
+    // Act
+    var result = underTest.missingKeyCacheSize(0);
+
+    // Assert
+    assertThat(result).isNotNull();
+    assertThat(result).isEqualTo(underTest);
+    assertThat(underTest.getMissingKeyCacheSize()).isEqualTo(0);
+  }
+
+  @Test
+  public void missingKeyCacheSize_negative() {
+    // Arrange
+    var underTest = new StaticAdapterConfig();
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.missingKeyCacheSize(-1))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'missingKeyCacheSize' cannot be negative.");
+  }
+
+  @Test
+  public void missingKeyCacheTimeout() {
+    // Arrange
+    var underTest = new StaticAdapterConfig();
+
+    // Act
+    var result = underTest.missingKeyCacheTimeout(30L);
+
+    // Assert
+    assertThat(result).isNotNull();
+    assertThat(result).isEqualTo(underTest);
+    assertThat(underTest.getMissingKeyCacheTimeout()).isEqualTo(30L);
+  }
+
+  @Test
+  public void cacheFactory() {
+    // Arrange
+    var underTest = new StaticAdapterConfig();
+
+    // Act
+    var result = underTest.cacheFactory(CacheFactory.UNBOUNDED);
+
+    // Assert
+    assertThat(result).isNotNull();
+    assertThat(result).isEqualTo(underTest);
+    assertThat(underTest.getCacheFactory()).isEqualTo(CacheFactory.UNBOUNDED);
+  }
+
+  @Test
+  public void cacheFactory_null() {
+    // Arrange
+    var underTest = new StaticAdapterConfig();
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.cacheFactory(null))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'cacheFactory' cannot be null.");
+  }
+
+  @Test
+  public void cacheSize() {
+    // Arrange
+    var underTest = new StaticAdapterConfig();
+
+    // Act
+    var result = underTest.cacheSize(500L);
+
+    // Assert
+    assertThat(result).isNotNull();
+    assertThat(result).isEqualTo(underTest);
+    assertThat(underTest.getCacheSize()).isEqualTo(500L);
+  }
+
   private static Stream<Arguments> escapePattern_invalidInputSource() {
     return Stream.of(
         arguments(null, "NILS-004: Parameter 'escapePattern' cannot be null."),
@@ -0,0 +1,112 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class CompactTranslationRetrieverTest {
+  @Test
+  public void ctor() {
+    // Act
+    var underTest = new CompactTranslationRetriever(Map.of());
+
+    // Assert
+    assertThat(underTest).isNotNull();
+    assertThat(underTest.size()).isEqualTo(0);
+    assertThat(underTest.retrieve("test")).isEmpty();
+  }
+
+  @Test
+  public void ctor_null() {
+    // Act / Assert
+    assertThatThrownBy(() -> new CompactTranslationRetriever(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter 'translations' cannot be null.");
+  }
+
+  @Test
+  public void retrieve_manyKeys() {
+    // Arrange
+    var source = new HashMap<String, String>();
+    for (int i = 0; i < 40_000; i++) {
+      source.put("checkout.cart" + (i % 100) + ".key" + i, "Value " + i);
+    }
+
+    // Act
+    var underTest = new CompactTranslationRetriever(source);
+
+    // Assert
+    assertThat(underTest.size()).isEqualTo(40_000);
+    for (var entry : source.entrySet()) {
+      assertThat(underTest.retrieve(entry.getKey())).hasValue(entry.getValue());
+    }
+    for (int i = 0; i < 1_000; i++) {
+      assertThat(underTest.retrieve("checkout.cart" + (i % 100) + ".missing" + i)).isEmpty();
+    }
+  }
+
+  @Test
+  public void retrieve_sameHashCode() {
+    // Arrange
+    // "Aa" and "BB" have the same hash code
+    var underTest = new CompactTranslationRetriever(Map.of("Aa", "first", "BB", "second"));
+
+    // Act / Assert
+    assertThat(underTest.retrieve("Aa")).hasValue("first");
+    assertThat(underTest.retrieve("BB")).hasValue("second");
+  }
+
+  @Test
+  public void getKeys() {
+    // Arrange
+    Map<String, Object> source =
+        Map.of("test", "result", "deep", Map.of("test2", "result2", "test3", 3));
+    var underTest = new CompactTranslationRetriever(IndexedTranslationRetriever.flatten(source));
+
+    // Act
+    var keys = underTest.getKeys();
+
+    // Assert
+    assertThat(keys).containsExactlyInAnyOrder("test", "deep.test2", "deep.test3");
+  }
+
+  @ParameterizedTest
+  @MethodSource("source_retrieve")
+  public void retrieve(Map<String, String> source, String key, Optional<String> expected) {
+    // Arrange
+    var underTest = new CompactTranslationRetriever(source);
+
+    // Act
+    var value = underTest.retrieve(key);
+
+    // Assert
+    assertThat(value).isEqualTo(expected);
+  }
+
+  private static Stream<Arguments> source_retrieve() {
+    return Stream.of(
+        arguments(Map.of("test", "test"), null, Optional.empty()),
+        arguments(Map.of("test", "test"), "", Optional.empty()),
+        arguments(Map.of("test", "test"), " ", Optional.empty()),
+        arguments(Map.of("test", "test"), "tes", Optional.empty()),
+        arguments(Map.of("test", "test"), "test2", Optional.empty()),
+        arguments(Map.of("test", "result"), "test", Optional.of("result")),
+        arguments(Map.of("test.test2", "result"), "test.test2", Optional.of("result")),
+        arguments(Map.of("test.test2", "result"), ".test..test2", Optional.of("result")),
+        arguments(Map.of("test", ""), "test", Optional.of("")),
+        arguments(Map.of("umlaut.äöü", "Übersetzt"), "umlaut.äöü", Optional.of("Übersetzt")),
+        arguments(Map.of("euro.€", "3 bytes €"), "euro.€", Optional.of("3 bytes €")),
+        arguments(Map.of("emoji.😀", "4 bytes 😀"), "emoji.😀", Optional.of("4 bytes 😀")),
+        arguments(Map.of("emoji.😀", "4 bytes 😀"), "emoji.😁", Optional.empty()));
+  }
+}
@@ -0,0 +1,137 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class IncludeResolverTest {
+  @Test
+  public void ctor_null() {
+    // Act / Assert
+    assertThatThrownBy(() -> new IncludeResolver(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter 'includeTag' cannot be null.");
+  }
+
+  @Test
+  public void resolve_noIncludes() {
+    // Arrange
+    var translations = Map.of("a", "A", "b.c", "B C");
+    var underTest = new IncludeResolver("_include");
+
+    // Act
+    var result = underTest.resolve(translations);
+
+    // Assert
+    assertThat(result).isEqualTo(translations);
+  }
+
+  @Test
+  public void resolve_simpleInclude() {
+    // Arrange
+    var translations =
+        Map.of(
+            "Base.ok", "OK (Base)",
+            "Base.cancel", "Cancel (Base)",
+            "Message._include", "Base",
+            "Message.cancel", "Cancel (Message)");
+    var underTest = new IncludeResolver("_include");
+
+    // Act
+    var result = underTest.resolve(translations);
+
+    // Assert
+    assertThat(result)
+        .containsEntry("Message.ok", "OK (Base)")
+        .containsEntry("Message.cancel", "Cancel (Message)")
+        .hasSize(5);
+  }
+
+  @Test
+  public void resolve_transitiveInclude() {
+    // Arrange
+    var translations =
+        Map.of(
+            "Level0.value", "Value (Level0)",
+            "Level1._include", "Level0",
+            "Level2._include", "Level1");
+    var underTest = new IncludeResolver("_include");
+
+    // Act
+    var result = underTest.resolve(translations);
+
+    // Assert
+    assertThat(result)
+        .containsEntry("Level1.value", "Value (Level0)")
+        .containsEntry("Level2.value", "Value (Level0)");
+  }
+
+  @Test
+  public void resolve_multipleTargets() {
+    // Arrange
+    var translations =
+        Map.of(
+            "A.x", "X (A)",
+            "B.x", "X (B)",
+            "B.y", "Y (B)",
+            "Message._include", "A; B");
+    var underTest = new IncludeResolver("_include");
+
+    // Act
+    var result = underTest.resolve(translations);
+
+    // Assert
+    assertThat(result).containsEntry("Message.x", "X (A)").containsEntry("Message.y", "Y (B)");
+  }
+
+  @Test
+  public void resolve_deepestIncludeWins() {
+    // Arrange
+    var translations =
+        Map.of(
+            "A.buttons.ok", "OK (A)",
+            "B.ok", "OK (B)",
+            "Message._include", "A",
+            "Message.buttons._include", "B");
+    var underTest = new IncludeResolver("_include");
+
+    // Act
+    var result = underTest.resolve(translations);
+
+    // Assert
+    assertThat(result).containsEntry("Message.buttons.ok", "OK (B)");
+  }
+
+  @Test
+  public void resolve_cycle() {
+    // Arrange
+    var translations =
+        Map.of(
+            "Cycle1._include", "Cycle2",
+            "Cycle2._include", "Cycle1",
+            "Cycle1.value", "Value (Cycle1)");
+    var underTest = new IncludeResolver("_include");
+
+    // Act
+    var result = underTest.resolve(translations);
+
+    // Assert
+    assertThat(result).containsEntry("Cycle2.value", "Value (Cycle1)").hasSize(4);
+  }
+
+  @Test
+  public void resolve_otherIncludeTag() {
+    // Arrange
+    var translations = Map.of("Base.ok", "OK", "Message.[include]", "Base");
+    var underTest = new IncludeResolver("[include]");
+
+    // Act
+    var result = underTest.resolve(translations);
+
+    // Assert
+    assertThat(result).containsEntry("Message.ok", "OK");
+  }
+}
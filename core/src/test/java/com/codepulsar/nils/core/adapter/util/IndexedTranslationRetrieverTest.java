@@ -0,0 +1,122 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class IndexedTranslationRetrieverTest {
+  @Test
+  public void ctor() {
+    // Act
+    var underTest = new IndexedTranslationRetriever(Map.of());
+
+    // Assert
+    assertThat(underTest).isNotNull();
+  }
+
+  @Test
+  public void ctor_null() {
+    // Act / Assert
+    assertThatThrownBy(() -> new IndexedTranslationRetriever(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter 'translations' cannot be null.");
+  }
+
+  @Test
+  public void fromNested_null() {
+    // Act / Assert
+    assertThatThrownBy(() -> IndexedTranslationRetriever.fromNested(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter 'translations' cannot be null.");
+  }
+
+  @Test
+  public void retrieve_flat() {
+    // Arrange
+    var underTest =
+        new IndexedTranslationRetriever(Map.of("test", "result", "test.test2", "result2"));
+
+    // Act / Assert
+    assertThat(underTest.retrieve("test")).isEqualTo(Optional.of("result"));
+    assertThat(underTest.retrieve("test.test2")).isEqualTo(Optional.of("result2"));
+    assertThat(underTest.retrieve("test.test3")).isEmpty();
+  }
+
+  @Test
+  public void retrieve_sameInstance() {
+    // Arrange
+    var underTest = IndexedTranslationRetriever.fromNested(Map.of("test", "result"));
+
+    // Act
+    var value1 = underTest.retrieve("test");
+    var value2 = underTest.retrieve("test");
+
+    // Assert
+    assertThat(value1).isSameAs(value2);
+  }
+
+  @Test
+  public void getKeys() {
+    // Arrange
+    Map<String, Object> source =
+        Map.of("test", "result", "deep", Map.of("test2", "result2", "test3", 3));
+    var underTest = IndexedTranslationRetriever.fromNested(source);
+
+    // Act
+    var keys = underTest.getKeys();
+
+    // Assert
+    assertThat(keys).containsExactlyInAnyOrder("test", "deep.test2", "deep.test3");
+  }
+
+  @ParameterizedTest
+  @MethodSource("source_retrieve")
+  public void retrieve(Map<String, Object> source, String key, Optional<String> expected) {
+    // Arrange
+    var underTest = IndexedTranslationRetriever.fromNested(source);
+
+    // Act
+    var value = underTest.retrieve(key);
+
+    // Assert
+    assertThat(value).isEqualTo(expected);
+  }
+
+  private static Stream<Arguments> source_retrieve() {
+    return Stream.of(
+        arguments(Map.of(), "test", Optional.empty()),
+        arguments(Map.of(), "test.deep.test", Optional.empty()),
+        arguments(Map.of("test", "test"), null, Optional.empty()),
+        arguments(Map.of("test", "test"), "", Optional.empty()),
+        arguments(Map.of("test", "test"), " ", Optional.empty()),
+        arguments(Map.of("test", "result"), "test", Optional.of("result")),
+        arguments(Map.of("test", 5), "test", Optional.of("5")),
+        arguments(Map.of("test", List.of("a", "b")), "test", Optional.of("[a, b]")),
+        arguments(Map.of("test", Map.of("test2", "result")), "test", Optional.empty()),
+        arguments(Map.of("test", Map.of("test2", "result")), "test.test2", Optional.of("result")),
+        arguments(
+            Map.of("test", Map.of("test2", "result")), ".test..test2.", Optional.of("result")),
+        arguments(
+            Map.of("test", Map.of("test2", Map.of("test3", "result"))),
+            "test.test2.test3",
+            Optional.of("result")),
+        arguments(
+            Map.of("test", Map.of("test2", Map.of("test3", "result"))),
+            "test.test2.test4",
+            Optional.empty()),
+        arguments(
+            Map.of("a", Map.of("b", Map.of("c", Map.of("d", Map.of("e", "result"))))),
+            "a.b.c.d.e",
+            Optional.of("result")));
+  }
+}
@@ -0,0 +1,168 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LazyTranslationRetrieverTest {
+
+  private Map<String, AtomicInteger> loads;
+  private LazyTranslationRetriever underTest;
+
+  @BeforeEach
+  void setup() {
+    loads = new ConcurrentHashMap<>();
+    var sections = new LinkedHashMap<String, Supplier<Map<String, String>>>();
+    sections.put("simple", loader("simple", Map.of("simple", "Simple")));
+    sections.put(
+        "checkout",
+        loader("checkout", Map.of("checkout.total", "Total", "checkout.cart", "Cart")));
+    sections.put("checkout.cart", loader("checkout.cart", Map.of("checkout.cart", "Basket")));
+    sections.put("other", loader("other", Map.of("other.text", "Other")));
+    underTest = new LazyTranslationRetriever(sections, IndexedTranslationRetriever::new);
+  }
+
+  @Test
+  void retrieve_loadsSectionOnFirstAccess() {
+    // Act
+    var value = underTest.retrieve("checkout.total");
+
+    // Assert
+    assertThat(value).hasValue("Total");
+    assertThat(underTest.isLoaded("checkout")).isTrue();
+    assertThat(underTest.isLoaded("other")).isFalse();
+    assertThat(underTest.isLoaded("simple")).isFalse();
+    assertThat(loads).containsOnlyKeys("checkout", "checkout.cart");
+  }
+
+  @Test
+  void retrieve_loadsSectionOnce() {
+    // Act
+    underTest.retrieve("checkout.total");
+    underTest.retrieve("checkout.unknown");
+    underTest.retrieve("checkout.total");
+
+    // Assert
+    assertThat(loads.get("checkout")).hasValue(1);
+  }
+
+  @Test
+  void retrieve_sectionsWithSameFirstKeyPart_laterWins() {
+    // Act
+    var value = underTest.retrieve("checkout.cart");
+
+    // Assert
+    assertThat(value).hasValue("Basket");
+  }
+
+  @Test
+  void retrieve_notNormalizedKey() {
+    // Act
+    var value = underTest.retrieve(".checkout..total");
+
+    // Assert
+    assertThat(value).hasValue("Total");
+  }
+
+  @Test
+  void retrieve_unknownSection() {
+    // Act
+    var value = underTest.retrieve("unknown.key");
+
+    // Assert
+    assertThat(value).isEmpty();
+    assertThat(loads).isEmpty();
+  }
+
+  @Test
+  void retrieve_null() {
+    // Act
+    var value = underTest.retrieve(null);
+
+    // Assert
+    assertThat(value).isEmpty();
+  }
+
+  @Test
+  void getKeys_loadsAllSections() {
+    // Act
+    var keys = underTest.getKeys();
+
+    // Assert
+    assertThat(keys)
+        .containsExactlyInAnyOrder("simple", "checkout.total", "checkout.cart", "other.text");
+    assertThat(loads).containsOnlyKeys("simple", "checkout", "checkout.cart", "other");
+  }
+
+  @Test
+  void getKeys_releasesLoaders() throws Exception {
+    // Arrange
+    var data = new WeakReference<>(new byte[1024]);
+    var sections = new LinkedHashMap<String, Supplier<Map<String, String>>>();
+    sections.put("simple", dataLoader(data.get(), Map.of("simple", "Simple")));
+    sections.put("other", dataLoader(data.get(), Map.of("other.text", "Other")));
+    var lazy = new LazyTranslationRetriever(sections, IndexedTranslationRetriever::new);
+    sections.clear();
+
+    // Act
+    lazy.retrieve("simple");
+    lazy.getKeys();
+    for (int i = 0; i < 20 && data.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    // Assert
+    assertThat(data.get()).isNull();
+    assertThat(lazy.retrieve("other.text")).hasValue("Other");
+  }
+
+  @Test
+  void retrieve_failingLoad_recorded() {
+    // Arrange
+    var attempts = new AtomicInteger();
+    Supplier<Map<String, String>> failing =
+        () -> {
+          attempts.incrementAndGet();
+          throw new IllegalStateException("Corrupt");
+        };
+    var sections = Map.of("simple", failing);
+    var lazy = new LazyTranslationRetriever(sections, IndexedTranslationRetriever::new);
+
+    // Act / Assert
+    assertThatThrownBy(() -> lazy.retrieve("simple")).hasMessage("Corrupt");
+    assertThatThrownBy(() -> lazy.retrieve("simple.other")).hasMessage("Corrupt");
+    assertThatThrownBy(lazy::getKeys).hasMessage("Corrupt");
+    assertThat(lazy.isLoaded("simple")).isTrue();
+    assertThat(attempts).hasValue(1);
+  }
+
+  @Test
+  void ctor_sectionsNull() {
+    // Act / Assert
+    assertThatThrownBy(() -> new LazyTranslationRetriever(null, IndexedTranslationRetriever::new))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter 'sections' cannot be null.");
+  }
+
+  private static Supplier<Map<String, String>> dataLoader(
+      byte[] data, Map<String, String> translations) {
+    return () -> data.length > 0 ? translations : Map.of();
+  }
+
+  private Supplier<Map<String, String>> loader(String name, Map<String, String> translations) {
+    return () -> {
+      loads.computeIfAbsent(name, k -> new AtomicInteger()).incrementAndGet();
+      return translations;
+    };
+  }
+}
@@ -5,7 +5,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Locale;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
@@ -91,6 +94,7 @@ public class LocalizedResourceResolverTest {
       var result = underTest.resolve();
       assertThat(result).isNotNull();
       assertThat(underTest.getUsedResourceName()).isEqualTo("/test/resource_de_DE.properties");
+      assertThat(underTest.getUsedLocale()).isEqualTo(Locale.GERMANY);
     }
   }
 
@@ -107,6 +111,62 @@ public class LocalizedResourceResolverTest {
       var result = underTest.resolve();
       assertThat(result).isNotNull();
       assertThat(underTest.getUsedResourceName()).isEqualTo("/test/resource_en.properties");
+      assertThat(underTest.getUsedLocale()).isEqualTo(Locale.ENGLISH);
+    }
+  }
+
+  @Test
+  public void resolve_withIndex_skipsMissingResources() {
+    // Arrange
+    var resolverConfig = new LocalizedResourceResolverConfigTestImpl("test/resource.properties");
+    var locale = new Locale("de", "DE", "Berlin");
+    var index =
+        new LocalizedResourceIndex(
+            Set.of("/test/resource.properties", "/test/resource_de_DE.properties"));
+    var probed = new ArrayList<String>();
+    Function<String, InputStream> resourceToInputStreamResolver =
+        s -> {
+          probed.add(s);
+          return getInputStream(s);
+        };
+    try (var underTest =
+        new LocalizedResourceResolver(
+            resolverConfig, locale, resourceToInputStreamResolver, index)) {
+
+      // Act
+      var result = underTest.resolve();
+
+      // Assert
+      assertThat(result).isNotNull();
+      assertThat(underTest.getUsedResourceName()).isEqualTo("/test/resource_de_DE.properties");
+      assertThat(probed).containsExactly("/test/resource_de_DE.properties");
+    }
+  }
+
+  @Test
+  public void resolve_withIndex_noCandidateIndexed() {
+    // Arrange
+    var resolverConfig = new LocalizedResourceResolverConfigTestImpl("test/resource.properties");
+    var locale = Locale.UK;
+    var index = new LocalizedResourceIndex(Set.of("/test/other.properties"));
+    var probed = new ArrayList<String>();
+    Function<String, InputStream> resourceToInputStreamResolver =
+        s -> {
+          probed.add(s);
+          return getInputStream(s);
+        };
+    try (var underTest =
+        new LocalizedResourceResolver(
+            resolverConfig, locale, resourceToInputStreamResolver, index)) {
+
+      // Act
+      var result = underTest.resolve();
+
+      // Assert
+      assertThat(result).isNotNull();
+      assertThat(underTest.getUsedResourceName()).isEqualTo("/test/resource_en.properties");
+      assertThat(probed)
+          .containsExactly("/test/resource_en_GB.properties", "/test/resource_en.properties");
     }
   }
 
@@ -196,5 +256,30 @@ public class LocalizedResourceResolverTest {
     public boolean isFallbackActive() {
       return true;
     }
+
+    @Override
+    public boolean isCompactTranslations() {
+      return false;
+    }
+
+    @Override
+    public boolean isCompileIncludes() {
+      return false;
+    }
+
+    @Override
+    public boolean isMergeFallbacks() {
+      return false;
+    }
+
+    @Override
+    public boolean isLazySections() {
+      return false;
+    }
+
+    @Override
+    public Path getResourceDirectory() {
+      return null;
+    }
   }
 }
@@ -0,0 +1,192 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.codepulsar.nils.core.testadapter.BaseLocalizedResourceAdapterTesteeConfig;
+
+public class LocalizedResourceScannerTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void ctor_configNull() {
+    // Act / Assert
+    assertThatThrownBy(() -> new LocalizedResourceScanner(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter 'config' cannot be null.");
+  }
+
+  @Test
+  void findLocales() {
+    // Arrange
+    var config =
+        BaseLocalizedResourceAdapterTesteeConfig.init(this)
+            .baseFileName("test/resource.properties");
+    var underTest = new LocalizedResourceScanner(config);
+
+    // Act
+    var locales = underTest.findLocales();
+
+    // Assert
+    assertThat(locales).containsExactlyInAnyOrder(Locale.ROOT, Locale.GERMANY, Locale.ENGLISH);
+  }
+
+  @Test
+  void findLocales_leadingSlash() {
+    // Arrange
+    var config =
+        BaseLocalizedResourceAdapterTesteeConfig.init(this)
+            .baseFileName("/test/integration.properties");
+    var underTest = new LocalizedResourceScanner(config);
+
+    // Act
+    var locales = underTest.findLocales();
+
+    // Assert
+    assertThat(locales).containsExactlyInAnyOrder(Locale.ROOT, Locale.GERMAN);
+  }
+
+  @Test
+  void findLocales_missingDirectory() {
+    // Arrange
+    var config =
+        BaseLocalizedResourceAdapterTesteeConfig.init(this)
+            .baseFileName("missing/resource.properties");
+    var underTest = new LocalizedResourceScanner(config);
+
+    // Act
+    var locales = underTest.findLocales();
+
+    // Assert
+    assertThat(locales).isEmpty();
+  }
+
+  @Test
+  void findLocales_directory() throws Exception {
+    // Arrange
+    var directory = Files.createDirectories(tempDir.resolve("nls"));
+    Files.writeString(directory.resolve("translation.json"), "{}");
+    Files.writeString(directory.resolve("translation_de_CH.json"), "{}");
+    Files.writeString(directory.resolve("translation_fr_FR_Paris.json"), "{}");
+    Files.writeString(directory.resolve("translation_en.properties"), "");
+    Files.writeString(directory.resolve("other_en.json"), "{}");
+    Files.createDirectories(directory.resolve("translation_it.json"));
+    var config =
+        BaseLocalizedResourceAdapterTesteeConfig.init(this).baseFileName("nls/translation.json");
+    var underTest = new LocalizedResourceScanner(config);
+
+    // Act
+    var locales = underTest.findLocales(tempDir);
+
+    // Assert
+    assertThat(locales)
+        .containsExactlyInAnyOrder(
+            Locale.ROOT, new Locale("de", "CH"), new Locale("fr", "FR", "Paris"));
+  }
+
+  @Test
+  void toLocale() {
+    // Arrange
+    var config =
+        BaseLocalizedResourceAdapterTesteeConfig.init(this).baseFileName("nls/translation.json");
+    var underTest = new LocalizedResourceScanner(config);
+
+    // Act / Assert
+    assertThat(underTest.toLocale("translation.json")).hasValue(Locale.ROOT);
+    assertThat(underTest.toLocale("translation_de.json")).hasValue(Locale.GERMAN);
+    assertThat(underTest.toLocale("translation_.json")).isEmpty();
+    assertThat(underTest.toLocale("translations_de.json")).isEmpty();
+    assertThat(underTest.toLocale("translation_de.yaml")).isEmpty();
+  }
+
+  @Test
+  void buildIndex() {
+    // Arrange
+    var config =
+        BaseLocalizedResourceAdapterTesteeConfig.init(this)
+            .baseFileName("test/resource.properties");
+    var underTest = new LocalizedResourceScanner(config);
+
+    // Act
+    var index = underTest.buildIndex();
+
+    // Assert
+    assertThat(index).isPresent();
+    assertThat(index.get().getResourceNames())
+        .containsExactlyInAnyOrder(
+            "/test/resource.properties",
+            "/test/resource_de_DE.properties",
+            "/test/resource_en.properties");
+    assertThat(index.get().contains("/test/resource_de.properties")).isFalse();
+  }
+
+  @Test
+  void buildIndex_missingDirectory() {
+    // Arrange
+    var config =
+        BaseLocalizedResourceAdapterTesteeConfig.init(this)
+            .baseFileName("missing/resource.properties");
+    var underTest = new LocalizedResourceScanner(config);
+
+    // Act
+    var index = underTest.buildIndex();
+
+    // Assert
+    assertThat(index).isEmpty();
+  }
+
+  @Test
+  void buildIndex_jarWithoutDirectoryEntries() throws Exception {
+    // Arrange
+    var classes = tempDir.resolve("classes");
+    Files.createDirectories(classes.resolve("test"));
+    Files.writeString(classes.resolve("test/resource_de.properties"), "key=de");
+    var jar = tempDir.resolve("resources.jar");
+    try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+      // Only file entries, so the jar file is not listed for the directory
+      out.putNextEntry(new JarEntry("test/resource.properties"));
+      out.write("key=root".getBytes());
+      out.putNextEntry(new JarEntry("test/resource_en.properties"));
+      out.write("key=en".getBytes());
+    }
+
+    try (var classLoader =
+        new URLClassLoader(new URL[] {classes.toUri().toURL(), jar.toUri().toURL()}, null)) {
+      var config =
+          BaseLocalizedResourceAdapterTesteeConfig.init(classLoader.getUnnamedModule())
+              .baseFileName("test/resource.properties");
+      var underTest = new LocalizedResourceScanner(config);
+
+      // Act
+      var index = underTest.buildIndex();
+
+      // Assert
+      assertThat(index).isEmpty();
+    }
+  }
+
+  @Test
+  void buildIndex_rootDirectory() {
+    // Arrange
+    var config = BaseLocalizedResourceAdapterTesteeConfig.init(this).baseFileName("resource.json");
+    var underTest = new LocalizedResourceScanner(config);
+
+    // Act
+    var index = underTest.buildIndex();
+
+    // Assert
+    assertThat(index).isEmpty();
+  }
+}
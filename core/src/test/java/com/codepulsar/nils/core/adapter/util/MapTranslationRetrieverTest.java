@@ -31,6 +31,20 @@ public class MapTranslationRetrieverTest {
         .hasMessage("Parameter 'translations' cannot be null.");
   }
 
+  @Test
+  public void getKeys() {
+    // Arrange
+    Map<String, Object> source =
+        Map.of("test", "result", "deep", Map.of("test2", "result2", "test3", 3));
+    var underTest = new MapTranslationRetriever(source);
+
+    // Act
+    var keys = underTest.getKeys();
+
+    // Assert
+    assertThat(keys).containsExactlyInAnyOrder("test", "deep.test2", "deep.test3");
+  }
+
   @ParameterizedTest
   @MethodSource("source_retrieve")
   public void retrieve(Map<String, Object> source, String key, Optional<String> expected) {
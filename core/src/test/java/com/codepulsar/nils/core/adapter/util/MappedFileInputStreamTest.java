@@ -0,0 +1,150 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedFileInputStreamTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void open_fileNull() {
+    // Act / Assert
+    assertThatThrownBy(() -> MappedFileInputStream.open(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter 'file' cannot be null.");
+  }
+
+  @Test
+  void open_missingFile() {
+    // Act / Assert
+    assertThatThrownBy(() -> MappedFileInputStream.open(tempDir.resolve("missing.json")))
+        .isInstanceOf(NoSuchFileException.class);
+  }
+
+  @Test
+  void read() throws Exception {
+    // Arrange
+    var file = Files.writeString(tempDir.resolve("translation.json"), "{\"key\": \"Value\"}");
+
+    // Act
+    try (var underTest = MappedFileInputStream.open(file)) {
+      var first = underTest.read();
+      var skipped = underTest.skip(2);
+      var buffer = new byte[5];
+      var count = underTest.read(buffer, 0, buffer.length);
+      var available = underTest.available();
+      var rest = underTest.readAllBytes();
+
+      // Assert
+      assertThat(first).isEqualTo('{');
+      assertThat(skipped).isEqualTo(2);
+      assertThat(count).isEqualTo(5);
+      assertThat(new String(buffer, StandardCharsets.UTF_8)).isEqualTo("ey\": ");
+      assertThat(available).isEqualTo(8);
+      assertThat(new String(rest, StandardCharsets.UTF_8)).isEqualTo("\"Value\"}");
+      assertThat(underTest.read()).isEqualTo(-1);
+      assertThat(underTest.read(buffer, 0, buffer.length)).isEqualTo(-1);
+    }
+  }
+
+  @Test
+  void read_emptyFile() throws Exception {
+    // Arrange
+    var file = Files.createFile(tempDir.resolve("empty.json"));
+
+    // Act
+    try (var underTest = MappedFileInputStream.open(file)) {
+      // Assert
+      assertThat(underTest.read()).isEqualTo(-1);
+      assertThat(underTest.readAllBytes()).isEmpty();
+    }
+  }
+
+  @Test
+  void getBuffer() throws Exception {
+    // Arrange
+    var file = Files.writeString(tempDir.resolve("translation.json"), "Hello");
+
+    // Act
+    try (var underTest = MappedFileInputStream.open(file)) {
+      underTest.read();
+      var buffer = underTest.getBuffer();
+
+      // Assert
+      assertThat(buffer.isReadOnly()).isTrue();
+      assertThat(buffer.remaining()).isEqualTo(4);
+      assertThat(buffer.get(0)).isEqualTo((byte) 'e');
+      assertThat(underTest.available()).isEqualTo(4);
+    }
+  }
+
+  @Test
+  void open_fileReplacedAfterMapping() throws Exception {
+    // Arrange
+    var file = Files.writeString(tempDir.resolve("translation.json"), "Old");
+    // Smaller than the mapped file
+    var replacement = Files.writeString(tempDir.resolve("replacement.json"), "N");
+
+    // Act
+    try (var underTest = MappedFileInputStream.open(file)) {
+      Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING);
+
+      // Assert
+      assertThat(new String(underTest.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("Old");
+    }
+    try (var underTest = MappedFileInputStream.open(file)) {
+      assertThat(new String(underTest.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("N");
+    }
+  }
+
+  @Test
+  void getBuffer_afterClose() throws Exception {
+    // Arrange
+    var file = Files.writeString(tempDir.resolve("translation.json"), "Hello");
+    var underTest = MappedFileInputStream.open(file);
+    var buffer = underTest.getBuffer();
+
+    // Act
+    underTest.close();
+
+    // Assert
+    assertThat(buffer.isDirect()).isTrue();
+    assertThat(buffer.get(4)).isEqualTo((byte) 'o');
+  }
+
+  @Test
+  void read_fileTruncatedInPlace() throws Exception {
+    // Arrange
+    var file = Files.write(tempDir.resolve("translation.json"), new byte[64 * 1024]);
+
+    try (var underTest = MappedFileInputStream.open(file)) {
+      // Act
+      truncate(file);
+
+      // Assert
+      assertThatThrownBy(underTest::readAllBytes)
+          .isInstanceOf(IOException.class)
+          .hasMessage("The mapped file was truncated in place.");
+      assertThatThrownBy(underTest::read).isInstanceOf(IOException.class);
+    }
+  }
+
+  private void truncate(Path file) throws IOException {
+    try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.truncate(0);
+    }
+  }
+}
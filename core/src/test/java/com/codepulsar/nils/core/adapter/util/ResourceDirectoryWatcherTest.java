@@ -0,0 +1,82 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.codepulsar.nils.api.NilsFactory;
+import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.core.testadapter.BaseLocalizedResourceAdapterTesteeConfig;
+
+public class ResourceDirectoryWatcherTest {
+
+  @TempDir Path tempDir;
+
+  private BaseLocalizedResourceAdapterTesteeConfig config;
+  private NilsFactory factory;
+
+  @BeforeEach
+  void setup() {
+    config = BaseLocalizedResourceAdapterTesteeConfig.init(this).baseFileName("nls/translation");
+    factory = NilsFactory.init(config);
+  }
+
+  @Test
+  void watch() throws Exception {
+    // Arrange
+    Files.createDirectory(tempDir.resolve("nls"));
+    config.resourceDirectory(tempDir);
+
+    // Act
+    try (var underTest = ResourceDirectoryWatcher.watch(factory, config)) {
+      // Assert
+      assertThat(underTest.getDirectory()).isEqualTo(tempDir.resolve("nls"));
+    }
+  }
+
+  @Test
+  void watch_factoryNull() {
+    // Act / Assert
+    assertThatThrownBy(() -> ResourceDirectoryWatcher.watch(null, config))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'factory' cannot be null.");
+  }
+
+  @Test
+  void watch_debounceNegative() {
+    // Arrange
+    config.resourceDirectory(tempDir);
+
+    // Act / Assert
+    assertThatThrownBy(
+            () -> ResourceDirectoryWatcher.watch(factory, config, Duration.ofMillis(-1)))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'debounce' cannot be negative.");
+  }
+
+  @Test
+  void watch_noResourceDirectory() {
+    // Act / Assert
+    assertThatThrownBy(() -> ResourceDirectoryWatcher.watch(factory, config))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: The config has no resource directory to watch.");
+  }
+
+  @Test
+  void watch_missingDirectory() {
+    // Arrange
+    config.resourceDirectory(tempDir.resolve("missing"));
+
+    // Act / Assert
+    assertThatThrownBy(() -> ResourceDirectoryWatcher.watch(factory, config))
+        .isInstanceOf(NilsException.class)
+        .hasMessageStartingWith("NILS-007: Could not watch the directory");
+  }
+}
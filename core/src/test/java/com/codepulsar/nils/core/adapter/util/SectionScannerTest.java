@@ -0,0 +1,143 @@
+package com.codepulsar.nils.core.adapter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.codepulsar.nils.core.adapter.util.SectionScanner.Section;
+
+public class SectionScannerTest {
+
+  @Test
+  void scanJson() {
+    // Arrange
+    var json =
+        "﻿{\n"
+            + "  \"simple\": \"A \\\"quoted\\\" {value}\",\n"
+            + "  \"checkout\": {\"cart\": {\"total\": \"Total }]\"}, \"items\": [1, {\"a\": 2}]},\n"
+            + "  \"number\" : 42,\n"
+            + "  \"esc\\u0061ped\": null\n"
+            + "}\n";
+    var data = json.getBytes(StandardCharsets.UTF_8);
+
+    // Act
+    var sections = SectionScanner.scanJson(data);
+
+    // Assert
+    assertThat(sections).isPresent();
+    assertThat(names(sections.get())).containsExactly("simple", "checkout", "number", "escaped");
+    assertThat(text(data, sections.get().get(0))).isEqualTo("\"A \\\"quoted\\\" {value}\"");
+    assertThat(text(data, sections.get().get(1)))
+        .isEqualTo("{\"cart\": {\"total\": \"Total }]\"}, \"items\": [1, {\"a\": 2}]}");
+    assertThat(text(data, sections.get().get(2))).isEqualTo("42");
+    assertThat(text(data, sections.get().get(3))).isEqualTo("null");
+  }
+
+  @Test
+  void scanJson_emptyObject() {
+    // Act
+    var sections = SectionScanner.scanJson(" { } ".getBytes(StandardCharsets.UTF_8));
+
+    // Assert
+    assertThat(sections).hasValue(List.of());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "[]",
+        "{\"a\": 1, \"a\": 2}",
+        "{\"a\": 1,}",
+        "{\"a\" 1}",
+        "{\"a\": {\"b\": 1}",
+        "{\"a\": 1} {}",
+        "{a: 1}",
+        "{\"a\": \"open}"
+      })
+  void scanJson_notSplittable(String json) {
+    // Act
+    var sections = SectionScanner.scanJson(json.getBytes(StandardCharsets.UTF_8));
+
+    // Assert
+    assertThat(sections).isEmpty();
+  }
+
+  @Test
+  void scanYaml() {
+    // Arrange
+    var yaml =
+        "# Translations\n"
+            + "simple: A simple translation\n"
+            + "checkout:\n"
+            + "  cart:\n"
+            + "    total: Total\n"
+            + "\n"
+            + "  # Comment in section\n"
+            + "  text: |\n"
+            + "    Multi\n"
+            + "    line\n"
+            + "key:with:colons: Value # Comment\r\n"
+            + "last: Übersetzung";
+    var data = yaml.getBytes(StandardCharsets.UTF_8);
+
+    // Act
+    var sections = SectionScanner.scanYaml(data);
+
+    // Assert
+    assertThat(sections).isPresent();
+    assertThat(names(sections.get()))
+        .containsExactly("simple", "checkout", "key:with:colons", "last");
+    assertThat(text(data, sections.get().get(0))).isEqualTo("simple: A simple translation\n");
+    assertThat(text(data, sections.get().get(1)))
+        .startsWith("checkout:\n")
+        .endsWith("    line\n");
+    assertThat(text(data, sections.get().get(3))).isEqualTo("last: Übersetzung");
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "---\na: 1",
+        "  a: 1",
+        "a: 1\na: 2",
+        "base: &base\n  a: 1\nother: *base",
+        "list:\n- a\n- b",
+        "\"quoted\": 1",
+        "{a: 1}",
+        "a: 1\nno key"
+      })
+  void scanYaml_notSplittable(String yaml) {
+    // Act
+    var sections = SectionScanner.scanYaml(yaml.getBytes(StandardCharsets.UTF_8));
+
+    // Assert
+    assertThat(sections).isEmpty();
+  }
+
+  @Test
+  void scan_dataNull() {
+    // Act / Assert
+    assertThatThrownBy(() -> SectionScanner.scanJson(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter 'data' cannot be null.");
+    assertThatThrownBy(() -> SectionScanner.scanYaml(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parameter 'data' cannot be null.");
+  }
+
+  private static List<String> names(List<Section> sections) {
+    return sections.stream().map(Section::getName).collect(Collectors.toList());
+  }
+
+  private static String text(byte[] data, Section section) {
+    return new String(data, section.getStart(), section.getLength(), StandardCharsets.UTF_8);
+  }
+}
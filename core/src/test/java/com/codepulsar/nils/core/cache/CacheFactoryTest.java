@@ -0,0 +1,43 @@
+package com.codepulsar.nils.core.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class CacheFactoryTest {
+
+  @Test
+  public void tinyLfu() {
+    // Act
+    NilsCache<String, String> result = CacheFactory.TINY_LFU.create("test", 10);
+
+    // Assert
+    assertThat(result).isInstanceOf(TinyLfuCache.class);
+  }
+
+  @Test
+  public void tinyLfu_unbounded() {
+    // Act
+    NilsCache<String, String> result = CacheFactory.TINY_LFU.create("test", -1);
+
+    // Assert
+    assertThat(result).isInstanceOf(UnboundedCache.class);
+  }
+
+  @Test
+  public void unbounded() {
+    // Arrange
+    NilsCache<String, String> underTest = CacheFactory.UNBOUNDED.create("test", 10);
+
+    // Act
+    for (int i = 0; i < 100; i++) {
+      underTest.put("key" + i, "value" + i);
+    }
+
+    // Assert
+    assertThat(underTest).isInstanceOf(UnboundedCache.class);
+    assertThat(underTest.size()).isEqualTo(100);
+    assertThat(underTest.get("key0")).isEqualTo("value0");
+    assertThat(underTest.getStats().getHitCount()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,185 @@
+package com.codepulsar.nils.core.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class TinyLfuCacheTest {
+
+  @Test
+  public void putAndGet() {
+    // Arrange
+    var underTest = new TinyLfuCache<String, String>(10);
+
+    // Act
+    var previous = underTest.putIfAbsent("key", "value");
+    var previous2 = underTest.putIfAbsent("key", "value2");
+
+    // Assert
+    assertThat(previous).isNull();
+    assertThat(previous2).isEqualTo("value");
+    assertThat(underTest.get("key")).isEqualTo("value");
+    assertThat(underTest.get("unknown")).isNull();
+    assertThat(underTest.size()).isEqualTo(1);
+    var stats = underTest.getStats();
+    assertThat(stats.getHitCount()).isEqualTo(1);
+    assertThat(stats.getMissCount()).isEqualTo(1);
+    assertThat(stats.getEvictionCount()).isEqualTo(0);
+    assertThat(stats.getSize()).isEqualTo(1);
+  }
+
+  @Test
+  public void put_replace() {
+    // Arrange
+    var underTest = new TinyLfuCache<String, String>(10);
+    underTest.put("key", "value");
+
+    // Act
+    underTest.put("key", "value2");
+
+    // Assert
+    assertThat(underTest.get("key")).isEqualTo("value2");
+    assertThat(underTest.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void removeAndClear() {
+    // Arrange
+    var underTest = new TinyLfuCache<String, String>(10);
+    underTest.put("key", "value");
+    underTest.put("key2", "value2");
+
+    // Act
+    underTest.remove("key");
+
+    // Assert
+    assertThat(underTest.get("key")).isNull();
+    assertThat(underTest.size()).isEqualTo(1);
+
+    // Act
+    underTest.clear();
+
+    // Assert
+    assertThat(underTest.get("key2")).isNull();
+    assertThat(underTest.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void maximumSizeZero() {
+    // Arrange
+    var underTest = new TinyLfuCache<String, String>(0);
+
+    // Act
+    underTest.put("key", "value");
+    underTest.putIfAbsent("key2", "value2");
+
+    // Assert
+    assertThat(underTest.get("key")).isNull();
+    assertThat(underTest.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void sizeStaysBounded() {
+    // Arrange
+    var underTest = new TinyLfuCache<String, String>(100);
+
+    // Act
+    for (int i = 0; i < 100_000; i++) {
+      underTest.putIfAbsent("key" + i, "value" + i);
+    }
+
+    // Assert
+    assertThat(underTest.size()).isEqualTo(100);
+    assertThat(underTest.getStats().getEvictionCount()).isEqualTo(100_000 - 100);
+  }
+
+  @Test
+  public void frequentlyUsedValuesSurvive() {
+    // Arrange
+    var underTest = new TinyLfuCache<String, String>(100);
+    for (int i = 0; i < 100; i++) {
+      underTest.putIfAbsent("hot" + i, "value" + i);
+    }
+
+    // Act
+    for (int i = 0; i < 10_000; i++) {
+      underTest.get("hot" + (i % 100));
+      underTest.putIfAbsent("cold" + i, "value" + i);
+    }
+
+    // Assert
+    var hot = 0;
+    for (int i = 0; i < 100; i++) {
+      if (underTest.get("hot" + i) != null) {
+        hot++;
+      }
+    }
+    assertThat(hot).isGreaterThanOrEqualTo(90);
+    assertThat(underTest.size()).isEqualTo(100);
+  }
+
+  @Test
+  public void removedKeysDoNotGrowTheCache() {
+    // Arrange
+    var underTest = new TinyLfuCache<String, String>(1_000);
+
+    // Act
+    for (int i = 0; i < 100_000; i++) {
+      underTest.put("key", "value" + i);
+      underTest.remove("key");
+    }
+    underTest.put("key", "value");
+
+    // Assert
+    assertThat(underTest.get("key")).isEqualTo("value");
+    assertThat(underTest.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void concurrentAccess() throws Exception {
+    // Arrange
+    var threads = 64;
+    var underTest = new TinyLfuCache<Integer, Integer>(500);
+    var executor = Executors.newFixedThreadPool(threads);
+    var start = new CountDownLatch(1);
+    var tasks = new ArrayList<Future<Integer>>();
+
+    // Act
+    try {
+      for (int t = 0; t < threads; t++) {
+        var seed = t;
+        tasks.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  var errors = 0;
+                  for (int i = 0; i < 20_000; i++) {
+                    var key = (i * 31 + seed) % 2_000;
+                    var value = underTest.get(key);
+                    if (value == null) {
+                      underTest.putIfAbsent(key, key * 2);
+                    } else if (value != key * 2) {
+                      errors++;
+                    }
+                  }
+                  return errors;
+                }));
+      }
+      start.countDown();
+
+      // Assert
+      for (var task : tasks) {
+        assertThat(task.get(30, TimeUnit.SECONDS)).isZero();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(underTest.size()).isLessThanOrEqualTo(500);
+  }
+}
@@ -3,7 +3,16 @@ package com.codepulsar.nils.core.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -12,6 +21,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import com.codepulsar.nils.api.NilsConfig;
 import com.codepulsar.nils.api.adapter.Adapter;
 import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.core.cache.CacheFactory;
+import com.codepulsar.nils.core.error.ErrorTypes;
 import com.codepulsar.nils.core.handler.ClassPrefixResolver;
 import com.codepulsar.nils.core.handler.TranslationFormatter;
 import com.codepulsar.nils.core.testadapter.StaticAdapter;
@@ -649,4 +660,264 @@ public class NLSImplTest {
     // Assert
     assertThat(result).isEqualTo(underTest);
   }
+
+  @Test
+  public void string_getByKey_concurrent() throws Exception {
+    // Arrange
+    var threads = 64;
+    var keys = 500;
+    var locale = Locale.ENGLISH;
+    var config = new StaticAdapterConfig();
+    var adapterCalls = new ConcurrentHashMap<String, AtomicInteger>();
+    Adapter adapter =
+        key -> {
+          adapterCalls.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+          return Optional.of("Value of " + key);
+        };
+    var underTest = new NLSImpl(adapter, config, locale);
+    var executor = Executors.newFixedThreadPool(threads);
+    var start = new CountDownLatch(1);
+    var tasks = new ArrayList<Future<Integer>>();
+
+    // Act
+    try {
+      for (int t = 0; t < threads; t++) {
+        var offset = t;
+        Callable<Integer> task =
+            () -> {
+              start.await();
+              var errors = 0;
+              for (int round = 0; round < 20; round++) {
+                for (int i = 0; i < keys; i++) {
+                  var key = "key." + ((i + offset) % keys);
+                  if (!underTest.get(key).equals("Value of " + key)) {
+                    errors++;
+                  }
+                }
+              }
+              return errors;
+            };
+        tasks.add(executor.submit(task));
+      }
+      start.countDown();
+
+      // Assert
+      for (var task : tasks) {
+        assertThat(task.get(30, TimeUnit.SECONDS)).isZero();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(adapterCalls).hasSize(keys);
+    assertThat(adapterCalls.values())
+        .allSatisfy(calls -> assertThat(calls.get()).isBetween(1, threads));
+  }
+
+  @Test
+  public void string_getByKey_notFound_isCached() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = new StaticAdapterConfig().suppressErrors(true);
+    var adapterCalls = new AtomicInteger();
+    Adapter adapter =
+        key -> {
+          if (key.startsWith("not.found")) {
+            adapterCalls.incrementAndGet();
+          }
+          return Optional.empty();
+        };
+    var underTest = new NLSImpl(adapter, config, locale);
+
+    // Act
+    var result = underTest.get("not.found");
+    var result2 = underTest.get("not.found");
+
+    // Assert
+    assertThat(result).isEqualTo("[not.found]");
+    assertThat(result2).isSameAs(result);
+    assertThat(adapterCalls.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void string_getByKey_notFound_isCached_exception() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = new StaticAdapterConfig().suppressErrors(false);
+    var adapterCalls = new AtomicInteger();
+    Adapter adapter =
+        key -> {
+          if (key.startsWith("not.found")) {
+            adapterCalls.incrementAndGet();
+          }
+          return Optional.empty();
+        };
+    var underTest = new NLSImpl(adapter, config, locale);
+
+    // Act / Assert
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> underTest.get("not.found"))
+          .isInstanceOf(NilsException.class)
+          .hasMessage("NILS-001: Could not find a translation for key 'not.found' and locale 'en'.");
+    }
+    assertThat(adapterCalls.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void string_getByKey_notFound_cacheDisabled() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = new StaticAdapterConfig().suppressErrors(true).missingKeyCacheSize(0);
+    var adapterCalls = new AtomicInteger();
+    Adapter adapter =
+        key -> {
+          if (key.startsWith("not.found")) {
+            adapterCalls.incrementAndGet();
+          }
+          return Optional.empty();
+        };
+    var underTest = new NLSImpl(adapter, config, locale);
+
+    // Act
+    underTest.get("not.found");
+    underTest.get("not.found");
+
+    // Assert
+    assertThat(adapterCalls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void string_getByKey_notFound_cacheDisabled_unboundedCacheFactory() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config =
+        new StaticAdapterConfig()
+            .suppressErrors(true)
+            .cacheFactory(CacheFactory.UNBOUNDED)
+            .missingKeyCacheSize(0);
+    var adapterCalls = new AtomicInteger();
+    Adapter adapter =
+        key -> {
+          if (key.startsWith("not.found")) {
+            adapterCalls.incrementAndGet();
+          }
+          return Optional.empty();
+        };
+    var underTest = new NLSImpl(adapter, config, locale);
+
+    // Act
+    var result = underTest.get("not.found");
+    underTest.get("not.found");
+
+    // Assert
+    assertThat(result).isEqualTo("[not.found]");
+    assertThat(adapterCalls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void string_getByKey_adapterFailing_escaping() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = new StaticAdapterConfig().suppressErrors(true);
+    Adapter adapter =
+        key -> {
+          throw new NilsException(ErrorTypes.ADAPTER_ERROR, "Corrupt section");
+        };
+    var underTest = new NLSImpl(adapter, config, locale);
+
+    // Act
+    var result = underTest.get("corrupt.key");
+
+    // Assert
+    assertThat(result).isEqualTo("[corrupt.key]");
+  }
+
+  @Test
+  public void string_getByKey_adapterFailing_exception() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = new StaticAdapterConfig().suppressErrors(false);
+    Adapter adapter =
+        key -> {
+          throw new NilsException(ErrorTypes.ADAPTER_ERROR, "Corrupt section");
+        };
+    var underTest = new NLSImpl(adapter, config, locale);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.get("corrupt.key"))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-005: Corrupt section");
+  }
+
+  @Test
+  public void string_getByKey_notFound_cacheSizeExceeded() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = new StaticAdapterConfig().suppressErrors(true).missingKeyCacheSize(1);
+    var adapterCalls = new AtomicInteger();
+    Adapter adapter =
+        key -> {
+          if (key.startsWith("not.found")) {
+            adapterCalls.incrementAndGet();
+          }
+          return Optional.empty();
+        };
+    var underTest = new NLSImpl(adapter, config, locale);
+
+    // Act
+    underTest.get("not.found");
+    underTest.get("not.found2");
+    underTest.get("not.found");
+    underTest.get("not.found2");
+
+    // Assert
+    assertThat(adapterCalls.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void string_getByKey_notFound_cacheTimeout() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = new StaticAdapterConfig().suppressErrors(true).missingKeyCacheTimeout(0);
+    var adapterCalls = new AtomicInteger();
+    Adapter adapter =
+        key -> {
+          if (key.startsWith("not.found")) {
+            adapterCalls.incrementAndGet();
+          }
+          return Optional.empty();
+        };
+    var underTest = new NLSImpl(adapter, config, locale);
+
+    // Act
+    underTest.get("not.found");
+    underTest.get("not.found");
+
+    // Assert
+    assertThat(adapterCalls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void string_getByKeyAndArgs_notFound_isCached() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = new StaticAdapterConfig().suppressErrors(true);
+    var adapterCalls = new AtomicInteger();
+    Adapter adapter =
+        key -> {
+          if (key.startsWith("not.found")) {
+            adapterCalls.incrementAndGet();
+          }
+          return Optional.empty();
+        };
+    var underTest = new NLSImpl(adapter, config, locale);
+
+    // Act
+    var result = underTest.get("not.found", "arg");
+    var result2 = underTest.get("not.found", "arg");
+
+    // Assert
+    assertThat(result).isEqualTo("[not.found]");
+    assertThat(result2).isEqualTo("[not.found]");
+    assertThat(adapterCalls.get()).isEqualTo(1);
+  }
 }
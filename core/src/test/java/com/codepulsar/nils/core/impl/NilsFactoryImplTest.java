@@ -3,17 +3,30 @@ package com.codepulsar.nils.core.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import com.codepulsar.nils.api.NLS;
 import com.codepulsar.nils.api.NilsConfig;
 import com.codepulsar.nils.api.NilsFactory;
 import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.core.testadapter.ClosingAdapterFactory;
 import com.codepulsar.nils.core.testadapter.InvalidAdapterFactory;
+import com.codepulsar.nils.core.testadapter.InvalidatingAdapterFactory;
+import com.codepulsar.nils.core.testadapter.SlowAdapterFactory;
 import com.codepulsar.nils.core.testadapter.StaticAdapterConfig;
 import com.codepulsar.nils.core.testadapter.TestFactoryAdapterConfig;
 import com.codepulsar.nils.core.testdata.Dummy;
@@ -150,6 +163,21 @@ public class NilsFactoryImplTest {
     assertThat(nlsDefault2).isNotEqualTo(nlsDefault);
   }
 
+  @Test
+  void reset_closesAdapterFactory() {
+    // Arrange
+    ClosingAdapterFactory.CLOSED.set(0);
+    NilsFactory _underTest =
+        NilsFactory.init(new TestFactoryAdapterConfig(ClosingAdapterFactory.class));
+    _underTest.nls(Locale.GERMAN);
+
+    // Act
+    _underTest.reset();
+
+    // Assert
+    assertThat(ClosingAdapterFactory.CLOSED).hasValue(1);
+  }
+
   @ParameterizedTest
   @MethodSource(DATA_PROVIDER + "#nlsFromLang_invalid")
   void nlsFromLang_invalid(String lang, String errorMsg) {
@@ -600,4 +628,445 @@ public class NilsFactoryImplTest {
     // Assert
     assertThat(nls).isInstanceOf(FallsaveNLSImpl.class);
   }
+
+  @Test
+  void nls_concurrentFirstRequests_createdOnce() throws Exception {
+    // Arrange
+    SlowAdapterFactory.CREATED.clear();
+    NilsFactory _underTest =
+        NilsFactory.init(new TestFactoryAdapterConfig(SlowAdapterFactory.class));
+    var threads = 16;
+    var executor = Executors.newFixedThreadPool(threads);
+    var start = new CountDownLatch(1);
+    var tasks = new ArrayList<Callable<NLS>>();
+    for (int i = 0; i < threads; i++) {
+      tasks.add(
+          () -> {
+            start.await();
+            return _underTest.nls(Locale.ITALIAN);
+          });
+    }
+
+    try {
+      // Act
+      var futures = new ArrayList<Future<NLS>>();
+      tasks.forEach(task -> futures.add(executor.submit(task)));
+      start.countDown();
+
+      // Assert
+      var first = futures.get(0).get(10, TimeUnit.SECONDS);
+      for (var future : futures) {
+        assertThat(future.get(10, TimeUnit.SECONDS)).isSameAs(first);
+      }
+      assertThat(SlowAdapterFactory.CREATED.get(Locale.ITALIAN)).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void nls_slowLocale_doesNotBlockOtherLocales() throws Exception {
+    // Arrange
+    SlowAdapterFactory.CREATED.clear();
+    NilsFactory _underTest =
+        NilsFactory.init(new TestFactoryAdapterConfig(SlowAdapterFactory.class));
+    _underTest.nls(Locale.GERMAN);
+    var executor = Executors.newSingleThreadExecutor();
+
+    try {
+      // Act
+      var slow = executor.submit(() -> _underTest.nls(Locale.FRENCH));
+      while (!SlowAdapterFactory.CREATED.containsKey(Locale.FRENCH)) {
+        Thread.sleep(1);
+      }
+      var startTime = System.nanoTime();
+      var nls = _underTest.nls(Locale.GERMAN);
+      var duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+      // Assert
+      assertThat(nls.getLocale()).isEqualTo(Locale.GERMAN);
+      assertThat(slow.isDone()).isFalse();
+      assertThat(duration).isLessThan(250);
+      assertThat(slow.get(10, TimeUnit.SECONDS).getLocale()).isEqualTo(Locale.FRENCH);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void reload() throws Exception {
+    // Arrange
+    SlowAdapterFactory.CREATED.clear();
+    SlowAdapterFactory.failing = false;
+    NilsFactory _underTest =
+        NilsFactory.init(new TestFactoryAdapterConfig(SlowAdapterFactory.class));
+    var nlsDe = _underTest.nls(Locale.GERMAN);
+    var nlsIt = _underTest.nls(Locale.ITALIAN);
+
+    // Act
+    var reload = _underTest.reload();
+    var nlsDeWhileReloading = _underTest.nls(Locale.GERMAN);
+    reload.get(10, TimeUnit.SECONDS);
+
+    // Assert
+    assertThat(nlsDeWhileReloading).isSameAs(nlsDe);
+    assertThat(_underTest.nls(Locale.GERMAN)).isNotSameAs(nlsDe);
+    assertThat(_underTest.nls(Locale.ITALIAN)).isNotSameAs(nlsIt);
+    assertThat(SlowAdapterFactory.CREATED.get(Locale.GERMAN)).hasValue(2);
+    assertThat(SlowAdapterFactory.CREATED.get(Locale.ITALIAN)).hasValue(2);
+    assertThat(nlsDe.get("simple")).isEqualTo("A simple translation");
+  }
+
+  @Test
+  void reload_closesReplacedAdapterFactory() throws Exception {
+    // Arrange
+    ClosingAdapterFactory.CLOSED.set(0);
+    NilsFactory _underTest =
+        NilsFactory.init(new TestFactoryAdapterConfig(ClosingAdapterFactory.class));
+    var nlsDe = _underTest.nls(Locale.GERMAN);
+
+    // Act
+    _underTest.reload().get(10, TimeUnit.SECONDS);
+
+    // Assert
+    assertThat(ClosingAdapterFactory.CLOSED).hasValue(1);
+    assertThat(_underTest.nls(Locale.GERMAN)).isNotSameAs(nlsDe);
+  }
+
+  @Test
+  void reload_failing_keepsGeneration() throws Exception {
+    // Arrange
+    SlowAdapterFactory.CREATED.clear();
+    SlowAdapterFactory.failing = false;
+    var _config = new TestFactoryAdapterConfig(SlowAdapterFactory.class);
+    _config.suppressErrors(false);
+    NilsFactory _underTest = NilsFactory.init(_config);
+    var nlsDe = _underTest.nls(Locale.GERMAN);
+    SlowAdapterFactory.failing = true;
+    var executor = Executors.newSingleThreadExecutor();
+
+    try {
+      // Act
+      var reload = _underTest.reload(executor);
+
+      // Assert
+      assertThatThrownBy(() -> reload.get(10, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(NilsException.class)
+          .hasMessageContaining("Test error.");
+      assertThat(_underTest.nls(Locale.GERMAN)).isSameAs(nlsDe);
+    } finally {
+      SlowAdapterFactory.failing = false;
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void reload_failing_suppressErrors_keepsGeneration() throws Exception {
+    // Arrange
+    SlowAdapterFactory.CREATED.clear();
+    SlowAdapterFactory.failing = false;
+    var _config = new TestFactoryAdapterConfig(SlowAdapterFactory.class);
+    _config.suppressErrors(true);
+    NilsFactory _underTest = NilsFactory.init(_config);
+    var nlsDe = _underTest.nls(Locale.GERMAN);
+    SlowAdapterFactory.failing = true;
+
+    try {
+      // Act
+      var reload = _underTest.reload();
+
+      // Assert
+      assertThatThrownBy(() -> reload.get(10, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(NilsException.class)
+          .hasMessageContaining("Test error.");
+      assertThat(_underTest.nls(Locale.GERMAN)).isSameAs(nlsDe);
+      assertThat(nlsDe.get("simple")).isEqualTo("A simple translation");
+    } finally {
+      SlowAdapterFactory.failing = false;
+    }
+  }
+
+  @Test
+  void reload_fallsaveLocale_notFailing() throws Exception {
+    // Arrange
+    SlowAdapterFactory.CREATED.clear();
+    SlowAdapterFactory.failing = false;
+    var _config = new TestFactoryAdapterConfig(SlowAdapterFactory.class);
+    _config.suppressErrors(true);
+    NilsFactory _underTest = NilsFactory.init(_config);
+    SlowAdapterFactory.failing = true;
+    var nlsDe = _underTest.nls(Locale.GERMAN);
+
+    try {
+      // Act
+      _underTest.reload().get(10, TimeUnit.SECONDS);
+      var nlsDeStillBroken = _underTest.nls(Locale.GERMAN);
+      SlowAdapterFactory.failing = false;
+      _underTest.reload().get(10, TimeUnit.SECONDS);
+
+      // Assert
+      assertThat(nlsDe.get("simple")).isEqualTo("[simple]");
+      assertThat(nlsDeStillBroken.get("simple")).isEqualTo("[simple]");
+      assertThat(_underTest.nls(Locale.GERMAN).get("simple")).isEqualTo("A simple translation");
+      assertThat(SlowAdapterFactory.CREATED.get(Locale.GERMAN)).hasValue(3);
+    } finally {
+      SlowAdapterFactory.failing = false;
+    }
+  }
+
+  @Test
+  void reload_superseded_retried() throws Exception {
+    // Arrange
+    SlowAdapterFactory.CREATED.clear();
+    SlowAdapterFactory.failing = false;
+    NilsFactory _underTest =
+        NilsFactory.init(new TestFactoryAdapterConfig(SlowAdapterFactory.class));
+    _underTest.nls(Locale.GERMAN);
+    var tasks = new ArrayList<Runnable>();
+    Executor executor = tasks::add;
+
+    // Act
+    var reload = _underTest.reload(executor);
+    _underTest.reset();
+    var nlsDeAfterReset = _underTest.nls(Locale.GERMAN);
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+
+    // Assert
+    assertThat(reload).isCompleted();
+    reload.get(10, TimeUnit.SECONDS);
+    assertThat(_underTest.nls(Locale.GERMAN)).isNotSameAs(nlsDeAfterReset);
+    assertThat(SlowAdapterFactory.CREATED.get(Locale.GERMAN)).hasValue(4);
+  }
+
+  @Test
+  void reload_supersededRepeatedly_failing() {
+    // Arrange
+    SlowAdapterFactory.CREATED.clear();
+    SlowAdapterFactory.failing = false;
+    NilsFactory _underTest =
+        NilsFactory.init(new TestFactoryAdapterConfig(SlowAdapterFactory.class));
+    _underTest.nls(Locale.GERMAN);
+    Executor executor =
+        task -> {
+          _underTest.reset();
+          _underTest.nls(Locale.GERMAN);
+          task.run();
+        };
+
+    // Act
+    var reload = _underTest.reload(executor);
+
+    // Assert
+    assertThatThrownBy(() -> reload.get(10, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(NilsException.class)
+        .hasMessageContaining(
+            "NILS-005: The reload was superseded by a reset or another reload 3 times.");
+  }
+
+  @Test
+  void reload_executorNull() {
+    // Arrange
+    config.suppressErrors(false);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.reload((Executor) null))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-003: Parameter 'executor' cannot be null.");
+  }
+
+  @Test
+  void reload_locales() throws Exception {
+    // Arrange
+    SlowAdapterFactory.CREATED.clear();
+    SlowAdapterFactory.failing = false;
+    InvalidatingAdapterFactory.INVALIDATED.clear();
+    NilsFactory _underTest =
+        NilsFactory.init(new TestFactoryAdapterConfig(InvalidatingAdapterFactory.class));
+    var nlsDeDe = _underTest.nls(Locale.GERMANY);
+    var nlsDe = _underTest.nls(Locale.GERMAN);
+    var nlsIt = _underTest.nls(Locale.ITALIAN);
+
+    // Act
+    var reload = _underTest.reload(List.of(Locale.GERMAN));
+    var nlsDeWhileReloading = _underTest.nls(Locale.GERMAN);
+    reload.get(10, TimeUnit.SECONDS);
+
+    // Assert
+    assertThat(nlsDeWhileReloading).isSameAs(nlsDe);
+    assertThat(_underTest.nls(Locale.GERMAN)).isNotSameAs(nlsDe);
+    assertThat(_underTest.nls(Locale.GERMANY)).isNotSameAs(nlsDeDe);
+    assertThat(_underTest.nls(Locale.ITALIAN)).isSameAs(nlsIt);
+    assertThat(SlowAdapterFactory.CREATED.get(Locale.GERMAN)).hasValue(2);
+    assertThat(SlowAdapterFactory.CREATED.get(Locale.GERMANY)).hasValue(2);
+    assertThat(SlowAdapterFactory.CREATED.get(Locale.ITALIAN)).hasValue(1);
+    assertThat(InvalidatingAdapterFactory.INVALIDATED).containsExactly(Set.of(Locale.GERMAN));
+  }
+
+  @Test
+  void reload_locales_consecutive() throws Exception {
+    // Arrange
+    SlowAdapterFactory.CREATED.clear();
+    SlowAdapterFactory.failing = false;
+    InvalidatingAdapterFactory.INVALIDATED.clear();
+    NilsFactory _underTest =
+        NilsFactory.init(new TestFactoryAdapterConfig(InvalidatingAdapterFactory.class));
+    var nlsDe = _underTest.nls(Locale.GERMAN);
+    var nlsIt = _underTest.nls(Locale.ITALIAN);
+
+    // Act
+    var reloadDe = _underTest.reload(List.of(Locale.GERMAN));
+    var reloadIt = _underTest.reload(List.of(Locale.ITALIAN));
+    reloadIt.get(10, TimeUnit.SECONDS);
+
+    // Assert
+    assertThat(reloadDe).isDone();
+    assertThat(_underTest.nls(Locale.GERMAN)).isNotSameAs(nlsDe);
+    assertThat(_underTest.nls(Locale.ITALIAN)).isNotSameAs(nlsIt);
+    assertThat(SlowAdapterFactory.CREATED.get(Locale.GERMAN)).hasValue(2);
+    assertThat(SlowAdapterFactory.CREATED.get(Locale.ITALIAN)).hasValue(2);
+  }
+
+  @Test
+  void reload_locales_notSupported_reloadsAll() throws Exception {
+    // Arrange
+    SlowAdapterFactory.CREATED.clear();
+    SlowAdapterFactory.failing = false;
+    NilsFactory _underTest =
+        NilsFactory.init(new TestFactoryAdapterConfig(SlowAdapterFactory.class));
+    var nlsDe = _underTest.nls(Locale.GERMAN);
+    var nlsIt = _underTest.nls(Locale.ITALIAN);
+
+    // Act
+    _underTest.reload(List.of(Locale.GERMAN)).get(10, TimeUnit.SECONDS);
+
+    // Assert
+    assertThat(_underTest.nls(Locale.GERMAN)).isNotSameAs(nlsDe);
+    assertThat(_underTest.nls(Locale.ITALIAN)).isNotSameAs(nlsIt);
+    assertThat(SlowAdapterFactory.CREATED.get(Locale.ITALIAN)).hasValue(2);
+  }
+
+  @Test
+  void reload_localesNull() {
+    // Arrange
+    config.suppressErrors(false);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.reload((List<Locale>) null))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-003: Parameter 'locales' cannot be null.");
+  }
+
+  @Test
+  void preload() throws Exception {
+    // Arrange
+    SlowAdapterFactory.CREATED.clear();
+    SlowAdapterFactory.failing = false;
+    NilsFactory _underTest =
+        NilsFactory.init(new TestFactoryAdapterConfig(SlowAdapterFactory.class));
+
+    // Act
+    _underTest.preload(List.of(Locale.GERMANY, Locale.GERMAN)).get(10, TimeUnit.SECONDS);
+    _underTest.nls(Locale.GERMANY);
+    _underTest.nls(Locale.ROOT);
+
+    // Assert
+    assertThat(SlowAdapterFactory.CREATED)
+        .containsOnlyKeys(Locale.GERMANY, Locale.GERMAN, Locale.ROOT);
+    assertThat(SlowAdapterFactory.CREATED.get(Locale.GERMANY)).hasValue(1);
+    assertThat(SlowAdapterFactory.CREATED.get(Locale.GERMAN)).hasValue(1);
+    assertThat(SlowAdapterFactory.CREATED.get(Locale.ROOT)).hasValue(1);
+  }
+
+  @Test
+  void preloadAll() throws Exception {
+    // Arrange
+    SlowAdapterFactory.CREATED.clear();
+    SlowAdapterFactory.failing = false;
+    NilsFactory _underTest =
+        NilsFactory.init(new TestFactoryAdapterConfig(SlowAdapterFactory.class));
+    var executor = Executors.newFixedThreadPool(4);
+
+    try {
+      // Act
+      _underTest.preloadAll(executor).get(10, TimeUnit.SECONDS);
+
+      // Assert
+      assertThat(SlowAdapterFactory.CREATED)
+          .containsOnlyKeys(Locale.GERMANY, Locale.GERMAN, Locale.ITALIAN, Locale.ROOT);
+      _underTest.nls(Locale.ITALIAN);
+      assertThat(SlowAdapterFactory.CREATED.get(Locale.ITALIAN)).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void preload_failing() throws Exception {
+    // Arrange
+    SlowAdapterFactory.CREATED.clear();
+    SlowAdapterFactory.failing = true;
+    var _config = new TestFactoryAdapterConfig(SlowAdapterFactory.class);
+    _config.suppressErrors(false);
+    NilsFactory _underTest = NilsFactory.init(_config);
+
+    try {
+      // Act
+      var preload = _underTest.preload(List.of(Locale.GERMAN));
+
+      // Assert
+      assertThatThrownBy(() -> preload.get(10, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(NilsException.class)
+          .hasMessageContaining("Test error.");
+    } finally {
+      SlowAdapterFactory.failing = false;
+    }
+  }
+
+  @Test
+  void preload_failing_suppressErrors() throws Exception {
+    // Arrange
+    SlowAdapterFactory.CREATED.clear();
+    SlowAdapterFactory.failing = true;
+    var _config = new TestFactoryAdapterConfig(SlowAdapterFactory.class);
+    _config.suppressErrors(true);
+    NilsFactory _underTest = NilsFactory.init(_config);
+
+    try {
+      // Act
+      var preload = _underTest.preload(List.of(Locale.GERMAN));
+
+      // Assert
+      assertThatThrownBy(() -> preload.get(10, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(NilsException.class)
+          .hasMessageContaining("Test error.");
+      SlowAdapterFactory.failing = false;
+      assertThat(_underTest.nls(Locale.GERMAN).get("simple")).isEqualTo("A simple translation");
+    } finally {
+      SlowAdapterFactory.failing = false;
+    }
+  }
+
+  @Test
+  void preload_localesNull() {
+    // Arrange
+    config.suppressErrors(false);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.preload(null))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-003: Parameter 'locales' cannot be null.");
+  }
+
+  @Test
+  void preloadAll_executorNull() {
+    // Arrange
+    config.suppressErrors(false);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.preloadAll(null))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-003: Parameter 'executor' cannot be null.");
+  }
 }
@@ -1,5 +1,7 @@
 package com.codepulsar.nils.core.testadapter;
 
+import java.nio.file.Path;
+
 import com.codepulsar.nils.api.adapter.AdapterFactory;
 import com.codepulsar.nils.api.adapter.config.LocalizedResourceConfig;
 import com.codepulsar.nils.core.adapter.config.BaseNilsConfig;
@@ -12,6 +14,14 @@ public class BaseLocalizedResourceAdapterTesteeConfig
 
   private String baseFileName = "nls/translation.test";
 
+  private boolean compactTranslations = false;
+
+  private boolean fallbackActive = true;
+
+  private boolean compileIncludes = false;
+
+  private Path resourceDirectory;
+
   private BaseLocalizedResourceAdapterTesteeConfig(Module owner) {
     this.owner = owner;
   }
@@ -38,13 +48,63 @@ public class BaseLocalizedResourceAdapterTesteeConfig
 
   @Override
   public boolean isFallbackActive() {
-    return true;
+    return fallbackActive;
+  }
+
+  public BaseLocalizedResourceAdapterTesteeConfig fallbackActive(boolean fallbackActive) {
+    this.fallbackActive = fallbackActive;
+    return this;
+  }
+
+  @Override
+  public boolean isCompactTranslations() {
+    return compactTranslations;
+  }
+
+  @Override
+  public boolean isCompileIncludes() {
+    return compileIncludes;
+  }
+
+  public BaseLocalizedResourceAdapterTesteeConfig compileIncludes(boolean compileIncludes) {
+    this.compileIncludes = compileIncludes;
+    return this;
+  }
+
+  @Override
+  public boolean isMergeFallbacks() {
+    return false;
+  }
+
+  @Override
+  public boolean isLazySections() {
+    return false;
+  }
+
+  @Override
+  public Path getResourceDirectory() {
+    return resourceDirectory;
+  }
+
+  public BaseLocalizedResourceAdapterTesteeConfig resourceDirectory(Path resourceDirectory) {
+    this.resourceDirectory = resourceDirectory;
+    return this;
+  }
+
+  public BaseLocalizedResourceAdapterTesteeConfig compactTranslations(
+      boolean compactTranslations) {
+    this.compactTranslations = compactTranslations;
+    return this;
   }
 
   public static BaseLocalizedResourceAdapterTesteeConfig init(Class<?> owner) {
     return new BaseLocalizedResourceAdapterTesteeConfig(owner.getModule());
   }
 
+  public static BaseLocalizedResourceAdapterTesteeConfig init(Module owner) {
+    return new BaseLocalizedResourceAdapterTesteeConfig(owner);
+  }
+
   public static BaseLocalizedResourceAdapterTesteeConfig init(Object owner) {
     return init(owner.getClass());
   }
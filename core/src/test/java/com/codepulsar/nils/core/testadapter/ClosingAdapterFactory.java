@@ -0,0 +1,15 @@
+package com.codepulsar.nils.core.testadapter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.codepulsar.nils.api.adapter.AdapterFactory;
+
+/** An {@link AdapterFactory} counting, how often it was closed. */
+public class ClosingAdapterFactory extends StaticAdapterFactory implements AutoCloseable {
+  public static final AtomicInteger CLOSED = new AtomicInteger();
+
+  @Override
+  public void close() {
+    CLOSED.incrementAndGet();
+  }
+}
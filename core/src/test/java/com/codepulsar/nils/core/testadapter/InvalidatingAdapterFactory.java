@@ -0,0 +1,22 @@
+package com.codepulsar.nils.core.testadapter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.codepulsar.nils.api.NilsConfig;
+import com.codepulsar.nils.api.adapter.AdapterFactory;
+
+/** A {@link SlowAdapterFactory} recording the invalidated {@code Locale}s. */
+public class InvalidatingAdapterFactory extends SlowAdapterFactory {
+  public static final List<Collection<Locale>> INVALIDATED = new CopyOnWriteArrayList<>();
+
+  @Override
+  public Optional<AdapterFactory<StaticAdapter>> invalidatedCopy(
+      NilsConfig<?> config, Collection<Locale> locales) {
+    INVALIDATED.add(locales);
+    return Optional.of(new InvalidatingAdapterFactory());
+  }
+}
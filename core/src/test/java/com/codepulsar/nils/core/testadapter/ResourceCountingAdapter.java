@@ -0,0 +1,46 @@
+package com.codepulsar.nils.core.testadapter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Properties;
+
+import com.codepulsar.nils.api.NilsConfig;
+import com.codepulsar.nils.api.adapter.config.LocalizedResourceConfig;
+import com.codepulsar.nils.core.adapter.AdapterContext;
+import com.codepulsar.nils.core.adapter.BaseLocalizedResourceAdapter;
+import com.codepulsar.nils.core.adapter.util.LocalizedResourceResolver;
+
+public class ResourceCountingAdapter
+    extends BaseLocalizedResourceAdapter<ResourceCountingAdapter, NilsConfig<?>> {
+
+  public ResourceCountingAdapter(AdapterContext<ResourceCountingAdapter> context) {
+    super(context);
+  }
+
+  @Override
+  protected InputStream resolveInputStream(String resource) {
+    try {
+      var owner = ((LocalizedResourceConfig) adapterConfig).getOwnerModule();
+      return owner.getResourceAsStream(resource);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  protected void initTranslations(LocalizedResourceResolver resolver) {
+    try (var inputStream = resolver.resolve()) {
+      var properties = new Properties();
+      properties.load(inputStream);
+      var translations = new HashMap<String, String>();
+      properties.forEach((key, value) -> translations.put((String) key, (String) value));
+      translation = createTranslationRetriever(translations);
+      resourceName = resolver.getUsedResourceName();
+      ((ResourceCountingAdapterFactory) adapterContext.getFactory()).countParse();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.codepulsar.nils.core.testadapter;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.codepulsar.nils.api.NilsConfig;
+import com.codepulsar.nils.core.adapter.AdapterContext;
+import com.codepulsar.nils.core.adapter.BaseAdapterFactory;
+
+public class ResourceCountingAdapterFactory extends BaseAdapterFactory<ResourceCountingAdapter> {
+  private final AtomicInteger parses = new AtomicInteger();
+
+  public int getParses() {
+    return parses.get();
+  }
+
+  void countParse() {
+    parses.incrementAndGet();
+  }
+
+  @Override
+  protected List<Class<? extends NilsConfig<?>>> getValidAdapterConfigClasses() {
+    return List.of(BaseLocalizedResourceAdapterTesteeConfig.class);
+  }
+
+  @Override
+  protected ResourceCountingAdapter createAdapter(AdapterContext<ResourceCountingAdapter> context) {
+    return new ResourceCountingAdapter(context);
+  }
+}
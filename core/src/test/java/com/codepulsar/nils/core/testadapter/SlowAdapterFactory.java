@@ -0,0 +1,37 @@
+package com.codepulsar.nils.core.testadapter;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.codepulsar.nils.api.NilsConfig;
+import com.codepulsar.nils.api.adapter.AdapterFactory;
+import com.codepulsar.nils.api.error.NilsException;
+import com.codepulsar.nils.core.error.ErrorTypes;
+
+/** An {@link AdapterFactory} counting the created adapters, taking some time for each. */
+public class SlowAdapterFactory implements AdapterFactory<StaticAdapter> {
+  public static final Map<Locale, AtomicInteger> CREATED = new ConcurrentHashMap<>();
+  public static volatile boolean failing = false;
+
+  @Override
+  public StaticAdapter create(NilsConfig<?> config, Locale locale) {
+    CREATED.computeIfAbsent(locale, l -> new AtomicInteger()).incrementAndGet();
+    if (failing) {
+      throw new NilsException(ErrorTypes.ADAPTER_ERROR, "Test error.");
+    }
+    try {
+      Thread.sleep(Locale.FRENCH.equals(locale) ? 500 : 50);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return new StaticAdapter();
+  }
+
+  @Override
+  public Set<Locale> getAvailableLocales(NilsConfig<?> config) {
+    return Set.of(Locale.GERMANY, Locale.ITALIAN);
+  }
+}
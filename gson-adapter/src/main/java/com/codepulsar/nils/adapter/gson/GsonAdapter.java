@@ -3,10 +3,13 @@ package com.codepulsar.nils.adapter.gson;
 import static com.codepulsar.nils.adapter.gson.utils.GsonErrorTypes.CORRUPT_FILE_ERROR;
 import static com.codepulsar.nils.core.error.ErrorTypes.IO_ERROR;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -17,7 +20,8 @@ import com.codepulsar.nils.api.error.NilsException;
 import com.codepulsar.nils.core.adapter.AdapterContext;
 import com.codepulsar.nils.core.adapter.BaseLocalizedResourceAdapter;
 import com.codepulsar.nils.core.adapter.util.LocalizedResourceResolver;
-import com.codepulsar.nils.core.adapter.util.MapTranslationRetriever;
+import com.codepulsar.nils.core.adapter.util.SectionScanner;
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
@@ -25,6 +29,7 @@ import com.google.gson.stream.JsonReader;
 /** An {@link Adapter} implementation using JSON files for the translations. */
 public class GsonAdapter extends BaseLocalizedResourceAdapter<GsonAdapter, GsonAdapterConfig> {
   private static final Logger LOG = LoggerFactory.getLogger(GsonAdapter.class);
+  private static final Gson GSON = new GsonBuilder().create();
 
   public GsonAdapter(AdapterContext<GsonAdapter> context) {
     super(context);
@@ -32,13 +37,18 @@ public class GsonAdapter extends BaseLocalizedResourceAdapter<GsonAdapter, GsonA
 
   @Override
   protected void initTranslations(LocalizedResourceResolver resolver) {
-    var gson = new GsonBuilder().create();
-    try (var fileReader = new InputStreamReader(resolver.resolve(), StandardCharsets.UTF_8);
-        var jsonReader = new JsonReader(fileReader); ) {
-      Map<String, Object> translations = gson.fromJson(jsonReader, Map.class);
-      translation = new MapTranslationRetriever(translations);
+    try (var inputStream = resolver.resolve()) {
+      if (isLazySectionsActive()) {
+        initLazyTranslations(inputStream.readAllBytes(), resolver.getUsedResourceName());
+      } else {
+        translation = createTranslationRetriever(read(inputStream));
+      }
       LOG.debug("Translation for locale {} read.", locale);
-    } catch (JsonIOException | JsonSyntaxException | IOException e) {
+    } catch (JsonIOException
+        | JsonSyntaxException
+        | IOException
+        | IllegalStateException
+        | NumberFormatException e) {
       throw CORRUPT_FILE_ERROR
           .asException()
           .message("Error reading JSON file '%s'.")
@@ -51,6 +61,99 @@ public class GsonAdapter extends BaseLocalizedResourceAdapter<GsonAdapter, GsonA
     this.resourceName = resolver.getUsedResourceName();
   }
 
+  private void initLazyTranslations(byte[] data, String resource) throws IOException {
+    var sections = SectionScanner.scanJson(data);
+    if (sections.isEmpty()) {
+      LOG.debug("Sections of '{}' not found. Reading the whole file.", resource);
+      translation = createTranslationRetriever(read(new ByteArrayInputStream(data)));
+      return;
+    }
+    translation =
+        createLazyTranslationRetriever(
+            data,
+            sections.get(),
+            (section, content) -> readSection(content, section.getName(), resource));
+  }
+
+  private Map<String, String> readSection(byte[] content, String name, String resource) {
+    try (var jsonReader = createJsonReader(new ByteArrayInputStream(content))) {
+      var translations = new HashMap<String, String>();
+      readValue(jsonReader, name, translations);
+      return translations;
+    } catch (JsonIOException
+        | JsonSyntaxException
+        | IOException
+        | IllegalStateException
+        | NumberFormatException e) {
+      throw CORRUPT_FILE_ERROR
+          .asException()
+          .message("Error reading JSON file '%s'.")
+          .args(resource)
+          .cause(e)
+          .go();
+    }
+  }
+
+  /**
+   * Reads the tokens of an object directly into the full keys and translations, without building
+   * the nested {@code Map}s first.
+   */
+  private static Map<String, String> read(InputStream inputStream) throws IOException {
+    var jsonReader = createJsonReader(inputStream);
+    var translations = new HashMap<String, String>();
+    readObject(jsonReader, null, translations);
+    return translations;
+  }
+
+  private static void readObject(JsonReader jsonReader, String prefix, Map<String, String> target)
+      throws IOException {
+    var names = new HashSet<String>();
+    jsonReader.beginObject();
+    while (jsonReader.hasNext()) {
+      var name = jsonReader.nextName();
+      if (!names.add(name)) {
+        // Like binding the file to a Map
+        throw new JsonSyntaxException("duplicate key: " + name);
+      }
+      readValue(jsonReader, prefix != null ? prefix + "." + name : name, target);
+    }
+    jsonReader.endObject();
+  }
+
+  private static void readValue(JsonReader jsonReader, String key, Map<String, String> target)
+      throws IOException {
+    switch (jsonReader.peek()) {
+      case BEGIN_OBJECT:
+        readObject(jsonReader, key, target);
+        break;
+      case BEGIN_ARRAY:
+        // Arrays are no translations, but are kept as text like before
+        target.put(key, String.valueOf(GSON.getAdapter(Object.class).read(jsonReader)));
+        break;
+      case NUMBER:
+        // Numbers are read as double like before, i.e. "42.0"
+        target.put(key, String.valueOf(jsonReader.nextDouble()));
+        break;
+      case BOOLEAN:
+        target.put(key, String.valueOf(jsonReader.nextBoolean()));
+        break;
+      case NULL:
+        jsonReader.nextNull();
+        break;
+      default:
+        target.put(key, jsonReader.nextString());
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private static JsonReader createJsonReader(InputStream inputStream) {
+    var jsonReader =
+        new JsonReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    // The same leniency as Gson.fromJson(JsonReader, Class)
+    jsonReader.setLenient(true);
+    return jsonReader;
+  }
+
   @Override
   protected InputStream resolveInputStream(String resource) {
     try {
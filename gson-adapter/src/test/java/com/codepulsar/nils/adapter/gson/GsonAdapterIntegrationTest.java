@@ -3,15 +3,22 @@ package com.codepulsar.nils.adapter.gson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.codepulsar.nils.api.NLS;
 import com.codepulsar.nils.api.NilsFactory;
 import com.codepulsar.nils.api.error.NilsException;
 import com.codepulsar.nils.core.adapter.AdapterContext;
+import com.codepulsar.nils.core.adapter.util.ResourceDirectoryWatcher;
 
 public class GsonAdapterIntegrationTest {
 
@@ -115,6 +122,45 @@ public class GsonAdapterIntegrationTest {
         .hasMessage("NILS-001: Could not find a translation for key 'not.found' and locale 'en'.");
   }
 
+  @Test
+  public void lazySections_corruptSection_escaping() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config =
+        GsonAdapterConfig.init(this)
+            .baseFileName("test/duplicate")
+            .lazySections(true)
+            .suppressErrors(true);
+    var underTest = NilsFactory.init(config).nls(locale);
+
+    // Act
+    var corrupt = underTest.get("nested.key");
+    var corruptAgain = underTest.get("nested.key");
+    var valid = underTest.get("translate.me");
+
+    // Assert
+    assertThat(corrupt).isEqualTo("[nested.key]");
+    assertThat(corruptAgain).isEqualTo("[nested.key]");
+    assertThat(valid).isEqualTo("Translated");
+  }
+
+  @Test
+  public void lazySections_corruptSection_exception() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config =
+        GsonAdapterConfig.init(this)
+            .baseFileName("test/duplicate")
+            .lazySections(true)
+            .suppressErrors(false);
+    var underTest = NilsFactory.init(config).nls(locale);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.get("nested.key"))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-100: Error reading JSON file '/test/duplicate.json'.");
+  }
+
   @Test
   public void string_getByKeyAndArgs_found() {
     // Arrange
@@ -229,6 +275,198 @@ public class GsonAdapterIntegrationTest {
         .hasMessage("NILS-002: Found circular include on 'Cycle2'.");
   }
 
+  @Test
+  public void compileIncludes_resolveValueWithMoreLevels() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = adapterConfig.compileIncludes(true);
+    var context =
+        new AdapterContext<GsonAdapter>()
+            .config(config)
+            .locale(locale)
+            .factory(new GsonAdapterFactory());
+    var adapter = new GsonAdapter(context);
+    var underTest = NilsFactory.init(config).nls(locale);
+
+    // Actual
+    assertThat(adapter.isIncludesCompiled()).isTrue();
+    assertThat(adapter.getTranslation("Level1.value")).contains("Value (Level0)");
+    assertThat(adapter.getTranslation("Level2.value")).contains("Value (Level0)");
+
+    // Act
+    var translation = underTest.get("Level2.value");
+
+    // Assert
+    assertThat(translation).isEqualTo("Value (Level0)");
+  }
+
+  @Test
+  public void compileIncludes_fallback() {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var config = adapterConfig.compileIncludes(true);
+    var underTest = NilsFactory.init(config).nls(locale);
+
+    // Act
+    var translation = underTest.get("data.Message.buttons.ok");
+
+    // Assert
+    assertThat(translation).isEqualTo("OK (BaseMessage)");
+    assertThat(underTest.get("data.Message.buttons.cancel")).isEqualTo("Cancel (Message)");
+  }
+
+  @Test
+  public void compileIncludes_includedKeyOverriddenByLocale() {
+    // Arrange
+    var config = GsonAdapterConfig.init(this).baseFileName("test/includes");
+    var compiledConfig = GsonAdapterConfig.init(this).baseFileName("test/includes");
+    compiledConfig.compileIncludes(true);
+
+    // Act
+    var translation = NilsFactory.init(config).nls(Locale.GERMAN).get("Message.ok");
+    var compiledTranslation =
+        NilsFactory.init(compiledConfig).nls(Locale.GERMAN).get("Message.ok");
+
+    // Assert
+    assertThat(translation).isEqualTo("Gut");
+    assertThat(compiledTranslation).isEqualTo("Gut");
+    assertThat(NilsFactory.init(compiledConfig).nls(Locale.ENGLISH).get("Message.ok"))
+        .isEqualTo("OK");
+  }
+
+  @Test
+  public void compileIncludes_circularInclude() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = adapterConfig.compileIncludes(true);
+    var underTest = NilsFactory.init(config).nls(locale);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.get("Cycle1.value"))
+        .isInstanceOf(NilsException.class)
+        .hasMessage(
+            "NILS-001: Could not find a translation for key 'Cycle1.value' and locale 'en'.");
+  }
+
+  @Test
+  public void mergeFallbacks() {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var config = adapterConfig.mergeFallbacks(true);
+    var underTest = NilsFactory.init(config).nls(locale);
+
+    // Act
+    var simple = underTest.get("simple");
+    var fallback = underTest.get("fallback");
+
+    // Assert
+    assertThat(simple).isEqualTo("Eine einfache Übersetzung");
+    assertThat(fallback).isEqualTo("A fallback translation");
+    assertThat(underTest.get("Level2.value")).isEqualTo("Value (Level0)");
+  }
+
+  @Test
+  public void mergeFallbacks_sourceLocale() {
+    // Arrange
+    var config = adapterConfig.mergeFallbacks(true);
+    var context =
+        new AdapterContext<GsonAdapter>()
+            .config(config)
+            .locale(new Locale("de", "AT"))
+            .factory(new GsonAdapterFactory());
+    var underTest = new GsonAdapter(context);
+
+    // Act / Assert
+    assertThat(underTest.getTranslation("fallback")).contains("A fallback translation");
+    assertThat(underTest.getSourceLocale("simple")).contains(Locale.GERMAN);
+    assertThat(underTest.getSourceLocale("fallback")).contains(Locale.ROOT);
+    assertThat(underTest.getSourceLocale("not_existing")).isEmpty();
+  }
+
+  @Test
+  public void sourceLocale_withoutMerge() {
+    // Arrange
+    var context =
+        new AdapterContext<GsonAdapter>()
+            .config(adapterConfig)
+            .locale(Locale.GERMANY)
+            .factory(new GsonAdapterFactory());
+    var underTest = new GsonAdapter(context);
+
+    // Act / Assert
+    assertThat(underTest.getSourceLocale("simple")).contains(Locale.GERMAN);
+    assertThat(underTest.getSourceLocale("fallback")).contains(Locale.ROOT);
+  }
+
+  @Test
+  public void mergeFallbacks_compileIncludes() {
+    // Arrange
+    var config = adapterConfig.mergeFallbacks(true).compileIncludes(true);
+    var underTest = NilsFactory.init(config).nls(Locale.GERMAN);
+
+    // Act
+    var translation = underTest.get("data.Message.buttons.ok");
+
+    // Assert
+    assertThat(translation).isEqualTo("OK (BaseMessage)");
+    assertThat(underTest.get("fallback")).isEqualTo("A fallback translation");
+  }
+
+  @Test
+  public void resourceDirectory_watched(@TempDir Path directory) throws Exception {
+    // Arrange
+    Files.createDirectory(directory.resolve("test"));
+    Files.writeString(directory.resolve("test/watched.json"), "{\"key\":\"Root\"}");
+    Files.writeString(directory.resolve("test/watched_de.json"), "{\"key\":\"Alt\"}");
+    var config =
+        GsonAdapterConfig.init(this).resourceDirectory(directory).baseFileName("test/watched");
+    var factory = NilsFactory.init(config);
+    var nlsEn = factory.nls(Locale.ENGLISH);
+    assertThat(factory.nls(Locale.GERMAN).get("key")).isEqualTo("Alt");
+
+    try (var underTest = ResourceDirectoryWatcher.watch(factory, config, Duration.ofMillis(50))) {
+      // Act
+      var temp = Files.writeString(directory.resolve("test/watched.tmp"), "{\"key\":\"Neu\"}");
+      Files.move(temp, directory.resolve("test/watched_de.json"), StandardCopyOption.ATOMIC_MOVE);
+
+      // Assert
+      var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (!"Neu".equals(factory.nls(Locale.GERMAN).get("key"))
+          && System.nanoTime() < deadline) {
+        Thread.sleep(20);
+      }
+      assertThat(factory.nls(Locale.GERMAN).get("key")).isEqualTo("Neu");
+      assertThat(factory.nls(Locale.ENGLISH)).isSameAs(nlsEn);
+      assertThat(underTest.getDirectory()).isEqualTo(directory.resolve("test"));
+    }
+  }
+
+  @Test
+  public void resourceDirectory_reloadBroken_keepsTranslations(@TempDir Path directory)
+      throws Exception {
+    // Arrange
+    Files.createDirectory(directory.resolve("test"));
+    Files.writeString(directory.resolve("test/broken.json"), "{\"key\":\"Root\"}");
+    var config =
+        GsonAdapterConfig.init(this)
+            .resourceDirectory(directory)
+            .baseFileName("test/broken")
+            .suppressErrors(true);
+    var factory = NilsFactory.init(config);
+    var nls = factory.nls(Locale.ROOT);
+    var temp = Files.writeString(directory.resolve("test/broken.tmp"), "{\"key\":");
+    Files.move(temp, directory.resolve("test/broken.json"), StandardCopyOption.REPLACE_EXISTING);
+
+    // Act
+    var reload = factory.reload();
+
+    // Assert
+    assertThatThrownBy(() -> reload.get(10, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(NilsException.class);
+    assertThat(factory.nls(Locale.ROOT)).isSameAs(nls);
+    assertThat(nls.get("key")).isEqualTo("Root");
+  }
+
   private static class Dummy {
     // Dummy class
   }
@@ -3,16 +3,20 @@ package com.codepulsar.nils.adapter.gson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.nio.file.Path;
 import java.util.Locale;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import com.codepulsar.nils.api.NilsConfig;
 import com.codepulsar.nils.api.error.NilsException;
 import com.codepulsar.nils.core.adapter.AdapterContext;
 import com.codepulsar.nils.core.adapter.BaseLocalizedResourceAdapter;
+import com.google.gson.JsonSyntaxException;
 
 public class GsonAdapterTest {
 
@@ -133,6 +137,33 @@ public class GsonAdapterTest {
     assertThat(value).isEmpty();
   }
 
+  @Test
+  public void translateKeyFound_compactTranslations() {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var config =
+        GsonAdapterConfig.init(this).baseFileName("test/existing").compactTranslations(true);
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new GsonAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.me");
+    // Assert
+    assertThat(value).isNotEmpty();
+    assertThat(value.get()).isEqualTo("Ich bin übersetzt!");
+
+    // Act
+    value = underTest.getTranslation("translate.fallback");
+    // Assert
+    assertThat(value).isNotEmpty();
+    assertThat(value.get()).isEqualTo("I'm a fallback!");
+
+    // Act
+    value = underTest.getTranslation("translate.fallback_notfound");
+    // Assert
+    assertThat(value).isEmpty();
+  }
+
   @Test
   public void translateKeyFound1() {
     // Arrange
@@ -250,4 +281,162 @@ public class GsonAdapterTest {
         .isInstanceOf(NilsException.class)
         .hasMessage("NILS-100: Error reading JSON file '/test/non_json.json'.");
   }
+
+  @Test
+  public void translateKeyFound_lazySections() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = GsonAdapterConfig.init(this).lazySections(true);
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new GsonAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("deep.deeper.deeperkey4");
+
+    // Assert
+    assertThat(value).hasValue("Key 4");
+    assertThat(underTest.getTranslation("key1")).hasValue("Key 1");
+    assertThat(underTest.getTranslation("deep.non_existing")).isEmpty();
+    assertThat(underTest.getKeys())
+        .containsExactlyInAnyOrder(
+            "key1", "key2", "deep.deepkey3", "deep.deeper.deeperkey4", "numberValue");
+  }
+
+  @Test
+  public void translateKeyFallback_lazySections() {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var config = GsonAdapterConfig.init(this).baseFileName("test/existing").lazySections(true);
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new GsonAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.fallback");
+
+    // Assert
+    assertThat(value).hasValue("I'm a fallback!");
+  }
+
+  @Test
+  public void corruptJsonFile_lazySections() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = GsonAdapterConfig.init(this).baseFileName("test/corrupt").lazySections(true);
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new GsonAdapter(context);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.getTranslation("translate.me"))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-100: Error reading JSON file '/test/corrupt.json'.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  public void translateKeyFound_valueTypes(boolean lazySections) {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config =
+        GsonAdapterConfig.init(this).baseFileName("test/types").lazySections(lazySections);
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new GsonAdapter(context);
+
+    // Act
+    var keys = underTest.getKeys();
+
+    // Assert
+    assertThat(keys)
+        .containsExactlyInAnyOrder(
+            "text", "number", "decimal", "flag", "list", "nested.deeper.text", "nested.dotted.key");
+    assertThat(underTest.getTranslation("text")).hasValue("Text");
+    assertThat(underTest.getTranslation("number")).hasValue("42.0");
+    assertThat(underTest.getTranslation("decimal")).hasValue("1.5");
+    assertThat(underTest.getTranslation("flag")).hasValue("true");
+    assertThat(underTest.getTranslation("empty")).isEmpty();
+    assertThat(underTest.getTranslation("list")).hasValue("[a, b]");
+    assertThat(underTest.getTranslation("nested.deeper.text")).hasValue("Nested text");
+    assertThat(underTest.getTranslation("nested.dotted.key")).hasValue("Dotted");
+  }
+
+  @Test
+  public void duplicateKey() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = GsonAdapterConfig.init(this).baseFileName("test/duplicate");
+    var context = adapterContext.locale(locale).config(config);
+
+    // Act / Assert
+    assertThatThrownBy(() -> new GsonAdapter(context))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-100: Error reading JSON file '/test/duplicate.json'.")
+        .hasRootCauseMessage("duplicate key: key");
+  }
+
+  @Test
+  public void duplicateKey_lazySections() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = GsonAdapterConfig.init(this).baseFileName("test/duplicate").lazySections(true);
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new GsonAdapter(context);
+
+    // Act / Assert
+    assertThat(underTest.getTranslation("translate.me")).hasValue("Translated");
+    assertThatThrownBy(() -> underTest.getTranslation("nested.key"))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-100: Error reading JSON file '/test/duplicate.json'.")
+        .hasRootCauseInstanceOf(JsonSyntaxException.class)
+        .hasRootCauseMessage("duplicate key: key");
+  }
+
+  @Test
+  public void duplicateKey_root() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = GsonAdapterConfig.init(this).baseFileName("test/duplicate_root");
+    var context = adapterContext.locale(locale).config(config);
+
+    // Act / Assert
+    assertThatThrownBy(() -> new GsonAdapter(context))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-100: Error reading JSON file '/test/duplicate_root.json'.")
+        .hasRootCauseMessage("duplicate key: key");
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  public void resourceDirectory(boolean lazySections) {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var config =
+        GsonAdapterConfig.init(this)
+            .resourceDirectory(Path.of("src/test/resources"))
+            .baseFileName("test/existing")
+            .lazySections(lazySections);
+    var context = adapterContext.locale(locale).config(config);
+    var underTest = new GsonAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.me");
+
+    // Assert
+    assertThat(value).hasValue("Ich bin übersetzt!");
+    assertThat(underTest.getTranslation("translate.fallback")).hasValue("I'm a fallback!");
+  }
+
+  @Test
+  public void resourceDirectory_corruptFile() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config =
+        GsonAdapterConfig.init(this)
+            .resourceDirectory(Path.of("src/test/resources"))
+            .baseFileName("test/corrupt");
+    var context = adapterContext.locale(locale).config(config);
+
+    // Act / Assert
+    assertThatThrownBy(() -> new GsonAdapter(context))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-100: Error reading JSON file '/test/corrupt.json'.");
+  }
 }
@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -18,7 +19,11 @@ import com.codepulsar.nils.api.error.NilsException;
 import com.codepulsar.nils.core.adapter.AdapterContext;
 import com.codepulsar.nils.core.adapter.BaseLocalizedResourceAdapter;
 import com.codepulsar.nils.core.adapter.util.LocalizedResourceResolver;
-import com.codepulsar.nils.core.adapter.util.MapTranslationRetriever;
+import com.codepulsar.nils.core.adapter.util.SectionScanner;
+import com.codepulsar.nils.core.adapter.util.SectionScanner.Section;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 /** An {@link Adapter} implementation using for JSON and YAML files for the translations. */
 public class JacksonAdapter
@@ -30,12 +35,18 @@ public class JacksonAdapter
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   protected void initTranslations(LocalizedResourceResolver resolver) {
     ObjectMapper objectMapper = resolveObjectMapper();
-    try (var fileReader = new InputStreamReader(resolver.resolve(), StandardCharsets.UTF_8); ) {
-      Map<String, Object> translations = objectMapper.readValue(fileReader, Map.class);
-      translation = new MapTranslationRetriever(translations);
+    try (var inputStream = resolver.resolve()) {
+      if (isLazySectionsActive()) {
+        initLazyTranslations(
+            objectMapper, inputStream.readAllBytes(), resolver.getUsedResourceName());
+      } else {
+        var fileReader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+        try (var parser = objectMapper.createParser(fileReader)) {
+          translation = createTranslationRetriever(read(parser));
+        }
+      }
       LOG.debug("Translation for locale {} read.", locale);
     } catch (NilsException e) {
       throw e;
@@ -52,6 +63,101 @@ public class JacksonAdapter
     this.resourceName = resolver.getUsedResourceName();
   }
 
+  private void initLazyTranslations(ObjectMapper objectMapper, byte[] data, String resource)
+      throws IOException {
+    var yaml = "YAML".equals(objectMapper.getFactory().getFormatName());
+    var sections = yaml ? SectionScanner.scanYaml(data) : SectionScanner.scanJson(data);
+    if (sections.isEmpty()) {
+      LOG.debug("Sections of '{}' not found. Reading the whole file.", resource);
+      try (var parser = objectMapper.createParser(data)) {
+        translation = createTranslationRetriever(read(parser));
+      }
+      return;
+    }
+    translation =
+        createLazyTranslationRetriever(
+            data,
+            sections.get(),
+            (section, content) -> readSection(objectMapper, yaml, content, section, resource));
+  }
+
+  private Map<String, String> readSection(
+      ObjectMapper objectMapper, boolean yaml, byte[] content, Section section, String resource) {
+    try (var parser = objectMapper.createParser(content)) {
+      if (yaml) {
+        // A YAML section is a document containing the top-level key
+        return read(parser);
+      }
+      var translations = new HashMap<String, String>();
+      parser.nextToken();
+      readValue(parser, section.getName(), translations);
+      return translations;
+    } catch (IOException e) {
+      throw CORRUPT_FILE_ERROR
+          .asException()
+          .message("Error reading file '%s'.")
+          .args(resource)
+          .cause(e)
+          .go();
+    }
+  }
+
+  /**
+   * Reads the tokens of an object directly into the full keys and translations, without building
+   * the nested {@code Map}s first.
+   */
+  private Map<String, String> read(JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new JsonParseException(parser, "The translations must be an object.");
+    }
+    var translations = new HashMap<String, String>();
+    readObject(parser, null, translations);
+    return translations;
+  }
+
+  private void readObject(JsonParser parser, String prefix, Map<String, String> target)
+      throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      var name = parser.currentName();
+      parser.nextToken();
+      readValue(parser, prefix == null ? name : prefix + "." + name, target);
+    }
+  }
+
+  private void readValue(JsonParser parser, String key, Map<String, String> target)
+      throws IOException {
+    switch (parser.currentToken()) {
+      case START_OBJECT:
+        readObject(parser, key, target);
+        break;
+      case START_ARRAY:
+        // Arrays are no translations, but are kept as text like before
+        target.put(key, String.valueOf(parser.readValueAs(Object.class)));
+        break;
+      case VALUE_STRING:
+        target.put(key, parser.getText());
+        break;
+      case VALUE_NUMBER_INT:
+      case VALUE_NUMBER_FLOAT:
+        target.put(key, parser.getNumberValue().toString());
+        break;
+      case VALUE_TRUE:
+      case VALUE_FALSE:
+        target.put(key, String.valueOf(parser.getBooleanValue()));
+        break;
+      case VALUE_EMBEDDED_OBJECT:
+        var value = parser.getEmbeddedObject();
+        if (value != null) {
+          target.put(key, value.toString());
+        }
+        break;
+      case VALUE_NULL:
+        break;
+      default:
+        throw new JsonParseException(parser, "Unexpected token " + parser.currentToken() + ".");
+    }
+  }
+
   private ObjectMapper resolveObjectMapper() {
     var pos = adapterConfig.getBaseFileName().lastIndexOf(".");
     var fileExtension = this.adapterConfig.getBaseFileName().substring(pos);
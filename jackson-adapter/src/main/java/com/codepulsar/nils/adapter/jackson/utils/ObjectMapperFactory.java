@@ -7,14 +7,36 @@ import com.codepulsar.nils.core.error.ErrorTypes;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+/**
+ * Resolves the {@code ObjectMapper} for a file extension.
+ *
+ * <p>The {@code ObjectMapper}s are created once and shared by all adapters, because creating them
+ * is expensive. They are thread-safe, as long as they are not reconfigured.
+ */
 public class ObjectMapperFactory {
+  private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+  private static volatile ObjectMapper yamlMapper;
 
   public ObjectMapper resolve(String fileExtension) {
     if (".yaml".equalsIgnoreCase(fileExtension) || ".yml".equalsIgnoreCase(fileExtension)) {
-      return new ObjectMapper(getYamlFactory());
+      return getYamlMapper();
     }
     // Default case for JSON files
-    return new ObjectMapper();
+    return JSON_MAPPER;
+  }
+
+  private ObjectMapper getYamlMapper() {
+    var mapper = yamlMapper;
+    if (mapper == null) {
+      synchronized (ObjectMapperFactory.class) {
+        mapper = yamlMapper;
+        if (mapper == null) {
+          mapper = new ObjectMapper(getYamlFactory());
+          yamlMapper = mapper;
+        }
+      }
+    }
+    return mapper;
   }
 
   private JsonFactory getYamlFactory() {
@@ -8,6 +8,8 @@ import java.util.Locale;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import com.codepulsar.nils.api.NilsConfig;
 import com.codepulsar.nils.api.error.NilsException;
@@ -251,4 +253,82 @@ public class JacksonAdapterJsonTest {
         .isInstanceOf(NilsException.class)
         .hasMessage("NILS-201: Error reading file '/test/non_json.json'.");
   }
+
+  @Test
+  public void translateKeyFound_lazySections() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = JacksonAdapterJsonConfig.init(this).lazySections(true);
+    context.config(config).locale(locale);
+    var underTest = new JacksonAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("deep.deeper.deeperkey4");
+
+    // Assert
+    assertThat(value).hasValue("Key 4");
+    assertThat(underTest.getTranslation("key1")).hasValue("Key 1");
+    assertThat(underTest.getTranslation("deep.non_existing")).isEmpty();
+    assertThat(underTest.getKeys())
+        .containsExactlyInAnyOrder(
+            "key1", "key2", "deep.deepkey3", "deep.deeper.deeperkey4", "numberValue");
+  }
+
+  @Test
+  public void translateKeyFallback_lazySections() {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var config =
+        JacksonAdapterJsonConfig.init(this).baseFileName("test/existing").lazySections(true);
+    context.config(config).locale(locale);
+    var underTest = new JacksonAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.fallback");
+
+    // Assert
+    assertThat(value).hasValue("I'm a fallback!");
+  }
+
+  @Test
+  public void corruptJsonFile_lazySections() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config =
+        JacksonAdapterJsonConfig.init(this).baseFileName("test/corrupt").lazySections(true);
+    context.config(config).locale(locale);
+    var underTest = new JacksonAdapter(context);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.getTranslation("translate.me"))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-201: Error reading file '/test/corrupt.json'.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  public void translateKeyFound_valueTypes(boolean lazySections) {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config =
+        JacksonAdapterJsonConfig.init(this).baseFileName("test/types").lazySections(lazySections);
+    context.config(config).locale(locale);
+    var underTest = new JacksonAdapter(context);
+
+    // Act
+    var keys = underTest.getKeys();
+
+    // Assert
+    assertThat(keys)
+        .containsExactlyInAnyOrder(
+            "text", "number", "decimal", "flag", "list", "nested.deeper.text", "nested.dotted.key");
+    assertThat(underTest.getTranslation("text")).hasValue("Text");
+    assertThat(underTest.getTranslation("number")).hasValue("42");
+    assertThat(underTest.getTranslation("decimal")).hasValue("1.5");
+    assertThat(underTest.getTranslation("flag")).hasValue("true");
+    assertThat(underTest.getTranslation("empty")).isEmpty();
+    assertThat(underTest.getTranslation("list")).hasValue("[a, b]");
+    assertThat(underTest.getTranslation("nested.deeper.text")).hasValue("Nested text");
+    assertThat(underTest.getTranslation("nested.dotted.key")).hasValue("Dotted");
+  }
 }
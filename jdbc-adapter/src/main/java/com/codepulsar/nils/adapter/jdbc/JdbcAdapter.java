@@ -6,37 +6,97 @@ import static com.codepulsar.nils.core.util.ParameterCheck.nilsException;
 import static com.codepulsar.nils.core.util.ParameterCheck.notNull;
 import static com.codepulsar.nils.core.util.ParameterCheck.notNullEmptyOrBlank;
 
-import java.sql.DriverManager;
+import java.lang.ref.WeakReference;
 import java.sql.SQLException;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.codepulsar.nils.adapter.jdbc.utils.ConnectionPool;
 import com.codepulsar.nils.adapter.jdbc.utils.JdbcErrorTypes;
 import com.codepulsar.nils.api.adapter.Adapter;
 import com.codepulsar.nils.api.error.NilsException;
 import com.codepulsar.nils.core.adapter.AdapterContext;
+import com.codepulsar.nils.core.adapter.util.CompactTranslationRetriever;
 import com.codepulsar.nils.core.adapter.util.FallbackAdapterHandler;
+import com.codepulsar.nils.core.adapter.util.TranslationRetriever;
+import com.codepulsar.nils.core.cache.CacheFactory;
+import com.codepulsar.nils.core.cache.NilsCache;
 
-/** An {@link Adapter} implementation for accessing a database via JDBC to get the translations. */
+/**
+ * An {@link Adapter} implementation for accessing a database via JDBC to get the translations.
+ *
+ * <p>The database is accessed through the {@link ConnectionPool} of the {@link JdbcAdapterFactory},
+ * so the connections and prepared statements are reused by the adapters of all {@code Locale}s. An
+ * adapter created by another factory uses a {@link JdbcAdapterFactory} of its own.
+ *
+ * <p>If {@link JdbcAdapterConfig#isPreload()} is set, all rows of the {@code Locale} are loaded by
+ * the first lookup into a {@link CompactTranslationRetriever}, which serves all further lookups.
+ *
+ * <p>A cached translation is returned without locking. Concurrent lookups of the same missing key
+ * wait for the one thread querying it, while lookups of other keys are not blocked. The number of
+ * concurrent queries is limited by {@link JdbcAdapterConfig#getMaxConcurrentQueries()}.
+ *
+ * <p>If {@link JdbcAdapterConfig#getCacheTimeout()} is set, each cached translation expires on its
+ * own, so the reloads are spread over time. If {@link
+ * JdbcAdapterConfig#isStaleWhileRevalidate()} is set, an expired translation is returned while it
+ * is reloaded in the background, so a lookup only waits for the database for a key never looked up
+ * before.
+ *
+ * <p>If {@link JdbcAdapterConfig#getVersionField()} is set, the first lookup starts a background
+ * synchronization. Every {@link JdbcAdapterConfig#getSyncInterval()} seconds the rows changed since
+ * the last synchronization are queried and applied to the cached translations (or the preloaded
+ * translations are loaded again), instead of clearing the cache after a timeout. The
+ * synchronization runs on the thread of the {@link JdbcAdapterFactory} and ends, when the factory
+ * is closed.
+ */
 public class JdbcAdapter implements Adapter {
   private static final Logger LOG = LoggerFactory.getLogger(JdbcAdapter.class);
 
-  private final ReentrantLock lock = new ReentrantLock();
   private final AdapterContext<JdbcAdapter> adapterContext;
   private final Locale locale;
   private final JdbcAdapterConfig adapterConfig;
-  private final Map<String, Optional<String>> cache = new HashMap<>();
+  private final NilsCache<String, Expiring<Optional<String>>> cache;
+  private final Map<String, CompletableFuture<Optional<String>>> loading =
+      new ConcurrentHashMap<>();
+  // Guards the preload of the translations and the start of the synchronization
+  private final Object resetLock = new Object();
+  private final JdbcAdapterFactory jdbcFactory;
+  private final ConnectionPool connectionPool;
   private boolean fallbackPossible = true;
   private String selectStatement;
+  private String preloadStatement;
+  private List<Locale> preloadLocales;
+  private boolean fallbacksPreloaded;
+  private volatile Expiring<TranslationRetriever> preloaded;
+  private final AtomicBoolean preloadRefreshing = new AtomicBoolean();
   private final FallbackAdapterHandler<JdbcAdapter> fallbackAdapterHandler;
-  private LocalDateTime nextReset;
+  private final boolean expiring;
+  private final boolean sync;
+  private String syncStartStatement;
+  private String syncStatement;
+  private String syncAllStatement;
+  private volatile boolean syncStarted;
+  private Object syncVersion;
+  private Set<List<String>> syncVersionRows = new HashSet<>();
 
   protected JdbcAdapter(AdapterContext<JdbcAdapter> context) {
     this.adapterContext = notNull(context, "context");
@@ -51,83 +111,391 @@ public class JdbcAdapter implements Adapter {
     }
     adapterConfig = (JdbcAdapterConfig) context.getConfig();
     locale = context.getLocale();
+    cache =
+        adapterConfig
+            .getCacheFactory()
+            .create(CacheFactory.ADAPTER_TRANSLATIONS, adapterConfig.getCacheSize());
     this.fallbackAdapterHandler =
         new FallbackAdapterHandler<>(adapterContext, adapterConfig.getRootLocale());
     checkConnectionConfig();
+    var factory = context.getFactory();
+    jdbcFactory =
+        factory instanceof JdbcAdapterFactory
+            ? (JdbcAdapterFactory) factory
+            : new JdbcAdapterFactory();
+    connectionPool = jdbcFactory.getConnectionPool(adapterConfig);
     initSelectStatement();
     initFallbackAvailable();
-    nextReset = LocalDateTime.now().plusSeconds(adapterConfig.getCacheTimeout());
+    initPreloadStatement();
+    sync = adapterConfig.getVersionField() != null;
+    if (sync) {
+      initSyncStatements();
+    }
+    expiring = adapterConfig.getCacheTimeout() >= 0L && !sync;
   }
 
   @Override
   public Optional<String> getTranslation(String key) {
-    lock.lock();
-    try {
-      notNullEmptyOrBlank(key, "key");
-      resetCache();
-      var value = cache.computeIfAbsent(key, this::resolveTranslation);
+    notNullEmptyOrBlank(key, "key");
+    startSync();
+    var value =
+        adapterConfig.isPreload() ? getPreloaded().retrieve(key) : getCachedTranslation(key);
 
-      if (value.isPresent()) {
-        return value;
-      }
+    if (value.isPresent()) {
+      return value;
+    }
+
+    if (fallbackPossible && !fallbacksPreloaded) {
+      value = fallbackAdapterHandler.getFallbackAdapter().getTranslation(key);
+    }
 
-      if (fallbackPossible) {
-        value = fallbackAdapterHandler.getFallbackAdapter().getTranslation(key);
+    return value;
+  }
+
+  private Optional<String> getCachedTranslation(String key) {
+    var entry = cache.get(key);
+    if (entry != null) {
+      if (!isExpired(entry)) {
+        return entry.value;
       }
+      if (adapterConfig.isStaleWhileRevalidate()) {
+        refresh(key);
+        return entry.value;
+      }
+    }
+
+    var loaded = new CompletableFuture<Optional<String>>();
+    var running = loading.putIfAbsent(key, loaded);
+    if (running != null) {
+      return await(running);
+    }
+    // The key may have been loaded, while this thread was waiting
+    entry = cache.get(key);
+    if (entry != null && !isExpired(entry)) {
+      loading.remove(key, loaded);
+      loaded.complete(entry.value);
+      return entry.value;
+    }
+    return load(key, loaded);
+  }
+
+  private void refresh(String key) {
+    var loaded = new CompletableFuture<Optional<String>>();
+    if (loading.putIfAbsent(key, loaded) != null) {
+      // Already reloaded by another lookup
+      return;
+    }
+    try {
+      adapterConfig
+          .getRefreshExecutor()
+          .execute(
+              () -> {
+                try {
+                  load(key, loaded);
+                } catch (RuntimeException e) {
+                  LOG.warn(
+                      "Could not reload the translation '{}' for locale '{}'. Reason {}",
+                      key,
+                      locale,
+                      e.getMessage(),
+                      e);
+                }
+              });
+    } catch (RuntimeException e) {
+      // I.e. the executor rejected the task. The expired value is reloaded by the next lookup.
+      loading.remove(key, loaded);
+      loaded.completeExceptionally(e);
+      LOG.warn("Could not start reloading the translation '{}'. Reason {}", key, e.getMessage(), e);
+    }
+  }
 
+  private Optional<String> load(String key, CompletableFuture<Optional<String>> loaded) {
+    try {
+      var value = resolveTranslation(key);
+      cache.put(key, expiring(value));
+      loaded.complete(value);
       return value;
+    } catch (RuntimeException e) {
+      loaded.completeExceptionally(e);
+      throw e;
     } finally {
-      lock.unlock();
+      loading.remove(key, loaded);
     }
   }
 
-  private void resetCache() {
-    if (adapterConfig.getCacheTimeout() < 0L) {
-      return;
+  private Optional<String> await(CompletableFuture<Optional<String>> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
     }
+  }
 
-    if (LocalDateTime.now().isAfter(nextReset)) {
-      cache.clear();
-      nextReset = LocalDateTime.now().plusSeconds(adapterConfig.getCacheTimeout());
+  private <T> Expiring<T> expiring(T value) {
+    if (!expiring) {
+      return new Expiring<>(value, 0L);
     }
+    var timeout = TimeUnit.SECONDS.toNanos(adapterConfig.getCacheTimeout());
+    var random = ThreadLocalRandom.current().nextDouble();
+    var jitter = (long) (timeout * adapterConfig.getCacheTimeoutJitter() * random);
+    return new Expiring<>(value, System.nanoTime() + timeout - jitter);
+  }
+
+  private boolean isExpired(Expiring<?> entry) {
+    return expiring && System.nanoTime() - entry.expiresAt >= 0L;
   }
 
   private Optional<String> resolveTranslation(String key) {
-    initByDriverName();
+    try {
+      return connectionPool.query(
+          selectStatement,
+          statement -> {
+            statement.setString(1, key);
+            statement.setString(2, locale.toString());
+            try (var resultSet = statement.executeQuery()) {
+              if (resultSet.next()) {
+                return Optional.ofNullable(resultSet.getString(adapterConfig.getValueField()));
+              }
+            }
+            return Optional.empty();
+          });
+    } catch (SQLException e) {
+      LOG.error(e.getMessage(), e);
+      throw JdbcErrorTypes.SQL_EXCEPTION.asException().cause(e).args(e.getMessage()).go();
+    }
+  }
+
+  private TranslationRetriever getPreloaded() {
+    var current = preloaded;
+    if (current != null && !isExpired(current)) {
+      return current.value;
+    }
+    if (current != null && adapterConfig.isStaleWhileRevalidate()) {
+      refreshPreloaded();
+      return current.value;
+    }
+    synchronized (resetLock) {
+      current = preloaded;
+      if (current == null || isExpired(current)) {
+        current = expiring(preload());
+        preloaded = current;
+      }
+    }
+    return current.value;
+  }
 
-    try (var con =
-            DriverManager.getConnection(
-                adapterConfig.getUrl(), adapterConfig.getUsername(), adapterConfig.getPassword());
-        var statement = con.prepareStatement(selectStatement)) {
+  private void refreshPreloaded() {
+    if (!preloadRefreshing.compareAndSet(false, true)) {
+      // Already reloaded by another lookup
+      return;
+    }
+    try {
+      adapterConfig
+          .getRefreshExecutor()
+          .execute(
+              () -> {
+                try {
+                  preloaded = expiring(preload());
+                } catch (RuntimeException e) {
+                  LOG.warn(
+                      "Could not reload the translations for locale '{}'. Reason {}",
+                      locale,
+                      e.getMessage(),
+                      e);
+                } finally {
+                  preloadRefreshing.set(false);
+                }
+              });
+    } catch (RuntimeException e) {
+      preloadRefreshing.set(false);
+      LOG.warn("Could not start reloading the translations. Reason {}", e.getMessage(), e);
+    }
+  }
 
-      statement.setString(1, key);
-      statement.setString(2, locale.toString());
+  private TranslationRetriever preload() {
+    var ranks = new HashMap<String, Integer>();
+    for (var preloadLocale : preloadLocales) {
+      ranks.put(preloadLocale.toString(), ranks.size());
+    }
+    try {
+      var translations =
+          connectionPool.queryStreaming(
+              preloadStatement,
+              statement -> {
+                statement.setFetchSize(adapterConfig.getFetchSize());
+                for (int i = 0; i < preloadLocales.size(); i++) {
+                  statement.setString(i + 1, preloadLocales.get(i).toString());
+                }
+                var values = new HashMap<String, String>();
+                var keyRanks = new HashMap<String, Integer>();
+                try (var resultSet = statement.executeQuery()) {
+                  while (resultSet.next()) {
+                    var key = resultSet.getString(1);
+                    var value = resultSet.getString(2);
+                    var rank = ranks.get(resultSet.getString(3));
+                    if (key == null || value == null || rank == null) {
+                      continue;
+                    }
+                    // The translation of the more specific locale shadows the others
+                    var shadowing = keyRanks.get(key);
+                    if (shadowing == null || rank < shadowing) {
+                      keyRanks.put(key, rank);
+                      values.put(key, value);
+                    }
+                  }
+                }
+                return values;
+              });
+      LOG.debug("Preloaded {} translations for locale '{}'.", translations.size(), locale);
+      return new CompactTranslationRetriever(translations);
+    } catch (SQLException e) {
+      LOG.error(e.getMessage(), e);
+      throw JdbcErrorTypes.SQL_EXCEPTION.asException().cause(e).args(e.getMessage()).go();
+    }
+  }
 
-      try (var resultSet = statement.executeQuery()) {
-        if (resultSet.next()) {
-          return Optional.ofNullable(resultSet.getString(adapterConfig.getValueField()));
+  private void startSync() {
+    if (!sync || syncStarted) {
+      return;
+    }
+    synchronized (resetLock) {
+      if (syncStarted) {
+        return;
+      }
+      // Taken before the first translation is loaded, so no later change is missed
+      queryCurrentVersion();
+      var task = new SyncTask(this);
+      task.future = jdbcFactory.scheduleSync(task, adapterConfig.getSyncInterval()).orElse(null);
+      if (task.future == null) {
+        LOG.debug("The factory is closed, locale '{}' is not synchronized.", locale);
+      }
+      syncStarted = true;
+    }
+  }
+
+  /**
+   * Applies the rows changed since the last synchronization to the cached translations.
+   *
+   * @return The number of changed rows.
+   */
+  synchronized int sync() {
+    var lastVersion = syncVersion;
+    var lastVersionRows = syncVersionRows;
+    var changes = new LinkedHashMap<String, Optional<String>>();
+    var changedRows = 0;
+    var version = lastVersion;
+    var versionRows = new HashSet<>(lastVersionRows);
+    try {
+      var rows =
+          connectionPool.query(
+              lastVersion != null ? syncStatement : syncAllStatement,
+              statement -> {
+                for (int i = 0; i < preloadLocales.size(); i++) {
+                  statement.setString(i + 1, preloadLocales.get(i).toString());
+                }
+                if (lastVersion != null) {
+                  statement.setObject(preloadLocales.size() + 1, lastVersion);
+                }
+                var result = new ArrayList<Object[]>();
+                try (var resultSet = statement.executeQuery()) {
+                  while (resultSet.next()) {
+                    result.add(
+                        new Object[] {
+                          resultSet.getString(1),
+                          resultSet.getString(2),
+                          resultSet.getString(3),
+                          resultSet.getObject(4)
+                        });
+                  }
+                }
+                return result;
+              });
+      for (var row : rows) {
+        var key = (String) row[0];
+        var rowLocale = (String) row[2];
+        var rowVersion = row[3];
+        if (key == null || rowLocale == null) {
+          continue;
+        }
+        var rowId = List.of(rowLocale, key);
+        if (!Objects.equals(rowVersion, version)) {
+          version = rowVersion;
+          versionRows = new HashSet<>();
+        } else if (versionRows.contains(rowId)) {
+          // Already applied by the last synchronization
+          continue;
+        }
+        versionRows.add(rowId);
+        changedRows++;
+        if (locale.toString().equals(rowLocale)) {
+          changes.put(key, Optional.ofNullable((String) row[1]));
         }
       }
     } catch (SQLException e) {
       LOG.error(e.getMessage(), e);
       throw JdbcErrorTypes.SQL_EXCEPTION.asException().cause(e).args(e.getMessage()).go();
     }
-    return Optional.empty();
-  }
+    syncVersion = version;
+    syncVersionRows = versionRows;
+    if (changedRows == 0) {
+      return 0;
+    }
 
-  private void initByDriverName() {
-    var driverClass = adapterConfig.getDriverClass();
-    if (driverClass != null && !driverClass.isBlank()) {
-      try {
-        Class.forName(driverClass);
-      } catch (ClassNotFoundException e) {
-        LOG.error(e.getMessage(), e);
-        throw JdbcErrorTypes.MISSING_JDBC_DRIVER.asException().cause(e).go();
+    LOG.debug("Synchronizing {} changed translations for locale '{}'.", changedRows, locale);
+    if (adapterConfig.isPreload()) {
+      if (preloaded != null) {
+        preloaded = expiring(preload());
       }
+    } else {
+      changes.forEach(this::applyChange);
+    }
+    return changedRows;
+  }
+
+  private void applyChange(String key, Optional<String> value) {
+    // A lookup caches its value before it leaves the loading map. So the loading map is checked
+    // first: A lookup not found there has either cached its value already or reads the changed row.
+    var running = loading.get(key);
+    if (running != null) {
+      // The running lookup may have read the row before the change
+      running.whenComplete((v, e) -> cache.remove(key));
+    }
+    if (cache.get(key) != null) {
+      cache.put(key, expiring(value));
+    }
+  }
+
+  private void queryCurrentVersion() {
+    try {
+      connectionPool.query(
+          syncStartStatement,
+          statement -> {
+            var size = preloadLocales.size();
+            for (int i = 0; i < size; i++) {
+              statement.setString(i + 1, preloadLocales.get(i).toString());
+              statement.setString(size + i + 1, preloadLocales.get(i).toString());
+            }
+            try (var resultSet = statement.executeQuery()) {
+              while (resultSet.next()) {
+                syncVersion = resultSet.getObject(3);
+                syncVersionRows.add(List.of(resultSet.getString(1), resultSet.getString(2)));
+              }
+            }
+            return null;
+          });
+    } catch (SQLException e) {
+      LOG.error(e.getMessage(), e);
+      throw JdbcErrorTypes.SQL_EXCEPTION.asException().cause(e).args(e.getMessage()).go();
     }
   }
 
   private void checkConnectionConfig() {
+    if (adapterConfig.getDataSource() != null) {
+      return;
+    }
     try {
       notNullEmptyOrBlank(adapterConfig.getUrl(), "url", nilsException(CONFIG_ERROR));
       notNullEmptyOrBlank(adapterConfig.getUsername(), "username", nilsException(CONFIG_ERROR));
@@ -138,22 +506,127 @@ public class JdbcAdapter implements Adapter {
   }
 
   private void initSelectStatement() {
-    var table =
-        adapterConfig.getSchema() != null
-            ? adapterConfig.getSchema() + "." + adapterConfig.getTableName()
-            : adapterConfig.getTableName();
-
     selectStatement =
         String.format(
             "SELECT %1$s FROM %2$s WHERE %3$s = ? AND %4$s = ?",
             adapterConfig.getValueField(),
-            table,
+            getTable(),
             adapterConfig.getKeyField(),
             adapterConfig.getLocaleField());
   }
 
+  private void initPreloadStatement() {
+    fallbacksPreloaded =
+        adapterConfig.isPreload() && adapterConfig.isMergeFallbacks() && fallbackPossible;
+    preloadLocales = new ArrayList<>();
+    preloadLocales.add(locale);
+    if (fallbacksPreloaded) {
+      var rootLocale = adapterConfig.getRootLocale();
+      var current = locale;
+      while (!current.equals(rootLocale)) {
+        if (!current.getVariant().isEmpty()) {
+          current = new Locale(current.getLanguage(), current.getCountry());
+        } else if (!current.getCountry().isEmpty() && !current.getLanguage().isEmpty()) {
+          current = new Locale(current.getLanguage());
+        } else {
+          current = rootLocale;
+        }
+        if (!preloadLocales.contains(current)) {
+          preloadLocales.add(current);
+        }
+      }
+    }
+
+    var placeholders = String.join(", ", Collections.nCopies(preloadLocales.size(), "?"));
+    preloadStatement =
+        String.format(
+            "SELECT %1$s, %2$s, %3$s FROM %4$s WHERE %3$s IN (%5$s)",
+            adapterConfig.getKeyField(),
+            adapterConfig.getValueField(),
+            adapterConfig.getLocaleField(),
+            getTable(),
+            placeholders);
+  }
+
+  private void initSyncStatements() {
+    var placeholders = String.join(", ", Collections.nCopies(preloadLocales.size(), "?"));
+    syncStartStatement =
+        String.format(
+            "SELECT %1$s, %2$s, %3$s FROM %4$s WHERE %1$s IN (%5$s) AND %3$s = "
+                + "(SELECT MAX(%3$s) FROM %4$s WHERE %1$s IN (%5$s))",
+            adapterConfig.getLocaleField(),
+            adapterConfig.getKeyField(),
+            adapterConfig.getVersionField(),
+            getTable(),
+            placeholders);
+    var select =
+        String.format(
+            "SELECT %1$s, %2$s, %3$s, %4$s FROM %5$s WHERE %3$s IN (%6$s)",
+            adapterConfig.getKeyField(),
+            adapterConfig.getValueField(),
+            adapterConfig.getLocaleField(),
+            adapterConfig.getVersionField(),
+            getTable(),
+            placeholders);
+    var order = " ORDER BY " + adapterConfig.getVersionField();
+    syncAllStatement = select + order;
+    // Rows with the last version are read again, because rows with the same version may have been
+    // committed after the last synchronization
+    syncStatement = select + " AND " + adapterConfig.getVersionField() + " >= ?" + order;
+  }
+
+  private String getTable() {
+    return adapterConfig.getSchema() != null
+        ? adapterConfig.getSchema() + "." + adapterConfig.getTableName()
+        : adapterConfig.getTableName();
+  }
+
   private void initFallbackAvailable() {
     this.fallbackPossible =
         adapterConfig.isFallbackActive() && (!adapterConfig.getRootLocale().equals(locale));
   }
+
+  /** Synchronizes an adapter periodically, without keeping it from being garbage collected. */
+  private static final class SyncTask implements Runnable {
+    private final WeakReference<JdbcAdapter> adapter;
+    private volatile ScheduledFuture<?> future;
+
+    SyncTask(JdbcAdapter adapter) {
+      this.adapter = new WeakReference<>(adapter);
+    }
+
+    @Override
+    public void run() {
+      var current = adapter.get();
+      if (current == null) {
+        future.cancel(false);
+        return;
+      }
+      try {
+        current.sync();
+      } catch (RuntimeException e) {
+        LOG.warn(
+            "Could not synchronize the translations for locale '{}'. Reason {}",
+            current.locale,
+            e.getMessage(),
+            e);
+      }
+    }
+  }
+
+  /**
+   * A cached value with its expiry.
+   *
+   * @param <T> The type of the value.
+   */
+  private static final class Expiring<T> {
+    private final T value;
+    // Compared with System.nanoTime()
+    private final long expiresAt;
+
+    Expiring(T value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
 }
@@ -6,6 +6,12 @@ import static com.codepulsar.nils.core.util.ParameterCheck.notNull;
 import static com.codepulsar.nils.core.util.ParameterCheck.notNullEmptyOrBlank;
 
 import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
 
 import com.codepulsar.nils.api.adapter.AdapterFactory;
 import com.codepulsar.nils.core.adapter.config.BaseNilsConfig;
@@ -14,6 +20,31 @@ import com.codepulsar.nils.core.util.ParameterCheck;
 /** Configuration for the {@link JdbcAdapter} implementation. */
 public class JdbcAdapterConfig extends BaseNilsConfig<JdbcAdapterConfig> {
 
+  /** The default number of idle connections kept open: 4. */
+  public static final int DEFAULT_POOL_SIZE = 4;
+
+  /** The default number of queries executed at the same time: 8. */
+  public static final int DEFAULT_MAX_CONCURRENT_QUERIES = 8;
+
+  /** The default share of the cache timeout randomly subtracted per entry: 0.1. */
+  public static final double DEFAULT_CACHE_TIMEOUT_JITTER = 0.1;
+
+  /** The default interval in seconds between two synchronizations: 30. */
+  public static final long DEFAULT_SYNC_INTERVAL = 30L;
+
+  /** The default number of rows fetched per round trip while preloading: 500. */
+  public static final int DEFAULT_FETCH_SIZE = 500;
+
+  /** The default number of seconds a query may run: 30. */
+  public static final int DEFAULT_QUERY_TIMEOUT = 30;
+
+  // Seconds an idle thread of the default refresh executor is kept
+  private static final long REFRESH_KEEP_ALIVE = 60L;
+
+  private DataSource dataSource;
+  private int poolSize = DEFAULT_POOL_SIZE;
+  private int maxConcurrentQueries = DEFAULT_MAX_CONCURRENT_QUERIES;
+  private int queryTimeout = DEFAULT_QUERY_TIMEOUT;
   private String url;
   private String username;
   private String password = "";
@@ -28,6 +59,147 @@ public class JdbcAdapterConfig extends BaseNilsConfig<JdbcAdapterConfig> {
   private String valueField = "NLS_VALUE";
 
   private long cacheTimeout = -1L;
+  private double cacheTimeoutJitter = DEFAULT_CACHE_TIMEOUT_JITTER;
+  private boolean staleWhileRevalidate = false;
+  private Executor refreshExecutor;
+
+  private boolean preload = false;
+  private boolean mergeFallbacks = false;
+  private int fetchSize = DEFAULT_FETCH_SIZE;
+
+  private String versionField;
+  private long syncInterval = DEFAULT_SYNC_INTERVAL;
+
+  /**
+   * Get the {@code DataSource} providing the connections to the database.
+   *
+   * <p><em>Note: If a {@code DataSource} is set, the URL, user name, password and driver class are
+   * not used.</em>
+   *
+   * @return The {@code DataSource} or {@code null}, if the connections are opened by the {@code
+   *     DriverManager}.
+   */
+  public DataSource getDataSource() {
+    return dataSource;
+  }
+
+  /**
+   * Set the {@code DataSource} providing the connections to the database.
+   *
+   * <p>A connection is requested from the {@code DataSource} for each database access and closed
+   * afterwards, so the {@code DataSource} should pool its connections.
+   *
+   * @param dataSource A {@code DataSource}.
+   * @return This config object.
+   * @see #getDataSource()
+   */
+  protected JdbcAdapterConfig dataSource(DataSource dataSource) {
+    this.dataSource = notNull(dataSource, "dataSource", nilsException(CONFIG_ERROR));
+    return this;
+  }
+
+  /**
+   * Get the number of idle connections kept open for reuse.
+   *
+   * <p>The default value is {@link #DEFAULT_POOL_SIZE}.
+   *
+   * @return The number of idle connections.
+   */
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  /**
+   * Set the number of idle connections kept open for reuse.
+   *
+   * <p>The connections opened by the {@code DriverManager} are pooled per config. Each pooled
+   * connection keeps its prepared statements. More connections are opened, if needed, but only this
+   * number is kept open after use.
+   *
+   * <p><em>Note: The value is not used, if a {@code DataSource} is set.</em>
+   *
+   * <p>The default value is {@link #DEFAULT_POOL_SIZE}.
+   *
+   * @param poolSize The number of idle connections. Must be greater than 0.
+   * @return This config object.
+   * @see #getPoolSize()
+   */
+  public JdbcAdapterConfig poolSize(int poolSize) {
+    if (poolSize <= 0) {
+      throw CONFIG_ERROR.asException().message("Parameter 'poolSize' must be greater than 0.").go();
+    }
+    this.poolSize = poolSize;
+    return this;
+  }
+
+  /**
+   * Get the maximum number of queries executed at the same time.
+   *
+   * <p>The default value is {@link #DEFAULT_MAX_CONCURRENT_QUERIES}.
+   *
+   * @return The maximum number of queries.
+   */
+  public int getMaxConcurrentQueries() {
+    return maxConcurrentQueries;
+  }
+
+  /**
+   * Set the maximum number of queries executed at the same time.
+   *
+   * <p>The limit is shared by the adapters of all locales of this config. Lookups of missing keys
+   * wait, if the limit is reached, while cached translations are returned without waiting.
+   *
+   * <p>The default value is {@link #DEFAULT_MAX_CONCURRENT_QUERIES}.
+   *
+   * @param maxConcurrentQueries The maximum number of queries. Must be greater than 0.
+   * @return This config object.
+   * @see #getMaxConcurrentQueries()
+   */
+  public JdbcAdapterConfig maxConcurrentQueries(int maxConcurrentQueries) {
+    if (maxConcurrentQueries <= 0) {
+      throw CONFIG_ERROR
+          .asException()
+          .message("Parameter 'maxConcurrentQueries' must be greater than 0.")
+          .go();
+    }
+    this.maxConcurrentQueries = maxConcurrentQueries;
+    return this;
+  }
+
+  /**
+   * Get the number of seconds a query may run.
+   *
+   * <p>The default value is {@link #DEFAULT_QUERY_TIMEOUT}.
+   *
+   * @return The number of seconds or 0, if the queries are not limited.
+   */
+  public int getQueryTimeout() {
+    return queryTimeout;
+  }
+
+  /**
+   * Set the number of seconds a query may run.
+   *
+   * <p>The value is passed to the JDBC driver, which cancels a query running longer. So a hung
+   * query fails instead of blocking a connection, the lookups waiting for it and the
+   * synchronization of the translations.
+   *
+   * <p>The default value is {@link #DEFAULT_QUERY_TIMEOUT}.
+   *
+   * @param queryTimeout The number of seconds or 0 for no limit. Must not be negative.
+   * @return This config object.
+   * @see #getQueryTimeout()
+   */
+  public JdbcAdapterConfig queryTimeout(int queryTimeout) {
+    if (queryTimeout < 0) {
+      throw CONFIG_ERROR
+          .asException()
+          .message("Parameter 'queryTimeout' must not be negative.")
+          .go();
+    }
+    this.queryTimeout = queryTimeout;
+    return this;
+  }
 
   /**
    * Get the database URL.
@@ -281,8 +453,14 @@ public class JdbcAdapterConfig extends BaseNilsConfig<JdbcAdapterConfig> {
    * Set the timeout in seconds after the cache should be cleared and translations are reloaded from
    * the database.
    *
+   * <p>Each cached translation expires on its own after the timeout reduced by the {@link
+   * #getCacheTimeoutJitter()}, so it is reloaded by its next lookup (see {@link
+   * #isStaleWhileRevalidate()}). The preloaded translations expire as a whole.
+   *
    * <p>A value &lt; 0 disable the timeout.
    *
+   * <p><em>Note: The value is not used, if a {@link #getVersionField()} is set.</em>
+   *
    * <p>The default is -1.
    *
    * @param cacheTimeout The value in seconds.
@@ -294,6 +472,288 @@ public class JdbcAdapterConfig extends BaseNilsConfig<JdbcAdapterConfig> {
     return this;
   }
 
+  /**
+   * Get the share of the cache timeout randomly subtracted from the timeout of each entry.
+   *
+   * <p>The default is {@link #DEFAULT_CACHE_TIMEOUT_JITTER}.
+   *
+   * @return The share between 0 and 1.
+   */
+  public double getCacheTimeoutJitter() {
+    return cacheTimeoutJitter;
+  }
+
+  /**
+   * Set the share of the cache timeout randomly subtracted from the timeout of each entry.
+   *
+   * <p>The entries cached at the same time (i.e. after the start of the application) expire at
+   * different times, so they are not reloaded at once. With a cache timeout of 60 seconds and a
+   * jitter of 0.1 an entry expires after 54 to 60 seconds. A value of 0 disables the jitter.
+   *
+   * <p>The default is {@link #DEFAULT_CACHE_TIMEOUT_JITTER}.
+   *
+   * @param cacheTimeoutJitter The share between 0 and 1.
+   * @return This config object.
+   * @see #getCacheTimeoutJitter()
+   */
+  public JdbcAdapterConfig cacheTimeoutJitter(double cacheTimeoutJitter) {
+    if (!(cacheTimeoutJitter >= 0.0 && cacheTimeoutJitter <= 1.0)) {
+      throw CONFIG_ERROR
+          .asException()
+          .message("Parameter 'cacheTimeoutJitter' must be between 0 and 1.")
+          .go();
+    }
+    this.cacheTimeoutJitter = cacheTimeoutJitter;
+    return this;
+  }
+
+  /**
+   * Get the flag, if expired translations are returned while they are reloaded in the background.
+   *
+   * <p>The default is {@code false}.
+   *
+   * @return {@code true} if active, else {@code false}.
+   */
+  public boolean isStaleWhileRevalidate() {
+    return staleWhileRevalidate;
+  }
+
+  /**
+   * Set the flag, if expired translations are returned while they are reloaded in the background.
+   *
+   * <p>In case it is set to {@code true} a lookup of an expired translation returns the expired
+   * value without waiting and starts reloading it by the {@link #getRefreshExecutor()}. Only keys
+   * never looked up before wait for the database. The expired value is kept, if the reload fails.
+   *
+   * <p>In case it is set to {@code false} a lookup of an expired translation waits for the reload.
+   *
+   * <p><em>Note: The flag has no effect, if the {@link #getCacheTimeout()} is disabled.</em>
+   *
+   * <p>The default is {@code false}.
+   *
+   * @param staleWhileRevalidate {@code true} if active, else {@code false}.
+   * @return This config object.
+   * @see #isStaleWhileRevalidate()
+   */
+  public JdbcAdapterConfig staleWhileRevalidate(boolean staleWhileRevalidate) {
+    this.staleWhileRevalidate = staleWhileRevalidate;
+    return this;
+  }
+
+  /**
+   * Get the {@code Executor} reloading the expired translations in the background.
+   *
+   * <p>The default is a dedicated {@code Executor} of this config, created by the first call. It
+   * runs up to {@link #getMaxConcurrentQueries()} daemon threads, which terminate after being idle
+   * for a minute. So the reloads waiting for the database do not block the common {@code
+   * ForkJoinPool}.
+   *
+   * @return The {@code Executor}.
+   */
+  public synchronized Executor getRefreshExecutor() {
+    if (refreshExecutor == null) {
+      var executor =
+          new ThreadPoolExecutor(
+              maxConcurrentQueries,
+              maxConcurrentQueries,
+              REFRESH_KEEP_ALIVE,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              runnable -> {
+                var thread = new Thread(runnable, "nils-jdbc-refresh");
+                thread.setDaemon(true);
+                return thread;
+              });
+      executor.allowCoreThreadTimeOut(true);
+      refreshExecutor = executor;
+    }
+    return refreshExecutor;
+  }
+
+  /**
+   * Set the {@code Executor} reloading the expired translations in the background.
+   *
+   * <p><em>Note: The value is only used, if {@link #isStaleWhileRevalidate()} is set.</em>
+   *
+   * <p>The default is a dedicated {@code Executor} of this config (see {@link
+   * #getRefreshExecutor()}).
+   *
+   * @param refreshExecutor The {@code Executor}.
+   * @return This config object.
+   * @see #getRefreshExecutor()
+   */
+  public synchronized JdbcAdapterConfig refreshExecutor(Executor refreshExecutor) {
+    this.refreshExecutor =
+        notNull(refreshExecutor, "refreshExecutor", nilsException(CONFIG_ERROR));
+    return this;
+  }
+
+  /**
+   * Get the flag, if all translations of a locale are loaded by the first lookup.
+   *
+   * <p>The default is {@code false}.
+   *
+   * @return {@code true} if active, else {@code false}.
+   */
+  public boolean isPreload() {
+    return preload;
+  }
+
+  /**
+   * Set the flag, if all translations of a locale are loaded by the first lookup.
+   *
+   * <p>In case it is set to {@code true} the first lookup loads all rows of the locale by a single
+   * query and keeps them in a compact read-only index. Further lookups are served by the index
+   * without accessing the database, until the index is dropped after the {@link
+   * #getCacheTimeout()}.
+   *
+   * <p>The default is {@code false}, so each key is queried on its first lookup.
+   *
+   * @param preload {@code true} if active, else {@code false}.
+   * @return This config object.
+   * @see #isPreload()
+   */
+  public JdbcAdapterConfig preload(boolean preload) {
+    this.preload = preload;
+    return this;
+  }
+
+  /**
+   * Get the flag, if the translations of the fallback chain are preloaded with the translations of
+   * a locale.
+   *
+   * <p>The default is {@code false}.
+   *
+   * @return {@code true} if active, else {@code false}.
+   */
+  public boolean isMergeFallbacks() {
+    return mergeFallbacks;
+  }
+
+  /**
+   * Set the flag, if the translations of the fallback chain are preloaded with the translations of
+   * a locale.
+   *
+   * <p>In case it is set to {@code true} the rows of the locale and of all its fallback locales
+   * ("de_DE" &gt; "de" &gt; root locale) are loaded by the same query and merged into one index.
+   * The translations of the more specific locale shadow the others.
+   *
+   * <p><em>Note: The flag has no effect, if {@link #isPreload()} or {@link #isFallbackActive()} is
+   * {@code false}.</em>
+   *
+   * <p>The default is {@code false}.
+   *
+   * @param mergeFallbacks {@code true} if active, else {@code false}.
+   * @return This config object.
+   * @see #isMergeFallbacks()
+   */
+  public JdbcAdapterConfig mergeFallbacks(boolean mergeFallbacks) {
+    this.mergeFallbacks = mergeFallbacks;
+    return this;
+  }
+
+  /**
+   * Get the number of rows fetched from the database per round trip while preloading.
+   *
+   * <p>The default is {@link #DEFAULT_FETCH_SIZE}.
+   *
+   * @return The number of rows.
+   */
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  /**
+   * Set the number of rows fetched from the database per round trip while preloading.
+   *
+   * <p>The value is passed to the JDBC driver as hint, so the rows are streamed instead of being
+   * read at once. The preload query is executed with auto-commit turned off, because some drivers
+   * (i.e. the PostgreSQL driver) ignore the fetch size otherwise.
+   *
+   * <p>The default is {@link #DEFAULT_FETCH_SIZE}.
+   *
+   * @param fetchSize The number of rows. Must be greater than 0.
+   * @return This config object.
+   * @see #getFetchSize()
+   */
+  public JdbcAdapterConfig fetchSize(int fetchSize) {
+    if (fetchSize <= 0) {
+      throw CONFIG_ERROR
+          .asException()
+          .message("Parameter 'fetchSize' must be greater than 0.")
+          .go();
+    }
+    this.fetchSize = fetchSize;
+    return this;
+  }
+
+  /**
+   * Get the name of the version field in the translation table.
+   *
+   * <p>The default value is {@code null}, so the translations are not synchronized.
+   *
+   * @return The name of the version field or {@code null}.
+   */
+  public String getVersionField() {
+    return versionField;
+  }
+
+  /**
+   * Set the name of the version field in the translation table and activates the synchronization.
+   *
+   * <p>The field must be increased on every insert or update of a row, i.e. a version number or a
+   * last modified timestamp. The adapter polls the rows changed since the last synchronization
+   * every {@link #getSyncInterval()} seconds and applies them to the cached translations, so the
+   * cache is never cleared and the database load depends on the number of changes only. The {@link
+   * #getCacheTimeout()} is not used.
+   *
+   * <p><em>Note: Deleted rows are not detected. Update the value instead of deleting a row.</em>
+   *
+   * <p>The default value is {@code null}.
+   *
+   * @param versionField The name of the version field.
+   * @return This config object.
+   * @see #getVersionField()
+   */
+  public JdbcAdapterConfig versionField(String versionField) {
+    this.versionField =
+        notNullEmptyOrBlank(versionField, "versionField", nilsException(CONFIG_ERROR)).trim();
+    return this;
+  }
+
+  /**
+   * Get the interval in seconds between two synchronizations of the translations.
+   *
+   * <p>The default is {@link #DEFAULT_SYNC_INTERVAL}.
+   *
+   * @return The value in seconds.
+   */
+  public long getSyncInterval() {
+    return syncInterval;
+  }
+
+  /**
+   * Set the interval in seconds between two synchronizations of the translations.
+   *
+   * <p><em>Note: The value is only used, if a {@link #getVersionField()} is set.</em>
+   *
+   * <p>The default is {@link #DEFAULT_SYNC_INTERVAL}.
+   *
+   * @param syncInterval The value in seconds. Must be greater than 0.
+   * @return This config object.
+   * @see #getSyncInterval()
+   */
+  public JdbcAdapterConfig syncInterval(long syncInterval) {
+    if (syncInterval <= 0) {
+      throw CONFIG_ERROR
+          .asException()
+          .message("Parameter 'syncInterval' must be greater than 0.")
+          .go();
+    }
+    this.syncInterval = syncInterval;
+    return this;
+  }
+
   /**
    * Get the flag, if a fallback to other locale is active.
    *
@@ -343,6 +803,16 @@ public class JdbcAdapterConfig extends BaseNilsConfig<JdbcAdapterConfig> {
     return JdbcAdapterFactory.class;
   }
 
+  /**
+   * Create a <code>JdbcAdapterConfig</code> using a {@code DataSource}.
+   *
+   * @param dataSource The {@code DataSource} providing the connections to the database.
+   * @return The created JdbcAdapterConfig.
+   */
+  public static JdbcAdapterConfig init(DataSource dataSource) {
+    return new JdbcAdapterConfig().dataSource(dataSource);
+  }
+
   /**
    * Create a <code>JdbcAdapterConfig</code>.
    *
@@ -1,12 +1,45 @@
 package com.codepulsar.nils.adapter.jdbc;
 
+import java.lang.ref.Cleaner;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+import com.codepulsar.nils.adapter.jdbc.utils.ConnectionPool;
 import com.codepulsar.nils.api.NilsConfig;
+import com.codepulsar.nils.api.adapter.AdapterFactory;
 import com.codepulsar.nils.core.adapter.AdapterContext;
 import com.codepulsar.nils.core.adapter.BaseAdapterFactory;
-/** The factory for the {@link JdbcAdapter}. */
-public class JdbcAdapterFactory extends BaseAdapterFactory<JdbcAdapter> {
+
+/**
+ * The factory for the {@link JdbcAdapter}.
+ *
+ * <p>The adapters created for the same {@link JdbcAdapterConfig} share a {@link ConnectionPool}.
+ * The synchronizations of the adapters (see {@link JdbcAdapterConfig#getVersionField()}) run on a
+ * single daemon thread of the factory.
+ *
+ * <p>The factory is closed by the {@code NilsFactory}, when it is discarded by a reset or a reload.
+ * Closing cancels the synchronizations and closes the pools, so NLS objects handed out before keep
+ * working, but are no longer synchronized. A factory never closed is closed, when it is garbage
+ * collected.
+ */
+public class JdbcAdapterFactory extends BaseAdapterFactory<JdbcAdapter> implements AutoCloseable {
+  private static final Cleaner CLEANER = Cleaner.create();
+  private final Resources resources = new Resources();
+  private final Cleaner.Cleanable cleanable;
+
+  public JdbcAdapterFactory() {
+    cleanable = CLEANER.register(this, resources);
+  }
 
   @Override
   protected List<Class<? extends NilsConfig<?>>> getValidAdapterConfigClasses() {
@@ -17,4 +50,96 @@ public class JdbcAdapterFactory extends BaseAdapterFactory<JdbcAdapter> {
   protected JdbcAdapter createAdapter(AdapterContext<JdbcAdapter> context) {
     return new JdbcAdapter(context);
   }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The adapters are synchronized by the factory creating them and stop synchronizing, when it
+   * is closed. So they are not shared with a copy and an empty {@code Optional} is returned, which
+   * reloads all translations.
+   */
+  @Override
+  public Optional<AdapterFactory<JdbcAdapter>> invalidatedCopy(
+      NilsConfig<?> config, Collection<Locale> locales) {
+    return Optional.empty();
+  }
+
+  /** Cancels the synchronizations of the adapters and closes the connection pools. */
+  @Override
+  public void close() {
+    cleanable.clean();
+  }
+
+  /**
+   * Gets the {@link ConnectionPool} of a {@link JdbcAdapterConfig}.
+   *
+   * @param config A {@link JdbcAdapterConfig}.
+   * @return The {@link ConnectionPool} shared by the adapters of the config.
+   */
+  ConnectionPool getConnectionPool(JdbcAdapterConfig config) {
+    synchronized (resources) {
+      if (resources.closed) {
+        // Used by the adapters of NLS objects handed out before, without keeping connections open
+        var pool = new ConnectionPool(config);
+        pool.close();
+        return pool;
+      }
+      return resources.pools.computeIfAbsent(config, ConnectionPool::new);
+    }
+  }
+
+  /**
+   * Schedules the synchronization of an adapter.
+   *
+   * @param task The synchronization.
+   * @param interval The interval in seconds.
+   * @return The scheduled task or an empty {@code Optional}, if the factory is closed.
+   */
+  Optional<ScheduledFuture<?>> scheduleSync(Runnable task, long interval) {
+    synchronized (resources) {
+      if (resources.closed) {
+        return Optional.empty();
+      }
+      if (resources.scheduler == null) {
+        resources.scheduler =
+            Executors.newSingleThreadScheduledExecutor(
+                runnable -> {
+                  var thread = new Thread(runnable, "nils-jdbc-sync");
+                  thread.setDaemon(true);
+                  return thread;
+                });
+      }
+      return Optional.of(
+          resources.scheduler.scheduleWithFixedDelay(task, interval, interval, TimeUnit.SECONDS));
+    }
+  }
+
+  /** The resources of the factory, released without referencing the factory. */
+  private static final class Resources implements Runnable {
+    private final Map<JdbcAdapterConfig, ConnectionPool> pools = new IdentityHashMap<>();
+    private ScheduledExecutorService scheduler;
+    private boolean closed;
+
+    @Override
+    public void run() {
+      List<ConnectionPool> closing;
+      ScheduledExecutorService stopping;
+      synchronized (this) {
+        closed = true;
+        closing = new ArrayList<>(pools.values());
+        pools.clear();
+        stopping = scheduler;
+        scheduler = null;
+      }
+      if (stopping != null) {
+        // The synchronizations not running are returned as their scheduled futures
+        for (var task : stopping.shutdownNow()) {
+          if (task instanceof Future) {
+            ((Future<?>) task).cancel(false);
+          }
+        }
+      }
+      closing.forEach(ConnectionPool::close);
+    }
+  }
 }
@@ -0,0 +1,278 @@
+package com.codepulsar.nils.adapter.jdbc.utils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codepulsar.nils.adapter.jdbc.JdbcAdapterConfig;
+import com.codepulsar.nils.core.util.ParameterCheck;
+
+/**
+ * The {@link ConnectionPool} keeps the connections to the database and their prepared statements
+ * for reuse.
+ *
+ * <p>If a {@code DataSource} is configured, a connection is requested from it for each query and
+ * closed afterwards, because a {@code DataSource} normally pools its connections itself. Otherwise
+ * the connections are opened by the {@code DriverManager} and up to {@link
+ * JdbcAdapterConfig#getPoolSize()} idle connections are kept open. A kept connection keeps its
+ * prepared statements, so a query is prepared once per connection. The JDBC driver class is loaded
+ * once.
+ *
+ * <p>A connection failing with an {@code SQLException} is closed and not reused. An idle connection
+ * is validated before it is reused, so a connection closed by the database in the meantime is
+ * replaced by a new one.
+ *
+ * <p>At most {@link JdbcAdapterConfig#getMaxConcurrentQueries()} queries are executed at the same
+ * time. Further queries wait for a running query to complete. Each query is limited by the {@link
+ * JdbcAdapterConfig#getQueryTimeout()}.
+ */
+public class ConnectionPool implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(ConnectionPool.class);
+  private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+  private final JdbcAdapterConfig config;
+  private final Deque<PooledConnection> idle = new ArrayDeque<>();
+  private final Semaphore permits;
+  private volatile boolean driverLoaded;
+  private boolean closed;
+
+  /**
+   * Create a new {@link ConnectionPool}.
+   *
+   * @param config The {@link JdbcAdapterConfig} containing the connection data.
+   */
+  public ConnectionPool(JdbcAdapterConfig config) {
+    this.config = ParameterCheck.notNull(config, "config");
+    this.permits = new Semaphore(config.getMaxConcurrentQueries());
+  }
+
+  /**
+   * Executes a query with a prepared statement of a pooled connection.
+   *
+   * @param <T> The type of the result.
+   * @param sql The SQL of the statement.
+   * @param handler Sets the parameters of the statement, executes it and reads the result.
+   * @return The result of the handler.
+   * @throws SQLException If the database access fails.
+   */
+  public <T> T query(String sql, StatementHandler<T> handler) throws SQLException {
+    return query(sql, handler, false);
+  }
+
+  /**
+   * Executes a query streaming its result with a prepared statement of a pooled connection.
+   *
+   * <p>Some JDBC drivers (i.e. the PostgreSQL driver) only fetch the rows in chunks of the fetch
+   * size, if auto-commit is turned off. So the query is executed in a transaction of its own, which
+   * is committed afterwards, and auto-commit is turned on again.
+   *
+   * @param <T> The type of the result.
+   * @param sql The SQL of the statement.
+   * @param handler Sets the parameters of the statement, executes it and reads the result.
+   * @return The result of the handler.
+   * @throws SQLException If the database access fails.
+   */
+  public <T> T queryStreaming(String sql, StatementHandler<T> handler) throws SQLException {
+    return query(sql, handler, true);
+  }
+
+  private <T> T query(String sql, StatementHandler<T> handler, boolean streaming)
+      throws SQLException {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while waiting for a database connection.", e);
+    }
+    try {
+      return execute(sql, handler, streaming);
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Gets the number of queries, which could be executed without waiting.
+   *
+   * @return The number of available permits.
+   */
+  public int getAvailablePermits() {
+    return permits.availablePermits();
+  }
+
+  private <T> T execute(String sql, StatementHandler<T> handler, boolean streaming)
+      throws SQLException {
+    var dataSource = config.getDataSource();
+    if (dataSource != null) {
+      try (var con = dataSource.getConnection();
+          var statement = con.prepareStatement(sql)) {
+        statement.setQueryTimeout(config.getQueryTimeout());
+        return streaming ? inTransaction(con, statement, handler) : handler.handle(statement);
+      }
+    }
+
+    var connection = acquire();
+    try {
+      var statement = connection.prepare(sql);
+      statement.setQueryTimeout(config.getQueryTimeout());
+      var result =
+          streaming
+              ? inTransaction(connection.connection, statement, handler)
+              : handler.handle(statement);
+      release(connection);
+      return result;
+    } catch (SQLException | RuntimeException e) {
+      connection.close();
+      throw e;
+    }
+  }
+
+  private static <T> T inTransaction(
+      Connection con, PreparedStatement statement, StatementHandler<T> handler)
+      throws SQLException {
+    if (!con.getAutoCommit()) {
+      return handler.handle(statement);
+    }
+    con.setAutoCommit(false);
+    try {
+      var result = handler.handle(statement);
+      con.commit();
+      return result;
+    } catch (SQLException | RuntimeException e) {
+      try {
+        con.rollback();
+      } catch (SQLException rollbackError) {
+        e.addSuppressed(rollbackError);
+      }
+      throw e;
+    } finally {
+      con.setAutoCommit(true);
+    }
+  }
+
+  /**
+   * Gets the number of idle connections kept open.
+   *
+   * @return The number of idle connections.
+   */
+  public synchronized int getIdleCount() {
+    return idle.size();
+  }
+
+  /** Closes the idle connections. Connections in use are closed when they are released. */
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+    }
+    PooledConnection connection;
+    while ((connection = poll()) != null) {
+      connection.close();
+    }
+  }
+
+  private PooledConnection acquire() throws SQLException {
+    PooledConnection connection;
+    while ((connection = poll()) != null) {
+      if (connection.isValid()) {
+        return connection;
+      }
+      connection.close();
+    }
+    loadDriver();
+    return new PooledConnection(
+        DriverManager.getConnection(config.getUrl(), config.getUsername(), config.getPassword()));
+  }
+
+  private synchronized PooledConnection poll() {
+    return idle.pollFirst();
+  }
+
+  private void release(PooledConnection connection) {
+    synchronized (this) {
+      if (!closed && idle.size() < config.getPoolSize()) {
+        // The last released connection is used first, so the others can be closed by the database
+        idle.addFirst(connection);
+        return;
+      }
+    }
+    connection.close();
+  }
+
+  private void loadDriver() {
+    if (driverLoaded) {
+      return;
+    }
+    var driverClass = config.getDriverClass();
+    if (driverClass != null && !driverClass.isBlank()) {
+      try {
+        Class.forName(driverClass);
+      } catch (ClassNotFoundException e) {
+        LOG.error(e.getMessage(), e);
+        throw JdbcErrorTypes.MISSING_JDBC_DRIVER.asException().cause(e).go();
+      }
+    }
+    driverLoaded = true;
+  }
+
+  /**
+   * Handles a prepared statement.
+   *
+   * @param <T> The type of the result.
+   */
+  @FunctionalInterface
+  public interface StatementHandler<T> {
+    /**
+     * Sets the parameters of the statement, executes it and reads the result.
+     *
+     * @param statement The prepared statement.
+     * @return The result.
+     * @throws SQLException If the database access fails.
+     */
+    T handle(PreparedStatement statement) throws SQLException;
+  }
+
+  /** A connection with its prepared statements. */
+  private static final class PooledConnection {
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+    PooledConnection(Connection connection) {
+      this.connection = connection;
+    }
+
+    PreparedStatement prepare(String sql) throws SQLException {
+      var statement = statements.get(sql);
+      if (statement == null) {
+        statement = connection.prepareStatement(sql);
+        statements.put(sql, statement);
+      }
+      return statement;
+    }
+
+    boolean isValid() {
+      try {
+        return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+      } catch (SQLException e) {
+        LOG.debug("Could not validate connection. Reason {}", e.getMessage(), e);
+        return false;
+      }
+    }
+
+    void close() {
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        LOG.debug("Could not close connection. Reason {}", e.getMessage(), e);
+      }
+    }
+  }
+}
@@ -2,6 +2,6 @@ module com.codepulsar.nils.adapter.jdbc {
   exports com.codepulsar.nils.adapter.jdbc;
   requires transitive com.codepulsar.nils.core;
   requires java.base;
-  requires java.sql;
+  requires transitive java.sql;
   requires org.slf4j;
 }
\ No newline at end of file
@@ -19,11 +19,13 @@ public class DbTestUtil {
 
   public String initDb(String script) throws SQLException {
     var dbFile = String.format("%s/%s", baseUrl, script.replace(".sql", ""));
+    var dbUrl = String.format("jdbc:h2:%s", dbFile);
     var file = new File(dbFile + ".mv.db");
     if (file.exists()) {
+      // Closing the connections kept open by the pools of previous tests
+      executeUpdate(dbUrl + ";IFEXISTS=TRUE", "SHUTDOWN");
       file.delete();
     }
-    var dbUrl = String.format("jdbc:h2:%s", dbFile);
     try (Connection conn =
         DriverManager.getConnection(
             String.format("%s;INIT=RUNSCRIPT FROM 'classpath:%s'", dbUrl, script),
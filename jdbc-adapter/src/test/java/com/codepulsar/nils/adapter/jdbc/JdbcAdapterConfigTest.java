@@ -4,10 +4,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import com.codepulsar.nils.api.error.NilsException;
 
@@ -26,6 +33,7 @@ public class JdbcAdapterConfigTest {
     assertThat(underTest.getFactoryClass()).isEqualTo(JdbcAdapterFactory.class);
     assertThat(underTest.isFallbackActive()).isTrue();
     assertThat(underTest.getUrl()).isEqualTo("URL");
+    assertThat(underTest.getQueryTimeout()).isEqualTo(JdbcAdapterConfig.DEFAULT_QUERY_TIMEOUT);
     assertThat(underTest.getUsername()).isEqualTo("user");
     assertThat(underTest.getPassword()).isEqualTo("password");
     assertThat(underTest.getRootLocale()).isEqualTo(new Locale(""));
@@ -36,6 +44,138 @@ public class JdbcAdapterConfigTest {
     assertThat(underTest.getKeyField()).isEqualTo("NLS_KEY");
     assertThat(underTest.getValueField()).isEqualTo("NLS_VALUE");
     assertThat(underTest.getCacheTimeout()).isEqualTo(-1L);
+    assertThat(underTest.isPreload()).isFalse();
+    assertThat(underTest.isMergeFallbacks()).isFalse();
+    assertThat(underTest.getFetchSize()).isEqualTo(JdbcAdapterConfig.DEFAULT_FETCH_SIZE);
+    assertThat(underTest.getVersionField()).isNull();
+    assertThat(underTest.getSyncInterval()).isEqualTo(JdbcAdapterConfig.DEFAULT_SYNC_INTERVAL);
+    assertThat(underTest.getCacheTimeoutJitter())
+        .isEqualTo(JdbcAdapterConfig.DEFAULT_CACHE_TIMEOUT_JITTER);
+    assertThat(underTest.isStaleWhileRevalidate()).isFalse();
+    assertThat(underTest.getRefreshExecutor()).isInstanceOf(ThreadPoolExecutor.class);
+  }
+
+  @Test
+  public void init_dataSource() {
+    // Arrange
+    var dataSource = new TestDataSource("URL", "user");
+
+    // Act
+    var underTest = JdbcAdapterConfig.init(dataSource);
+
+    // Assert
+    assertThat(underTest.getDataSource()).isSameAs(dataSource);
+    assertThat(underTest.getUrl()).isNull();
+    assertThat(underTest.getUsername()).isNull();
+    assertThat(underTest.getPoolSize()).isEqualTo(JdbcAdapterConfig.DEFAULT_POOL_SIZE);
+    assertThat(underTest.getMaxConcurrentQueries())
+        .isEqualTo(JdbcAdapterConfig.DEFAULT_MAX_CONCURRENT_QUERIES);
+  }
+
+  @Test
+  public void init_dataSourceNull() {
+    // Act / Assert
+    assertThatThrownBy(() -> JdbcAdapterConfig.init((DataSource) null))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'dataSource' cannot be null.");
+  }
+
+  @Test
+  public void poolSize() {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+
+    // Act
+    var next = underTest.poolSize(1);
+
+    // Assert
+    assertThat(next).isNotNull();
+    assertThat(next.getPoolSize()).isEqualTo(1);
+  }
+
+  @Test
+  public void poolSize_invalid() {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.poolSize(0))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'poolSize' must be greater than 0.");
+  }
+
+  @Test
+  public void maxConcurrentQueries() {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+
+    // Act
+    var next = underTest.maxConcurrentQueries(2);
+
+    // Assert
+    assertThat(next).isNotNull();
+    assertThat(next.getMaxConcurrentQueries()).isEqualTo(2);
+  }
+
+  @Test
+  public void maxConcurrentQueries_invalid() {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.maxConcurrentQueries(0))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'maxConcurrentQueries' must be greater than 0.");
+  }
+
+  @Test
+  public void queryTimeout() {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+
+    // Act
+    var next = underTest.queryTimeout(0);
+
+    // Assert
+    assertThat(next).isNotNull();
+    assertThat(next.getQueryTimeout()).isZero();
+  }
+
+  @Test
+  public void queryTimeout_invalid() {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.queryTimeout(-1))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'queryTimeout' must not be negative.");
+  }
+
+  @Test
+  public void preload() {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+
+    // Act
+    var next = underTest.preload(true).mergeFallbacks(true).fetchSize(100);
+
+    // Assert
+    assertThat(next).isNotNull();
+    assertThat(next.isPreload()).isTrue();
+    assertThat(next.isMergeFallbacks()).isTrue();
+    assertThat(next.getFetchSize()).isEqualTo(100);
+  }
+
+  @Test
+  public void fetchSize_invalid() {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.fetchSize(0))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'fetchSize' must be greater than 0.");
   }
 
   @Test
@@ -320,4 +460,122 @@ public class JdbcAdapterConfigTest {
         .isInstanceOf(NilsException.class)
         .hasMessage(String.format(errMsg, "valueField"));
   }
+
+  @ParameterizedTest
+  @MethodSource(DATA_PROVIDER + "#string_valid")
+  public void versionField_valid(String str, String expected) {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+
+    // Act
+    var next = underTest.versionField(str);
+
+    // Assert
+    assertThat(next).isNotNull();
+    assertThat(next.getVersionField()).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @MethodSource(DATA_PROVIDER + "#string_invalid")
+  public void versionField_invalid(String str, String errMsg) {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.versionField(str))
+        .isInstanceOf(NilsException.class)
+        .hasMessage(String.format(errMsg, "versionField"));
+  }
+
+  @Test
+  public void syncInterval() {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+
+    // Act
+    var next = underTest.syncInterval(5L);
+
+    // Assert
+    assertThat(next).isNotNull();
+    assertThat(next.getSyncInterval()).isEqualTo(5L);
+  }
+
+  @Test
+  public void syncInterval_invalid() {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.syncInterval(0L))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'syncInterval' must be greater than 0.");
+  }
+
+  @Test
+  public void cacheTimeoutJitter() {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+
+    // Act
+    var next = underTest.cacheTimeoutJitter(0.5);
+
+    // Assert
+    assertThat(next).isNotNull();
+    assertThat(next.getCacheTimeoutJitter()).isEqualTo(0.5);
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {-0.1, 1.1, Double.NaN})
+  public void cacheTimeoutJitter_invalid(double jitter) {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.cacheTimeoutJitter(jitter))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'cacheTimeoutJitter' must be between 0 and 1.");
+  }
+
+  @Test
+  public void staleWhileRevalidate() {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+    Executor executor = Runnable::run;
+
+    // Act
+    var next = underTest.staleWhileRevalidate(true).refreshExecutor(executor);
+
+    // Assert
+    assertThat(next).isNotNull();
+    assertThat(next.isStaleWhileRevalidate()).isTrue();
+    assertThat(next.getRefreshExecutor()).isSameAs(executor);
+  }
+
+  @Test
+  public void refreshExecutor_default() throws Exception {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password").maxConcurrentQueries(2);
+    var daemon = new CompletableFuture<Boolean>();
+
+    // Act
+    var executor = underTest.getRefreshExecutor();
+    executor.execute(() -> daemon.complete(Thread.currentThread().isDaemon()));
+
+    // Assert
+    assertThat(underTest.getRefreshExecutor()).isSameAs(executor);
+    assertThat(((ThreadPoolExecutor) executor).getMaximumPoolSize()).isEqualTo(2);
+    assertThat(((ThreadPoolExecutor) executor).allowsCoreThreadTimeOut()).isTrue();
+    assertThat(daemon.get(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void refreshExecutor_null() {
+    // Arrange
+    var underTest = JdbcAdapterConfig.init("URL", "user", "password");
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.refreshExecutor(null))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'refreshExecutor' cannot be null.");
+  }
 }
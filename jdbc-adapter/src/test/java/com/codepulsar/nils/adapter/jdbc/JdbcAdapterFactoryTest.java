@@ -2,6 +2,8 @@ package com.codepulsar.nils.adapter.jdbc;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.sql.SQLException;
+import java.util.List;
 import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,41 @@ public class JdbcAdapterFactoryTest {
     assertThat(result).isNotNull();
   }
 
+  @Test
+  public void close() throws SQLException {
+    // Arrange
+    var config = JdbcAdapterConfig.init(new DbTestUtil().initDb("adapter_test.sql"), "sa", "");
+    var underTest = new JdbcAdapterFactory();
+    var pool = underTest.getConnectionPool(config);
+    pool.query("SELECT 1", statement -> statement);
+    var sync = underTest.scheduleSync(() -> {}, 60L).orElseThrow();
+
+    // Act
+    underTest.close();
+
+    // Assert
+    assertThat(sync.isCancelled()).isTrue();
+    assertThat(pool.getIdleCount()).isZero();
+    assertThat(underTest.scheduleSync(() -> {}, 60L)).isEmpty();
+    var closedPool = underTest.getConnectionPool(config);
+    assertThat(closedPool).isNotSameAs(pool);
+    closedPool.query("SELECT 1", statement -> statement);
+    assertThat(closedPool.getIdleCount()).isZero();
+  }
+
+  @Test
+  public void invalidatedCopy_notSupported() {
+    // Arrange
+    var config = JdbcAdapterConfig.init("test", "sa", "");
+    var underTest = new JdbcAdapterFactory();
+
+    // Act
+    var copy = underTest.invalidatedCopy(config, List.of(Locale.ENGLISH));
+
+    // Assert
+    assertThat(copy).isEmpty();
+  }
+
   @Test
   public void factoryDefault() {
     // Act
@@ -4,7 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -430,6 +433,91 @@ public class JdbcAdapterTest {
     assertThat(value.get()).isEqualTo("I'm translated!");
   }
 
+  @Test
+  public void dataSource() {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var dataSource = new TestDataSource(url, username);
+    var config = JdbcAdapterConfig.init(dataSource);
+    context.locale(locale).config(config);
+    var underTest = new JdbcAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.me");
+
+    // Assert
+    assertThat(value).hasValue("Ich bin übersetzt!");
+    assertThat(underTest.getTranslation("translate.fallback")).hasValue("I'm a fallback!");
+    assertThat(dataSource.getConnections()).isEqualTo(3);
+  }
+
+  @Test
+  public void connectionPool_shared() {
+    // Arrange
+    var config = JdbcAdapterConfig.init(url, username, password);
+    var factory = new JdbcAdapterFactory();
+    context.factory(factory).config(config);
+    var german = new JdbcAdapter(context.locale(Locale.GERMAN));
+    var english = new JdbcAdapter(context.locale(Locale.ENGLISH));
+
+    // Act
+    german.getTranslation("translate.me");
+    english.getTranslation("translate.me");
+    german.getTranslation("translate.get");
+
+    // Assert
+    assertThat(factory.getConnectionPool(config).getIdleCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void concurrentMisses_singleQuery() throws InterruptedException {
+    // Arrange
+    var dataSource = new TestDataSource(url, username);
+    var config = JdbcAdapterConfig.init(dataSource);
+    context.locale(Locale.GERMAN).config(config);
+    var underTest = new JdbcAdapter(context);
+    var values = new ConcurrentLinkedQueue<Optional<String>>();
+    dataSource.block();
+    var first = new Thread(() -> values.add(underTest.getTranslation("translate.me")));
+    var second = new Thread(() -> values.add(underTest.getTranslation("translate.me")));
+
+    // Act
+    first.start();
+    awaitWaiting(first);
+    second.start();
+    awaitWaiting(second);
+    dataSource.release();
+    first.join();
+    second.join();
+
+    // Assert
+    assertThat(values)
+        .containsExactly(Optional.of("Ich bin übersetzt!"), Optional.of("Ich bin übersetzt!"));
+    assertThat(dataSource.getConnections()).isEqualTo(1);
+  }
+
+  @Test
+  public void cachedHit_notBlockedByMiss() throws InterruptedException {
+    // Arrange
+    var dataSource = new TestDataSource(url, username);
+    var config = JdbcAdapterConfig.init(dataSource);
+    context.locale(Locale.GERMAN).config(config);
+    var underTest = new JdbcAdapter(context);
+    underTest.getTranslation("translate.me");
+    dataSource.block();
+    var miss = new Thread(() -> underTest.getTranslation("translate.get"));
+    miss.start();
+    awaitWaiting(miss);
+
+    // Act
+    var value = underTest.getTranslation("translate.me");
+
+    // Assert
+    assertThat(value).hasValue("Ich bin übersetzt!");
+    dataSource.release();
+    miss.join();
+  }
+
   @Test
   public void driverName_invalid() {
     // Arrange
@@ -444,6 +532,268 @@ public class JdbcAdapterTest {
         .hasMessage("NILS-250: The JDBC driver class name is invalid.");
   }
 
+  @Test
+  public void preload() {
+    // Arrange
+    var dataSource = new TestDataSource(url, username);
+    var config = JdbcAdapterConfig.init(dataSource).preload(true);
+    context.locale(Locale.GERMAN).config(config);
+    var underTest = new JdbcAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.me");
+
+    // Assert
+    assertThat(value).hasValue("Ich bin übersetzt!");
+    assertThat(underTest.getTranslation("translate.fallback")).hasValue("I'm a fallback!");
+    assertThat(underTest.getTranslation("translate.get")).isNotEmpty();
+    assertThat(underTest.getTranslation("translate.me.butImNotThere")).isEmpty();
+    assertThat(dataSource.getConnections()).isEqualTo(2);
+  }
+
+  @Test
+  public void preload_mergeFallbacks() {
+    // Arrange
+    var dataSource = new TestDataSource(url, username);
+    var config = JdbcAdapterConfig.init(dataSource).preload(true).mergeFallbacks(true);
+    context.locale(Locale.GERMANY).config(config);
+    var underTest = new JdbcAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.me");
+
+    // Assert
+    assertThat(value).hasValue("Ich bin übersetzt!");
+    assertThat(underTest.getTranslation("translate.fallback")).hasValue("I'm a fallback!");
+    assertThat(underTest.getTranslation("deep.deeper.deeperkey4")).hasValue("Key 4");
+    assertThat(underTest.getTranslation("translate.me.butImNotThere")).isEmpty();
+    assertThat(dataSource.getConnections()).isEqualTo(1);
+  }
+
+  @Test
+  public void preload_fallbackInactive() {
+    // Arrange
+    var config =
+        JdbcAdapterConfig.init(url, username, password)
+            .preload(true)
+            .mergeFallbacks(true)
+            .fallbackActive(false);
+    context.locale(Locale.GERMAN).config(config);
+    var underTest = new JdbcAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.fallback");
+
+    // Assert
+    assertThat(value).isEmpty();
+    assertThat(underTest.getTranslation("translate.me")).hasValue("Ich bin übersetzt!");
+  }
+
+  @Test
+  public void preload_cacheTimeout() throws SQLException, InterruptedException {
+    // Arrange
+    var config = JdbcAdapterConfig.init(url, username, password).preload(true).cacheTimeout(1);
+    context.locale(Locale.ENGLISH).config(config);
+    var underTest = new JdbcAdapter(context);
+    var value = underTest.getTranslation("translate.me");
+    dbUtil.executeUpdate(
+        url, "UPDATE NILS_TRANSLATION SET NLS_VALUE = 'Translate me now!' WHERE ID = 1;");
+
+    // Act
+    var cached = underTest.getTranslation("translate.me");
+    Thread.sleep(2000);
+    var refreshed = underTest.getTranslation("translate.me");
+
+    // Assert
+    assertThat(value).hasValue("I'm translated!");
+    assertThat(cached).hasValue("I'm translated!");
+    assertThat(refreshed).hasValue("Translate me now!");
+  }
+
+  @Test
+  public void sync() throws SQLException {
+    // Arrange
+    var syncUrl = dbUtil.initDb("sync_test.sql");
+    var config = JdbcAdapterConfig.init(syncUrl, username, password).versionField("NLS_VERSION");
+    context.locale(Locale.GERMAN).config(config);
+    var underTest = new JdbcAdapter(context);
+    var value = underTest.getTranslation("translate.me");
+    var missing = underTest.getTranslation("translate.new");
+    dbUtil.executeUpdate(
+        syncUrl,
+        "UPDATE NILS_TRANSLATION SET NLS_VALUE = 'Übersetz mich!', NLS_VERSION = 4 WHERE ID = 3;");
+    dbUtil.executeUpdate(
+        syncUrl, "INSERT INTO NILS_TRANSLATION VALUES(4, 'de', 'translate.new', 'Neu', 4);");
+
+    // Act
+    var changed = underTest.sync();
+
+    // Assert
+    assertThat(value).hasValue("Ich bin übersetzt!");
+    assertThat(missing).isEmpty();
+    assertThat(changed).isEqualTo(2);
+    assertThat(underTest.getTranslation("translate.me")).hasValue("Übersetz mich!");
+    assertThat(underTest.getTranslation("translate.new")).hasValue("Neu");
+    assertThat(underTest.sync()).isZero();
+  }
+
+  @Test
+  public void sync_sameVersion() throws SQLException {
+    // Arrange
+    var syncUrl = dbUtil.initDb("sync_test.sql");
+    var config = JdbcAdapterConfig.init(syncUrl, username, password).versionField("NLS_VERSION");
+    context.locale(Locale.GERMAN).config(config);
+    var underTest = new JdbcAdapter(context);
+    underTest.getTranslation("translate.me");
+    dbUtil.executeUpdate(
+        syncUrl, "INSERT INTO NILS_TRANSLATION VALUES(4, 'de', 'translate.a', 'A', 4);");
+    underTest.sync();
+    // Committed later with the same version
+    dbUtil.executeUpdate(
+        syncUrl, "INSERT INTO NILS_TRANSLATION VALUES(5, 'de', 'translate.b', 'B', 4);");
+
+    // Act
+    var changed = underTest.sync();
+
+    // Assert
+    assertThat(changed).isEqualTo(1);
+  }
+
+  @Test
+  public void sync_preload() throws SQLException {
+    // Arrange
+    var syncUrl = dbUtil.initDb("sync_test.sql");
+    var config =
+        JdbcAdapterConfig.init(syncUrl, username, password)
+            .versionField("NLS_VERSION")
+            .preload(true)
+            .mergeFallbacks(true);
+    context.locale(Locale.GERMAN).config(config);
+    var underTest = new JdbcAdapter(context);
+    var value = underTest.getTranslation("translate.fallback");
+    dbUtil.executeUpdate(
+        syncUrl,
+        "UPDATE NILS_TRANSLATION SET NLS_VALUE = 'Fallback', NLS_VERSION = 4 WHERE ID = 2;");
+
+    // Act
+    var changed = underTest.sync();
+
+    // Assert
+    assertThat(value).hasValue("I'm a fallback!");
+    assertThat(changed).isEqualTo(1);
+    assertThat(underTest.getTranslation("translate.fallback")).hasValue("Fallback");
+  }
+
+  @Test
+  public void sync_scheduled() throws SQLException, InterruptedException {
+    // Arrange
+    var syncUrl = dbUtil.initDb("sync_test.sql");
+    var config =
+        JdbcAdapterConfig.init(syncUrl, username, password)
+            .versionField("NLS_VERSION")
+            .syncInterval(1L)
+            .cacheTimeout(0L);
+    context.locale(Locale.ENGLISH).config(config);
+    var underTest = new JdbcAdapter(context);
+    var value = underTest.getTranslation("translate.me");
+    dbUtil.executeUpdate(
+        syncUrl,
+        "UPDATE NILS_TRANSLATION SET NLS_VALUE = 'Translate me now!', NLS_VERSION = 4 "
+            + "WHERE ID = 1;");
+
+    // Act
+    var cached = underTest.getTranslation("translate.me");
+    Thread.sleep(2000);
+    var synced = underTest.getTranslation("translate.me");
+
+    // Assert
+    assertThat(value).hasValue("I'm translated!");
+    assertThat(cached).hasValue("I'm translated!");
+    assertThat(synced).hasValue("Translate me now!");
+  }
+
+  @Test
+  public void staleWhileRevalidate() throws SQLException {
+    // Arrange
+    var refreshes = new ArrayList<Runnable>();
+    var config =
+        JdbcAdapterConfig.init(url, username, password)
+            .cacheTimeout(0L)
+            .staleWhileRevalidate(true)
+            .refreshExecutor(refreshes::add);
+    context.locale(Locale.ROOT).config(config);
+    var underTest = new JdbcAdapter(context);
+    var value = underTest.getTranslation("translate.me");
+    dbUtil.executeUpdate(
+        url, "UPDATE NILS_TRANSLATION SET NLS_VALUE = 'Translate me now!' WHERE ID = 1;");
+
+    // Act
+    var stale = underTest.getTranslation("translate.me");
+    var staleAgain = underTest.getTranslation("translate.me");
+    var pending = refreshes.size();
+    refreshes.get(0).run();
+    var refreshed = underTest.getTranslation("translate.me");
+
+    // Assert
+    assertThat(value).hasValue("I'm translated!");
+    assertThat(stale).hasValue("I'm translated!");
+    assertThat(staleAgain).hasValue("I'm translated!");
+    assertThat(pending).isEqualTo(1);
+    assertThat(refreshed).hasValue("Translate me now!");
+  }
+
+  @Test
+  public void staleWhileRevalidate_notExpired() {
+    // Arrange
+    var refreshes = new ArrayList<Runnable>();
+    var config =
+        JdbcAdapterConfig.init(url, username, password)
+            .cacheTimeout(60L)
+            .staleWhileRevalidate(true)
+            .refreshExecutor(refreshes::add);
+    context.locale(Locale.ROOT).config(config);
+    var underTest = new JdbcAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.me");
+    var cached = underTest.getTranslation("translate.me");
+
+    // Assert
+    assertThat(value).hasValue("I'm translated!");
+    assertThat(cached).hasValue("I'm translated!");
+    assertThat(refreshes).isEmpty();
+  }
+
+  @Test
+  public void staleWhileRevalidate_preload() throws SQLException {
+    // Arrange
+    var refreshes = new ArrayList<Runnable>();
+    var config =
+        JdbcAdapterConfig.init(url, username, password)
+            .preload(true)
+            .cacheTimeout(0L)
+            .staleWhileRevalidate(true)
+            .refreshExecutor(refreshes::add);
+    context.locale(Locale.ROOT).config(config);
+    var underTest = new JdbcAdapter(context);
+    var value = underTest.getTranslation("translate.me");
+    dbUtil.executeUpdate(
+        url, "UPDATE NILS_TRANSLATION SET NLS_VALUE = 'Translate me now!' WHERE ID = 1;");
+
+    // Act
+    var stale = underTest.getTranslation("translate.me");
+    underTest.getTranslation("translate.get");
+    var pending = refreshes.size();
+    refreshes.get(0).run();
+    var refreshed = underTest.getTranslation("translate.me");
+
+    // Assert
+    assertThat(value).hasValue("I'm translated!");
+    assertThat(stale).hasValue("I'm translated!");
+    assertThat(pending).isEqualTo(1);
+    assertThat(refreshed).hasValue("Translate me now!");
+  }
+
   @Test
   public void cacheTimeoutDefined() throws SQLException, InterruptedException {
     // Arrange
@@ -497,4 +847,10 @@ public class JdbcAdapterTest {
     assertThat(value2).isNotEmpty();
     assertThat(value2.get()).isEqualTo("I'm translated!");
   }
+
+  private static void awaitWaiting(Thread thread) throws InterruptedException {
+    while (thread.getState() != Thread.State.WAITING) {
+      Thread.sleep(10);
+    }
+  }
 }
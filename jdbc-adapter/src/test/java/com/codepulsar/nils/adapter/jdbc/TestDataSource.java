@@ -0,0 +1,89 @@
+package com.codepulsar.nils.adapter.jdbc;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * A {@code DataSource} opening the connections by the {@code DriverManager} and counting them.
+ *
+ * <p>If the data source is blocked, requesting a connection waits until it is released.
+ */
+public class TestDataSource implements DataSource {
+  private final String url;
+  private final String username;
+  private final AtomicInteger connections = new AtomicInteger();
+  private volatile CountDownLatch gate = new CountDownLatch(0);
+
+  public TestDataSource(String url, String username) {
+    this.url = url;
+    this.username = username;
+  }
+
+  public int getConnections() {
+    return connections.get();
+  }
+
+  public void block() {
+    gate = new CountDownLatch(1);
+  }
+
+  public void release() {
+    gate.countDown();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return getConnection(username, "");
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    connections.incrementAndGet();
+    try {
+      gate.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException(e);
+    }
+    return DriverManager.getConnection(url, username, password);
+  }
+
+  @Override
+  public PrintWriter getLogWriter() {
+    return null;
+  }
+
+  @Override
+  public void setLogWriter(PrintWriter out) {}
+
+  @Override
+  public void setLoginTimeout(int seconds) {}
+
+  @Override
+  public int getLoginTimeout() {
+    return 0;
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    throw new SQLFeatureNotSupportedException();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    throw new SQLException("Not a wrapper.");
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) {
+    return false;
+  }
+}
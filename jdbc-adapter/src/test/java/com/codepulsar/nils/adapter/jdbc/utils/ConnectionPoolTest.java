@@ -0,0 +1,235 @@
+package com.codepulsar.nils.adapter.jdbc.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.codepulsar.nils.adapter.jdbc.JdbcAdapterConfig;
+import com.codepulsar.nils.adapter.jdbc.TestDataSource;
+
+public class ConnectionPoolTest {
+  private static final String SQL = "SELECT 1";
+
+  private String url;
+
+  @BeforeEach
+  public void setup() throws SQLException {
+    var dbFile = new File("target/test-output/connection_pool").getAbsolutePath();
+    url = "jdbc:h2:" + dbFile.replaceAll("\\\\", "/");
+    try (var con = DriverManager.getConnection(url, "sa", "")) {
+      // Creating the database
+    }
+  }
+
+  @Test
+  public void query_connectionReused() throws SQLException {
+    // Arrange
+    var underTest = new ConnectionPool(JdbcAdapterConfig.init(url, "sa", ""));
+
+    // Act
+    var first = underTest.query(SQL, statement -> statement);
+    var second = underTest.query(SQL, statement -> statement);
+
+    // Assert
+    assertThat(second).isSameAs(first);
+    assertThat(first.getConnection().isClosed()).isFalse();
+    assertThat(underTest.getIdleCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void query_executed() throws SQLException {
+    // Arrange
+    var underTest = new ConnectionPool(JdbcAdapterConfig.init(url, "sa", ""));
+
+    // Act
+    var result =
+        underTest.query(
+            SQL,
+            statement -> {
+              try (var resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+              }
+            });
+
+    // Assert
+    assertThat(result).isEqualTo(1);
+  }
+
+  @Test
+  public void query_poolSize() throws SQLException {
+    // Arrange
+    var underTest = new ConnectionPool(JdbcAdapterConfig.init(url, "sa", "").poolSize(1));
+
+    // Act
+    var outer =
+        underTest.query(
+            SQL, statement -> new PreparedStatement[] {statement, underTest.query(SQL, s -> s)});
+
+    // Assert
+    assertThat(outer[1].getConnection()).isNotSameAs(outer[0].getConnection());
+    assertThat(outer[1].getConnection().isClosed()).isFalse();
+    assertThat(outer[0].getConnection().isClosed()).isTrue();
+    assertThat(underTest.getIdleCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void query_failing_connectionDiscarded() throws SQLException {
+    // Arrange
+    var underTest = new ConnectionPool(JdbcAdapterConfig.init(url, "sa", ""));
+    var statement = underTest.query(SQL, s -> s);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.query("SELECT FROM", s -> s))
+        .isInstanceOf(SQLException.class);
+    assertThat(statement.getConnection().isClosed()).isTrue();
+    assertThat(underTest.getIdleCount()).isZero();
+  }
+
+  @Test
+  public void query_idleConnectionClosed_replaced() throws SQLException {
+    // Arrange
+    var underTest = new ConnectionPool(JdbcAdapterConfig.init(url, "sa", ""));
+    var statement = underTest.query(SQL, s -> s);
+    // Closed behind the pool, i.e. by the database after a timeout
+    statement.getConnection().close();
+
+    // Act
+    var result =
+        underTest.query(
+            SQL,
+            s -> {
+              try (var resultSet = s.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+              }
+            });
+
+    // Assert
+    assertThat(result).isEqualTo(1);
+    assertThat(underTest.getIdleCount()).isEqualTo(1);
+    var reused = underTest.query(SQL, s -> s);
+    assertThat(reused.getConnection()).isNotSameAs(statement.getConnection());
+    assertThat(reused.getConnection().isClosed()).isFalse();
+  }
+
+  @Test
+  public void queryStreaming_autoCommitOff() throws SQLException {
+    // Arrange
+    var underTest = new ConnectionPool(JdbcAdapterConfig.init(url, "sa", ""));
+
+    // Act
+    var autoCommit = underTest.queryStreaming(SQL, s -> s.getConnection().getAutoCommit());
+    var statement = underTest.query(SQL, s -> s);
+
+    // Assert
+    assertThat(autoCommit).isFalse();
+    assertThat(statement.getConnection().getAutoCommit()).isTrue();
+    assertThat(underTest.getIdleCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void queryStreaming_failing_connectionDiscarded() throws SQLException {
+    // Arrange
+    var underTest = new ConnectionPool(JdbcAdapterConfig.init(url, "sa", ""));
+    var statement = underTest.query(SQL, s -> s);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.queryStreaming("SELECT FROM", s -> s))
+        .isInstanceOf(SQLException.class);
+    assertThat(statement.getConnection().isClosed()).isTrue();
+    assertThat(underTest.getIdleCount()).isZero();
+  }
+
+  @Test
+  public void query_dataSource() throws SQLException {
+    // Arrange
+    var dataSource = new TestDataSource(url, "sa");
+    var underTest = new ConnectionPool(JdbcAdapterConfig.init(dataSource));
+
+    // Act
+    var statement = underTest.query(SQL, s -> s);
+
+    underTest.query(SQL, s -> s);
+
+    // Assert
+    assertThat(dataSource.getConnections()).isEqualTo(2);
+    assertThat(statement.isClosed()).isTrue();
+    assertThat(underTest.getIdleCount()).isZero();
+  }
+
+  @Test
+  public void query_maxConcurrentQueries() throws Exception {
+    // Arrange
+    var dataSource = new TestDataSource(url, "sa");
+    var underTest = new ConnectionPool(JdbcAdapterConfig.init(dataSource).maxConcurrentQueries(1));
+    dataSource.block();
+    var first = new Thread(() -> query(underTest));
+    var second = new Thread(() -> query(underTest));
+
+    // Act
+    first.start();
+    while (underTest.getAvailablePermits() > 0) {
+      Thread.sleep(10);
+    }
+    second.start();
+    awaitWaiting(second);
+    var whileBlocked = dataSource.getConnections();
+    dataSource.release();
+    first.join();
+    second.join();
+
+    // Assert
+    assertThat(whileBlocked).isEqualTo(1);
+    assertThat(dataSource.getConnections()).isEqualTo(2);
+    assertThat(underTest.getAvailablePermits()).isEqualTo(1);
+  }
+
+  @Test
+  public void query_driverClassInvalid() {
+    // Arrange
+    var config = JdbcAdapterConfig.init(url, "sa", "").driverClass("h2.JDBCDriver");
+    var underTest = new ConnectionPool(config);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.query(SQL, s -> s))
+        .hasMessage("NILS-250: The JDBC driver class name is invalid.");
+  }
+
+  @Test
+  public void close() throws SQLException {
+    // Arrange
+    var underTest = new ConnectionPool(JdbcAdapterConfig.init(url, "sa", ""));
+    var statement = underTest.query(SQL, s -> s);
+
+    // Act
+    underTest.close();
+
+    // Assert
+    assertThat(statement.getConnection().isClosed()).isTrue();
+    assertThat(underTest.getIdleCount()).isZero();
+    underTest.query(SQL, s -> s);
+    assertThat(underTest.getIdleCount()).isZero();
+  }
+
+  private static void query(ConnectionPool pool) {
+    try {
+      pool.query(SQL, s -> s);
+    } catch (SQLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void awaitWaiting(Thread thread) throws InterruptedException {
+    while (thread.getState() != Thread.State.WAITING) {
+      Thread.sleep(10);
+    }
+  }
+}
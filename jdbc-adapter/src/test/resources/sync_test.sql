@@ -0,0 +1,11 @@
+CREATE TABLE NILS_TRANSLATION(
+  ID INT PRIMARY KEY,  
+  NLS_LOCALE VARCHAR(10) NOT NULL,
+  NLS_KEY VARCHAR(255) NOT NULL,
+  NLS_VALUE VARCHAR(255) NOT NULL,
+  NLS_VERSION BIGINT NOT NULL
+);
+
+INSERT INTO NILS_TRANSLATION VALUES(1, '', 'translate.me', 'I''m translated!', 1);
+INSERT INTO NILS_TRANSLATION VALUES(2, '', 'translate.fallback', 'I''m a fallback!', 2);
+INSERT INTO NILS_TRANSLATION VALUES(3, 'de', 'translate.me', 'Ich bin übersetzt!', 3);
@@ -3,6 +3,7 @@ package com.codepulsar.nils.adapter.snakeyaml;
 import static com.codepulsar.nils.adapter.snakeyaml.utils.SnakeYamlErrorTypes.CORRUPT_FILE_ERROR;
 import static com.codepulsar.nils.core.error.ErrorTypes.IO_ERROR;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -11,15 +12,14 @@ import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.yaml.snakeyaml.LoaderOptions;
-import org.yaml.snakeyaml.Yaml;
 
 import com.codepulsar.nils.api.adapter.Adapter;
 import com.codepulsar.nils.api.error.NilsException;
 import com.codepulsar.nils.core.adapter.AdapterContext;
 import com.codepulsar.nils.core.adapter.BaseLocalizedResourceAdapter;
 import com.codepulsar.nils.core.adapter.util.LocalizedResourceResolver;
-import com.codepulsar.nils.core.adapter.util.MapTranslationRetriever;
+import com.codepulsar.nils.core.adapter.util.SectionScanner;
+
 /** An {@link Adapter} implementation using YAML files for the translations. */
 public class SnakeYamlAdapter
     extends BaseLocalizedResourceAdapter<SnakeYamlAdapter, SnakeYamlAdapterConfig> {
@@ -31,12 +31,12 @@ public class SnakeYamlAdapter
 
   @Override
   protected void initTranslations(LocalizedResourceResolver resolver) {
-    var loaderOptions = new LoaderOptions();
-    loaderOptions.setAllowDuplicateKeys(false);
-    var yaml = new Yaml(loaderOptions);
-    try (var fileReader = new InputStreamReader(resolver.resolve(), StandardCharsets.UTF_8); ) {
-      Map<String, Object> translations = yaml.load(fileReader);
-      translation = new MapTranslationRetriever(translations);
+    try (var inputStream = resolver.resolve()) {
+      if (isLazySectionsActive()) {
+        initLazyTranslations(inputStream.readAllBytes(), resolver.getUsedResourceName());
+      } else {
+        translation = createTranslationRetriever(read(inputStream));
+      }
       LOG.debug("Translation for locale {} read.", locale);
     } catch (NilsException e) {
       // Just re-throw NilsExceptions
@@ -54,6 +54,37 @@ public class SnakeYamlAdapter
     this.resourceName = resolver.getUsedResourceName();
   }
 
+  private void initLazyTranslations(byte[] data, String resource) {
+    var sections = SectionScanner.scanYaml(data);
+    if (sections.isEmpty()) {
+      LOG.debug("Sections of '{}' not found. Reading the whole file.", resource);
+      translation = createTranslationRetriever(read(new ByteArrayInputStream(data)));
+      return;
+    }
+    translation =
+        createLazyTranslationRetriever(
+            data, sections.get(), (section, content) -> readSection(content, resource));
+  }
+
+  private Map<String, String> readSection(byte[] content, String resource) {
+    try {
+      return read(new ByteArrayInputStream(content));
+    } catch (RuntimeException e) {
+      throw CORRUPT_FILE_ERROR
+          .asException()
+          .message("Error reading YAML file '%s'.")
+          .args(resource)
+          .cause(e)
+          .go();
+    }
+  }
+
+  private Map<String, String> read(InputStream inputStream) {
+    // Sections may be read concurrently, but a YamlEventReader is not thread-safe
+    var reader = new YamlEventReader(adapterConfig.getCodePointLimit());
+    return reader.read(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+  }
+
   @Override
   protected InputStream resolveInputStream(String resource) {
     try {
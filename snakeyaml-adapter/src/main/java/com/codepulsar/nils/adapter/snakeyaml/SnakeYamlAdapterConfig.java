@@ -15,6 +15,10 @@ import com.codepulsar.nils.core.adapter.config.BaseLocalizedResourceNilsConfig;
  */
 public class SnakeYamlAdapterConfig
     extends BaseLocalizedResourceNilsConfig<SnakeYamlAdapterConfig> {
+  /** The default maximum size of a YAML file in code points (3 MB), the same as SnakeYAML's. */
+  public static final int DEFAULT_CODE_POINT_LIMIT = 3 * 1024 * 1024;
+
+  private int codePointLimit = DEFAULT_CODE_POINT_LIMIT;
 
   private SnakeYamlAdapterConfig(Class<?> owner) {
     super(owner, ".yaml");
@@ -25,6 +29,38 @@ public class SnakeYamlAdapterConfig
     return SnakeYamlAdapterFactory.class;
   }
 
+  /**
+   * Gets the maximum size of a YAML file in code points.
+   *
+   * @return The maximum number of code points.
+   */
+  public int getCodePointLimit() {
+    return codePointLimit;
+  }
+
+  /**
+   * Sets the maximum size of a YAML file in code points.
+   *
+   * <p>Larger files are rejected as corrupt. The translations are read from the events of the
+   * parser, so the memory needed for loading a large file is bounded by the translations and not
+   * by a parse tree.
+   *
+   * <p>Default is {@link #DEFAULT_CODE_POINT_LIMIT}.
+   *
+   * @param codePointLimit The maximum number of code points. Must be greater than 0.
+   * @return This config object.
+   */
+  public SnakeYamlAdapterConfig codePointLimit(int codePointLimit) {
+    if (codePointLimit <= 0) {
+      throw CONFIG_ERROR
+          .asException()
+          .message("Parameter 'codePointLimit' must be greater than 0.")
+          .go();
+    }
+    this.codePointLimit = codePointLimit;
+    return this;
+  }
+
   /**
    * Create a <code>SnakeYamlAdapterConfig</code> from a class as reference.
    *
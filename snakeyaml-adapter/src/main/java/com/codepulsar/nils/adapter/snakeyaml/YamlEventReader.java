@@ -0,0 +1,307 @@
+package com.codepulsar.nils.adapter.snakeyaml;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * Reads the translations of a YAML document from the events of the SnakeYAML parser.
+ *
+ * <p>The translations are put into a flat {@code Map} with the full keys directly, so no node or
+ * object tree of the document is built. The values are the same as loading the document with
+ * {@code Yaml.load} and flattening the result: Scalars are resolved by the same rules, {@code
+ * null} values and non-String keys are skipped, sequences are kept as text and duplicate keys are
+ * rejected. Only anchored nodes are kept as objects, so aliases and merge keys ({@code <<}) can be
+ * resolved.
+ *
+ * <p>An object is not thread-safe.
+ */
+final class YamlEventReader {
+  private final LoaderOptions loaderOptions;
+  private final Resolver resolver = new Resolver();
+  private final ScalarConstructor constructor;
+  private final Map<String, Object> anchors = new HashMap<>();
+  private Iterator<Event> events;
+  private int depth;
+  private int collectionAliases;
+
+  YamlEventReader(int codePointLimit) {
+    loaderOptions = new LoaderOptions();
+    loaderOptions.setAllowDuplicateKeys(false);
+    loaderOptions.setCodePointLimit(codePointLimit);
+    constructor = new ScalarConstructor(loaderOptions);
+  }
+
+  /**
+   * Reads the translations of a YAML document.
+   *
+   * @param reader The {@code Reader} of the document.
+   * @return The full keys and translations.
+   * @throws YAMLException If the document is corrupt or not a single mapping.
+   */
+  Map<String, String> read(Reader reader) {
+    anchors.clear();
+    depth = 0;
+    collectionAliases = 0;
+    events = new Yaml(loaderOptions).parse(reader).iterator();
+    expect(Event.ID.StreamStart);
+    var translations = new HashMap<String, String>();
+    if (!next().is(Event.ID.DocumentStart)) {
+      throw new YAMLException("The YAML file does not contain a document.");
+    }
+    var root = next();
+    if (!root.is(Event.ID.MappingStart)) {
+      throw new YAMLException("The YAML document must be a mapping.");
+    }
+    readNode(root, null, translations);
+    expect(Event.ID.DocumentEnd);
+    if (!next().is(Event.ID.StreamEnd)) {
+      throw new YAMLException("The YAML file must contain a single document.");
+    }
+    anchors.clear();
+    return translations;
+  }
+
+  /** Reads the node of the event into the translations, using the key as prefix. */
+  private void readNode(Event event, String key, Map<String, String> target) {
+    if (event.is(Event.ID.Alias) || ((NodeEvent) event).getAnchor() != null) {
+      flatten(readObject(event), key, target, false);
+    } else if (event.is(Event.ID.MappingStart)) {
+      readMapping(key, target);
+    } else if (event.is(Event.ID.SequenceStart)) {
+      var value = readSequence();
+      target.put(key, value.toString());
+    } else {
+      var value = constructScalar((ScalarEvent) event);
+      if (value != null) {
+        target.put(key, value.toString());
+      }
+    }
+  }
+
+  /** Reads the entries of a mapping after its start event into the translations. */
+  private void readMapping(String prefix, Map<String, String> target) {
+    enterCollection();
+    var keys = new HashSet<>();
+    var merges = new ArrayList<Object>();
+    var event = next();
+    while (!event.is(Event.ID.MappingEnd)) {
+      var key = readKey(event);
+      var valueEvent = next();
+      if (key == Tag.MERGE) {
+        merges.addAll(readMerge(valueEvent));
+      } else if (!keys.add(key)) {
+        throw new YAMLException("Found duplicate key " + key + ".");
+      } else if (key instanceof String) {
+        readNode(valueEvent, prefix == null ? (String) key : prefix + "." + key, target);
+      } else {
+        // Non-String keys are skipped, but anchors within the value must be registered
+        readObject(valueEvent);
+      }
+      event = next();
+    }
+    for (var merge : merges) {
+      flatten(merge, prefix, target, true);
+    }
+    depth--;
+  }
+
+  /** Reads a node as object, like SnakeYAML constructs it. Anchors are registered. */
+  private Object readObject(Event event) {
+    if (event.is(Event.ID.Alias)) {
+      var anchor = ((AliasEvent) event).getAnchor();
+      if (!anchors.containsKey(anchor)) {
+        throw new YAMLException("Found undefined alias " + anchor + ".");
+      }
+      var value = anchors.get(anchor);
+      if (value instanceof Map || value instanceof List) {
+        collectionAliases++;
+        if (collectionAliases > loaderOptions.getMaxAliasesForCollections()) {
+          throw new YAMLException("Number of aliases for non-scalar nodes exceeds the limit.");
+        }
+      }
+      return value;
+    }
+    Object value;
+    if (event.is(Event.ID.MappingStart)) {
+      value = readMappingObject();
+    } else if (event.is(Event.ID.SequenceStart)) {
+      value = readSequence();
+    } else {
+      value = constructScalar((ScalarEvent) event);
+    }
+    var anchor = ((NodeEvent) event).getAnchor();
+    if (anchor != null) {
+      anchors.put(anchor, value);
+    }
+    return value;
+  }
+
+  private Map<Object, Object> readMappingObject() {
+    enterCollection();
+    var mapping = new LinkedHashMap<Object, Object>();
+    var merges = new ArrayList<Object>();
+    var event = next();
+    while (!event.is(Event.ID.MappingEnd)) {
+      var key = readKey(event);
+      var value = next();
+      if (key == Tag.MERGE) {
+        merges.addAll(readMerge(value));
+      } else if (mapping.containsKey(key)) {
+        throw new YAMLException("Found duplicate key " + key + ".");
+      } else {
+        mapping.put(key, readObject(value));
+      }
+      event = next();
+    }
+    for (var merge : merges) {
+      ((Map<?, ?>) merge).forEach(mapping::putIfAbsent);
+    }
+    depth--;
+    return mapping;
+  }
+
+  private List<Object> readSequence() {
+    enterCollection();
+    var sequence = new ArrayList<Object>();
+    var event = next();
+    while (!event.is(Event.ID.SequenceEnd)) {
+      sequence.add(readObject(event));
+      event = next();
+    }
+    depth--;
+    return sequence;
+  }
+
+  /**
+   * Reads the key of a mapping entry.
+   *
+   * @return The constructed key or {@link Tag#MERGE} for a merge key.
+   */
+  private Object readKey(Event event) {
+    if (event.is(Event.ID.Scalar) && ((ScalarEvent) event).getAnchor() == null) {
+      var scalar = (ScalarEvent) event;
+      var tag = resolveTag(scalar);
+      if (Tag.MERGE.equals(tag)) {
+        return Tag.MERGE;
+      }
+      return Tag.STR.equals(tag) ? scalar.getValue() : construct(tag, scalar);
+    }
+    return readObject(event);
+  }
+
+  /** Reads the value of a merge key: a mapping or a sequence of mappings. */
+  private List<Object> readMerge(Event event) {
+    var value = readObject(event);
+    var merges = new ArrayList<Object>();
+    if (value instanceof Map) {
+      merges.add(value);
+    } else if (value instanceof List) {
+      for (var item : (List<?>) value) {
+        if (!(item instanceof Map)) {
+          throw new YAMLException("Expected a mapping for merging, but found " + item + ".");
+        }
+        merges.add(item);
+      }
+    } else {
+      throw new YAMLException("Expected a mapping or list of mappings for merging.");
+    }
+    return merges;
+  }
+
+  /** Puts a constructed object into the translations, like flattening the loaded document. */
+  private static void flatten(
+      Object value, String key, Map<String, String> target, boolean keepExisting) {
+    if (value instanceof Map) {
+      for (var entry : ((Map<?, ?>) value).entrySet()) {
+        if (entry.getKey() instanceof String && entry.getValue() != null) {
+          var part = (String) entry.getKey();
+          flatten(entry.getValue(), key == null ? part : key + "." + part, target, keepExisting);
+        }
+      }
+    } else if (value != null && key != null) {
+      if (keepExisting) {
+        target.putIfAbsent(key, value.toString());
+      } else {
+        target.put(key, value.toString());
+      }
+    }
+  }
+
+  private Object constructScalar(ScalarEvent event) {
+    var tag = resolveTag(event);
+    return Tag.STR.equals(tag) ? event.getValue() : construct(tag, event);
+  }
+
+  private Object construct(Tag tag, ScalarEvent event) {
+    var node =
+        new ScalarNode(
+            tag,
+            event.getValue(),
+            event.getStartMark(),
+            event.getEndMark(),
+            event.getScalarStyle());
+    return constructor.construct(node);
+  }
+
+  // The same resolution as the Composer of SnakeYAML
+  private Tag resolveTag(ScalarEvent event) {
+    var tag = event.getTag();
+    if (tag == null || "!".equals(tag)) {
+      return resolver.resolve(
+          NodeId.scalar, event.getValue(), event.getImplicit().canOmitTagInPlainScalar());
+    }
+    return new Tag(tag);
+  }
+
+  private void enterCollection() {
+    depth++;
+    if (depth > loaderOptions.getNestingDepthLimit()) {
+      throw new YAMLException(
+          "Nesting depth exceeds the limit of " + loaderOptions.getNestingDepthLimit() + ".");
+    }
+  }
+
+  private Event next() {
+    if (!events.hasNext()) {
+      throw new YAMLException("Unexpected end of the YAML file.");
+    }
+    return events.next();
+  }
+
+  private void expect(Event.ID id) {
+    var event = next();
+    if (!event.is(id)) {
+      throw new YAMLException("Expected " + id + ", but found " + event + ".");
+    }
+  }
+
+  /** Constructs single scalars with the rules of the {@code SafeConstructor}. */
+  private static final class ScalarConstructor extends SafeConstructor {
+    ScalarConstructor(LoaderOptions loaderOptions) {
+      super(loaderOptions);
+    }
+
+    Object construct(ScalarNode node) {
+      return getConstructor(node).construct(node);
+    }
+  }
+}
@@ -83,4 +83,39 @@ public class SnakeYamlAdapterConfigTest {
     assertThat(returnValue).isEqualTo(underTest);
     assertThat(underTest.getBaseFileName()).isEqualTo("TestBundleName.yml");
   }
+
+  @Test
+  void codePointLimit_default() {
+    // Act
+    var underTest = SnakeYamlAdapterConfig.init(this);
+
+    // Assert
+    assertThat(underTest.getCodePointLimit())
+        .isEqualTo(SnakeYamlAdapterConfig.DEFAULT_CODE_POINT_LIMIT);
+  }
+
+  @Test
+  void codePointLimit() {
+    // Arrange
+    var underTest = SnakeYamlAdapterConfig.init(this);
+
+    // Act
+    var returnValue = underTest.codePointLimit(50 * 1024 * 1024);
+
+    // Assert
+    assertThat(returnValue).isNotNull();
+    assertThat(returnValue).isEqualTo(underTest);
+    assertThat(underTest.getCodePointLimit()).isEqualTo(50 * 1024 * 1024);
+  }
+
+  @Test
+  void codePointLimit_invalid() {
+    // Arrange
+    var underTest = SnakeYamlAdapterConfig.init(this);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.codePointLimit(0))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-004: Parameter 'codePointLimit' must be greater than 0.");
+  }
 }
@@ -3,11 +3,14 @@ package com.codepulsar.nils.adapter.snakeyaml;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.nio.file.Path;
 import java.util.Locale;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import com.codepulsar.nils.api.NilsConfig;
 import com.codepulsar.nils.api.error.NilsException;
@@ -251,4 +254,142 @@ public class SnakeYamlAdapterTest {
         .isInstanceOf(NilsException.class)
         .hasMessage("NILS-150: Error reading YAML file '/test/non_yaml.yaml'.");
   }
+
+  @Test
+  public void translateKeyFound_lazySections() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = SnakeYamlAdapterConfig.init(this).lazySections(true);
+    context.locale(locale).config(config);
+    var underTest = new SnakeYamlAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("deep.deeper.deeperkey4");
+
+    // Assert
+    assertThat(value).hasValue("Key 4");
+    assertThat(underTest.getTranslation("key1")).hasValue("Key 1");
+    assertThat(underTest.getTranslation("deep.non_existing")).isEmpty();
+    assertThat(underTest.getKeys())
+        .containsExactlyInAnyOrder(
+            "key1", "key2", "deep.deepkey3", "deep.deeper.deeperkey4", "numberValue");
+  }
+
+  @Test
+  public void translateKeyFallback_lazySections() {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var config = SnakeYamlAdapterConfig.init(this).baseFileName("test/existing").lazySections(true);
+    context.locale(locale).config(config);
+    var underTest = new SnakeYamlAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.fallback");
+
+    // Assert
+    assertThat(value).hasValue("I'm a fallback!");
+  }
+
+  @Test
+  public void corruptYamlFile_lazySections() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = SnakeYamlAdapterConfig.init(this).baseFileName("test/corrupt").lazySections(true);
+    context.locale(locale).config(config);
+    var underTest = new SnakeYamlAdapter(context);
+
+    // Act / Assert
+    assertThatThrownBy(() -> underTest.getTranslation("translate.me"))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-150: Error reading YAML file '/test/corrupt.yaml'.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  public void translateKeyFound_valueTypes(boolean lazySections) {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config =
+        SnakeYamlAdapterConfig.init(this).baseFileName("test/types").lazySections(lazySections);
+    context.locale(locale).config(config);
+    var underTest = new SnakeYamlAdapter(context);
+
+    // Act
+    var keys = underTest.getKeys();
+
+    // Assert
+    assertThat(keys)
+        .containsExactlyInAnyOrder(
+            "text",
+            "number",
+            "decimal",
+            "flag",
+            "list",
+            "nested.child",
+            "dotted.key",
+            "base.greeting",
+            "base.farewell",
+            "derived.greeting",
+            "derived.farewell",
+            "alias.greeting",
+            "alias.farewell");
+    assertThat(underTest.getTranslation("text")).hasValue("Hello");
+    assertThat(underTest.getTranslation("number")).hasValue("42");
+    assertThat(underTest.getTranslation("decimal")).hasValue("3.5");
+    assertThat(underTest.getTranslation("flag")).hasValue("true");
+    assertThat(underTest.getTranslation("empty")).isEmpty();
+    assertThat(underTest.getTranslation("list")).hasValue("[a, b]");
+    assertThat(underTest.getTranslation("nested.child")).hasValue("Nested value");
+    assertThat(underTest.getTranslation("dotted.key")).hasValue("Dotted");
+    assertThat(underTest.getTranslation("derived.greeting")).hasValue("Hi");
+    assertThat(underTest.getTranslation("derived.farewell")).hasValue("See you");
+    assertThat(underTest.getTranslation("alias.farewell")).hasValue("Bye");
+  }
+
+  @Test
+  public void duplicateKey() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = SnakeYamlAdapterConfig.init(this).baseFileName("test/duplicate");
+    context.locale(locale).config(config);
+
+    // Act / Assert
+    assertThatThrownBy(() -> new SnakeYamlAdapter(context))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-150: Error reading YAML file '/test/duplicate.yaml'.");
+  }
+
+  @Test
+  public void codePointLimitExceeded() {
+    // Arrange
+    var locale = Locale.ENGLISH;
+    var config = SnakeYamlAdapterConfig.init(this).baseFileName("test/types").codePointLimit(10);
+    context.locale(locale).config(config);
+
+    // Act / Assert
+    assertThatThrownBy(() -> new SnakeYamlAdapter(context))
+        .isInstanceOf(NilsException.class)
+        .hasMessage("NILS-150: Error reading YAML file '/test/types.yaml'.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  public void resourceDirectory(boolean lazySections) {
+    // Arrange
+    var locale = Locale.GERMAN;
+    var config =
+        SnakeYamlAdapterConfig.init(this)
+            .resourceDirectory(Path.of("src/test/resources"))
+            .baseFileName("test/existing")
+            .lazySections(lazySections);
+    context.locale(locale).config(config);
+    var underTest = new SnakeYamlAdapter(context);
+
+    // Act
+    var value = underTest.getTranslation("translate.me");
+
+    // Assert
+    assertThat(value).hasValue("Ich bin übersetzt!");
+    assertThat(underTest.getTranslation("translate.fallback")).hasValue("I'm a fallback!");
+  }
 }